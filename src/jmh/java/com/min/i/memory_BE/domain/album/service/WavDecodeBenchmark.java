@@ -0,0 +1,117 @@
+package com.min.i.memory_BE.domain.album.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * WAV 음성 답변 변환 경로 비교: WavPcmDecoder(프로세스 내부) vs ffmpeg 프로세스(파이프 입출력)
+ * ffmpeg 경로는 AudioFormatConverter가 WAV를 변환하던 명령과 같은 인자로 실행합니다 (ffmpeg가 PATH에 있어야 함).
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WavDecodeBenchmark {
+
+    private static final int TARGET_RATE = 16000;
+
+    // 웹 녹음(48kHz 스테레오), 모바일 녹음(44.1kHz 모노)
+    @Param({"48000:2", "44100:1"})
+    public String format;
+
+    // 녹음 길이 (초)
+    @Param({"10", "60"})
+    public int seconds;
+
+    private byte[] wav;
+
+    @Setup
+    public void setUp() {
+        String[] parts = format.split(":");
+        wav = wav(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), seconds);
+    }
+
+    @Benchmark
+    public byte[] wavPcmDecoder() throws IOException {
+        return WavPcmDecoder.decode(new ByteArrayInputStream(wav), TARGET_RATE);
+    }
+
+    @Benchmark
+    public byte[] ffmpegProcess() throws Exception {
+        Process process = new ProcessBuilder("ffmpeg", "-hide_banner", "-loglevel", "error", "-i", "pipe:0",
+                "-vn", "-ac", "1", "-ar", String.valueOf(TARGET_RATE), "-acodec", "pcm_s16le", "-f", "s16le", "pipe:1")
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            CompletableFuture<Void> input = CompletableFuture.runAsync(() -> {
+                try (OutputStream stdin = process.getOutputStream()) {
+                    stdin.write(wav);
+                } catch (IOException e) {
+                    // ffmpeg가 먼저 종료된 경우 - 결과는 종료 코드로 판단
+                }
+            });
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (InputStream stdout = process.getInputStream()) {
+                stdout.transferTo(output);
+            }
+            input.join();
+            if (process.waitFor() != 0) {
+                throw new IllegalStateException("FFmpeg 변환 실패. 코드: " + process.exitValue());
+            }
+            return output.toByteArray();
+        } finally {
+            process.destroyForcibly();
+        }
+    }
+
+    // 440Hz 사인파 16bit PCM WAV
+    private static byte[] wav(int sampleRate, int channels, int seconds) {
+        int frames = sampleRate * seconds;
+        ByteBuffer data = ByteBuffer.allocate(frames * channels * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < frames; i++) {
+            short sample = (short) Math.round(0.5 * Math.sin(2 * Math.PI * 440 * i / sampleRate) * 32767);
+            for (int channel = 0; channel < channels; channel++) {
+                data.putShort(sample);
+            }
+        }
+
+        ByteBuffer wav = ByteBuffer.allocate(44 + data.capacity()).order(ByteOrder.LITTLE_ENDIAN);
+        wav.put(ascii("RIFF")).putInt(wav.capacity() - 8).put(ascii("WAVE"));
+        wav.put(ascii("fmt ")).putInt(16)
+                .putShort((short) 1)
+                .putShort((short) channels)
+                .putInt(sampleRate)
+                .putInt(sampleRate * channels * 2)
+                .putShort((short) (channels * 2))
+                .putShort((short) 16);
+        wav.put(ascii("data")).putInt(data.capacity()).put(data.array());
+        return wav.array();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
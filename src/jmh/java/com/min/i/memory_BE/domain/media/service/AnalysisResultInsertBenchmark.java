@@ -0,0 +1,135 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 분석 결과 저장 경로(질문 INSERT)의 초당 저장 행 수 비교: IDENTITY id vs 시퀀스(pooled) id + JDBC 배치
+ * - identity: IDENTITY 전략에서 Hibernate가 하던 방식 (행마다 INSERT 후 생성된 키 조회, 배치 불가)
+ * - pooledSequence: 현재 방식 (시퀀스에서 ALLOCATION_SIZE 단위로 id를 받아 batch_size 단위 배치 INSERT)
+ * H2 메모리 DB(MySQL 모드)에서 실행하므로 네트워크 왕복이 없어, MySQL에서는 배치의 이득이 이보다 큽니다.
+ * 결과 단위는 초당 저장 행 수입니다. 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AnalysisResultInsertBenchmark {
+
+    // IdGeneration.ALLOCATION_SIZE, hibernate.jdbc.batch_size와 같은 값
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int BATCH_SIZE = 50;
+    private static final int ROWS = 200;
+
+    // 분석 결과 하나(트랜잭션 하나)에 저장되는 질문 수
+    @Param({"5", "50"})
+    public int rowsPerResult;
+
+    private Connection connection;
+    private long nextId;
+    private long maxId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:insert-bench;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            statement.execute("CREATE TABLE questions_identity (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "media_id BIGINT, content TEXT NOT NULL, level INT, created_at TIMESTAMP)");
+            statement.execute("CREATE TABLE questions_pooled (id BIGINT PRIMARY KEY, "
+                    + "media_id BIGINT, content TEXT NOT NULL, level INT, created_at TIMESTAMP)");
+            statement.execute("CREATE SEQUENCE questions_pooled_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void identity() throws SQLException {
+        String sql = "INSERT INTO questions_identity (media_id, content, level, created_at) VALUES (?, ?, ?, ?)";
+        for (int result = 0; result < ROWS / rowsPerResult; result++) {
+            for (int row = 0; row < rowsPerResult; row++) {
+                try (PreparedStatement insert = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    bind(insert, result, row);
+                    insert.executeUpdate();
+                    try (ResultSet keys = insert.getGeneratedKeys()) {
+                        keys.next();
+                    }
+                }
+            }
+            connection.commit();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void pooledSequence() throws SQLException {
+        String sql = "INSERT INTO questions_pooled (id, media_id, content, level, created_at) VALUES (?, ?, ?, ?, ?)";
+        for (int result = 0; result < ROWS / rowsPerResult; result++) {
+            try (PreparedStatement insert = connection.prepareStatement(sql)) {
+                for (int row = 0; row < rowsPerResult; row++) {
+                    insert.setLong(1, allocateId());
+                    bind(insert, result, row, 2);
+                    insert.addBatch();
+                    if ((row + 1) % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    // Hibernate pooled 최적화: 시퀀스 값 하나로 ALLOCATION_SIZE개의 id를 메모리에서 발급
+    private long allocateId() throws SQLException {
+        if (nextId >= maxId) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet value = statement.executeQuery("SELECT NEXT VALUE FOR questions_pooled_seq")) {
+                value.next();
+                nextId = value.getLong(1) - 1;
+                maxId = nextId + ALLOCATION_SIZE;
+            }
+        }
+        return ++nextId;
+    }
+
+    private static void bind(PreparedStatement insert, int result, int row) throws SQLException {
+        bind(insert, result, row, 1);
+    }
+
+    private static void bind(PreparedStatement insert, int result, int row, int firstIndex) throws SQLException {
+        insert.setLong(firstIndex, result);
+        insert.setString(firstIndex + 1, "이 사진은 언제 찍으셨나요? (" + row + ")");
+        insert.setInt(firstIndex + 2, row % 3 + 1);
+        insert.setTimestamp(firstIndex + 3, new Timestamp(System.currentTimeMillis()));
+    }
+}
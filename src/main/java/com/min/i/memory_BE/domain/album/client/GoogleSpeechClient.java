@@ -0,0 +1,178 @@
+package com.min.i.memory_BE.domain.album.client;
+
+import com.google.api.gax.grpc.ChannelPoolSettings;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.speech.v1.RecognitionAudio;
+import com.google.cloud.speech.v1.RecognitionConfig;
+import com.google.cloud.speech.v1.RecognizeResponse;
+import com.google.cloud.speech.v1.SpeechClient;
+import com.google.cloud.speech.v1.SpeechSettings;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Google Speech-to-Text 클라이언트
+ * SpeechClient(gRPC 채널 풀)는 첫 인식 요청 시 한 번 생성해 재사용하고, 종료 시 정리합니다.
+ * 자격 증명이 없어도 애플리케이션은 시작되며, 이 경우 인식 요청만 실패합니다.
+ * 동시 인식 요청 수를 세마포어로 제한하며, 대기 시간 / 인식 시간 / 대기 중인 요청 수를 지표로 노출합니다.
+ */
+@Slf4j
+@Component
+public class GoogleSpeechClient {
+
+    private final ResourceLoader resourceLoader;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${google.speech.credentials-file:classpath:keys/google-credentials.json}")
+    private String credentialsFilePath;
+
+    @Value("${google.speech.max-concurrent:8}")
+    private int maxConcurrent;
+
+    @Value("${google.speech.acquire-timeout:10000}")
+    private long acquireTimeoutMillis;
+
+    @Value("${google.speech.channel-pool-size:2}")
+    private int channelPoolSize;
+
+    @Value("${google.speech.shutdown-timeout:10000}")
+    private long shutdownTimeoutMillis;
+
+    private volatile SpeechClient speechClient;
+    private Semaphore permits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private Timer queueWaitTimer;
+    private Timer recognizeTimer;
+
+    public GoogleSpeechClient(ResourceLoader resourceLoader, MeterRegistry meterRegistry) {
+        this.resourceLoader = resourceLoader;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(maxConcurrent, true);
+        queueWaitTimer = meterRegistry.timer("speech.recognize.queue.wait");
+        recognizeTimer = meterRegistry.timer("speech.recognize");
+        Gauge.builder("speech.recognize.in.flight", inFlight, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("speech.recognize.waiting", permits, Semaphore::getQueueLength).register(meterRegistry);
+        log.info("Google SpeechClient 설정 - 동시 요청 제한: {}, 채널 수: {}", maxConcurrent, channelPoolSize);
+    }
+
+    /**
+     * 음성을 인식합니다. 동시 요청 수가 제한에 도달하면 대기하며, 대기 시간이 초과되면 예외가 발생합니다.
+     * SpeechClient를 생성할 수 없으면(자격 증명 없음 등) IllegalStateException이 발생합니다.
+     *
+     * @param config 인식 설정
+     * @param audio 음성 데이터
+     * @return 인식 결과
+     */
+    public RecognizeResponse recognize(RecognitionConfig config, RecognitionAudio audio) {
+        SpeechClient client = getOrCreateClient();
+        long waitStart = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("음성 인식 대기 중 인터럽트가 발생했습니다", e);
+        }
+        queueWaitTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            meterRegistry.counter("speech.recognize.rejected").increment();
+            throw new IllegalStateException("음성 인식 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+        }
+
+        inFlight.incrementAndGet();
+        try {
+            return recognizeTimer.record(() -> client.recognize(config, audio));
+        } finally {
+            inFlight.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        SpeechClient speechClient = this.speechClient;
+        if (speechClient == null) {
+            return;
+        }
+        speechClient.shutdown();
+        try {
+            if (!speechClient.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("Google SpeechClient가 제한 시간 내에 종료되지 않아 강제 종료합니다");
+                speechClient.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            speechClient.shutdownNow();
+        }
+        speechClient.close();
+        log.info("Google SpeechClient 종료 완료");
+    }
+
+    // 처음 호출될 때 SpeechClient 생성 (실패하면 다음 요청에서 다시 시도)
+    private SpeechClient getOrCreateClient() {
+        SpeechClient client = speechClient;
+        if (client != null) {
+            return client;
+        }
+        synchronized (this) {
+            if (speechClient == null) {
+                try {
+                    GoogleCredentials credentials = loadCredentials();
+                    SpeechSettings settings = SpeechSettings.newBuilder()
+                            .setCredentialsProvider(() -> credentials)
+                            .setTransportChannelProvider(SpeechSettings.defaultGrpcTransportProviderBuilder()
+                                    .setChannelPoolSettings(ChannelPoolSettings.staticallySized(channelPoolSize))
+                                    .build())
+                            .build();
+                    speechClient = SpeechClient.create(settings);
+                    log.info("Google SpeechClient 생성 완료");
+                } catch (Exception e) {
+                    log.error("Google SpeechClient 생성 실패: {}", e.getMessage());
+                    throw new IllegalStateException("Google SpeechClient 초기화 실패", e);
+                }
+            }
+            return speechClient;
+        }
+    }
+
+    // 환경 변수(GOOGLE_APPLICATION_CREDENTIALS)가 있으면 해당 파일을, 없으면 설정된 리소스를 사용
+    private GoogleCredentials loadCredentials() throws Exception {
+        String googleCredsEnv = System.getenv("GOOGLE_APPLICATION_CREDENTIALS");
+        if (googleCredsEnv != null && !googleCredsEnv.isEmpty()) {
+            log.info("환경 변수에서 Google 자격 증명 경로 사용: {}", googleCredsEnv);
+            try (InputStream credentialsStream = new FileInputStream(googleCredsEnv)) {
+                return GoogleCredentials.fromStream(credentialsStream);
+            }
+        }
+
+        Resource credentialsResource = resourceLoader.getResource(credentialsFilePath);
+        if (!credentialsResource.exists()) {
+            throw new FileNotFoundException("Google 인증파일 없음: " + credentialsFilePath);
+        }
+        try (InputStream credentialsStream = credentialsResource.getInputStream()) {
+            GoogleCredentials credentials = GoogleCredentials.fromStream(credentialsStream);
+            log.info("리소스에서 Google 자격 증명 로드 완료: {}", credentialsFilePath);
+            return credentials;
+        }
+    }
+}
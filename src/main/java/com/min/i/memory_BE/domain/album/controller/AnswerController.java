@@ -2,6 +2,7 @@ package com.min.i.memory_BE.domain.album.controller;
 
 import com.min.i.memory_BE.domain.album.entity.Answer;
 import com.min.i.memory_BE.domain.album.entity.Question;
+import com.min.i.memory_BE.domain.album.enums.AnswerStatus;
 import com.min.i.memory_BE.domain.album.service.AnswerService;
 import com.min.i.memory_BE.domain.user.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
@@ -33,7 +34,7 @@ public class AnswerController {
     private final AnswerService answerService;
     
     @PostMapping
-    @Operation(summary = "답변 생성", description = "미디어에 대한 텍스트 또는 음성 답변을 생성합니다.")
+    @Operation(summary = "답변 생성", description = "미디어에 대한 텍스트 또는 음성 답변을 생성합니다. 음성 답변은 변환 중(PENDING) 상태로 저장되며, 상태 조회 API로 변환 결과를 확인합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "답변 생성 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
@@ -104,13 +105,18 @@ public class AnswerController {
             Map<String, Object> responseData = new HashMap<>();
             responseData.put("answerId", savedAnswer.getId());
             responseData.put("content", savedAnswer.getContent());
+            responseData.put("status", savedAnswer.getStatus());
             responseData.put("mediaId", mediaId);
             responseData.put("questionId", questionId);
             responseData.put("questions", questionsList);
             
+            String message = savedAnswer.getStatus() == AnswerStatus.PENDING
+                ? "답변이 저장되었습니다. 음성을 텍스트로 변환하는 중입니다."
+                : "답변이 성공적으로 저장되었습니다.";
+            
             return ResponseEntity.ok(Map.of(
                 "status", "success",
-                "message", "답변이 성공적으로 저장되었습니다.",
+                "message", message,
                 "data", responseData
             ));
             
@@ -143,6 +149,7 @@ public class AnswerController {
                     Map<String, Object> answerMap = new HashMap<>();
                     answerMap.put("id", a.getId());
                     answerMap.put("content", a.getContent());
+                    answerMap.put("status", a.getStatus());
                     answerMap.put("createdAt", a.getCreatedAt());
                     answerMap.put("updatedAt", a.getUpdatedAt());
                     return answerMap;
@@ -167,6 +174,40 @@ public class AnswerController {
         }
     }
     
+    @GetMapping("/{answerId}/status")
+    @Operation(summary = "답변 변환 상태 조회", description = "음성 답변의 텍스트 변환 상태(PENDING, READY, FAILED)와 변환 결과를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "상태 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "답변을 찾을 수 없음")
+    })
+    public ResponseEntity<?> getAnswerStatus(
+            @Parameter(description = "답변 ID", required = true)
+            @PathVariable Long answerId) {
+        
+        try {
+            Answer answer = answerService.getAnswerStatus(answerId);
+            
+            Map<String, Object> statusData = new HashMap<>();
+            statusData.put("answerId", answer.getId());
+            statusData.put("status", answer.getStatus());
+            statusData.put("content", answer.getContent());
+            statusData.put("error", answer.getTranscriptionError());
+            
+            return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "message", answer.getStatus().getDescription(),
+                "data", statusData
+            ));
+            
+        } catch (Exception e) {
+            log.error("답변 상태 조회 중 오류 발생", e);
+            return ResponseEntity.badRequest().body(Map.of(
+                "status", "error",
+                "message", e.getMessage()
+            ));
+        }
+    }
+    
     /**
      * 음성 파일을 텍스트로 변환하는 테스트용 엔드포인트
      */
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.http.MediaType;
 import com.min.i.memory_BE.domain.media.service.MediaService;
+import com.min.i.memory_BE.domain.media.service.SimilarMediaService;
 import com.min.i.memory_BE.domain.album.repository.AlbumRepository;
 import com.min.i.memory_BE.domain.media.entity.Media;
 
@@ -30,6 +31,7 @@ public class QuestionController {
 
     private final QuestionService questionService;
     private final MediaService mediaService;
+    private final SimilarMediaService similarMediaService;
     private final AlbumRepository albumRepository;
     
     @GetMapping("/{questionId}")
@@ -164,6 +166,8 @@ public class QuestionController {
             
             // 1. 미디어 업로드
             Media uploadedMedia = mediaService.uploadMedia(file, groupId, albumId, userDetails.getUser());
+            List<Long> similarMediaIds = similarMediaService.findPossibleDuplicates(
+                groupId, uploadedMedia.getId(), uploadedMedia.getPerceptualHash());
             
             // 2. 질문 생성 DTO 생성
             QuestionDto.Create questionDto = new QuestionDto.Create(uploadedMedia.getId(), content);
@@ -177,7 +181,9 @@ public class QuestionController {
                 "data", Map.of(
                     "mediaId", uploadedMedia.getId(),
                     "mediaUrl", uploadedMedia.getFileUrl(),
-                    "question", response
+                    "question", response,
+                    "possibleDuplicate", !similarMediaIds.isEmpty(),
+                    "similarMediaIds", similarMediaIds
                 )
             ));
             
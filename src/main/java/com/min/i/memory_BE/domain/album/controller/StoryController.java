@@ -6,6 +6,7 @@ import com.min.i.memory_BE.domain.album.service.StoryService;
 import com.min.i.memory_BE.domain.user.security.CustomUserDetails;
 import com.min.i.memory_BE.global.error.exception.DuplicateResourceException;
 import com.min.i.memory_BE.global.error.exception.EntityNotFoundException;
+import com.min.i.memory_BE.global.error.exception.FastApiCircuitOpenException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -142,6 +144,9 @@ public class StoryController {
                 "status", "error",
                 "message", e.getMessage()
             ));
+        } catch (FastApiCircuitOpenException e) {
+            // 503 + Retry-After 응답은 GlobalExceptionHandler에서 처리
+            throw e;
         } catch (Exception e) {
             log.error("스토리 생성 중 오류 발생", e);
             return ResponseEntity.badRequest().body(Map.of(
@@ -150,4 +155,19 @@ public class StoryController {
             ));
         }
     }
-} 
\ No newline at end of file
+    
+    @PostMapping(value = "/generate/stream", produces = "text/event-stream")
+    @Operation(summary = "스토리 스트리밍 생성", description = "스토리를 생성하면서 생성된 텍스트를 Server-Sent Events로 전달합니다. " +
+            "token 이벤트로 텍스트 조각을, 생성이 끝나면 complete 이벤트로 저장된 스토리를 전달하며, 실패 시 error 이벤트를 보냅니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "스트림 시작")
+    })
+    public SseEmitter generateStoryStream(
+            @Parameter(description = "미디어 ID", required = true)
+            @RequestParam Long mediaId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        
+        log.info("스토리 스트리밍 생성 요청: mediaId={}", mediaId);
+        return storyService.streamStory(mediaId);
+    }
+}
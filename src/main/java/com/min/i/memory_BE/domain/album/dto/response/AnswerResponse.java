@@ -1,6 +1,7 @@
 package com.min.i.memory_BE.domain.album.dto.response;
 
 import com.min.i.memory_BE.domain.album.entity.Answer;
+import com.min.i.memory_BE.domain.album.enums.AnswerStatus;
 import lombok.Builder;
 import lombok.Getter;
 import java.time.LocalDateTime;
@@ -12,6 +13,7 @@ public class AnswerResponse {
     private Long questionId;
     private Long userId;
     private String content;
+    private AnswerStatus status;  // 음성 답변 변환 상태
     private boolean isPrivate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -24,6 +26,7 @@ public class AnswerResponse {
                 .questionId(answer.getQuestion().getId())
                 .userId(answer.getUser().getId())
                 .content(answer.getContent())
+                .status(answer.getStatus())
                 .isPrivate(answer.isPrivate())
                 .createdAt(answer.getCreatedAt())
                 .updatedAt(answer.getUpdatedAt())
@@ -18,15 +18,18 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
 @Table(name = "albums")
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Album extends BaseEntity {
@@ -57,6 +60,10 @@ public class Album extends BaseEntity {
   @Enumerated(EnumType.STRING)
   private AlbumVisibility visibility = AlbumVisibility.GROUP;
   
+  // 삭제 요청 시각 (툼스톤) - 설정되면 조회되지 않고, 미디어와 S3 객체는 백그라운드에서 정리
+  @Column(name = "deleted_at")
+  private LocalDateTime deletedAt;
+  
   @OneToMany(mappedBy = "album")
   private final List<AlbumPage> pages = new ArrayList<>();
   
@@ -143,4 +150,15 @@ public class Album extends BaseEntity {
     this.visibility = visibility;
     return this;
   }
+
+  /**
+   * 앨범을 삭제 상태로 표시합니다. 실제 삭제는 백그라운드 삭제 작업이 수행합니다.
+   */
+  public void markDeleted() {
+    this.deletedAt = LocalDateTime.now();
+  }
+  
+  public boolean isDeleted() {
+    return deletedAt != null;
+  }
 }
\ No newline at end of file
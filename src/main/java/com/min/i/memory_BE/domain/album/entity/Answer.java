@@ -1,16 +1,22 @@
 package com.min.i.memory_BE.domain.album.entity;
 
+import com.min.i.memory_BE.domain.album.enums.AnswerStatus;
 import com.min.i.memory_BE.domain.user.entity.User;
 import com.min.i.memory_BE.domain.media.entity.Media;
 import com.min.i.memory_BE.global.entity.BaseEntity;
+import com.min.i.memory_BE.global.entity.IdGeneration;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -18,15 +24,21 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "answers")
+@Table(name = "answers", indexes = @Index(name = "idx_answers_status", columnList = "status"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Answer extends BaseEntity {
+  
+  private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+  
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answers_seq")
+  @SequenceGenerator(name = "answers_seq", sequenceName = "answers_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
   private Long id;
   
   @ManyToOne(fetch = FetchType.LAZY)
@@ -48,13 +60,53 @@ public class Answer extends BaseEntity {
   @JoinColumn(name = "question_id", nullable = false)
   private Question question;
   
+  // 음성 답변: 변환 전까지 PENDING, 텍스트 답변은 바로 READY
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  @Builder.Default
+  private AnswerStatus status = AnswerStatus.READY;
+  
+  // 음성 답변 원본 (S3)
+  @Column(name = "audio_url")
+  private String audioUrl;
+  
+  @Column(name = "transcription_error", length = MAX_ERROR_MESSAGE_LENGTH)
+  private String transcriptionError;
+  
+  // 변환을 맡은 인스턴스와 맡은 시각 (임대가 만료된 PENDING 답변만 다른 인스턴스가 다시 맡음)
+  @Column(name = "transcription_owner", length = 100)
+  private String transcriptionOwner;
+  
+  @Column(name = "transcription_claimed_at")
+  private LocalDateTime transcriptionClaimedAt;
+  
   @Builder
   public Answer(Media media, User user, String content,
-    boolean isPrivate, Question question) {
+    boolean isPrivate, Question question, AnswerStatus status, String audioUrl) {
     this.media = media;
     this.user = user;
-    this.content = content;
+    this.content = content != null ? content : "";
     this.isPrivate = isPrivate;
     this.question = question;
+    this.status = status != null ? status : AnswerStatus.READY;
+    this.audioUrl = audioUrl;
+  }
+  
+  public void claimTranscription(String owner) {
+    this.transcriptionOwner = owner;
+    this.transcriptionClaimedAt = LocalDateTime.now();
+  }
+  
+  public void completeTranscription(String content) {
+    this.content = content;
+    this.status = AnswerStatus.READY;
+    this.transcriptionError = null;
+  }
+  
+  public void failTranscription(String errorMessage) {
+    this.status = AnswerStatus.FAILED;
+    this.transcriptionError = errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH
+      ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+      : errorMessage;
   }
 }
\ No newline at end of file
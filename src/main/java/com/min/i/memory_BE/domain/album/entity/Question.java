@@ -3,6 +3,7 @@ package com.min.i.memory_BE.domain.album.entity;
 import com.min.i.memory_BE.domain.album.enums.QuestionTheme;
 import com.min.i.memory_BE.domain.media.entity.Media;
 import com.min.i.memory_BE.global.entity.BaseEntity;
+import com.min.i.memory_BE.global.entity.IdGeneration;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -13,6 +14,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -25,7 +27,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Question extends BaseEntity {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "questions_seq")
+  @SequenceGenerator(name = "questions_seq", sequenceName = "questions_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
   private Long id;
   
   @ManyToOne(fetch = FetchType.LAZY)
@@ -2,6 +2,7 @@ package com.min.i.memory_BE.domain.album.entity;
 
 import com.min.i.memory_BE.domain.media.entity.Media;
 import com.min.i.memory_BE.global.entity.BaseEntity;
+import com.min.i.memory_BE.global.entity.IdGeneration;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -9,12 +10,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "stories")
+// 미디어당 스토리는 하나 - 동시 생성 요청이 모두 저장되지 않도록 DB에서 보장
+@Table(name = "stories", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stories_media_id", columnNames = "media_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Story extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stories_seq")
+    @SequenceGenerator(name = "stories_seq", sequenceName = "stories_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
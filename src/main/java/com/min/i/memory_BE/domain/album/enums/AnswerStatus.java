@@ -0,0 +1,20 @@
+package com.min.i.memory_BE.domain.album.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum AnswerStatus {
+  PENDING("음성 변환 중"),
+  READY("완료"),
+  FAILED("음성 변환 실패");
+  
+  private final String description;
+  
+  AnswerStatus(String description) {
+    this.description = description;
+  }
+  
+  public boolean isTerminal() {
+    return this != PENDING;
+  }
+}
@@ -1,12 +1,15 @@
 package com.min.i.memory_BE.domain.album.repository;
 
 import com.min.i.memory_BE.domain.album.entity.Answer;
+import com.min.i.memory_BE.domain.album.enums.AnswerStatus;
 import com.min.i.memory_BE.domain.media.entity.Media;
 import com.min.i.memory_BE.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +35,22 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
     // 사용자 ID로 답변 찾기
     List<Answer> findByUserId(Long userId);
     
+    // 미디어 ID와 상태로 답변 찾기
+    List<Answer> findByMediaIdAndStatus(Long mediaId, AnswerStatus status);
+    
+    // 변환 임대가 만료된(맡은 인스턴스가 종료된) 변환 대기 답변 찾기
+    @Query("SELECT a FROM Answer a WHERE a.status = com.min.i.memory_BE.domain.album.enums.AnswerStatus.PENDING " +
+            "AND (a.transcriptionClaimedAt IS NULL OR a.transcriptionClaimedAt < :staleBefore)")
+    List<Answer> findUnclaimedPending(@Param("staleBefore") LocalDateTime staleBefore);
+    
+    // 변환 대기 답변을 원자적으로 맡음 (이미 맡고 있거나 임대가 만료된 경우에만 갱신, 다른 인스턴스가 맡았으면 0)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Answer a SET a.transcriptionOwner = :owner, a.transcriptionClaimedAt = :now " +
+            "WHERE a.id = :id AND a.status = com.min.i.memory_BE.domain.album.enums.AnswerStatus.PENDING " +
+            "AND (a.transcriptionOwner = :owner OR a.transcriptionClaimedAt IS NULL OR a.transcriptionClaimedAt < :staleBefore)")
+    int claimTranscription(@Param("id") Long id, @Param("owner") String owner,
+                           @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+    
     // 미디어 ID로 답변 존재 여부 확인
     @Query("SELECT COUNT(a) > 0 FROM Answer a WHERE a.media.id = :mediaId")
     boolean existsByMediaId(@Param("mediaId") Long mediaId);
@@ -4,6 +4,7 @@ import com.min.i.memory_BE.domain.album.entity.Story;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,4 +29,12 @@ public interface StoryRepository extends JpaRepository<Story, Long> {
      * @return 존재 여부 (true/false)
      */
     boolean existsByMediaId(Long mediaId);
+
+    /**
+     * 여러 미디어의 스토리를 한 번에 조회합니다.
+     *
+     * @param mediaIds 미디어 ID 목록
+     * @return 스토리 목록 (ID 오름차순)
+     */
+    List<Story> findByMediaIdInOrderByIdAsc(Collection<Long> mediaIds);
 } 
\ No newline at end of file
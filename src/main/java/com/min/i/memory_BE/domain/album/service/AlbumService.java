@@ -3,6 +3,8 @@ package com.min.i.memory_BE.domain.album.service;
 import com.min.i.memory_BE.domain.album.repository.AlbumRepository;
 import com.min.i.memory_BE.domain.group.entity.Group;
 import com.min.i.memory_BE.domain.group.repository.GroupRepository;
+import com.min.i.memory_BE.domain.group.service.GroupMembershipService;
+import com.min.i.memory_BE.domain.user.enums.UserGroupRole;
 import com.min.i.memory_BE.domain.user.entity.User;
 import com.min.i.memory_BE.domain.user.repository.UserRepository;
 import com.min.i.memory_BE.global.error.exception.EntityNotFoundException;
@@ -12,6 +14,8 @@ import com.min.i.memory_BE.domain.album.dto.request.AlbumRequestDto;
 import com.min.i.memory_BE.domain.album.dto.response.GroupAlbumListResponseDto;
 import com.min.i.memory_BE.domain.album.entity.Album;
 import com.min.i.memory_BE.domain.media.dto.response.MediaResponseDto;
+import com.min.i.memory_BE.domain.media.enums.DeletionTargetType;
+import com.min.i.memory_BE.domain.media.service.DeletionTaskRunner;
 import com.min.i.memory_BE.domain.media.service.MediaService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +25,8 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -32,7 +38,9 @@ public class AlbumService {
     private final UserRepository userRepository;
     private final GroupRepository groupRepository;
     private final MediaService mediaService;
+    private final GroupMembershipService groupMembershipService;
     private final S3Service s3Service;
+    private final DeletionTaskRunner deletionTaskRunner;
     
     @Transactional
     public Album createAlbum(AlbumRequestDto request) {
@@ -73,7 +81,7 @@ public class AlbumService {
     
     /**
      * 그룹 ID로 앨범 목록을 조회합니다.
-     * 각 앨범마다 최근 미디어도 함께 조회합니다.
+     * 모든 앨범의 최근 미디어는 앨범별 상위 N개 윈도우 쿼리 한 번으로 함께 조회합니다.
      *
      * @param groupId 그룹 ID
      * @param thumbnailCount 각 앨범 당 표시할 최근 미디어 수
@@ -82,34 +90,34 @@ public class AlbumService {
      */
     public List<GroupAlbumListResponseDto> getAlbumsByGroupId(Long groupId, int thumbnailCount, User user) {
         // 1. 그룹 존재 확인 및 사용자 권한 확인
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new EntityNotFoundException("Group not found with id: " + groupId));
+        if (!groupRepository.existsById(groupId)) {
+            throw new EntityNotFoundException("Group not found with id: " + groupId);
+        }
         
         // 사용자가 그룹의 멤버인지 확인
-        boolean isMember = group.getUserGroups().stream()
-                .anyMatch(userGroup -> userGroup.getUser().getId().equals(user.getId()));
-        
-        if (!isMember) {
+        if (!groupMembershipService.isMember(user.getId(), groupId)) {
             throw new EntityNotFoundException("User is not a member of this group");
         }
         
         // 2. 그룹의 모든 앨범 조회
         List<Album> albums = albumRepository.findAllByGroupId(groupId);
+        if (albums.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        // 3. 모든 앨범의 최근 미디어를 한 번에 조회 (앨범별 상위 thumbnailCount개)
+        List<Long> albumIds = albums.stream()
+                .map(Album::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<MediaResponseDto>> recentMediaByAlbum =
+                mediaService.getRecentMediaByAlbumIds(albumIds, thumbnailCount);
         
-        // 3. 각 앨범마다 최근 미디어 정보를 조회하여 응답 DTO 생성
+        // 4. 앨범별 응답 DTO 생성
         List<GroupAlbumListResponseDto> result = new ArrayList<>();
         
         for (Album album : albums) {
-            // 앨범의 최근 미디어 조회
-            List<MediaResponseDto> recentMedia = mediaService.getRecentMediaDtoByAlbumWithAuth(
-                    album.getId(), 
-                    thumbnailCount, 
-                    user
-            );
-            
-            // 응답 DTO 생성
-            GroupAlbumListResponseDto dto = GroupAlbumListResponseDto.from(album, recentMedia);
-            result.add(dto);
+            List<MediaResponseDto> recentMedia = recentMediaByAlbum.getOrDefault(album.getId(), new ArrayList<>());
+            result.add(GroupAlbumListResponseDto.from(album, recentMedia));
         }
         
         return result;
@@ -136,9 +144,8 @@ public class AlbumService {
         
         // 앨범 생성자이거나 그룹 소유자/시니어인지 확인
         boolean isAlbumCreator = album.getUser() != null && album.getUser().getId().equals(user.getId());
-        boolean isGroupAdmin = album.getGroup().getUserGroups().stream()
-                .anyMatch(userGroup -> userGroup.getUser().getId().equals(user.getId()) && 
-                         (userGroup.getRole().equals("OWNER") || userGroup.getRole().equals("SENIOR")));
+        boolean isGroupAdmin = groupMembershipService.hasAnyRole(user.getId(), album.getGroup().getId(),
+                UserGroupRole.OWNER, UserGroupRole.SENIOR);
         
         if (!isAlbumCreator && !isGroupAdmin) {
             throw new InvalidOperationException("You don't have permission to update this album");
@@ -176,7 +183,8 @@ public class AlbumService {
     }
     
     /**
-     * 앨범을 삭제합니다. 앨범과 연결된 미디어는 유지됩니다.
+     * 앨범을 삭제합니다. 앨범은 바로 툼스톤 처리되어 조회되지 않으며,
+     * 앨범의 미디어와 S3 객체, 연관 데이터는 삭제 작업이 백그라운드에서 정리합니다.
      *
      * @param albumId 삭제할 앨범 ID
      * @param userId 요청한 사용자 ID
@@ -195,22 +203,17 @@ public class AlbumService {
         
         // 앨범 생성자이거나 그룹 소유자/시니어인지 확인
         boolean isAlbumCreator = album.getUser() != null && album.getUser().getId().equals(user.getId());
-        boolean isGroupAdmin = album.getGroup().getUserGroups().stream()
-                .anyMatch(userGroup -> userGroup.getUser().getId().equals(user.getId()) && 
-                         (userGroup.getRole().equals("OWNER") || userGroup.getRole().equals("SENIOR")));
+        boolean isGroupAdmin = groupMembershipService.hasAnyRole(user.getId(), album.getGroup().getId(),
+                UserGroupRole.OWNER, UserGroupRole.SENIOR);
         
         if (!isAlbumCreator && !isGroupAdmin) {
             throw new InvalidOperationException("You don't have permission to delete this album");
         }
         
-        // 앨범 썸네일 삭제
-        if (album.getThumbnailUrl() != null && !album.getThumbnailUrl().isEmpty()) {
-            s3Service.deleteImage(album.getThumbnailUrl());
-        }
-        
-        // 앨범 삭제
-        albumRepository.delete(album);
+        // 앨범 툼스톤 처리 후 삭제 작업 예약 (썸네일, 미디어 정리는 커밋 이후 백그라운드에서 진행)
+        album.markDeleted();
+        deletionTaskRunner.schedule(DeletionTargetType.ALBUM, albumId);
         
-        log.info("앨범 삭제 완료 - albumId: {}", albumId);
+        log.info("앨범 삭제 요청 완료 - albumId: {}", albumId);
     }
 }
\ No newline at end of file
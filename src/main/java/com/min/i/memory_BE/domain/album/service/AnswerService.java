@@ -4,16 +4,22 @@ import com.min.i.memory_BE.domain.album.entity.Answer;
 import com.min.i.memory_BE.domain.album.repository.AnswerRepository;
 import com.min.i.memory_BE.domain.album.dto.response.AnswerResponse;
 import com.min.i.memory_BE.domain.album.entity.Question;
+import com.min.i.memory_BE.domain.album.enums.AnswerStatus;
 import com.min.i.memory_BE.domain.album.repository.QuestionRepository;
 import com.min.i.memory_BE.domain.media.entity.Media;
 import com.min.i.memory_BE.domain.media.repository.MediaRepository;
 import com.min.i.memory_BE.global.error.exception.EntityNotFoundException;
+import com.min.i.memory_BE.global.error.exception.FileValidationException;
+import com.min.i.memory_BE.global.service.S3Service;
 import com.min.i.memory_BE.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,88 +33,124 @@ public class AnswerService {
     private final QuestionRepository questionRepository;
     private final MediaRepository mediaRepository;
     private final SpeechToTextService speechToTextService;
+    private final AnswerTranscriptionService answerTranscriptionService;
+    private final AnswerTranscriptionRunner answerTranscriptionRunner;
+    private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
     
     /**
      * 미디어에 대한 음성 또는 텍스트 답변을 저장합니다.
      * 하나의 미디어에 연결된 모든 질문에 대한 답변으로 처리됩니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Answer saveAnswer(Long mediaId, User user, String textContent, MultipartFile audioFile) {
-        // 1. 미디어 조회
-        Media media = mediaRepository.findById(mediaId)
-                .orElseThrow(() -> new EntityNotFoundException("미디어를 찾을 수 없습니다: " + mediaId));
-        
-        String content;
-        
-        // 2. 음성 파일이 제공된 경우, STT로 변환
-        if (audioFile != null && !audioFile.isEmpty()) {
-            log.info("음성 답변 처리 시작: 사용자 {}의 미디어 {} 답변", user.getEmail(), mediaId);
-            content = speechToTextService.convertSpeechToText(audioFile);
-        } else {
-            // 3. 텍스트 답변인 경우 그대로 사용
-            log.info("텍스트 답변 처리: 사용자 {}의 미디어 {} 답변", user.getEmail(), mediaId);
-            content = textContent;
-        }
-        
-        // 미디어와 연결된 질문을 가져옵니다
-        List<Question> questions = questionRepository.findByMediaIdWithMediaAndUploader(mediaId);
-        if (questions.isEmpty()) {
-            throw new EntityNotFoundException("미디어에 연결된 질문이 없습니다: " + mediaId);
-        }
-        
-        // 첫 번째 질문을 가져와 사용합니다
-        Question question = questions.get(0);
-        
-        // 4. Answer 엔티티 생성 및 저장
-        Answer answer = Answer.builder()
-                .media(media)
-                .user(user)
-                .content(content)
-                .question(question)
-                .build();
+        // 1. 미디어와 연결된 질문 확인 (짧은 트랜잭션)
+        Long questionId = transactionTemplate.execute(status -> {
+            findMedia(mediaId);
+            
+            List<Question> questions = questionRepository.findByMediaIdWithMediaAndUploader(mediaId);
+            if (questions.isEmpty()) {
+                throw new EntityNotFoundException("미디어에 연결된 질문이 없습니다: " + mediaId);
+            }
+            
+            // 첫 번째 질문을 가져와 사용합니다
+            return questions.get(0).getId();
+        });
         
-        return answerRepository.save(answer);
+        return createAnswer(mediaId, questionId, user, textContent, audioFile);
     }
     
     /**
      * 미디어에 대한 음성 또는 텍스트 답변을 저장합니다 (질문 ID 지정).
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Answer saveAnswer(Long mediaId, Long questionId, User user, String textContent, MultipartFile audioFile) {
-        // 1. 미디어 조회
-        Media media = mediaRepository.findById(mediaId)
-                .orElseThrow(() -> new EntityNotFoundException("미디어를 찾을 수 없습니다: " + mediaId));
-        
-        // 2. 질문 조회
-        Question question = questionRepository.findById(questionId)
-                .orElseThrow(() -> new EntityNotFoundException("질문을 찾을 수 없습니다: " + questionId));
+        // 1. 미디어, 질문 조회 및 관계 검증 (짧은 트랜잭션)
+        transactionTemplate.executeWithoutResult(status -> {
+            findMedia(mediaId);
+            
+            Question question = questionRepository.findById(questionId)
+                    .orElseThrow(() -> new EntityNotFoundException("질문을 찾을 수 없습니다: " + questionId));
+            
+            if (!question.getMedia().getId().equals(mediaId)) {
+                throw new IllegalArgumentException("해당 질문이 미디어와 연결되어 있지 않습니다. 질문 ID: " + questionId + ", 미디어 ID: " + mediaId);
+            }
+        });
         
-        // 3. 미디어와 질문의 관계 검증
-        if (!question.getMedia().getId().equals(mediaId)) {
-            throw new IllegalArgumentException("해당 질문이 미디어와 연결되어 있지 않습니다. 질문 ID: " + questionId + ", 미디어 ID: " + mediaId);
+        return createAnswer(mediaId, questionId, user, textContent, audioFile);
+    }
+    
+    /**
+     * 답변을 저장합니다.
+     * 텍스트 답변은 바로 저장하고, 음성 답변은 원본을 S3에 보관한 뒤 변환 대기(PENDING) 상태로 저장하여
+     * 텍스트 변환은 AnswerTranscriptionRunner가 트랜잭션 밖에서 처리합니다.
+     */
+    private Answer createAnswer(Long mediaId, Long questionId, User user, String textContent, MultipartFile audioFile) {
+        // 2. 텍스트 답변인 경우 그대로 저장
+        if (audioFile == null || audioFile.isEmpty()) {
+            log.info("텍스트 답변 처리: 사용자 {}의 미디어 {} 답변", user.getEmail(), mediaId);
+            return transactionTemplate.execute(status ->
+                    answerRepository.save(buildAnswer(mediaId, questionId, user, textContent, AnswerStatus.READY, null)));
         }
         
-        String content;
+        log.info("음성 답변 처리 시작: 사용자 {}의 미디어 {} 답변", user.getEmail(), mediaId);
+        String originalFilename = audioFile.getOriginalFilename();
+        String contentType = audioFile.getContentType();
+        byte[] audio = readAudio(audioFile);
         
-        // 4. 음성 파일이 제공된 경우, STT로 변환
-        if (audioFile != null && !audioFile.isEmpty()) {
-            log.info("음성 답변 처리 시작: 사용자 {}의 미디어 {} 답변", user.getEmail(), mediaId);
-            content = speechToTextService.convertSpeechToText(audioFile);
-        } else {
-            // 5. 텍스트 답변인 경우 그대로 사용
-            log.info("텍스트 답변 처리: 사용자 {}의 미디어 {} 답변", user.getEmail(), mediaId);
-            content = textContent;
+        // 3. 음성 원본을 S3에 보관 (트랜잭션 밖) - 변환 실패나 서버 재시작 시 다시 변환할 수 있도록
+        String audioUrl = s3Service.uploadAnswerAudio(audio, originalFilename, contentType, mediaId);
+        
+        // 4. 변환 대기 상태로 답변 저장 (이 인스턴스가 변환을 맡음)
+        Answer answer;
+        try {
+            answer = transactionTemplate.execute(status -> {
+                Answer pending = buildAnswer(mediaId, questionId, user, "", AnswerStatus.PENDING, audioUrl);
+                pending.claimTranscription(answerTranscriptionRunner.getOwner());
+                return answerRepository.save(pending);
+            });
+        } catch (RuntimeException e) {
+            s3Service.deleteImage(audioUrl);
+            throw e;
         }
         
-        // 6. Answer 엔티티 생성 및 저장
-        Answer answer = Answer.builder()
-                .media(media)
+        // 5. 커밋 이후 텍스트 변환 시작 (대기열이 가득 차면 변환 실패 상태로 반환)
+        if (!answerTranscriptionRunner.dispatch(answer.getId(), audio, originalFilename, contentType)) {
+            return answerRepository.findById(answer.getId()).orElse(answer);
+        }
+        return answer;
+    }
+    
+    private Answer buildAnswer(Long mediaId, Long questionId, User user, String content,
+                               AnswerStatus status, String audioUrl) {
+        return Answer.builder()
+                .media(mediaRepository.getReferenceById(mediaId))
                 .user(user)
                 .content(content)
-                .question(question)
+                .question(questionRepository.getReferenceById(questionId))
+                .status(status)
+                .audioUrl(audioUrl)
                 .build();
-        
-        return answerRepository.save(answer);
+    }
+    
+    private Media findMedia(Long mediaId) {
+        return mediaRepository.findById(mediaId)
+                .orElseThrow(() -> new EntityNotFoundException("미디어를 찾을 수 없습니다: " + mediaId));
+    }
+    
+    private byte[] readAudio(MultipartFile audioFile) {
+        try {
+            return audioFile.getBytes();
+        } catch (IOException e) {
+            throw new FileValidationException("음성 파일을 읽을 수 없습니다: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 답변의 음성 변환 상태를 조회합니다.
+     */
+    public Answer getAnswerStatus(Long answerId) {
+        return answerTranscriptionService.getAnswer(answerId);
     }
     
     /**
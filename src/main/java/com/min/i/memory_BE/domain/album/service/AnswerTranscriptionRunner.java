@@ -0,0 +1,143 @@
+package com.min.i.memory_BE.domain.album.service;
+
+import com.min.i.memory_BE.domain.album.entity.Answer;
+import com.min.i.memory_BE.global.service.InstanceIdentity;
+import com.min.i.memory_BE.global.service.S3Service;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 음성 답변의 텍스트 변환(STT)을 전용 스레드 풀에서 실행합니다.
+ * 답변은 PENDING 상태로 먼저 저장되고, 변환이 끝나면 READY(실패 시 FAILED)로 바뀝니다.
+ * 변환 중에는 DB 커넥션이나 트랜잭션을 잡고 있지 않습니다.
+ * 여러 인스턴스가 같은 답변을 변환하지 않도록, 변환 전에 답변을 원자적으로 맡고(임대) 임대가 만료된 답변만 다시 처리합니다.
+ */
+@Slf4j
+@Component
+public class AnswerTranscriptionRunner {
+
+    private final ThreadPoolTaskExecutor answerTranscriptionExecutor;
+    private final SpeechToTextService speechToTextService;
+    private final AnswerTranscriptionService answerTranscriptionService;
+    private final S3Service s3Service;
+    private final InstanceIdentity instanceIdentity;
+    private final Duration leaseTimeout;
+
+    public AnswerTranscriptionRunner(@Qualifier("answerTranscriptionExecutor") ThreadPoolTaskExecutor answerTranscriptionExecutor,
+                                     SpeechToTextService speechToTextService,
+                                     AnswerTranscriptionService answerTranscriptionService,
+                                     S3Service s3Service,
+                                     InstanceIdentity instanceIdentity,
+                                     @Value("${answer.transcription.lease-timeout-ms:600000}") long leaseTimeoutMs) {
+        this.answerTranscriptionExecutor = answerTranscriptionExecutor;
+        this.speechToTextService = speechToTextService;
+        this.answerTranscriptionService = answerTranscriptionService;
+        this.s3Service = s3Service;
+        this.instanceIdentity = instanceIdentity;
+        this.leaseTimeout = Duration.ofMillis(leaseTimeoutMs);
+    }
+
+    /**
+     * 새 음성 답변을 맡을 인스턴스 식별자 (답변 저장 시 함께 기록)
+     */
+    public String getOwner() {
+        return instanceIdentity.getId();
+    }
+
+    /**
+     * 업로드된 음성의 변환 작업을 실행 대기열에 넣습니다.
+     *
+     * @return 대기열에 들어갔으면 true, 대기열이 가득 차 거절되었으면 false (답변은 변환 실패 처리됨)
+     */
+    public boolean dispatch(Long answerId, byte[] audio, String originalFilename, String contentType) {
+        try {
+            answerTranscriptionExecutor.execute(() -> run(answerId, audio, originalFilename, contentType));
+            return true;
+        } catch (TaskRejectedException e) {
+            log.warn("음성 변환 대기열이 가득 참 - answerId: {}", answerId);
+            answerTranscriptionService.markFailed(answerId, "음성 변환 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+            return false;
+        }
+    }
+
+    /**
+     * 서버 재시작으로 변환되지 못한 음성 답변을 S3에 보관된 원본으로 다시 변환합니다.
+     * 시작 시와 주기적으로 실행하며, 임대가 만료된 답변을 원자적으로 맡은 경우에만 처리합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${answer.transcription.lease-timeout-ms:600000}",
+            fixedDelayString = "${answer.transcription.lease-timeout-ms:600000}")
+    public void resumePendingAnswers() {
+        List<Answer> pending = answerTranscriptionService.findUnclaimedPendingAnswers(staleBefore());
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        int resumed = 0;
+        for (Answer answer : pending) {
+            Long answerId = answer.getId();
+            String audioUrl = answer.getAudioUrl();
+            if (!answerTranscriptionService.claim(answerId, instanceIdentity.getId(), staleBefore())) {
+                // 다른 인스턴스가 먼저 맡음
+                continue;
+            }
+            resumed++;
+            if (audioUrl == null) {
+                answerTranscriptionService.markFailed(answerId, "음성 원본이 없어 변환할 수 없습니다.");
+                continue;
+            }
+            try {
+                answerTranscriptionExecutor.execute(() -> {
+                    try {
+                        run(answerId, s3Service.downloadFile(audioUrl), audioUrl, null);
+                    } catch (Exception e) {
+                        log.error("음성 원본 다운로드 실패 - answerId: {}", answerId, e);
+                        answerTranscriptionService.markFailed(answerId, e.getMessage());
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                log.warn("음성 변환 대기열이 가득 참 - answerId: {}", answerId);
+                answerTranscriptionService.markFailed(answerId, "음성 변환 대기열이 가득 찼습니다. 다시 답변해주세요.");
+            }
+        }
+        if (resumed > 0) {
+            log.warn("변환되지 않은 음성 답변 {}건을 다시 처리합니다.", resumed);
+        }
+    }
+
+    private void run(Long answerId, byte[] audio, String originalFilename, String contentType) {
+        long startTime = System.currentTimeMillis();
+        // 대기열에 있는 동안 임대가 만료되어 다른 인스턴스가 맡았으면 변환하지 않음 (맡고 있으면 임대 갱신)
+        if (!answerTranscriptionService.claim(answerId, instanceIdentity.getId(), staleBefore())) {
+            log.info("다른 인스턴스가 변환 중인 답변 - answerId: {}", answerId);
+            return;
+        }
+        try {
+            String content = speechToTextService.convertSpeechToText(audio, originalFilename, contentType);
+            answerTranscriptionService.markReady(answerId, content);
+            log.info("음성 답변 변환 완료 - answerId: {}, 소요 시간: {}ms", answerId, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("음성 답변 변환 실패 - answerId: {}, 오류: {}", answerId, e.getMessage(), e);
+            try {
+                answerTranscriptionService.markFailed(answerId, e.getMessage());
+            } catch (Exception markException) {
+                log.error("음성 변환 실패 상태 저장 중 오류 - answerId: {}", answerId, markException);
+            }
+        }
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minus(leaseTimeout);
+    }
+}
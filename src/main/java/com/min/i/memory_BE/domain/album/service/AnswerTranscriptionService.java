@@ -0,0 +1,62 @@
+package com.min.i.memory_BE.domain.album.service;
+
+import com.min.i.memory_BE.domain.album.entity.Answer;
+import com.min.i.memory_BE.domain.album.repository.AnswerRepository;
+import com.min.i.memory_BE.global.error.exception.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 음성 답변의 텍스트 변환 상태를 저장하고 조회합니다.
+ * 실제 변환 실행은 AnswerTranscriptionRunner가 담당하며, 각 상태 변경은 짧은 트랜잭션으로 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AnswerTranscriptionService {
+
+    private final AnswerRepository answerRepository;
+
+    @Transactional
+    public void markReady(Long answerId, String content) {
+        findAnswer(answerId).completeTranscription(content);
+    }
+
+    @Transactional
+    public void markFailed(Long answerId, String errorMessage) {
+        findAnswer(answerId).failTranscription(errorMessage);
+    }
+
+    /**
+     * 답변의 변환 상태를 조회합니다.
+     */
+    public Answer getAnswer(Long answerId) {
+        return findAnswer(answerId);
+    }
+
+    /**
+     * 변환이 끝나지 않았고 맡은 인스턴스의 임대가 만료된 음성 답변을 조회합니다 (재시작 후 재처리용).
+     */
+    public List<Answer> findUnclaimedPendingAnswers(LocalDateTime staleBefore) {
+        return answerRepository.findUnclaimedPending(staleBefore);
+    }
+
+    /**
+     * 변환 대기 답변을 이 인스턴스가 맡습니다. 다른 인스턴스가 임대 중이거나 이미 변환이 끝났으면 false를 반환합니다.
+     */
+    @Transactional
+    public boolean claim(Long answerId, String owner, LocalDateTime staleBefore) {
+        return answerRepository.claimTranscription(answerId, owner, LocalDateTime.now(), staleBefore) > 0;
+    }
+
+    private Answer findAnswer(Long answerId) {
+        return answerRepository.findById(answerId)
+                .orElseThrow(() -> new EntityNotFoundException("답변을 찾을 수 없습니다: " + answerId));
+    }
+}
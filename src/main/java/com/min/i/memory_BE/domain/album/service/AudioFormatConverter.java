@@ -1,18 +1,47 @@
 package com.min.i.memory_BE.domain.album.service;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 
-import javax.annotation.PostConstruct;
-import java.io.File;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 오디오 파일 형식 변환기 (Cross-Platform + 안정화)
+ * 업로드된 음성을 입력 스트림(MultipartFile.getInputStream)에서 ffmpeg stdin으로 흘려보내고 stdout의 PCM(LINEAR16)을 메모리로 받아,
+ * 원본 전체를 힙에 올리지 않고 변환합니다.
+ * 모든 음성을 PCM으로 변환하므로 인식 전에 무음 구간을 잘라내고 나눌 수 있습니다(VoiceActivitySegmenter).
+ * 변환은 크기가 제한된 작업 풀에서 실행되며, 대기 시간을 포함한 제한 시간을 넘기면 ffmpeg 프로세스를 강제 종료합니다.
+ * WAV는 ffmpeg 없이 애플리케이션 안에서 LINEAR16으로 바로 변환하며(WavPcmDecoder), 직접 변환할 수 없는 경우에만 ffmpeg를 사용합니다.
  */
 @Slf4j
 @Component
@@ -21,8 +50,46 @@ public class AudioFormatConverter {
     private String resolvedFfmpegPath;
     //변수선언
     private boolean ffmpegAvailable = false;
-   // 수정
-    private static final String[] SUPPORTED_FORMATS = {"flac"}; 
+
+    // 파일 끝의 메타데이터(moov)를 읽어야 해서 파이프 입력으로는 열 수 없는 형식 - 입력만 임시 파일 사용
+    private static final Set<String> SEEKABLE_INPUT_FORMATS = Set.of("mp4", "m4a", "mov", "3gp");
+
+    // ffmpeg 오류 로그는 마지막 일부만 보관
+    private static final int STDERR_TAIL_LIMIT = 2048;
+
+    private final ThreadPoolTaskExecutor transcodeExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // 작업별 stdin/stdout/stderr 파이프 처리용 (작업당 3개, 변환 풀 크기 x 3개로 제한)
+    private static final int PUMPS_PER_PROCESS = 3;
+    private final ExecutorService streamPumps;
+
+    @Value("${audio.transcode.timeout:30000}")
+    private long timeoutMillis;
+
+    @Value("${audio.transcode.sample-rate:16000}")
+    private int sampleRate;
+
+    private Timer queueWaitTimer;
+    private Timer transcodeTimer;
+    private Timer wavDecodeTimer;
+
+    public AudioFormatConverter(@Qualifier("audioTranscodeExecutor") ThreadPoolTaskExecutor transcodeExecutor,
+                                MeterRegistry meterRegistry,
+                                @Value("${audio.transcode.pool-size:4}") int poolSize) {
+        this.transcodeExecutor = transcodeExecutor;
+        this.meterRegistry = meterRegistry;
+        // 강제 종료된 작업의 파이프가 정리되는 동안 새 작업이 시작될 수 있으므로 같은 수만큼 대기열을 둠
+        int maxPumps = Math.max(1, poolSize) * PUMPS_PER_PROCESS;
+        ThreadPoolExecutor pumps = new ThreadPoolExecutor(maxPumps, maxPumps, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(maxPumps), runnable -> {
+                    Thread thread = new Thread(runnable, "ffmpeg-pipe");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pumps.allowCoreThreadTimeOut(true);
+        this.streamPumps = pumps;
+    }
 
 //    @PostConstruct
 //    public void init() {
@@ -72,11 +139,13 @@ public class AudioFormatConverter {
             // 시스템 ffmpeg 사용 가능 여부 확인
             ProcessBuilder pb = new ProcessBuilder("ffmpeg", "-version");
             pb.redirectErrorStream(true);
+            pb.redirectOutput(ProcessBuilder.Redirect.DISCARD);
             Process p = pb.start();
             int exitCode = p.waitFor();
 
             if (exitCode == 0) {
                 ffmpegAvailable = true;
+                resolvedFfmpegPath = "ffmpeg";
                 log.info("시스템 FFmpeg 사용 가능");
             } else {
                 log.warn("시스템 FFmpeg 실행 실패");
@@ -86,77 +155,195 @@ public class AudioFormatConverter {
             log.warn("FFmpeg가 시스템에 설치되어 있지 않습니다. 오디오 변환 기능이 비활성화됩니다: {}", e.getMessage());
             ffmpegAvailable = false;
         }
+
+        queueWaitTimer = meterRegistry.timer("audio.transcode.queue.wait");
+        transcodeTimer = meterRegistry.timer("audio.transcode.duration");
+        wavDecodeTimer = meterRegistry.timer("audio.decode.wav");
+        Gauge.builder("audio.transcode.queue.size", transcodeExecutor,
+                executor -> executor.getThreadPoolExecutor().getQueue().size()).register(meterRegistry);
+        Gauge.builder("audio.transcode.active", transcodeExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamPumps.shutdownNow();
     }
 
-    public Path convertToSupportedFormat(MultipartFile audioFile) {
+    /**
+     * 음성 파일을 STT용 LINEAR16(모노, 16bit little-endian PCM)으로 변환합니다.
+     * WAV는 직접 변환하고, 그 외 형식은 ffmpeg로 변환합니다.
+     * 입력은 필요할 때마다 새 스트림으로 읽으므로(WAV 직접 변환 실패 시 ffmpeg로 다시 읽음) MultipartFile을 그대로 넘길 수 있습니다.
+     *
+     * @param audio 음성 파일 (MultipartFile, ByteArrayResource 등)
+     * @param originalFilename 원본 파일명 (확장자로 형식 판별)
+     * @param contentType 콘텐츠 타입 (없으면 null)
+     * @return 변환된 음성 (변환할 수 없으면 null - 원본 사용)
+     */
+    public TranscodedAudio transcode(InputStreamSource audio, String originalFilename, String contentType) {
+        String extension = getFileExtension(originalFilename);
+
+        if (isWav(contentType, extension)) {
+            TranscodedAudio decoded = decodeWav(audio);
+            if (decoded != null) {
+                return decoded;
+            }
+        }
+
         if (resolvedFfmpegPath == null) {
             log.error("FFmpeg 경로 미설정, 변환 불가");
             return null;
         }
 
-        String originalFilename = audioFile.getOriginalFilename();
-        String extension = getFileExtension(originalFilename);
-
-        if (isSupportedFormat(extension)) {
-            return saveOriginal(audioFile, extension);
+        long queuedAt = System.nanoTime();
+        Future<byte[]> job;
+        try {
+            job = transcodeExecutor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return runFfmpeg(audio, extension);
+            });
+        } catch (TaskRejectedException e) {
+            meterRegistry.counter("audio.transcode.rejected").increment();
+            log.warn("FFmpeg 변환 대기열이 가득 차 변환하지 않습니다: {}", originalFilename);
+            return null;
         }
 
-        return convertWithFfmpeg(audioFile, extension);
+        // 결과는 한 가지로만 집계 (성공 / 시간 초과 / 실패)
+        try {
+            byte[] content = job.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            log.info("변환 완료: {} -> pcm ({} bytes)", extension, content.length);
+            return new TranscodedAudio(content, sampleRate);
+        } catch (TimeoutException e) {
+            // 작업 스레드를 인터럽트하면 runFfmpeg의 finally에서 프로세스를 강제 종료함
+            job.cancel(true);
+            meterRegistry.counter("audio.transcode.timeout").increment();
+            log.error("FFmpeg 변환 시간 초과 ({}ms, 대기 시간 포함): {}", timeoutMillis, originalFilename);
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                meterRegistry.counter("audio.transcode.timeout").increment();
+            } else {
+                meterRegistry.counter("audio.transcode.failed").increment();
+            }
+            log.error("FFmpeg 변환 실패: {}", e.getCause().getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.cancel(true);
+            return null;
+        }
     }
 
-    private Path saveOriginal(MultipartFile audioFile, String extension) {
-        try {
-            Path tempFile = Files.createTempFile("original-", "." + extension);
-            audioFile.transferTo(tempFile.toFile());
-            log.info("지원되는 형식 {} -> 변환없이 사용", extension);
-            return tempFile;
+    // ffmpeg 프로세스 없이 WAV를 LINEAR16으로 변환 (디코딩할 수 없는 WAV는 null -> ffmpeg 사용)
+    private TranscodedAudio decodeWav(InputStreamSource audio) {
+        long startTime = System.nanoTime();
+        try (InputStream input = audio.getInputStream()) {
+            byte[] content = WavPcmDecoder.decode(input, sampleRate);
+            if (content == null) {
+                meterRegistry.counter("audio.decode.wav.fallback").increment();
+                log.info("직접 변환할 수 없는 WAV 형식 -> FFmpeg 사용");
+                return null;
+            }
+            wavDecodeTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            log.info("WAV 직접 변환 완료: {} bytes", content.length);
+            return new TranscodedAudio(content, sampleRate);
         } catch (IOException e) {
-            log.error("원본 파일 저장 실패", e);
+            meterRegistry.counter("audio.decode.wav.fallback").increment();
+            log.warn("WAV 직접 변환 실패, FFmpeg 사용: {}", e.getMessage());
             return null;
         }
     }
 
-    private Path convertWithFfmpeg(MultipartFile audioFile, String extension) {
+    private byte[] runFfmpeg(InputStreamSource audio, String extension) throws Exception {
+        long startTime = System.nanoTime();
+        Path seekableInput = null;
+        Process process = null;
         try {
-            Path originalTempFile = Files.createTempFile("original-", "." + extension);
-            audioFile.transferTo(originalTempFile.toFile());
-            Path convertedFile = Files.createTempFile("converted-", ".flac");
-
-            log.info("FFmpeg 변환 시작: {} -> flac", extension);
+            List<String> command = new ArrayList<>(List.of(resolvedFfmpegPath, "-hide_banner", "-loglevel", "error"));
+            if (SEEKABLE_INPUT_FORMATS.contains(extension.toLowerCase(Locale.ROOT))) {
+                seekableInput = Files.createTempFile("transcode-", "." + extension);
+                try (InputStream input = audio.getInputStream()) {
+                    Files.copy(input, seekableInput, StandardCopyOption.REPLACE_EXISTING);
+                }
+                command.addAll(List.of("-i", seekableInput.toAbsolutePath().toString()));
+            } else {
+                command.addAll(List.of("-i", "pipe:0"));
+            }
+            command.addAll(List.of("-vn", "-ac", "1", "-ar", String.valueOf(sampleRate),
+                    "-acodec", "pcm_s16le", "-f", "s16le", "pipe:1"));
 
-            ProcessBuilder pb = new ProcessBuilder(
-                resolvedFfmpegPath, "-i", originalTempFile.toAbsolutePath().toString(),
-                "-ac", "1", "-ar", "44100", "-sample_fmt", "s16", "-y",
-                convertedFile.toAbsolutePath().toString()
-            );
+            log.info("FFmpeg 변환 시작: {} -> pcm", extension);
+            process = new ProcessBuilder(command).start();
 
-            pb.redirectErrorStream(true);
-            Process process = pb.start();
-            int exitCode = process.waitFor();
+            // stdin 쓰기, stdout / stderr 읽기를 동시에 진행하여 파이프 버퍼가 가득 차 멈추지 않도록 함
+            Process running = process;
+            boolean pipeInput = seekableInput == null;
+            CompletableFuture.runAsync(() -> writeInput(audio, running, pipeInput), streamPumps);
+            CompletableFuture<byte[]> stdout = CompletableFuture.supplyAsync(
+                    () -> readAll(running.getInputStream()), streamPumps);
+            CompletableFuture<String> stderr = CompletableFuture.supplyAsync(
+                    () -> readTail(running.getErrorStream()), streamPumps);
 
-            Files.deleteIfExists(originalTempFile);
+            // 호출 측 제한 시간과 별개로 프로세스 실행 시간도 제한 (집계는 호출 측에서 한 번만)
+            if (!process.waitFor(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new TimeoutException("FFmpeg 변환 시간 초과 (" + timeoutMillis + "ms)");
+            }
 
+            int exitCode = process.exitValue();
             if (exitCode != 0) {
-                log.error("FFmpeg 변환 실패. 코드: {}", exitCode);
-                Files.deleteIfExists(convertedFile);
-                return null;
+                throw new IllegalStateException("FFmpeg 변환 실패. 코드: " + exitCode + ", " + stderr.join());
             }
 
-            log.info("변환 완료: {} -> flac", extension);
-            return convertedFile;
+            byte[] content = stdout.join();
+            transcodeTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            return content;
 
-        } catch (IOException | InterruptedException e) {
-            log.error("FFmpeg 변환 중 오류", e);
-            return null;
+        } finally {
+            // 시간 초과 / 인터럽트 / 오류 시 프로세스가 남지 않도록 강제 종료
+            if (process != null && process.isAlive()) {
+                process.destroyForcibly();
+            }
+            if (seekableInput != null) {
+                Files.deleteIfExists(seekableInput);
+            }
         }
     }
 
-    private boolean isSupportedFormat(String extension) {
-        if (extension == null) return false;
-        for (String format : SUPPORTED_FORMATS) {
-            if (format.equalsIgnoreCase(extension)) return true;
+    private void writeInput(InputStreamSource audio, Process process, boolean pipeInput) {
+        try (OutputStream stdin = process.getOutputStream()) {
+            if (pipeInput) {
+                try (InputStream input = audio.getInputStream()) {
+                    input.transferTo(stdin);
+                }
+            }
+        } catch (IOException e) {
+            // ffmpeg가 먼저 종료된 경우 (Broken pipe) - 결과는 종료 코드로 판단
+            log.debug("FFmpeg 입력 전송 중단: {}", e.getMessage());
         }
-        return false;
+    }
+
+    private byte[] readAll(InputStream stdout) {
+        try (stdout) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            stdout.transferTo(output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String readTail(InputStream stderr) {
+        try (stderr) {
+            String message = new String(stderr.readAllBytes(), StandardCharsets.UTF_8).trim();
+            return message.length() > STDERR_TAIL_LIMIT
+                    ? message.substring(message.length() - STDERR_TAIL_LIMIT) : message;
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private boolean isWav(String contentType, String extension) {
+        return (contentType != null && contentType.contains("wav")) || "wav".equalsIgnoreCase(extension) || "wave".equalsIgnoreCase(extension);
     }
 
     private String getFileExtension(String filename) {
@@ -167,17 +354,15 @@ public class AudioFormatConverter {
     }
 
     public boolean isFFmpegAvailable() {
-        if (resolvedFfmpegPath == null) return false;
+        return ffmpegAvailable && resolvedFfmpegPath != null;
+    }
 
-        try {
-            ProcessBuilder pb = new ProcessBuilder(resolvedFfmpegPath, "-version");
-            pb.redirectErrorStream(true);
-            Process p = pb.start();
-            int exitCode = p.waitFor();
-            return exitCode == 0;
-        } catch (Exception e) {
-            log.error("FFmpeg 확인 실패", e);
-            return false;
-        }
+    /**
+     * 변환된 음성 (LINEAR16: 헤더 없는 모노 16bit little-endian PCM)
+     *
+     * @param content PCM 바이트
+     * @param sampleRate 샘플레이트 (Hz)
+     */
+    public record TranscodedAudio(byte[] content, int sampleRate) {
     }
 }
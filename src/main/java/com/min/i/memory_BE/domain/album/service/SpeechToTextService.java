@@ -1,168 +1,197 @@
 package com.min.i.memory_BE.domain.album.service;
 
-import com.google.auth.oauth2.GoogleCredentials;
 import com.google.cloud.speech.v1.*;
 import com.google.protobuf.ByteString;
-import lombok.RequiredArgsConstructor;
+import com.min.i.memory_BE.domain.album.client.GoogleSpeechClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.annotation.PostConstruct;
-import java.io.*;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 /**
  * Google Speech-to-Text 서비스
- * - Credentials 캐싱
+ * - SpeechClient 재사용 (GoogleSpeechClient)
  * - sample_rate 자동화 (WAV 오류 해결)
  * - 변환된 파일, 원본 파일 모두 대응
+ * - 긴 음성: 무음 구간을 잘라내고 말이 멈춘 지점에서 나눠 병렬 인식 후 순서대로 이어 붙임
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SpeechToTextService {
 
     @Value("${google.speech.language:ko-KR}")
     private String language;
     
-    @Value("${google.speech.credentials-file:classpath:keys/google-credentials.json}")
-    private String credentialsFilePath;
-    
-    private final ResourceLoader resourceLoader;
+    private final GoogleSpeechClient googleSpeechClient;
     private final AudioFormatConverter audioFormatConverter;
-
-    private GoogleCredentials cachedCredentials;
-    private boolean ffmpegAvailable = false;
+    private final VoiceActivitySegmenter voiceActivitySegmenter;
+    private final ThreadPoolTaskExecutor speechChunkExecutor;
+    private final MeterRegistry meterRegistry;
+
+    public SpeechToTextService(GoogleSpeechClient googleSpeechClient,
+                               AudioFormatConverter audioFormatConverter,
+                               VoiceActivitySegmenter voiceActivitySegmenter,
+                               @Qualifier("speechChunkExecutor") ThreadPoolTaskExecutor speechChunkExecutor,
+                               MeterRegistry meterRegistry) {
+        this.googleSpeechClient = googleSpeechClient;
+        this.audioFormatConverter = audioFormatConverter;
+        this.voiceActivitySegmenter = voiceActivitySegmenter;
+        this.speechChunkExecutor = speechChunkExecutor;
+        this.meterRegistry = meterRegistry;
+    }
 
     @PostConstruct
     public void init() {
-        try {
-            // 환경 변수에서 자격 증명 파일 경로를 가져오거나 리소스에서 로드
-            String googleCredsEnv = System.getenv("GOOGLE_APPLICATION_CREDENTIALS");
-            if (googleCredsEnv != null && !googleCredsEnv.isEmpty()) {
-                log.info("환경 변수에서 Google 자격 증명 경로 사용: {}", googleCredsEnv);
-                // 환경 변수가 설정되어 있으면 해당 파일에서 자격 증명 로드
-                cachedCredentials = GoogleCredentials.fromStream(new FileInputStream(googleCredsEnv));
-            } else {
-                // 환경 변수가 없으면 리소스에서 로드
-                Resource credentialsResource = resourceLoader.getResource(credentialsFilePath);
-                if (!credentialsResource.exists()) {
-                    throw new FileNotFoundException("Google 인증파일 없음: " + credentialsFilePath);
-                }
-                
-                // 스트림으로 직접 읽기 (getFile() 대신)
-                InputStream credentialsStream = credentialsResource.getInputStream();
-                cachedCredentials = GoogleCredentials.fromStream(credentialsStream);
-                log.info("리소스에서 Google 자격 증명 로드 완료: {}", credentialsFilePath);
-            }
-            
-            ffmpegAvailable = audioFormatConverter.isFFmpegAvailable();
-            log.info("FFmpeg 상태: {}", ffmpegAvailable ? "사용 가능" : "사용 불가");
-
-        } catch (Exception e) {
-            log.error("초기화 실패", e);
-            throw new IllegalStateException("SpeechToTextService 초기화 실패", e);
-        }
+        log.info("FFmpeg 상태: {}", audioFormatConverter.isFFmpegAvailable() ? "사용 가능" : "사용 불가 (WAV만 변환)");
     }
 
+    // 업로드 파일은 통째로 읽지 않고 스트림으로 변환기에 전달
     public String convertSpeechToText(MultipartFile audioFile) {
-        Path tempFile = null;
-        Path convertedFile = null;
-        boolean isConvertedFile = false;
-        
+        return convertSpeechToText(audioFile, audioFile.getOriginalFilename(), audioFile.getContentType());
+    }
+
+    /**
+     * 음성 내용을 텍스트로 변환합니다.
+     * 요청 스레드 밖(비동기 변환 작업, 재시작 복구)에서도 호출할 수 있도록 업로드 파일 대신 내용을 받습니다.
+     *
+     * @param audio 음성 파일 내용
+     * @param originalFilename 원본 파일명 (확장자로 형식 판별)
+     * @param contentType 콘텐츠 타입 (없으면 null)
+     * @return 인식된 텍스트 (음성이 없으면 빈 문자열)
+     */
+    public String convertSpeechToText(byte[] audio, String originalFilename, String contentType) {
+        return convertSpeechToText(new ByteArrayResource(audio), originalFilename, contentType);
+    }
+
+    private String convertSpeechToText(InputStreamSource audio, String originalFilename, String contentType) {
         try {
-            log.info("음성파일 처리 시작: {} ({})", audioFile.getOriginalFilename(), audioFile.getContentType());
+            log.info("음성파일 처리 시작: {} ({})", originalFilename, contentType);
             
-            String extension = getFileExtension(audioFile.getOriginalFilename());
-
-            // 형식 변환
-            if (ffmpegAvailable) {
-                convertedFile = audioFormatConverter.convertToSupportedFormat(audioFile);
-                if (convertedFile != null) {
-                    tempFile = convertedFile;
-                    isConvertedFile = true;
-                    extension = "flac";
-                    log.info("변환 성공: {} → flac", audioFile.getOriginalFilename());
-                } else {
-                    log.warn("변환 실패, 원본 사용");
+            String extension = getFileExtension(originalFilename);
+
+            // 형식 변환 (WAV는 직접 변환, 그 외는 ffmpeg 파이프 - 임시 파일 없이 메모리에서 처리)
+            AudioFormatConverter.TranscodedAudio transcoded = audioFormatConverter.transcode(audio, originalFilename, contentType);
+            if (transcoded == null) {
+                log.warn("변환하지 않음, 원본 사용 (구간 분할 없이 한 번에 인식)");
+                try (InputStream input = audio.getInputStream()) {
+                    return recognize(originalConfig(contentType, extension), ByteString.readFrom(input));
                 }
             }
 
-            if (tempFile == null) {
-            tempFile = Files.createTempFile("speech-", "." + extension);
-            audioFile.transferTo(tempFile.toFile());
-            }
-            
-            // STT 호출 준비
-            byte[] audioBytes = Files.readAllBytes(tempFile);
-                RecognitionAudio audio = RecognitionAudio.newBuilder()
-                    .setContent(ByteString.copyFrom(audioBytes))
-                    .build();
-                
-            RecognitionConfig.Builder configBuilder = RecognitionConfig.newBuilder()
-                    .setEncoding(resolveEncoding(audioFile, isConvertedFile, extension))
-                    .setLanguageCode(language);
-
-            // Sample rate 설정
-            if (isConvertedFile || extension.equalsIgnoreCase("flac")) {
-                configBuilder.setSampleRateHertz(44100);
-            } else if (extension.equalsIgnoreCase("mp3")) {
-                configBuilder.setSampleRateHertz(44100);
-            } else if (extension.equalsIgnoreCase("webm") || extension.equalsIgnoreCase("ogg") || extension.equalsIgnoreCase("opus")) {
-                configBuilder.setSampleRateHertz(48000);
-            } else if (extension.equalsIgnoreCase("wav")) {
-                log.info("WAV 감지 → sample_rate 자동 감지");
-                // WAV는 설정 안함 (Google이 header 읽음)
+            // 무음 제거 및 구간 분할
+            List<byte[]> chunks = voiceActivitySegmenter.split(transcoded.content(), transcoded.sampleRate());
+            recordDuration(transcoded, chunks);
+            if (chunks.isEmpty()) {
+                log.warn("음성 구간 없음 (무음)");
+                return "";
             }
 
-            RecognitionConfig config = configBuilder.build();
-
-            // Google STT 요청
-            try (SpeechClient speechClient = SpeechClient.create(SpeechSettings.newBuilder()
-                    .setCredentialsProvider(() -> cachedCredentials)
-                    .build())) {
-
-                RecognizeResponse response = speechClient.recognize(config, audio);
-                List<SpeechRecognitionResult> results = response.getResultsList();
-                
-                if (results.isEmpty()) {
-                    log.warn("STT 결과 없음");
-                    return "";
-                }
-                
-                StringBuilder transcription = new StringBuilder();
-                for (SpeechRecognitionResult result : results) {
-                    SpeechRecognitionAlternative alt = result.getAlternativesList().get(0);
-                    transcription.append(alt.getTranscript());
-                    log.info("인식 결과: {}", alt.getTranscript());
-                }
+            RecognitionConfig config = RecognitionConfig.newBuilder()
+                    .setEncoding(RecognitionConfig.AudioEncoding.LINEAR16)
+                    .setSampleRateHertz(transcoded.sampleRate())
+                    .setLanguageCode(language)
+                    .build();
 
-                return transcription.toString();
+            if (chunks.size() == 1) {
+                return recognize(config, ByteString.copyFrom(chunks.get(0)));
             }
+            return recognizeInParallel(config, chunks);
 
         } catch (Exception e) {
             log.error("STT 처리 중 오류", e);
             throw new RuntimeException("STT 처리 실패: " + e.getMessage(), e);
-        } finally {
-                try {
-                if (tempFile != null) Files.deleteIfExists(tempFile);
-                if (convertedFile != null) Files.deleteIfExists(convertedFile);
-                } catch (IOException e) {
-                log.warn("임시파일 삭제 실패", e);
-            }
         }
     }
 
-    private RecognitionConfig.AudioEncoding resolveEncoding(MultipartFile file, boolean isConverted, String extension) {
-        if (isConverted) return RecognitionConfig.AudioEncoding.FLAC;
+    // 구간별로 동시에 인식하고 원래 순서대로 이어 붙임 - 전체 지연은 가장 긴 구간의 인식 시간에 맞춰짐
+    private String recognizeInParallel(RecognitionConfig config, List<byte[]> chunks) {
+        log.info("긴 음성 분할 인식: {}개 구간", chunks.size());
+        List<CompletableFuture<String>> futures = new ArrayList<>(chunks.size());
+        for (byte[] chunk : chunks) {
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> recognize(config, ByteString.copyFrom(chunk)), speechChunkExecutor));
+        }
+
+        try {
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .filter(text -> !text.isBlank())
+                    .collect(Collectors.joining(" "));
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private String recognize(RecognitionConfig config, ByteString content) {
+        RecognitionAudio audio = RecognitionAudio.newBuilder()
+                .setContent(content)
+                .build();
+
+        // Google STT 요청 (애플리케이션 전체에서 공유하는 SpeechClient 사용)
+        RecognizeResponse response = googleSpeechClient.recognize(config, audio);
+        List<SpeechRecognitionResult> results = response.getResultsList();
+
+        if (results.isEmpty()) {
+            log.warn("STT 결과 없음");
+            return "";
+        }
+
+        StringBuilder transcription = new StringBuilder();
+        for (SpeechRecognitionResult result : results) {
+            SpeechRecognitionAlternative alt = result.getAlternativesList().get(0);
+            transcription.append(alt.getTranscript());
+            log.info("인식 결과: {}", alt.getTranscript());
+        }
+        return transcription.toString();
+    }
+
+    // 변환하지 못한 원본 음성의 인식 설정
+    private RecognitionConfig originalConfig(String contentType, String extension) {
+        RecognitionConfig.Builder configBuilder = RecognitionConfig.newBuilder()
+                .setEncoding(resolveEncoding(contentType, extension))
+                .setLanguageCode(language);
+
+        // Sample rate 설정
+        if (extension.equalsIgnoreCase("flac")) {
+            configBuilder.setSampleRateHertz(44100);
+        } else if (extension.equalsIgnoreCase("mp3")) {
+            configBuilder.setSampleRateHertz(44100);
+        } else if (extension.equalsIgnoreCase("webm") || extension.equalsIgnoreCase("ogg") || extension.equalsIgnoreCase("opus")) {
+            configBuilder.setSampleRateHertz(48000);
+        } else if (extension.equalsIgnoreCase("wav")) {
+            log.info("WAV 감지 → sample_rate 자동 감지");
+            // WAV는 설정 안함 (Google이 header 읽음)
+        }
+        return configBuilder.build();
+    }
+
+    // 입력 길이 / 실제 인식 요청 길이 (잘라낸 무음만큼 인식 비용 절감)
+    private void recordDuration(AudioFormatConverter.TranscodedAudio transcoded, List<byte[]> chunks) {
+        double inputSeconds = transcoded.content().length / 2.0 / transcoded.sampleRate();
+        double sentSeconds = chunks.stream().mapToLong(chunk -> chunk.length).sum() / 2.0 / transcoded.sampleRate();
+        meterRegistry.counter("speech.audio.input.seconds").increment(inputSeconds);
+        meterRegistry.counter("speech.audio.sent.seconds").increment(sentSeconds);
+        meterRegistry.summary("speech.audio.chunks").record(chunks.size());
+        log.info("음성 길이 {}초 -> 인식 요청 {}초 ({}개 구간)",
+                String.format("%.1f", inputSeconds), String.format("%.1f", sentSeconds), chunks.size());
+    }
 
-        String contentType = file.getContentType() != null ? file.getContentType() : "";
+    private RecognitionConfig.AudioEncoding resolveEncoding(String contentType, String extension) {
+        contentType = contentType != null ? contentType : "";
         if (contentType.contains("wav")) return RecognitionConfig.AudioEncoding.LINEAR16;
         if (contentType.contains("flac")) return RecognitionConfig.AudioEncoding.FLAC;
         if (contentType.contains("mp3")) return RecognitionConfig.AudioEncoding.MP3;
@@ -4,22 +4,34 @@ import com.min.i.memory_BE.domain.album.dto.StoryDto;
 import com.min.i.memory_BE.domain.album.entity.Answer;
 import com.min.i.memory_BE.domain.album.entity.Question;
 import com.min.i.memory_BE.domain.album.entity.Story;
+import com.min.i.memory_BE.domain.album.enums.AnswerStatus;
 import com.min.i.memory_BE.domain.album.repository.AnswerRepository;
 import com.min.i.memory_BE.domain.album.repository.QuestionRepository;
 import com.min.i.memory_BE.domain.album.repository.StoryRepository;
 import com.min.i.memory_BE.domain.media.client.FastApiClient;
+import com.min.i.memory_BE.domain.media.client.FastApiStreamClient;
 import com.min.i.memory_BE.domain.media.entity.Media;
 import com.min.i.memory_BE.domain.media.repository.MediaRepository;
 import com.min.i.memory_BE.global.error.exception.EntityNotFoundException;
 import com.min.i.memory_BE.global.error.exception.DuplicateResourceException;
+import com.min.i.memory_BE.global.error.exception.FastApiServiceException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,6 +45,14 @@ public class StoryService {
     private final AnswerRepository answerRepository;
     private final StoryRepository storyRepository;
     private final FastApiClient fastApiClient;
+    private final FastApiStreamClient fastApiStreamClient;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${story.stream.sse-timeout:180000}")
+    private long streamTimeout;
+    
+    // 미디어 ID -> 진행 중인 스토리 생성 (동시 요청 합류용)
+    private final Map<Long, CompletableFuture<Story>> inFlightGenerations = new ConcurrentHashMap<>();
     
     /**
      * 미디어 ID로 스토리를 조회합니다.
@@ -75,15 +95,139 @@ public class StoryService {
     /**
      * 미디어 ID를 기반으로 질문과 답변을 조회하여 스토리를 생성합니다.
      * 생성된 스토리는 데이터베이스에 저장됩니다.
+     * 같은 미디어에 대한 생성이 이미 진행 중이면 FastAPI를 다시 호출하지 않고 진행 중인 결과를 함께 받습니다.
+     * FastAPI 호출은 트랜잭션 밖에서 수행하여 생성하는 동안 DB 커넥션을 점유하지 않습니다.
      * 
      * @param mediaId 미디어 ID
      * @return 생성된 스토리 엔티티
      * @throws DuplicateResourceException 이미 스토리가 존재할 경우
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Story generateStory(Long mediaId) {
+        CompletableFuture<Story> pending = new CompletableFuture<>();
+        CompletableFuture<Story> inFlight = inFlightGenerations.putIfAbsent(mediaId, pending);
+        if (inFlight != null) {
+            log.info("진행 중인 스토리 생성에 합류합니다. 미디어 ID: {}", mediaId);
+            return awaitGeneration(inFlight);
+        }
+        
+        try {
+            Story story = createStory(mediaId);
+            pending.complete(story);
+            return story;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightGenerations.remove(mediaId, pending);
+        }
+    }
+    
+    private Story createStory(Long mediaId) {
         log.info("미디어 ID {}에 대한 스토리 생성 시작", mediaId);
         
+        // 1~4. 스토리 생성 요청 데이터 구성 (조회가 끝나면 트랜잭션 종료)
+        StoryRequest request = transactionTemplate.execute(status -> prepareStoryRequest(mediaId));
+        
+        log.info("스토리 생성에 사용할 이미지 URL: {}", request.imageUrl());
+        
+        // 5. FastAPI 호출하여 스토리 생성 - 이미지 URL 전달 (트랜잭션 밖에서 호출)
+        Map<String, Object> response = fastApiClient.generateStory(
+                mediaId, request.questions(), request.answers(), request.options(), request.imageUrl());
+        
+        // 6. 응답 처리
+        if (response == null || !"success".equals(response.get("status"))) {
+            String errorMsg = response != null ? 
+                response.get("message") != null ? response.get("message").toString() : "알 수 없는 오류" 
+                : "응답이 null입니다";
+            log.error("스토리 생성 실패: {}", errorMsg);
+            throw new RuntimeException("스토리 생성 실패: " + errorMsg);
+        }
+        
+        String storyContent = (String) response.get("story_content");
+        
+        // 7. 스토리 저장
+        return saveStory(mediaId, storyContent);
+    }
+    
+    /**
+     * 스토리를 스트리밍으로 생성합니다.
+     * FastAPI가 생성하는 토큰을 Server-Sent Events로 바로 전달하고, 스트림이 끝나면 완성된 스토리를 저장합니다.
+     * 요청 스레드는 스트림을 연 뒤 바로 반환되며, 오류는 "error" 이벤트로 전달합니다.
+     * 같은 미디어에 대한 생성이 이미 진행 중이면 토큰 없이 완성된 스토리만 "complete" 이벤트로 받습니다.
+     * 
+     * 이벤트: token(생성된 텍스트 조각) -> complete(저장된 스토리) 또는 error(오류 메시지)
+     * 
+     * @param mediaId 미디어 ID
+     * @return SSE 스트림
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter streamStory(Long mediaId) {
+        SseEmitter emitter = new SseEmitter(streamTimeout);
+        
+        CompletableFuture<Story> pending = new CompletableFuture<>();
+        CompletableFuture<Story> inFlight = inFlightGenerations.putIfAbsent(mediaId, pending);
+        if (inFlight != null) {
+            log.info("진행 중인 스토리 생성에 합류합니다. 미디어 ID: {}", mediaId);
+            inFlight.whenComplete((story, error) -> finishStream(emitter, story, error));
+            return emitter;
+        }
+        
+        StoryRequest request;
+        try {
+            request = transactionTemplate.execute(status -> prepareStoryRequest(mediaId));
+        } catch (RuntimeException e) {
+            inFlightGenerations.remove(mediaId, pending);
+            pending.completeExceptionally(e);
+            finishStream(emitter, null, e);
+            return emitter;
+        }
+        
+        log.info("미디어 ID {}에 대한 스토리 스트리밍 생성 시작", mediaId);
+        StringBuilder content = new StringBuilder();
+        fastApiStreamClient.streamStory(mediaId, request.questions(), request.answers(), request.options(),
+                        request.imageUrl(), token -> {
+                            content.append(token);
+                            sendEvent(emitter, "token", token);
+                        })
+                .thenApply(done -> {
+                    if (content.isEmpty()) {
+                        throw new FastApiServiceException("생성된 스토리 내용이 없습니다");
+                    }
+                    return saveStory(mediaId, content.toString());
+                })
+                .whenComplete((story, error) -> {
+                    inFlightGenerations.remove(mediaId, pending);
+                    if (error != null) {
+                        pending.completeExceptionally(unwrap(error));
+                    } else {
+                        pending.complete(story);
+                    }
+                    finishStream(emitter, story, error);
+                });
+        return emitter;
+    }
+    
+    // 스토리 저장 - 다른 인스턴스에서 먼저 저장한 경우 unique 제약 위반
+    private Story saveStory(Long mediaId, String storyContent) {
+        try {
+            Story savedStory = transactionTemplate.execute(status -> {
+                Media media = mediaRepository.findById(mediaId)
+                        .orElseThrow(() -> new EntityNotFoundException("미디어를 찾을 수 없습니다: " + mediaId));
+                return storyRepository.saveAndFlush(Story.builder()
+                        .media(media)
+                        .content(storyContent)
+                        .build());
+            });
+            log.info("스토리가 성공적으로 생성되었습니다. 스토리 ID: {}", savedStory.getId());
+            return savedStory;
+        } catch (DataIntegrityViolationException e) {
+            log.info("다른 요청에서 이미 스토리를 생성했습니다. 미디어 ID: {}", mediaId);
+            throw new DuplicateResourceException("이미 해당 미디어에 대한 스토리가 존재합니다: " + mediaId, e);
+        }
+    }
+    
+    private StoryRequest prepareStoryRequest(Long mediaId) {
         // 1. 미디어 조회
         Media media = mediaRepository.findById(mediaId)
                 .orElseThrow(() -> new EntityNotFoundException("미디어를 찾을 수 없습니다: " + mediaId));
@@ -96,7 +240,8 @@ public class StoryService {
         
         // 3. 질문과 답변 데이터 조회
         List<Question> questions = questionRepository.findByMediaId(mediaId);
-        List<Answer> answers = answerRepository.findByMediaId(mediaId);
+        // 음성 변환이 끝나지 않았거나 실패한 답변은 제외
+        List<Answer> answers = answerRepository.findByMediaIdAndStatus(mediaId, AnswerStatus.READY);
         
         if (questions.isEmpty() || answers.isEmpty()) {
             log.warn("미디어 {}에 대한 질문 또는 답변이 없습니다", mediaId);
@@ -137,32 +282,57 @@ public class StoryService {
             imageUrl = media.getFileUrl();
         }
         
-        log.info("스토리 생성에 사용할 이미지 URL: {}", imageUrl);
-        
-        // 5. FastAPI 호출하여 스토리 생성 - 이미지 URL 전달
-        Map<String, Object> response = fastApiClient.generateStory(mediaId, questionsList, answersList, options, imageUrl);
-        
-        // 6. 응답 처리
-        if (response == null || !"success".equals(response.get("status"))) {
-            String errorMsg = response != null ? 
-                response.get("message") != null ? response.get("message").toString() : "알 수 없는 오류" 
-                : "응답이 null입니다";
-            log.error("스토리 생성 실패: {}", errorMsg);
-            throw new RuntimeException("스토리 생성 실패: " + errorMsg);
+        return new StoryRequest(imageUrl, questionsList, answersList, options);
+    }
+    
+    // 진행 중인 생성 결과를 기다림 (생성 실패 시 같은 예외를 그대로 전달)
+    private Story awaitGeneration(CompletableFuture<Story> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
         }
-        
-        String storyContent = (String) response.get("story_content");
-        
-        // 7. 스토리 저장
-        Story story = Story.builder()
-                .media(media)
-                .content(storyContent)
-                .build();
-        
-        Story savedStory = storyRepository.save(story);
-        log.info("스토리가 성공적으로 생성되었습니다. 스토리 ID: {}", savedStory.getId());
-        
-        return savedStory;
+    }
+    
+    private RuntimeException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new RuntimeException(cause);
+    }
+    
+    // 스트림 종료 - 저장된 스토리 또는 오류 메시지를 보낸 뒤 닫음
+    private void finishStream(SseEmitter emitter, Story story, Throwable error) {
+        if (error != null) {
+            RuntimeException cause = unwrap(error);
+            log.error("스토리 스트리밍 생성 실패: {}", cause.getMessage());
+            sendEvent(emitter, "error", Map.of("message", String.valueOf(cause.getMessage())));
+        } else {
+            Map<String, Object> data = new HashMap<>();
+            data.put("storyId", story.getId());
+            data.put("mediaId", story.getMedia().getId());
+            data.put("content", story.getContent());
+            data.put("createdAt", story.getCreatedAt());
+            sendEvent(emitter, "complete", data);
+        }
+        emitter.complete();
+    }
+    
+    // 클라이언트 연결이 끊겨도 생성은 계속하여 스토리를 저장 (전송 실패는 기록만 함)
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("스토리 스트림 전송 실패 (클라이언트 연결 종료): {}", e.getMessage());
+        }
+    }
+    
+    // FastAPI 스토리 생성 요청 데이터
+    private record StoryRequest(String imageUrl,
+                                List<Map<String, Object>> questions,
+                                List<Map<String, Object>> answers,
+                                Map<String, Object> options) {
     }
 
 } 
\ No newline at end of file
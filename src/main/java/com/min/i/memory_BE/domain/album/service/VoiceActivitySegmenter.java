@@ -0,0 +1,234 @@
+package com.min.i.memory_BE.domain.album.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 음성 구간 분할기 (에너지 기반 VAD)
+ * LINEAR16 모노 음성을 20ms 프레임 단위 에너지로 음성/무음을 판별하여 앞뒤 무음을 잘라내고,
+ * 긴 무음은 짧게 줄인 뒤 말이 멈춘 지점에서 동기 인식 한도보다 짧은 구간들로 나눕니다.
+ *
+ * 무음 기준은 녹음마다 다른 잡음 수준을 반영해, 하위 10% 프레임 에너지(잡음 바닥)에 여유값을 더해 정합니다.
+ */
+@Component
+public class VoiceActivitySegmenter {
+
+    private static final int FRAME_MS = 20;
+
+    // 잡음 바닥으로 사용할 프레임 에너지 백분위
+    private static final double NOISE_FLOOR_PERCENTILE = 0.1;
+
+    // 무음 기준의 하한 / 상한 (dBFS) - 완전 무음 녹음이나 잡음이 큰 녹음에서 기준이 치우치지 않도록 제한
+    private static final double MIN_THRESHOLD_DB = -50.0;
+    private static final double MAX_THRESHOLD_DB = -35.0;
+
+    // 이보다 짧은 소리(클릭, 잡음)는 음성으로 보지 않음
+    private static final int MIN_SPEECH_MS = 100;
+
+    // 구간이 한도를 넘을 때 자를 지점을 찾는 범위 (한도 직전 구간에서 가장 조용한 프레임)
+    private static final int SPLIT_SEARCH_MS = 5000;
+
+    private final double thresholdDb;
+    private final int minSilenceMs;
+    private final int paddingMs;
+    private final int maxPauseMs;
+    private final int maxChunkMs;
+
+    public VoiceActivitySegmenter(@Value("${audio.vad.threshold-db:12}") double thresholdDb,
+                                  @Value("${audio.vad.min-silence-ms:300}") int minSilenceMs,
+                                  @Value("${audio.vad.padding-ms:200}") int paddingMs,
+                                  @Value("${audio.vad.max-pause-ms:500}") int maxPauseMs,
+                                  @Value("${audio.vad.max-chunk-seconds:50}") int maxChunkSeconds) {
+        this.thresholdDb = thresholdDb;
+        this.minSilenceMs = minSilenceMs;
+        this.paddingMs = paddingMs;
+        this.maxPauseMs = maxPauseMs;
+        this.maxChunkMs = maxChunkSeconds * 1000;
+    }
+
+    /**
+     * 음성을 인식 단위 구간으로 나눕니다.
+     *
+     * @param pcm LINEAR16(16bit little-endian) 모노 음성
+     * @param sampleRate 샘플레이트 (Hz)
+     * @return 재생 순서대로 정렬된 구간별 LINEAR16 음성 (음성이 없으면 빈 목록)
+     */
+    public List<byte[]> split(byte[] pcm, int sampleRate) {
+        int frameSamples = sampleRate * FRAME_MS / 1000;
+        int totalSamples = pcm.length / 2;
+        if (frameSamples == 0 || totalSamples == 0) {
+            return List.of();
+        }
+
+        double[] energy = frameEnergy(pcm, totalSamples, frameSamples);
+        boolean[] speech = detectSpeech(energy);
+
+        List<int[]> regions = speechRegions(speech, frameSamples, totalSamples, sampleRate);
+        List<List<int[]>> chunks = groupIntoChunks(regions, energy, frameSamples, sampleRate);
+
+        List<byte[]> result = new ArrayList<>(chunks.size());
+        for (List<int[]> chunk : chunks) {
+            result.add(concat(pcm, chunk));
+        }
+        return result;
+    }
+
+    // 프레임별 평균 에너지 (dBFS)
+    private double[] frameEnergy(byte[] pcm, int totalSamples, int frameSamples) {
+        int frames = (totalSamples + frameSamples - 1) / frameSamples;
+        double[] energy = new double[frames];
+        for (int frame = 0; frame < frames; frame++) {
+            int start = frame * frameSamples;
+            int end = Math.min(start + frameSamples, totalSamples);
+            double sum = 0;
+            for (int i = start; i < end; i++) {
+                double sample = (short) ((pcm[i * 2] & 0xff) | (pcm[i * 2 + 1] << 8)) / 32768.0;
+                sum += sample * sample;
+            }
+            energy[frame] = 10 * Math.log10(sum / (end - start) + 1e-10);
+        }
+        return energy;
+    }
+
+    private boolean[] detectSpeech(double[] energy) {
+        double[] sorted = energy.clone();
+        Arrays.sort(sorted);
+        double noiseFloor = sorted[(int) (sorted.length * NOISE_FLOOR_PERCENTILE)];
+        double threshold = Math.max(MIN_THRESHOLD_DB, Math.min(MAX_THRESHOLD_DB, noiseFloor + thresholdDb));
+
+        boolean[] speech = new boolean[energy.length];
+        for (int i = 0; i < energy.length; i++) {
+            speech[i] = energy[i] > threshold;
+        }
+
+        // 말 사이의 짧은 쉼은 음성으로 이어 붙이고, 짧은 소리는 제거
+        fillRuns(speech, false, minSilenceMs / FRAME_MS, true);
+        fillRuns(speech, true, MIN_SPEECH_MS / FRAME_MS, false);
+        return speech;
+    }
+
+    // value가 연속된 구간 중 길이가 maxLength 미만인 구간을 replacement로 채움 (앞뒤 가장자리 구간은 제외)
+    private void fillRuns(boolean[] frames, boolean value, int maxLength, boolean interiorOnly) {
+        int i = 0;
+        while (i < frames.length) {
+            if (frames[i] != value) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < frames.length && frames[i] == value) {
+                i++;
+            }
+            boolean interior = start > 0 && i < frames.length;
+            if (i - start < maxLength && (interior || !interiorOnly)) {
+                Arrays.fill(frames, start, i, !value);
+            }
+        }
+    }
+
+    // 음성 프레임 구간을 앞뒤 여유(padding)를 포함한 샘플 구간 [start, end)로 변환
+    private List<int[]> speechRegions(boolean[] speech, int frameSamples, int totalSamples, int sampleRate) {
+        int padding = (int) ((long) sampleRate * paddingMs / 1000);
+        List<int[]> regions = new ArrayList<>();
+        int i = 0;
+        while (i < speech.length) {
+            if (!speech[i]) {
+                i++;
+                continue;
+            }
+            int startFrame = i;
+            while (i < speech.length && speech[i]) {
+                i++;
+            }
+            int start = Math.max(0, startFrame * frameSamples - padding);
+            int end = Math.min(totalSamples, i * frameSamples + padding);
+
+            int[] last = regions.isEmpty() ? null : regions.get(regions.size() - 1);
+            if (last != null && start <= last[1]) {
+                last[1] = end;
+            } else {
+                regions.add(new int[]{start, end});
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * 음성 구간을 순서대로 이어 붙여 한도 이하의 인식 단위로 묶습니다.
+     * 구간 사이의 무음은 최대 maxPauseMs까지만 남기고, 한도를 넘는 긴 구간은 가장 조용한 지점에서 자릅니다.
+     */
+    private List<List<int[]>> groupIntoChunks(List<int[]> regions, double[] energy, int frameSamples, int sampleRate) {
+        int maxChunk = (int) ((long) sampleRate * maxChunkMs / 1000);
+        int maxPause = (int) ((long) sampleRate * maxPauseMs / 1000);
+
+        List<List<int[]>> chunks = new ArrayList<>();
+        List<int[]> current = new ArrayList<>();
+        int currentLength = 0;
+
+        for (int[] region : regions) {
+            for (int[] piece : splitLongRegion(region, energy, frameSamples, sampleRate, maxChunk)) {
+                int pieceLength = piece[1] - piece[0];
+                int[] previous = current.isEmpty() ? null : current.get(current.size() - 1);
+                int keptPause = previous == null ? 0 : Math.min(piece[0] - previous[1], maxPause);
+
+                if (previous != null && currentLength + keptPause + pieceLength > maxChunk) {
+                    chunks.add(current);
+                    current = new ArrayList<>();
+                    currentLength = 0;
+                    previous = null;
+                    keptPause = 0;
+                }
+                if (previous != null) {
+                    // 남길 쉼은 앞 구간에 붙여서 함께 복사
+                    previous[1] += keptPause;
+                }
+                current.add(piece);
+                currentLength += keptPause + pieceLength;
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private List<int[]> splitLongRegion(int[] region, double[] energy, int frameSamples, int sampleRate, int maxChunk) {
+        List<int[]> pieces = new ArrayList<>();
+        int searchFrames = Math.max(1, (int) ((long) sampleRate * SPLIT_SEARCH_MS / 1000) / frameSamples);
+        int start = region[0];
+        while (region[1] - start > maxChunk) {
+            int limitFrame = (start + maxChunk) / frameSamples;
+            int firstFrame = Math.max(start / frameSamples + 1, limitFrame - searchFrames);
+            int quietest = limitFrame;
+            for (int frame = firstFrame; frame <= limitFrame; frame++) {
+                if (energy[frame] < energy[quietest]) {
+                    quietest = frame;
+                }
+            }
+            int cut = quietest * frameSamples;
+            pieces.add(new int[]{start, cut});
+            start = cut;
+        }
+        pieces.add(new int[]{start, region[1]});
+        return pieces;
+    }
+
+    private byte[] concat(byte[] pcm, List<int[]> ranges) {
+        int length = 0;
+        for (int[] range : ranges) {
+            length += range[1] - range[0];
+        }
+        byte[] chunk = new byte[length * 2];
+        int offset = 0;
+        for (int[] range : ranges) {
+            int bytes = (range[1] - range[0]) * 2;
+            System.arraycopy(pcm, range[0] * 2, chunk, offset, bytes);
+            offset += bytes;
+        }
+        return chunk;
+    }
+}
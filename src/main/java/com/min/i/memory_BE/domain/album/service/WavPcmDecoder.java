@@ -0,0 +1,346 @@
+package com.min.i.memory_BE.domain.album.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * WAV(RIFF) 음성 디코더
+ * ffmpeg 프로세스 없이 WAV 헤더를 읽어 모노로 다운믹스하고 음성 인식 샘플레이트로 리샘플링하여
+ * LINEAR16(16bit little-endian PCM, 헤더 없음) 바이트로 변환합니다.
+ *
+ * 리샘플링은 windowed-sinc 저역 통과 필터(polyphase)를 사용하며, 샘플 처리 중에는 고정 크기 링 버퍼만 사용하므로 추가 할당이 없습니다.
+ * 지원 형식: PCM 8/16/24/32bit, IEEE float 32bit (WAVE_FORMAT_EXTENSIBLE 포함)
+ */
+public final class WavPcmDecoder {
+
+    private static final int WAVE_FORMAT_PCM = 0x0001;
+    private static final int WAVE_FORMAT_IEEE_FLOAT = 0x0003;
+    private static final int WAVE_FORMAT_EXTENSIBLE = 0xFFFE;
+
+    // fmt 청크 최대 크기 (정상적인 WAV는 40바이트 이하)
+    private static final int MAX_FMT_CHUNK_SIZE = 1024;
+
+    // 한 번에 읽을 프레임 수
+    private static final int READ_FRAMES = 4096;
+
+    // 리샘플링 위상 수 상한 (target / gcd(source, target)) - 초과하는 비정형 샘플레이트는 ffmpeg로 처리
+    private static final int MAX_PHASES = 1024;
+
+    // 헤더의 데이터 크기를 그대로 믿지 않도록 출력 버퍼 초기 크기를 제한 (부족하면 늘림)
+    private static final int MAX_INITIAL_OUTPUT_BYTES = 4 * 1024 * 1024;
+
+    private WavPcmDecoder() {
+    }
+
+    /**
+     * WAV 음성을 LINEAR16 모노로 변환합니다.
+     *
+     * @param input WAV 스트림
+     * @param targetSampleRate 변환 결과 샘플레이트 (Hz)
+     * @return LINEAR16 바이트 (WAV가 아니거나 지원하지 않는 형식이면 null)
+     */
+    public static byte[] decode(InputStream input, int targetSampleRate) throws IOException {
+        WavFormat format = readHeader(input);
+        if (format == null || !Resampler.supports(format.sampleRate(), targetSampleRate)) {
+            return null;
+        }
+
+        int frameSize = format.channels() * format.bytesPerSample();
+        long initialOutputBytes = MAX_INITIAL_OUTPUT_BYTES;
+        if (format.dataLength() >= 0) {
+            long frames = format.dataLength() / frameSize;
+            initialOutputBytes = Math.min(
+                    (frames * targetSampleRate / format.sampleRate() + 2) * 2, MAX_INITIAL_OUTPUT_BYTES);
+        }
+
+        Resampler resampler = new Resampler(format.sampleRate(), targetSampleRate, (int) initialOutputBytes);
+        byte[] buffer = new byte[frameSize * READ_FRAMES];
+        long remaining = format.dataLength() >= 0 ? format.dataLength() : Long.MAX_VALUE;
+
+        while (remaining >= frameSize) {
+            int want = (int) Math.min(buffer.length, remaining - remaining % frameSize);
+            int read = input.readNBytes(buffer, 0, want);
+            int frames = read / frameSize;
+            for (int frame = 0; frame < frames; frame++) {
+                resampler.accept(downmix(buffer, frame * frameSize, format));
+            }
+            if (read < want) {
+                break;
+            }
+            remaining -= read;
+        }
+
+        return resampler.finish();
+    }
+
+    private static float downmix(byte[] buffer, int offset, WavFormat format) {
+        float sum = 0f;
+        for (int channel = 0; channel < format.channels(); channel++) {
+            sum += readSample(buffer, offset + channel * format.bytesPerSample(), format);
+        }
+        return sum / format.channels();
+    }
+
+    // 샘플을 [-1, 1) 범위의 실수로 변환
+    private static float readSample(byte[] buffer, int offset, WavFormat format) {
+        switch (format.bytesPerSample()) {
+            case 1:
+                return ((buffer[offset] & 0xff) - 128) / 128f;
+            case 2:
+                return (short) ((buffer[offset] & 0xff) | (buffer[offset + 1] << 8)) / 32768f;
+            case 3:
+                return ((buffer[offset] & 0xff) | ((buffer[offset + 1] & 0xff) << 8) | (buffer[offset + 2] << 16))
+                        / 8388608f;
+            default:
+                int bits = (buffer[offset] & 0xff) | ((buffer[offset + 1] & 0xff) << 8)
+                        | ((buffer[offset + 2] & 0xff) << 16) | (buffer[offset + 3] << 24);
+                return format.floatingPoint() ? Float.intBitsToFloat(bits) : bits / 2147483648f;
+        }
+    }
+
+    /**
+     * RIFF 헤더와 청크를 읽어 data 청크 시작 위치까지 이동합니다.
+     *
+     * @return 형식 정보 (WAV가 아니거나 지원하지 않는 형식이면 null)
+     */
+    private static WavFormat readHeader(InputStream input) throws IOException {
+        byte[] riff = input.readNBytes(12);
+        if (riff.length < 12 || !"RIFF".equals(fourCc(riff, 0)) || !"WAVE".equals(fourCc(riff, 8))) {
+            return null;
+        }
+
+        WavFormat format = null;
+        byte[] chunkHeader = new byte[8];
+        while (input.readNBytes(chunkHeader, 0, 8) == 8) {
+            String chunkId = fourCc(chunkHeader, 0);
+            long chunkSize = Integer.toUnsignedLong(readInt(chunkHeader, 4));
+
+            if ("fmt ".equals(chunkId)) {
+                if (chunkSize < 16 || chunkSize > MAX_FMT_CHUNK_SIZE) {
+                    return null;
+                }
+                byte[] fmt = input.readNBytes((int) chunkSize);
+                if (fmt.length < chunkSize) {
+                    return null;
+                }
+                skipPadding(input, chunkSize);
+                format = parseFormat(fmt);
+                if (format == null) {
+                    return null;
+                }
+            } else if ("data".equals(chunkId)) {
+                if (format == null) {
+                    return null;
+                }
+                // 스트리밍으로 기록된 WAV는 크기가 0 또는 0xFFFFFFFF일 수 있음 -> 스트림 끝까지 읽음
+                long dataLength = chunkSize == 0 || chunkSize == 0xFFFFFFFFL ? -1 : chunkSize;
+                return format.withDataLength(dataLength);
+            } else {
+                // LIST, fact, JUNK 등 부가 청크는 건너뜀
+                input.skipNBytes(chunkSize + (chunkSize & 1));
+            }
+        }
+        return null;
+    }
+
+    private static WavFormat parseFormat(byte[] fmt) {
+        int formatTag = readShort(fmt, 0);
+        int channels = readShort(fmt, 2);
+        int sampleRate = readInt(fmt, 4);
+        int blockAlign = readShort(fmt, 12);
+        int bitsPerSample = readShort(fmt, 14);
+
+        if (formatTag == WAVE_FORMAT_EXTENSIBLE) {
+            if (fmt.length < 40) {
+                return null;
+            }
+            // SubFormat GUID의 앞 2바이트가 실제 형식 코드
+            formatTag = readShort(fmt, 24);
+        }
+
+        boolean floatingPoint = formatTag == WAVE_FORMAT_IEEE_FLOAT;
+        if (formatTag != WAVE_FORMAT_PCM && !floatingPoint) {
+            return null;
+        }
+        if (channels <= 0 || sampleRate <= 0 || bitsPerSample % 8 != 0) {
+            return null;
+        }
+        int bytesPerSample = bitsPerSample / 8;
+        if (bytesPerSample < 1 || bytesPerSample > 4 || (floatingPoint && bytesPerSample != 4)) {
+            return null;
+        }
+        if (blockAlign != channels * bytesPerSample) {
+            return null;
+        }
+        return new WavFormat(channels, sampleRate, bytesPerSample, floatingPoint, -1);
+    }
+
+    private static void skipPadding(InputStream input, long chunkSize) throws IOException {
+        if ((chunkSize & 1) == 1) {
+            input.skipNBytes(1);
+        }
+    }
+
+    private static String fourCc(byte[] bytes, int offset) {
+        return new String(bytes, offset, 4, StandardCharsets.US_ASCII);
+    }
+
+    private static int readShort(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8);
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8)
+                | ((bytes[offset + 2] & 0xff) << 16) | ((bytes[offset + 3] & 0xff) << 24);
+    }
+
+    private record WavFormat(int channels, int sampleRate, int bytesPerSample, boolean floatingPoint,
+                             long dataLength) {
+
+        WavFormat withDataLength(long length) {
+            return new WavFormat(channels, sampleRate, bytesPerSample, floatingPoint, length);
+        }
+    }
+
+    /**
+     * windowed-sinc 리샘플러 (polyphase)
+     * 출력 위치의 소수부(위상)는 target / gcd(source, target)개 중 하나로 반복되므로 위상별 필터 계수를 미리 계산해 두고,
+     * 입력 샘플을 링 버퍼에 쌓다가 출력 위치 양쪽의 입력 샘플이 모두 모이면 출력 샘플을 하나씩 계산합니다.
+     * 링 버퍼는 같은 샘플을 두 곳에 기록해 필터 구간을 경계 없이 연속으로 읽습니다.
+     * 다운샘플링 시에는 출력 나이퀴스트 주파수에 맞춰 차단 주파수를 낮춰 앨리어싱을 막습니다.
+     */
+    private static final class Resampler {
+
+        // 필터 한쪽의 영점 교차 수
+        private static final int ZERO_CROSSINGS = 16;
+
+        // 차단 주파수를 나이퀴스트보다 조금 낮춰 전이 대역 확보
+        private static final double ROLLOFF = 0.95;
+
+        private final boolean passthrough;
+        private final int interpolation;  // L: 위상 수
+        private final int decimation;     // M: 출력 샘플 하나당 입력 이동량 (M / L 샘플)
+        private final int halfWidth;
+        private final int taps;
+        private final float[] weights;    // 위상별 필터 계수 [phase * taps + tap]
+        private final float[] ring;
+        private final int mask;
+
+        private long inputCount;
+        private long center;              // 다음 출력 위치의 정수부
+        private int phase;                // 다음 출력 위치의 소수부 (phase / L)
+
+        private byte[] output;
+        private int outputLength;
+
+        Resampler(int sourceRate, int targetRate, int initialOutputBytes) {
+            this.passthrough = sourceRate == targetRate;
+            this.output = new byte[Math.max(initialOutputBytes, 2)];
+
+            int gcd = gcd(sourceRate, targetRate);
+            this.interpolation = targetRate / gcd;
+            this.decimation = sourceRate / gcd;
+
+            double cutoff = Math.min(1.0, (double) targetRate / sourceRate) * ROLLOFF;
+            this.halfWidth = passthrough ? 0 : (int) Math.ceil(ZERO_CROSSINGS / cutoff);
+            this.taps = halfWidth * 2;
+
+            // 위상 p의 출력 위치는 center + p / L, tap t는 입력 center - halfWidth + 1 + t
+            this.weights = new float[passthrough ? 0 : interpolation * taps];
+            for (int p = 0; p < interpolation && !passthrough; p++) {
+                double fraction = (double) p / interpolation;
+                for (int t = 0; t < taps; t++) {
+                    double distance = Math.abs(fraction - (t - halfWidth + 1));
+                    weights[p * taps + t] = distance >= halfWidth
+                            ? 0f : (float) (cutoff * sinc(cutoff * distance) * blackman(distance / halfWidth));
+                }
+            }
+
+            // 시작 직전(음수 위치) 구간은 0으로 읽히도록 필요한 폭의 4배 이상으로 잡음
+            int ringSize = Integer.highestOneBit(Math.max(taps * 2, 2)) << 1;
+            this.ring = new float[ringSize * 2];
+            this.mask = ringSize - 1;
+        }
+
+        /**
+         * 위상 수가 너무 많아 계수 테이블이 커지는 비정형 샘플레이트는 지원하지 않음
+         */
+        static boolean supports(int sourceRate, int targetRate) {
+            return targetRate / gcd(sourceRate, targetRate) <= MAX_PHASES;
+        }
+
+        void accept(float sample) {
+            if (passthrough) {
+                write(sample);
+                return;
+            }
+            push(sample);
+        }
+
+        byte[] finish() {
+            if (!passthrough) {
+                // 마지막 입력 샘플까지 출력되도록 뒤쪽을 0으로 채움
+                long total = inputCount;
+                while (center < total) {
+                    push(0f);
+                }
+            }
+            byte[] result = new byte[outputLength];
+            System.arraycopy(output, 0, result, 0, outputLength);
+            return result;
+        }
+
+        private void push(float sample) {
+            long newest = inputCount;
+            int slot = (int) (newest & mask);
+            ring[slot] = sample;
+            ring[slot + mask + 1] = sample;
+            inputCount++;
+
+            while (center + halfWidth <= newest) {
+                write(filter((int) ((center - halfWidth + 1) & mask), phase * taps));
+                phase += decimation;
+                center += phase / interpolation;
+                phase %= interpolation;
+            }
+        }
+
+        private float filter(int start, int weightOffset) {
+            float sum = 0f;
+            for (int t = 0; t < taps; t++) {
+                sum += ring[start + t] * weights[weightOffset + t];
+            }
+            return sum;
+        }
+
+        private void write(float sample) {
+            int value = Math.round(sample * 32767f);
+            value = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, value));
+            if (outputLength + 2 > output.length) {
+                byte[] grown = new byte[output.length * 2];
+                System.arraycopy(output, 0, grown, 0, outputLength);
+                output = grown;
+            }
+            output[outputLength++] = (byte) value;
+            output[outputLength++] = (byte) (value >> 8);
+        }
+
+        private static int gcd(int a, int b) {
+            return b == 0 ? a : gcd(b, a % b);
+        }
+
+        private static double sinc(double x) {
+            if (x == 0) {
+                return 1.0;
+            }
+            double px = Math.PI * x;
+            return Math.sin(px) / px;
+        }
+
+        // x: 필터 중심으로부터의 거리 (0..1)
+        private static double blackman(double x) {
+            return 0.42 + 0.5 * Math.cos(Math.PI * x) + 0.08 * Math.cos(2 * Math.PI * x);
+        }
+    }
+}
@@ -16,9 +16,11 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
 @Table(name = "album_groups")
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Group extends BaseEntity {
@@ -41,6 +43,10 @@ public class Group extends BaseEntity {
   
   private String groupImageUrl;
   
+  // 삭제 요청 시각 (툼스톤) - 설정되면 조회되지 않고, 앨범과 미디어는 백그라운드에서 정리
+  @Column(name = "deleted_at")
+  private LocalDateTime deletedAt;
+  
   @OneToMany(mappedBy = "group")
   private final List<UserGroup> userGroups = new ArrayList<>();
   
@@ -65,5 +71,12 @@ public class Group extends BaseEntity {
     this.groupImageUrl = groupImageUrl;
   }
   
+  /**
+   * 그룹을 삭제 상태로 표시합니다. 실제 삭제는 백그라운드 삭제 작업이 수행합니다.
+   */
+  public void markDeleted() {
+    this.deletedAt = LocalDateTime.now();
+  }
+  
 }
 
@@ -3,6 +3,7 @@ package com.min.i.memory_BE.domain.group.entity;
 import com.min.i.memory_BE.domain.user.entity.User;
 import com.min.i.memory_BE.domain.user.enums.UserGroupRole;
 import com.min.i.memory_BE.global.entity.BaseEntity;
+import com.min.i.memory_BE.global.entity.IdGeneration;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -13,6 +14,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
@@ -30,7 +32,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserGroup extends BaseEntity {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_groups_seq")
+  @SequenceGenerator(name = "user_groups_seq", sequenceName = "user_groups_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
   private Long id;
   
   @ManyToOne(fetch = FetchType.LAZY)
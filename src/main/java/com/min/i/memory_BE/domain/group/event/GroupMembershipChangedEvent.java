@@ -0,0 +1,30 @@
+package com.min.i.memory_BE.domain.group.event;
+
+import lombok.Getter;
+
+/**
+ * 그룹 멤버십(가입, 탈퇴, 역할 변경, 그룹 삭제)이 변경되었을 때 발행되는 이벤트
+ * userId가 null이면 그룹 전체 멤버십이 변경된 것으로 간주합니다.
+ */
+@Getter
+public class GroupMembershipChangedEvent {
+    private final Long groupId;
+    private final Long userId;
+
+    private GroupMembershipChangedEvent(Long groupId, Long userId) {
+        this.groupId = groupId;
+        this.userId = userId;
+    }
+
+    public static GroupMembershipChangedEvent ofMember(Long groupId, Long userId) {
+        return new GroupMembershipChangedEvent(groupId, userId);
+    }
+
+    public static GroupMembershipChangedEvent ofGroup(Long groupId) {
+        return new GroupMembershipChangedEvent(groupId, null);
+    }
+
+    public boolean isGroupWide() {
+        return userId == null;
+    }
+}
@@ -6,6 +6,7 @@ import com.min.i.memory_BE.domain.user.enums.UserGroupRole;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -17,7 +18,10 @@ public interface UserGroupRepository extends JpaRepository<UserGroup, Long> {
   
   List<UserGroup> findByGroupAndRole(Group group, UserGroupRole role);
   
-  void deleteByGroup(Group group);
+  // 그룹의 멤버십 일괄 삭제 (행마다 조회 후 삭제하지 않고 DELETE 한 번으로 처리)
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM UserGroup ug WHERE ug.group = :group")
+  int deleteByGroup(Group group);
   
   boolean existsByUserAndGroup(User user, Group group);
   
@@ -34,5 +38,13 @@ public interface UserGroupRepository extends JpaRepository<UserGroup, Long> {
   @Query("SELECT ug FROM UserGroup ug JOIN FETCH ug.user JOIN FETCH ug.group WHERE ug.group = :group")
   List<UserGroup> findByGroupWithUserAndGroup(Group group);
   
+  // 그룹 내 사용자의 역할만 조회 (권한 확인용)
+  @Query("SELECT ug.role FROM UserGroup ug WHERE ug.user.id = :userId AND ug.group.id = :groupId")
+  Optional<UserGroupRole> findRoleByUserIdAndGroupId(Long userId, Long groupId);
   
+  @Query("SELECT ug FROM UserGroup ug JOIN FETCH ug.user u WHERE ug.group.id = :groupId AND u.email = :email")
+  Optional<UserGroup> findByGroupIdAndUserEmailWithUser(Long groupId, String email);
+  
+  @Query("SELECT ug FROM UserGroup ug JOIN FETCH ug.user WHERE ug.group.id = :groupId AND ug.role = :role")
+  List<UserGroup> findByGroupIdAndRoleWithUser(Long groupId, UserGroupRole role);
 }
\ No newline at end of file
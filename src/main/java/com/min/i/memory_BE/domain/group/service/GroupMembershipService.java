@@ -0,0 +1,80 @@
+package com.min.i.memory_BE.domain.group.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.min.i.memory_BE.domain.group.event.GroupMembershipChangedEvent;
+import com.min.i.memory_BE.domain.group.repository.UserGroupRepository;
+import com.min.i.memory_BE.domain.user.enums.UserGroupRole;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 그룹 멤버십/역할 조회 서비스
+ * (userId, groupId) -> 역할을 메모리 캐시에 보관하여 권한 확인 시 그룹 전체 멤버를 순회하지 않습니다.
+ * 멤버십 변경 시 GroupMembershipChangedEvent로 캐시를 무효화합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class GroupMembershipService {
+
+  private final UserGroupRepository userGroupRepository;
+  private final Cache<MembershipKey, Optional<UserGroupRole>> roleCache;
+
+  public GroupMembershipService(UserGroupRepository userGroupRepository,
+    @Value("${group.membership-cache.max-size:10000}") long maxSize,
+    @Value("${group.membership-cache.ttl-seconds:600}") long ttlSeconds) {
+    this.userGroupRepository = userGroupRepository;
+    this.roleCache = Caffeine.newBuilder()
+      .maximumSize(maxSize)
+      .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+      .build();
+  }
+
+  /**
+   * 그룹 내 사용자의 역할을 조회합니다. 멤버가 아니면 Optional.empty()를 반환합니다.
+   */
+  public Optional<UserGroupRole> findRole(Long userId, Long groupId) {
+    if (userId == null || groupId == null) {
+      return Optional.empty();
+    }
+    return roleCache.get(new MembershipKey(userId, groupId),
+      key -> userGroupRepository.findRoleByUserIdAndGroupId(key.userId(), key.groupId()));
+  }
+
+  public boolean isMember(Long userId, Long groupId) {
+    return findRole(userId, groupId).isPresent();
+  }
+
+  /**
+   * 사용자가 그룹에서 주어진 역할 중 하나를 가지고 있는지 확인합니다.
+   */
+  public boolean hasAnyRole(Long userId, Long groupId, UserGroupRole... roles) {
+    return findRole(userId, groupId)
+      .map(role -> Arrays.asList(roles).contains(role))
+      .orElse(false);
+  }
+
+  /**
+   * 멤버십 변경 트랜잭션이 커밋된 후 캐시를 무효화합니다.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onMembershipChanged(GroupMembershipChangedEvent event) {
+    if (event.isGroupWide()) {
+      roleCache.asMap().keySet().removeIf(key -> key.groupId().equals(event.getGroupId()));
+      log.debug("그룹 멤버십 캐시 전체 무효화 - groupId: {}", event.getGroupId());
+    } else {
+      roleCache.invalidate(new MembershipKey(event.getUserId(), event.getGroupId()));
+      log.debug("그룹 멤버십 캐시 무효화 - groupId: {}, userId: {}", event.getGroupId(), event.getUserId());
+    }
+  }
+
+  private record MembershipKey(Long userId, Long groupId) {
+  }
+}
@@ -8,8 +8,11 @@ import com.min.i.memory_BE.domain.group.dto.response.GroupResponseDto;
 import com.min.i.memory_BE.domain.group.dto.response.GroupDetailResponseDto;
 import com.min.i.memory_BE.domain.group.entity.Group;
 import com.min.i.memory_BE.domain.group.entity.UserGroup;
+import com.min.i.memory_BE.domain.group.event.GroupMembershipChangedEvent;
 import com.min.i.memory_BE.domain.group.repository.GroupRepository;
 import com.min.i.memory_BE.domain.group.repository.UserGroupRepository;
+import com.min.i.memory_BE.domain.media.enums.DeletionTargetType;
+import com.min.i.memory_BE.domain.media.service.DeletionTaskRunner;
 import com.min.i.memory_BE.domain.user.entity.User;
 import com.min.i.memory_BE.domain.user.enums.UserGroupRole;
 import com.min.i.memory_BE.domain.user.repository.UserRepository;
@@ -22,10 +25,15 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -35,6 +43,8 @@ public class GroupService {
   private final UserGroupRepository userGroupRepository;
   private final UserRepository userRepository;
   private final S3Service s3Service;
+  private final ApplicationEventPublisher eventPublisher;
+  private final DeletionTaskRunner deletionTaskRunner;
   
   @Transactional
   public GroupResponseDto createGroup(String name, String groupDescription,
@@ -78,6 +88,7 @@ public class GroupService {
       .build();
     
     UserGroup savedUserGroup = userGroupRepository.save(userGroup);
+    eventPublisher.publishEvent(GroupMembershipChangedEvent.ofMember(savedGroup.getId(), user.getId()));
     
     return GroupResponseDto.from(savedGroup, savedUserGroup);
   }
@@ -103,16 +114,35 @@ public class GroupService {
       throw new IllegalArgumentException("그룹 정보 수정 권한이 없습니다.");
     }
     
-    String imageUrl = group.getGroupImageUrl();
+    String oldImageUrl = group.getGroupImageUrl();
+    String imageUrl = oldImageUrl;
     if (groupImage != null && !groupImage.isEmpty()) {
       imageUrl = s3Service.uploadGroupImage(groupImage, groupId);
     }
     
     group.update(request.getName(), request.getGroupDescription(), imageUrl);
     
+    // 이미지가 바뀌었으면 커밋 이후 이전 이미지 삭제 (실패해도 저장소 정리 작업이 회수)
+    if (oldImageUrl != null && !oldImageUrl.isEmpty() && !oldImageUrl.equals(imageUrl)) {
+      deleteAfterCommit(oldImageUrl);
+    }
+    
     return GroupResponseDto.from(group, userGroup);
   }
   
+  private void deleteAfterCommit(String fileUrl) {
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        try {
+          s3Service.deleteImage(fileUrl);
+        } catch (Exception e) {
+          log.warn("이전 그룹 이미지 삭제 실패: {}", fileUrl);
+        }
+      }
+    });
+  }
+  
   @Transactional(readOnly = true)
   public List<GroupListResponseDto> getMyGroups(String email) {
     User user = userRepository.findByEmail(email)
@@ -157,6 +187,7 @@ public class GroupService {
       .build();
     
     UserGroup savedUserGroup = userGroupRepository.save(userGroup);
+    eventPublisher.publishEvent(GroupMembershipChangedEvent.ofMember(group.getId(), user.getId()));
     return GroupJoinResponseDto.of(group.getId());
     
   }
@@ -177,10 +208,12 @@ public class GroupService {
     }
     
     userGroupRepository.delete(userGroup);
+    eventPublisher.publishEvent(GroupMembershipChangedEvent.ofMember(groupId, user.getId()));
     
     long remainingMembers = userGroupRepository.countByGroup(group);
     if (remainingMembers == 0) {
       groupRepository.delete(group);
+      eventPublisher.publishEvent(GroupMembershipChangedEvent.ofGroup(groupId));
     }
   }
   
@@ -222,6 +255,7 @@ public class GroupService {
     }
     
     userGroupRepository.delete(targetMembership);
+    eventPublisher.publishEvent(GroupMembershipChangedEvent.ofMember(groupId, memberId));
   }
   
   @Transactional
@@ -249,6 +283,8 @@ public class GroupService {
     
     updateUserGroupRole(currentUserGroup, UserGroupRole.MEMBER);
     updateUserGroupRole(newOwnerGroup, UserGroupRole.OWNER);
+    eventPublisher.publishEvent(GroupMembershipChangedEvent.ofMember(groupId, currentUser.getId()));
+    eventPublisher.publishEvent(GroupMembershipChangedEvent.ofMember(groupId, newOwnerId));
     
     return GroupResponseDto.from(group, newOwnerGroup);
   }
@@ -277,6 +313,7 @@ public class GroupService {
       .orElseThrow(GroupException.NotGroupMemberException::new);
     
     updateUserGroupRole(memberGroup, UserGroupRole.SENIOR);
+    eventPublisher.publishEvent(GroupMembershipChangedEvent.ofMember(groupId, memberId));
     
     return GroupResponseDto.from(group, memberGroup);
   }
@@ -295,13 +332,11 @@ public class GroupService {
     Group group = groupRepository.findById(groupId)
       .orElseThrow(() -> new IllegalArgumentException("그룹을 찾을 수 없습니다."));
     
-    UserGroup myUserGroup = group.getUserGroups().stream()
-      .filter(ug -> ug.getUser().getEmail().equals(email))
-      .findFirst()
+    UserGroup myUserGroup = userGroupRepository.findByGroupIdAndUserEmailWithUser(groupId, email)
       .orElseThrow(() -> new IllegalArgumentException("해당 그룹에 속해 있지 않습니다."));
     
-    UserGroup ownerUserGroup = group.getUserGroups().stream()
-      .filter(ug -> ug.getRole() == UserGroupRole.OWNER)
+    UserGroup ownerUserGroup = userGroupRepository.findByGroupIdAndRoleWithUser(groupId, UserGroupRole.OWNER)
+      .stream()
       .findFirst()
       .orElseThrow(() -> new IllegalStateException("그룹 오너를 찾을 수 없습니다."));
     
@@ -323,12 +358,11 @@ public class GroupService {
       throw new GroupException.NotOwnerException();
     }
     
-    if (group.getGroupImageUrl() != null) {
-      s3Service.deleteImage(group.getGroupImageUrl());
-    }
-    
+    // 그룹 툼스톤 처리 후 삭제 작업 예약 (그룹 이미지, 앨범, 미디어 정리는 커밋 이후 백그라운드에서 진행)
+    group.markDeleted();
     userGroupRepository.deleteByGroup(group);
-    groupRepository.delete(group);
+    deletionTaskRunner.schedule(DeletionTargetType.GROUP, groupId);
+    eventPublisher.publishEvent(GroupMembershipChangedEvent.ofGroup(groupId));
   }
   
 }
@@ -0,0 +1,146 @@
+package com.min.i.memory_BE.domain.media.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FastAPI 서버 호출용 서킷 브레이커
+ * 최근 호출(슬라이딩 윈도우)의 실패율이 임계치를 넘으면 일정 시간 동안 호출을 즉시 거절하여,
+ * 응답하지 못하는 서버를 기다리며 스레드가 쌓이지 않도록 합니다.
+ * 차단 시간이 지나면 일부 호출만 허용(HALF_OPEN)하고, 모두 성공하면 다시 닫습니다.
+ */
+@Slf4j
+public class FastApiCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationMillis;
+    private final int halfOpenPermittedCalls;
+
+    // 최근 호출 결과 (true = 실패), 원형 버퍼
+    private final boolean[] outcomes;
+    private int nextIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    private final AtomicLong rejectedCalls = new AtomicLong();
+
+    /**
+     * @param windowSize 실패율 계산에 사용하는 최근 호출 수
+     * @param minimumCalls 실패율을 판단하기 위한 최소 호출 수
+     * @param failureRateThreshold 차단 기준 실패율 (%)
+     * @param openDurationMillis 차단 유지 시간 (ms)
+     * @param halfOpenPermittedCalls 차단 해제 전 시험 삼아 허용하는 호출 수
+     */
+    public FastApiCircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+                                 long openDurationMillis, int halfOpenPermittedCalls) {
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenPermittedCalls = halfOpenPermittedCalls;
+    }
+
+    /**
+     * 호출 허용 여부를 확인합니다. 허용된 호출은 반드시 onSuccess 또는 onFailure로 결과를 기록해야 합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDurationMillis) {
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && halfOpenInFlight < halfOpenPermittedCalls) {
+            halfOpenInFlight++;
+            return true;
+        }
+        rejectedCalls.incrementAndGet();
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+            halfOpenSucceeded++;
+            if (halfOpenSucceeded >= halfOpenPermittedCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recordedCalls >= minimumCalls
+                && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    // 차단이 풀릴 때까지 남은 시간 (ms), 차단 중이 아니면 0
+    public synchronized long getRemainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, openDurationMillis - (System.currentTimeMillis() - openedAt));
+    }
+
+    // 현재 윈도우의 실패율 (%)
+    public synchronized double getFailureRate() {
+        return recordedCalls == 0 ? 0 : failedCalls * 100.0 / recordedCalls;
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.get();
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == outcomes.length) {
+            if (outcomes[nextIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[nextIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        nextIndex = (nextIndex + 1) % outcomes.length;
+    }
+
+    private void transitionTo(State newState) {
+        log.warn("FastAPI 서킷 브레이커 상태 변경: {} -> {} (실패율: {}%)", state, newState, getFailureRate());
+        state = newState;
+        halfOpenInFlight = 0;
+        halfOpenSucceeded = 0;
+        if (newState == State.OPEN) {
+            openedAt = System.currentTimeMillis();
+        }
+        if (newState == State.CLOSED) {
+            nextIndex = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -31,34 +32,59 @@ public class FastApiClient {
     private String googleApiKey;
 
     private final RestTemplate restTemplate;
+    private final FastApiTransport fastApiTransport;
 
     /**
      * 이미지를 FastAPI 서버로 전송하여 분석을 요청합니다.
+     * 파일을 메모리로 복사하지 않고 업로드된 파트에서 읽는 대로 요청 본문에 씁니다 (재시도, 헤지 요청은 파트를 다시 열어 읽음).
      */
     public Map<String, Object> analyzeImage(MultipartFile image) {
+        return analyzeImage(image.getResource(), null);
+    }
+
+    /**
+     * 이미지 바이트를 FastAPI 서버로 직접 전송하여 분석을 요청합니다.
+     * S3 업로드 완료를 기다리지 않고 분석할 수 있도록 이미 메모리에 있는 바이트를 사용합니다.
+     *
+     * @param content 이미지 바이트
+     * @param filename 원본 파일명
+     * @param authToken 인증 토큰 (선택적)
+     * @return 분석 결과
+     */
+    public Map<String, Object> analyzeImage(byte[] content, String filename, String authToken) {
+        return analyzeImage(new ByteArrayResource(content) {
+            @Override
+            public String getFilename() {
+                return filename;
+            }
+        }, authToken);
+    }
+
+    // 이미지 파트 하나를 담은 multipart 요청 (요청 본문은 버퍼링 없이 Resource에서 읽어 전송)
+    private Map<String, Object> analyzeImage(Resource image, String authToken) {
         try {
             log.info("FastAPI 서버로 이미지 분석 요청: {}", fastApiUrl);
             
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+            
+            // 인증 토큰이 있는 경우 Authorization 헤더 추가
+            if (authToken != null && !authToken.isEmpty()) {
+                headers.setBearerAuth(authToken);
+            }
 
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            ByteArrayResource resource = new ByteArrayResource(image.getBytes()) {
-                @Override
-                public String getFilename() {
-                    return image.getOriginalFilename();
-                }
-            };
             // FastAPI 서버의 파라미터 이름은 'image'입니다
-            body.add("image", resource);
+            body.add("image", image);
 
             HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
 
-            ResponseEntity<Map> response = restTemplate.postForEntity(
-                fastApiUrl + "/api/v1/analyze-image",  // 접두사 포함된 경로로 수정
-                requestEntity,
-                Map.class
-            );
+            ResponseEntity<Map> response = fastApiTransport.execute(FastApiEndpoint.ANALYZE_IMAGE,
+                () -> restTemplate.postForEntity(
+                    fastApiUrl + FastApiEndpoint.ANALYZE_IMAGE.getPath(),  // 접두사 포함된 경로로 수정
+                    requestEntity,
+                    Map.class
+                ));
 
             if (!response.getStatusCode().is2xxSuccessful()) {
                 throw new FastApiServiceException("FastAPI 서버 응답 오류: " + response.getStatusCode());
@@ -67,6 +93,9 @@ public class FastApiClient {
             log.info("FastAPI 서버로부터 응답 수신 성공");
             return (Map<String, Object>) response.getBody();
 
+        } catch (FastApiServiceException e) {
+            // 서킷 차단, 응답 오류 등은 상태 코드를 유지한 채 그대로 전달
+            throw e;
         } catch (Exception e) {
             log.error("이미지 분석 중 오류 발생: {}", e.getMessage(), e);
             throw new FastApiServiceException("이미지 분석 중 오류가 발생했습니다: " + e.getMessage(), e);
@@ -99,11 +128,12 @@ public class FastApiClient {
             HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(requestBody, headers);
 
             // 올바른 엔드포인트 경로 사용 (/api/v1 접두사 포함)
-            ResponseEntity<Map> response = restTemplate.postForEntity(
-                fastApiUrl + "/api/v1/analyze-image-url",
-                requestEntity,
-                Map.class
-            );
+            ResponseEntity<Map> response = fastApiTransport.execute(FastApiEndpoint.ANALYZE_IMAGE_URL,
+                () -> restTemplate.postForEntity(
+                    fastApiUrl + FastApiEndpoint.ANALYZE_IMAGE_URL.getPath(),
+                    requestEntity,
+                    Map.class
+                ));
 
             if (!response.getStatusCode().is2xxSuccessful()) {
                 throw new FastApiServiceException("FastAPI 서버 응답 오류: " + response.getStatusCode());
@@ -112,6 +142,9 @@ public class FastApiClient {
             log.info("FastAPI 서버로부터 응답 수신 성공");
             return response.getBody();
 
+        } catch (FastApiServiceException e) {
+            // 서킷 차단, 응답 오류 등은 상태 코드를 유지한 채 그대로 전달
+            throw e;
         } catch (Exception e) {
             log.error("이미지 URL 분석 중 오류 발생: {}", e.getMessage(), e);
             throw new FastApiServiceException("이미지 URL 분석 중 오류가 발생했습니다: " + e.getMessage(), e);
@@ -127,6 +160,16 @@ public class FastApiClient {
         return fastApiUrl;
     }
     
+    /**
+     * FastAPI 서버 상태를 확인합니다. (서킷 브레이커 적용, 짧은 타임아웃)
+     * 
+     * @return 상태 확인 응답
+     */
+    public ResponseEntity<Map> checkHealth() {
+        return fastApiTransport.execute(FastApiEndpoint.HEALTH_CHECK,
+            () -> restTemplate.getForEntity(fastApiUrl + FastApiEndpoint.HEALTH_CHECK.getPath(), Map.class));
+    }
+    
     /**
      * RestTemplate 인스턴스를 반환합니다.
      * 
@@ -165,11 +208,12 @@ public class FastApiClient {
             HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
             
             // FastAPI 서버에 요청 전송
-            ResponseEntity<Map> response = restTemplate.postForEntity(
-                fastApiUrl + "/api/v1/generate-story",
-                requestEntity,
-                Map.class
-            );
+            ResponseEntity<Map> response = fastApiTransport.execute(FastApiEndpoint.GENERATE_STORY,
+                () -> restTemplate.postForEntity(
+                    fastApiUrl + FastApiEndpoint.GENERATE_STORY.getPath(),
+                    requestEntity,
+                    Map.class
+                ));
 
             // 응답 상태 확인
             if (!response.getStatusCode().is2xxSuccessful()) {
@@ -179,6 +223,9 @@ public class FastApiClient {
             log.info("FastAPI 서버로부터 스토리 생성 응답 수신 성공");
             return response.getBody();
 
+        } catch (FastApiServiceException e) {
+            // 서킷 차단, 응답 오류 등은 상태 코드를 유지한 채 그대로 전달
+            throw e;
         } catch (Exception e) {
             log.error("스토리 생성 중 오류 발생: {}", e.getMessage(), e);
             throw new FastApiServiceException("스토리 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
@@ -0,0 +1,34 @@
+package com.min.i.memory_BE.domain.media.client;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * FastAPI 서버 엔드포인트
+ * 엔드포인트별로 응답 타임아웃, 재시도 가능 여부(멱등성), 헤지 요청 허용 여부가 다릅니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FastApiEndpoint {
+  ANALYZE_IMAGE("/api/v1/analyze-image", true, true),
+  ANALYZE_IMAGE_URL("/api/v1/analyze-image-url", true, true),
+  // 스토리 생성은 비용이 크고 응답이 매번 달라 재시도/헤지하지 않음
+  GENERATE_STORY("/api/v1/generate-story", false, false),
+  // 스토리 생성 토큰 스트리밍 (text/event-stream)
+  GENERATE_STORY_STREAM("/api/v1/generate-story/stream", false, false),
+  HEALTH_CHECK("/api/v1/health-check", true, false);
+  
+  private final String path;
+  private final boolean idempotent;
+  private final boolean hedgeable;
+  
+  // 요청 경로로 엔드포인트 결정 (일치하는 엔드포인트가 없으면 null)
+  public static FastApiEndpoint fromPath(String path) {
+    for (FastApiEndpoint endpoint : values()) {
+      if (endpoint.path.equals(path)) {
+        return endpoint;
+      }
+    }
+    return null;
+  }
+}
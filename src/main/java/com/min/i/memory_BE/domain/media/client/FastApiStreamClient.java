@@ -0,0 +1,209 @@
+package com.min.i.memory_BE.domain.media.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.min.i.memory_BE.global.error.exception.FastApiServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * FastAPI 스토리 생성 스트리밍 클라이언트
+ * FastAPI가 Server-Sent Events로 보내는 토큰을 비동기로 받아 전달합니다.
+ * 응답을 기다리는 동안 스레드를 점유하지 않으며, 토큰을 하나 처리한 뒤에 다음 토큰을 요청하므로
+ * 브라우저로의 전송이 느리면 FastAPI로부터의 수신도 함께 늦춰집니다(backpressure).
+ *
+ * 스트림 형식: "data: {토큰}" 이벤트를 반복하고 "data: [DONE]"으로 종료, 오류는 "event: error"
+ */
+@Slf4j
+@Component
+public class FastApiStreamClient {
+
+    private static final String DONE = "[DONE]";
+    private static final String ERROR_EVENT = "error";
+
+    private final String fastApiUrl;
+    private final Duration responseTimeout;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    public FastApiStreamClient(@Value("${fastapi.server.url}") String fastApiUrl,
+                               @Value("${fastapi.connection.timeout:5000}") int connectionTimeout,
+                               @Value("${fastapi.timeout.generate-story:90000}") int responseTimeout,
+                               ObjectMapper objectMapper) {
+        this.fastApiUrl = fastApiUrl;
+        this.responseTimeout = Duration.ofMillis(responseTimeout);
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectionTimeout))
+                .build();
+    }
+
+    /**
+     * 스토리 생성을 스트리밍으로 요청합니다.
+     *
+     * @param mediaId 미디어 ID
+     * @param questions 질문 목록
+     * @param answers 답변 목록
+     * @param options 스토리 생성 옵션
+     * @param imageUrl 이미지 URL
+     * @param onToken 토큰 수신 시 호출 (수신 순서대로 하나씩 호출됨)
+     * @return 스트림이 끝나면 완료되는 Future (오류 이벤트 / 응답 오류 시 FastApiServiceException으로 실패)
+     */
+    public CompletableFuture<Void> streamStory(Long mediaId, List<Map<String, Object>> questions,
+                                               List<Map<String, Object>> answers, Map<String, Object> options,
+                                               String imageUrl, Consumer<String> onToken) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("media_id", mediaId);
+        requestBody.put("questions", questions);
+        requestBody.put("answers", answers);
+        requestBody.put("options", options);
+        requestBody.put("image_url", imageUrl);
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(requestBody);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(
+                    new FastApiServiceException("스토리 생성 요청 변환 중 오류가 발생했습니다: " + e.getMessage(), e));
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(fastApiUrl + FastApiEndpoint.GENERATE_STORY_STREAM.getPath()))
+                .timeout(responseTimeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "text/event-stream")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+
+        log.info("FastAPI 서버로 스토리 스트리밍 생성 요청: mediaId={}", mediaId);
+        EventStreamSubscriber subscriber = new EventStreamSubscriber(onToken);
+        httpClient.sendAsync(request, responseInfo -> {
+                    if (responseInfo.statusCode() != 200) {
+                        subscriber.completion.completeExceptionally(new FastApiServiceException(
+                                "FastAPI 서버 응답 오류: " + responseInfo.statusCode(), responseInfo.statusCode()));
+                        return HttpResponse.BodySubscribers.replacing(null);
+                    }
+                    return HttpResponse.BodySubscribers.fromLineSubscriber(subscriber);
+                })
+                .whenComplete((response, e) -> {
+                    // 연결 실패 / 타임아웃 등 (스트림이 이미 끝난 경우에는 무시됨)
+                    if (e != null) {
+                        subscriber.completion.completeExceptionally(e);
+                    }
+                });
+
+        // [DONE] 수신 시 스트림을 취소하므로 HTTP 응답 완료가 아닌 이벤트 스트림의 완료를 기준으로 함
+        return subscriber.completion
+                .exceptionallyCompose(e -> CompletableFuture.failedFuture(toFastApiException(e)));
+    }
+
+    private FastApiServiceException toFastApiException(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof FastApiServiceException fastApiException) {
+            return fastApiException;
+        }
+        return new FastApiServiceException("스토리 스트리밍 중 오류가 발생했습니다: " + cause.getMessage(), cause);
+    }
+
+    /**
+     * text/event-stream 응답을 줄 단위로 읽어 이벤트로 조립합니다.
+     * 한 줄을 처리한 뒤에 다음 줄을 요청합니다.
+     */
+    private static class EventStreamSubscriber implements Flow.Subscriber<String> {
+
+        private final Consumer<String> onToken;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private Flow.Subscription subscription;
+        private String eventName;
+        private StringBuilder data;
+
+        EventStreamSubscriber(Consumer<String> onToken) {
+            this.onToken = onToken;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (completion.isDone()) {
+                return;
+            }
+            try {
+                if (line.isEmpty()) {
+                    dispatch();
+                } else if (line.startsWith("data:")) {
+                    String value = stripLeadingSpace(line.substring(5));
+                    data = data == null ? new StringBuilder(value) : data.append('\n').append(value);
+                } else if (line.startsWith("event:")) {
+                    eventName = stripLeadingSpace(line.substring(6));
+                }
+                // 주석(:) / id / retry 필드는 무시
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+            if (!completion.isDone()) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            dispatch();
+            completion.complete(null);
+        }
+
+        private void dispatch() {
+            if (data == null) {
+                eventName = null;
+                return;
+            }
+            String value = data.toString();
+            String name = eventName;
+            data = null;
+            eventName = null;
+
+            if (ERROR_EVENT.equals(name)) {
+                fail(new FastApiServiceException("스토리 생성 실패: " + value));
+            } else if (DONE.equals(value)) {
+                completion.complete(null);
+                subscription.cancel();
+            } else {
+                onToken.accept(value);
+            }
+        }
+
+        private void fail(Throwable e) {
+            completion.completeExceptionally(e);
+            subscription.cancel();
+        }
+
+        private static String stripLeadingSpace(String value) {
+            return value.startsWith(" ") ? value.substring(1) : value;
+        }
+    }
+}
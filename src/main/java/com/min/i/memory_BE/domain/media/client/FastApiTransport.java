@@ -0,0 +1,272 @@
+package com.min.i.memory_BE.domain.media.client;
+
+import com.min.i.memory_BE.global.error.exception.FastApiCircuitOpenException;
+import com.min.i.memory_BE.global.error.exception.FastApiServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * FastAPI 서버 호출 실행기
+ * 서킷 브레이커(빠른 실패), 멱등 엔드포인트의 지터 백오프 재시도, 분석 요청의 헤지 요청을 적용하고
+ * 커넥션 풀 / 서킷 브레이커 / 호출 지표를 Micrometer로 노출합니다.
+ */
+@Slf4j
+@Component
+public class FastApiTransport {
+
+    private final FastApiCircuitBreaker circuitBreaker;
+    private final ThreadPoolTaskExecutor hedgeExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final boolean hedgeEnabled;
+    private final long hedgeDelayMillis;
+
+    private final Counter hedgeIssued;
+    private final Counter hedgeWon;
+
+    public FastApiTransport(PoolingHttpClientConnectionManager fastApiConnectionManager,
+                            @Qualifier("fastApiHedgeExecutor") ThreadPoolTaskExecutor hedgeExecutor,
+                            MeterRegistry meterRegistry,
+                            @Value("${fastapi.retry.max-attempts:3}") int maxAttempts,
+                            @Value("${fastapi.retry.initial-backoff:200}") long initialBackoffMillis,
+                            @Value("${fastapi.retry.max-backoff:2000}") long maxBackoffMillis,
+                            @Value("${fastapi.circuit-breaker.window-size:20}") int windowSize,
+                            @Value("${fastapi.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                            @Value("${fastapi.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+                            @Value("${fastapi.circuit-breaker.open-duration:30000}") long openDurationMillis,
+                            @Value("${fastapi.circuit-breaker.half-open-calls:3}") int halfOpenCalls,
+                            @Value("${fastapi.hedge.enabled:false}") boolean hedgeEnabled,
+                            @Value("${fastapi.hedge.delay:3000}") long hedgeDelayMillis) {
+        this.hedgeExecutor = hedgeExecutor;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeDelayMillis = hedgeDelayMillis;
+        this.circuitBreaker = new FastApiCircuitBreaker(
+                windowSize, minimumCalls, failureRateThreshold, openDurationMillis, halfOpenCalls);
+
+        // 커넥션 풀 지표
+        Gauge.builder("fastapi.pool.connections", fastApiConnectionManager, m -> m.getTotalStats().getLeased())
+                .tag("state", "leased").register(meterRegistry);
+        Gauge.builder("fastapi.pool.connections", fastApiConnectionManager, m -> m.getTotalStats().getAvailable())
+                .tag("state", "available").register(meterRegistry);
+        Gauge.builder("fastapi.pool.connections", fastApiConnectionManager, m -> m.getTotalStats().getPending())
+                .tag("state", "pending").register(meterRegistry);
+        Gauge.builder("fastapi.pool.connections.max", fastApiConnectionManager, m -> m.getTotalStats().getMax())
+                .register(meterRegistry);
+
+        // 서킷 브레이커 지표
+        Gauge.builder("fastapi.circuit.state", circuitBreaker, b -> b.getState().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN").register(meterRegistry);
+        Gauge.builder("fastapi.circuit.failure.rate", circuitBreaker, FastApiCircuitBreaker::getFailureRate)
+                .register(meterRegistry);
+        FunctionCounter.builder("fastapi.circuit.rejected", circuitBreaker, FastApiCircuitBreaker::getRejectedCalls)
+                .register(meterRegistry);
+
+        this.hedgeIssued = meterRegistry.counter("fastapi.hedge.issued");
+        this.hedgeWon = meterRegistry.counter("fastapi.hedge.won");
+    }
+
+    /**
+     * FastAPI 호출을 실행합니다.
+     * 멱등 엔드포인트는 연결 오류 / 일시적 서버 오류(429, 502, 503, 504) 시 지터 백오프로 재시도하며,
+     * 서킷이 열려 있으면 호출하지 않고 FastApiCircuitOpenException을 던집니다.
+     *
+     * @param endpoint 호출할 엔드포인트
+     * @param call 실제 HTTP 호출
+     * @return 호출 결과
+     */
+    public <T> T execute(FastApiEndpoint endpoint, Supplier<T> call) {
+        int attempts = endpoint.isIdempotent() ? maxAttempts : 1;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (hedgeEnabled && endpoint.isHedgeable()) {
+                    return executeHedged(endpoint, call);
+                }
+                return executeOnce(endpoint, call);
+            } catch (RuntimeException e) {
+                if (attempt >= attempts || !isRetryable(e)) {
+                    throw e;
+                }
+                long backoff = backoffMillis(attempt);
+                meterRegistry.counter("fastapi.retries", "endpoint", endpoint.name()).increment();
+                log.warn("FastAPI 호출 실패, {}ms 후 재시도 ({}/{}) - endpoint: {}, error: {}",
+                        backoff, attempt, attempts, endpoint, e.getMessage());
+                sleep(backoff);
+            }
+        }
+    }
+
+    public FastApiCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    // 서킷 브레이커를 거쳐 한 번 호출
+    private <T> T executeOnce(FastApiEndpoint endpoint, Supplier<T> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            record(endpoint, "rejected", 0);
+            throw new FastApiCircuitOpenException("FastAPI 서버 장애로 요청이 일시적으로 차단되었습니다",
+                    circuitBreaker.getRemainingOpenMillis());
+        }
+        long startTime = System.nanoTime();
+        try {
+            T result = call.get();
+            circuitBreaker.onSuccess();
+            record(endpoint, "success", System.nanoTime() - startTime);
+            return result;
+        } catch (RuntimeException e) {
+            if (isServerFailure(e)) {
+                circuitBreaker.onFailure();
+            } else {
+                // 4xx 등 요청 자체의 문제는 서버 장애로 보지 않음
+                circuitBreaker.onSuccess();
+            }
+            record(endpoint, "failure", System.nanoTime() - startTime);
+            throw e;
+        }
+    }
+
+    // 첫 요청이 지연되면 같은 요청을 한 번 더 보내고 먼저 성공한 응답을 사용
+    private <T> T executeHedged(FastApiEndpoint endpoint, Supplier<T> call) {
+        CompletableFuture<T> primary;
+        try {
+            primary = CompletableFuture.supplyAsync(() -> executeOnce(endpoint, call), hedgeExecutor);
+        } catch (TaskRejectedException e) {
+            return executeOnce(endpoint, call);
+        }
+
+        try {
+            return primary.get(hedgeDelayMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 지연 - 아래에서 헤지 요청
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FastApiServiceException("FastAPI 응답 대기 중 인터럽트가 발생했습니다", e);
+        }
+
+        CompletableFuture<T> hedge;
+        try {
+            hedge = CompletableFuture.supplyAsync(() -> executeOnce(endpoint, call), hedgeExecutor);
+            hedgeIssued.increment();
+        } catch (TaskRejectedException e) {
+            return join(primary);
+        }
+        return firstSuccessful(primary, hedge);
+    }
+
+    private <T> T firstSuccessful(CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((result, error) -> {
+            if (error == null) {
+                winner.complete(result);
+            } else if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(error);
+            }
+        });
+        hedge.whenComplete((result, error) -> {
+            if (error == null) {
+                if (winner.complete(result)) {
+                    hedgeWon.increment();
+                }
+            } else if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(error);
+            }
+        });
+        return join(winner);
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new FastApiServiceException("FastAPI 호출 중 오류가 발생했습니다: " + cause.getMessage(), cause);
+    }
+
+    // 연결 실패, 타임아웃, 5xx / 429 응답은 서버 장애로 간주
+    private boolean isServerFailure(RuntimeException e) {
+        if (e instanceof ResourceAccessException) {
+            return true;
+        }
+        if (e instanceof FastApiServiceException fastApiException) {
+            int status = fastApiException.getStatusCode();
+            return status >= 500 || status == 429;
+        }
+        return false;
+    }
+
+    private boolean isRetryable(RuntimeException e) {
+        if (e instanceof FastApiCircuitOpenException) {
+            return false;
+        }
+        if (e instanceof ResourceAccessException) {
+            return true;
+        }
+        if (e instanceof FastApiServiceException fastApiException) {
+            int status = fastApiException.getStatusCode();
+            return status == 429 || status == 502 || status == 503 || status == 504;
+        }
+        return false;
+    }
+
+    // Full jitter: 0 ~ min(최대 백오프, 초기 백오프 * 2^(시도 - 1))
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FastApiServiceException("FastAPI 재시도 대기 중 인터럽트가 발생했습니다", e);
+        }
+    }
+
+    private void record(FastApiEndpoint endpoint, String outcome, long elapsedNanos) {
+        Timer.builder("fastapi.requests")
+                .tag("endpoint", endpoint.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
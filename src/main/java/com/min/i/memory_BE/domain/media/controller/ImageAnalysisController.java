@@ -2,13 +2,21 @@ package com.min.i.memory_BE.domain.media.controller;
 
 import com.min.i.memory_BE.domain.album.entity.Album;
 import com.min.i.memory_BE.domain.album.repository.AlbumRepository;
-import com.min.i.memory_BE.domain.media.client.FastApiClient;
+import com.min.i.memory_BE.domain.media.dto.response.AnalysisJobResponseDto;
+import com.min.i.memory_BE.domain.media.entity.AnalysisJob;
 import com.min.i.memory_BE.domain.media.entity.Media;
+import com.min.i.memory_BE.domain.media.service.AnalysisJobRunner;
+import com.min.i.memory_BE.domain.media.service.AnalysisJobService;
+import com.min.i.memory_BE.domain.media.service.DirectImageAnalysisService;
+import com.min.i.memory_BE.domain.media.service.MediaDerivativeRunner;
 import com.min.i.memory_BE.domain.media.service.MediaAnalysisService;
+import com.min.i.memory_BE.domain.media.service.MediaDeduplicationService;
+import com.min.i.memory_BE.domain.media.service.SimilarMediaService;
 import com.min.i.memory_BE.domain.user.entity.User;
 import com.min.i.memory_BE.domain.user.repository.UserRepository;
+import com.min.i.memory_BE.domain.user.security.CustomUserDetails;
 import com.min.i.memory_BE.global.error.exception.EntityNotFoundException;
-import com.min.i.memory_BE.global.service.S3Service;
+import com.min.i.memory_BE.global.error.exception.FastApiCircuitOpenException;
 import com.min.i.memory_BE.domain.media.enums.MediaType;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -22,8 +30,12 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -33,9 +45,13 @@ import java.util.Map;
 @Tag(name = "ImageAnalysis API", description = "이미지 업로드 및 분석 관련 API")
 public class ImageAnalysisController {
 
-    private final S3Service s3Service;
-    private final FastApiClient fastApiClient;
     private final MediaAnalysisService mediaAnalysisService;
+    private final AnalysisJobService analysisJobService;
+    private final AnalysisJobRunner analysisJobRunner;
+    private final DirectImageAnalysisService directImageAnalysisService;
+    private final MediaDeduplicationService mediaDeduplicationService;
+    private final SimilarMediaService similarMediaService;
+    private final MediaDerivativeRunner mediaDerivativeRunner;
     private final UserRepository userRepository;
     private final AlbumRepository albumRepository;
 
@@ -45,12 +61,17 @@ public class ImageAnalysisController {
     )
     @Operation(
         summary = "이미지 분석 요청", 
-        description = "이미지를 업로드하여 분석합니다."
+        description = "이미지를 업로드한 뒤 분석 작업을 등록합니다. 분석은 백그라운드에서 진행되며, " +
+                "응답의 jobId로 작업 상태를 조회(/jobs/{jobId})하거나 SSE로 구독(/jobs/{jobId}/events)할 수 있습니다. " +
+                "direct=true이면 S3 업로드와 분석을 동시에 수행하고 분석 결과를 바로 반환합니다. " +
+                "그룹 내에 거의 같은 사진이 있으면 possibleDuplicate=true와 해당 미디어 ID(similarMediaIds)를 함께 반환합니다."
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "이미지 분석 성공"),
+        @ApiResponse(responseCode = "200", description = "즉시 분석 모드(direct=true) 분석 성공"),
+        @ApiResponse(responseCode = "202", description = "이미지 업로드 완료 및 분석 작업 등록"),
         @ApiResponse(responseCode = "400", description = "잘못된 요청"),
         @ApiResponse(responseCode = "404", description = "사용자 또는 앨범을 찾을 수 없음"),
+        @ApiResponse(responseCode = "503", description = "분석 작업 대기열이 가득 참"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     public ResponseEntity<?> analyzeImage(
@@ -63,6 +84,9 @@ public class ImageAnalysisController {
             @Parameter(description = "사용자 ID", required = true)
             @RequestParam("userId") Long userId,
             
+            @Parameter(description = "즉시 분석 모드 (S3 업로드와 분석을 동시에 수행 후 결과 반환)")
+            @RequestParam(value = "direct", defaultValue = "false") boolean direct,
+            
             @Parameter(description = "인증 토큰 (Bearer 인증)", required = false)
             @RequestHeader(value = "Authorization", required = false) String authHeader) 
     {
@@ -88,46 +112,79 @@ public class ImageAnalysisController {
             Album album = albumRepository.findById(albumId)
                     .orElseThrow(() -> new EntityNotFoundException("앨범을 찾을 수 없습니다: " + albumId));
 
-            // 3. 미디어 엔티티 생성 (분석 결과 저장용)
-            Media media = mediaAnalysisService.createEmptyMedia(user, album);
+            if (direct) {
+                // S3 업로드와 FastAPI 분석을 동시에 수행
+                Map<String, Object> processedResult = directImageAnalysisService.uploadAndAnalyze(image, user, album, authToken);
+                List<?> similarMediaIds = (List<?>) processedResult.getOrDefault("similarMediaIds", List.of());
+                return ResponseEntity.ok(Map.of(
+                        "status", "success",
+                        "message", "이미지 분석이 완료되었습니다",
+                        "data", Map.of(
+                                "mediaId", processedResult.get("mediaId"),
+                                "imageUrl", processedResult.get("imageUrl"),
+                                "albumId", album.getId(),
+                                "userId", user.getId(),
+                                "questions", processedResult.getOrDefault("questions", "질문이 생성되지 않았습니다"),
+                                "possibleDuplicate", !similarMediaIds.isEmpty(),
+                                "similarMediaIds", similarMediaIds
+                        )
+                ));
+            }
 
-            // 4. S3에 이미지 업로드
-            String imageUrl = s3Service.uploadAlbumImage(image, album.getId());
+            // 3. S3에 이미지 업로드 후 미디어 저장 (같은 내용의 이미지가 이미 있으면 기존 객체 재사용)
+            // 업로드가 끝난 뒤 저장하므로 업로드 실패 시 빈 미디어가 남지 않고, 저장 실패 시 방금 올린 객체는 정리됨
+            String contentHash = mediaDeduplicationService.sha256(image);
+            Long perceptualHash = similarMediaService.computeHash(image);
+            Media media = mediaDeduplicationService.storeAndSave(image, album.getId(), contentHash,
+                    fileUrl -> mediaAnalysisService.updateMedia(Media.builder()
+                            .imageUrl(fileUrl)
+                            .fileUrl(fileUrl)
+                            .fileType(MediaType.fromContentType(image.getContentType()))
+                            .originalFilename(image.getOriginalFilename())
+                            .fileSize(Math.max(image.getSize(), 0L)) // file_size가 NULL이 되지 않도록 명시적으로 설정
+                            .contentHash(contentHash)
+                            .perceptualHash(perceptualHash)
+                            .album(album)
+                            .uploadedBy(user)
+                            .build()));
+            String imageUrl = media.getFileUrl();
             log.info("이미지 S3 업로드 완료: {}", imageUrl);
 
-            // 5. 이미지 URL 및 파일 정보 업데이트
-            media.setImageUrl(imageUrl);
-            media.setFileUrl(imageUrl);
-            media.setFileType(determineMediaType(image.getContentType()));
-            media.setOriginalFilename(image.getOriginalFilename());
-            
-            // file_size가 NULL이 되지 않도록 명시적으로 설정
-            if (image.getSize() <= 0) {
-                media.setFileSize(0L); // 기본값 설정
-            } else {
-                media.setFileSize(image.getSize());
-            }
-            
-            mediaAnalysisService.updateMedia(media);
+            mediaDerivativeRunner.dispatch(media.getId());
 
-            // 6. FastAPI로 이미지 URL 전송하여 분석 요청
-            Map<String, Object> analysisResult = fastApiClient.analyzeImageByUrl(imageUrl, authToken);
-            log.info("FastAPI 서버로부터 분석 결과 수신 완료");
+            // 그룹 내 비슷한 사진 확인 (거의 같은 사진이면 중복 가능성을 응답에 표시)
+            Long groupId = album.getGroup() != null ? album.getGroup().getId() : null;
+            similarMediaService.register(groupId, media.getId(), media.getPerceptualHash());
+            List<Long> similarMediaIds = similarMediaService.findPossibleDuplicates(groupId, media.getId(), media.getPerceptualHash());
 
-            // 7. 분석 결과 처리
-            Map<String, Object> processedResult = mediaAnalysisService.processAnalysisResult(media.getId(), analysisResult);
+            // 5. 분석 작업 등록 후 백그라운드 워커에 전달 (FastAPI 분석 및 결과 처리)
+            AnalysisJob job = analysisJobService.createJob(media, user.getId(), imageUrl);
+            boolean dispatched = analysisJobRunner.dispatch(job.getId(), media.getId(), imageUrl, authToken);
+            if (!dispatched) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
+                        "status", "error",
+                        "message", "분석 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                        "data", Map.of(
+                                "jobId", job.getId(),
+                                "mediaId", media.getId()
+                        )
+                ));
+            }
 
-            // 8. 응답 구성
-            return ResponseEntity.ok(Map.of(
+            // 6. 응답 구성
+            Map<String, Object> data = new HashMap<>();
+            data.put("jobId", job.getId());
+            data.put("jobStatus", job.getStatus());
+            data.put("mediaId", media.getId());
+            data.put("imageUrl", imageUrl);
+            data.put("albumId", album.getId());
+            data.put("userId", user.getId());
+            data.put("possibleDuplicate", !similarMediaIds.isEmpty());
+            data.put("similarMediaIds", similarMediaIds);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
                     "status", "success",
-                    "message", "이미지 분석이 완료되었습니다",
-                    "data", Map.of(
-                            "mediaId", media.getId(),
-                            "imageUrl", imageUrl,
-                            "albumId", album.getId(),
-                            "userId", user.getId(),
-                            "questions", processedResult.getOrDefault("questions", "질문이 생성되지 않았습니다")
-                    )
+                    "message", "이미지 분석 작업이 등록되었습니다",
+                    "data", data
             ));
 
         } catch (EntityNotFoundException e) {
@@ -136,6 +193,9 @@ public class ImageAnalysisController {
                     "status", "error",
                     "message", e.getMessage()
             ));
+        } catch (FastApiCircuitOpenException e) {
+            // 503 + Retry-After 응답은 GlobalExceptionHandler에서 처리
+            throw e;
         } catch (Exception e) {
             log.error("이미지 분석 요청 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of(
@@ -145,6 +205,45 @@ public class ImageAnalysisController {
         }
     }
 
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "분석 작업 상태 조회", description = "이미지 분석 작업의 상태, 단계별 시각, 생성된 질문을 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "404", description = "분석 작업을 찾을 수 없음")
+    })
+    public ResponseEntity<?> getAnalysisJob(
+            @Parameter(description = "분석 작업 ID", required = true)
+            @PathVariable Long jobId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        try {
+            AnalysisJobResponseDto job = analysisJobService.getJob(jobId, userDetails.getId());
+            return ResponseEntity.ok(Map.of(
+                    "status", "success",
+                    "data", job
+            ));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                    "status", "error",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    @GetMapping(value = "/jobs/{jobId}/events", produces = "text/event-stream")
+    @Operation(summary = "분석 작업 상태 구독 (SSE)", description = "분석 작업의 상태 변경을 Server-Sent Events로 전달합니다. 작업이 종료되면 스트림이 닫힙니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "구독 성공"),
+        @ApiResponse(responseCode = "404", description = "분석 작업을 찾을 수 없음")
+    })
+    public SseEmitter subscribeAnalysisJob(
+            @Parameter(description = "분석 작업 ID", required = true)
+            @PathVariable Long jobId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return analysisJobService.subscribe(jobId, userDetails.getId());
+    }
+
     @PostMapping("/analysis/{mediaId}")
     @Operation(summary = "분석 결과 처리", description = "FastAPI로부터 받은 분석 결과를 처리합니다.")
     @ApiResponses(value = {
@@ -240,14 +339,4 @@ public class ImageAnalysisController {
             ));
         }
     }
-
-    // 미디어 타입 결정 헬퍼 메서드
-    private MediaType determineMediaType(String contentType) {
-        if (contentType != null && contentType.startsWith("image/")) {
-            return MediaType.IMAGE;
-        } else if (contentType != null && contentType.startsWith("video/")) {
-            return MediaType.VIDEO;
-        }
-        return MediaType.IMAGE; // 기본값
-    }
 }
@@ -1,16 +1,28 @@
 package com.min.i.memory_BE.domain.media.controller;
 
+import com.min.i.memory_BE.domain.media.dto.request.MediaUploadSlotRequestDto;
+import com.min.i.memory_BE.domain.media.dto.response.MediaBatchUploadResponseDto;
 import com.min.i.memory_BE.domain.media.dto.response.MediaResponseDto;
+import com.min.i.memory_BE.domain.media.dto.response.MediaUploadSlotResponseDto;
+import com.min.i.memory_BE.domain.media.dto.response.SimilarMediaResponseDto;
 import com.min.i.memory_BE.domain.media.entity.Media;
+import com.min.i.memory_BE.domain.media.service.MediaBatchUploadService;
 import com.min.i.memory_BE.domain.media.service.MediaService;
+import com.min.i.memory_BE.domain.media.service.MediaUploadSlotService;
+import com.min.i.memory_BE.domain.media.service.SimilarMediaService;
+import com.min.i.memory_BE.domain.media.service.StreamingMediaUploadService;
 import com.min.i.memory_BE.domain.user.security.CustomUserDetails;
+import com.min.i.memory_BE.global.dto.CursorPageResponseDto;
 import com.min.i.memory_BE.global.dto.PageResponseDto;
 import com.min.i.memory_BE.global.response.ApiResponse;
+import com.min.i.memory_BE.global.error.exception.ApiException;
 import com.min.i.memory_BE.global.error.exception.EntityNotFoundException;
 import com.min.i.memory_BE.global.error.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -20,9 +32,11 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.List;
 
 @Tag(name = "Media API", description = "미디어 관리 API")
@@ -31,6 +45,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MediaController {
     private final MediaService mediaService;
+    private final SimilarMediaService similarMediaService;
+    private final MediaUploadSlotService mediaUploadSlotService;
+    private final StreamingMediaUploadService streamingMediaUploadService;
+    private final MediaBatchUploadService mediaBatchUploadService;
     private static final Logger log = LoggerFactory.getLogger(MediaController.class);
 
     /**
@@ -56,16 +74,27 @@ public class MediaController {
      */
     @Operation(
             summary = "앨범 미디어 목록 조회",
-            description = "그룹 내 특정 앨범의 모든 미디어를 페이징하여 조회합니다."
+            description = "그룹 내 특정 앨범의 모든 미디어를 페이징하여 조회합니다. " +
+                    "cursor 파라미터를 전달하면(첫 페이지는 빈 값) 전체 개수 없이 커서 기반으로 조회하며, " +
+                    "응답의 nextCursor로 다음 페이지를 요청합니다."
     )
     @GetMapping("/groups/{groupId}/albums/{albumId}/media")
     public ResponseEntity<?> getAlbumMedia(
             @Parameter(description = "그룹 ID") @PathVariable Long groupId,
             @Parameter(description = "앨범 ID") @PathVariable Long albumId,
             @Parameter(description = "페이징 정보") @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.ASC) Pageable pageable,
+            @Parameter(description = "커서 (커서 기반 조회 시 사용, 첫 페이지는 빈 값)") @RequestParam(value = "cursor", required = false) String cursor,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
         try {
+            // 커서 기반 조회 - count 쿼리 없이 (createdAt, id) 기준으로 다음 페이지 조회
+            if (cursor != null) {
+                CursorPageResponseDto<MediaResponseDto> cursorPage = mediaService.getAlbumMediaByCursorWithAuth(
+                    groupId, albumId, cursor, pageable.getPageSize(), userDetails.getUser()
+                );
+                return ResponseEntity.ok(ApiResponse.success(cursorPage));
+            }
+            
             // 서비스 호출 - 인증 및 권한 검증은 서비스에서 처리
             // 이미 DTO로 변환된 결과를 반환받으므로 별도의 변환 과정 불필요
             Page<MediaResponseDto> mediaPage = mediaService.getAllAlbumMediaWithAuth(
@@ -88,6 +117,9 @@ public class MediaController {
         } catch (EntityNotFoundException e) {
             // 엔티티를 찾을 수 없는 경우 상세 메시지 포함
             return ResponseEntity.status(404).body(ApiResponse.error(ErrorCode.ENTITY_NOT_FOUND, e.getMessage()));
+        } catch (ApiException e) {
+            // 잘못된 커서 등 요청 오류
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(ApiResponse.error(e.getErrorCode(), e.getMessage()));
         } catch (Exception e) {
             // 상세한 오류 정보 로깅
             log.error("미디어 조회 중 서버 오류 발생: {}", e.getMessage(), e);
@@ -121,4 +153,140 @@ public class MediaController {
             return ResponseEntity.status(500).body(ApiResponse.error(ErrorCode.INTERNAL_SERVER_ERROR));
         }
     }
+
+    /**
+     * 4. 비슷한 사진 조회
+     */
+    @Operation(
+            summary = "비슷한 사진 조회",
+            description = "그룹 내에서 해당 미디어와 비슷한 사진(연속 촬영, 재압축된 사본, 스크린샷 등)을 " +
+                    "이미지 해시 거리순으로 조회합니다. distance가 작을수록 더 비슷한 사진입니다."
+    )
+    @GetMapping("/groups/{groupId}/media/{mediaId}/similar")
+    public ResponseEntity<ApiResponse<?>> getSimilarMedia(
+            @Parameter(description = "그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "미디어 ID") @PathVariable Long mediaId,
+            @Parameter(description = "최대 해시 거리 (0~16, 기본 10)") @RequestParam(value = "maxDistance", required = false) Integer maxDistance,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        try {
+            List<SimilarMediaResponseDto> similarMedia = similarMediaService.findSimilar(
+                groupId, mediaId, maxDistance, userDetails.getUser());
+            return ResponseEntity.ok(ApiResponse.success(similarMedia));
+
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(404).body(ApiResponse.error(ErrorCode.ENTITY_NOT_FOUND, e.getMessage()));
+        } catch (Exception e) {
+            log.error("비슷한 사진 조회 중 서버 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body(ApiResponse.error(ErrorCode.INTERNAL_SERVER_ERROR));
+        }
+    }
+
+    /**
+     * 5. S3 직접 업로드 슬롯 발급
+     */
+    @Operation(
+            summary = "직접 업로드 URL 발급",
+            description = "이미지를 서버를 거치지 않고 S3에 바로 업로드할 수 있는 URL을 발급합니다. " +
+                    "uploadUrl로 uploadHeaders를 포함해 PUT 요청을 보낸 뒤 완료 API를 호출합니다. " +
+                    "sha256을 보내면 S3가 업로드 내용을 검증하고, 완료 시 같은 이미지가 이미 있으면 기존 이미지를 재사용합니다."
+    )
+    @PostMapping("/groups/{groupId}/albums/{albumId}/media/upload-slots")
+    public ResponseEntity<ApiResponse<?>> createUploadSlot(
+            @Parameter(description = "그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "앨범 ID") @PathVariable Long albumId,
+            @Valid @RequestBody MediaUploadSlotRequestDto request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        try {
+            MediaUploadSlotResponseDto slot = mediaUploadSlotService.createSlot(groupId, albumId, request, userDetails.getUser());
+            return ResponseEntity.ok(ApiResponse.success(slot));
+
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(404).body(ApiResponse.error(ErrorCode.ENTITY_NOT_FOUND, e.getMessage()));
+        } catch (ApiException e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(ApiResponse.error(e.getErrorCode(), e.getMessage()));
+        }
+    }
+
+    /**
+     * 6. S3 직접 업로드 완료
+     */
+    @Operation(
+            summary = "직접 업로드 완료",
+            description = "S3에 업로드된 파일의 크기와 체크섬을 확인한 뒤 미디어를 생성합니다. 재시도해도 미디어는 한 번만 생성됩니다."
+    )
+    @PostMapping("/groups/{groupId}/albums/{albumId}/media/upload-slots/{slotId}/complete")
+    public ResponseEntity<ApiResponse<?>> completeUploadSlot(
+            @Parameter(description = "그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "앨범 ID") @PathVariable Long albumId,
+            @Parameter(description = "업로드 슬롯 ID") @PathVariable Long slotId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        try {
+            MediaResponseDto media = mediaUploadSlotService.completeSlot(groupId, albumId, slotId, userDetails.getUser());
+            return ResponseEntity.ok(ApiResponse.success(media));
+
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(404).body(ApiResponse.error(ErrorCode.ENTITY_NOT_FOUND, e.getMessage()));
+        } catch (ApiException e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(ApiResponse.error(e.getErrorCode(), e.getMessage()));
+        }
+    }
+
+    /**
+     * 7. 스트리밍 업로드
+     */
+    @Operation(
+            summary = "스트리밍 업로드",
+            description = "multipart/form-data의 file 파트를 임시 파일 없이 읽으며 S3에 바로 업로드하고 미디어를 생성합니다. " +
+                    "파일 형식은 파일 내용으로 판별합니다 (JPEG, PNG, GIF, 최대 10MB)."
+    )
+    @PostMapping(value = "/groups/{groupId}/albums/{albumId}/media/stream", consumes = "multipart/form-data")
+    public ResponseEntity<ApiResponse<?>> uploadMediaStream(
+            @Parameter(description = "그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "앨범 ID") @PathVariable Long albumId,
+            HttpServletRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        try {
+            MediaResponseDto media = streamingMediaUploadService.upload(request.getInputStream(), request.getContentType(),
+                    groupId, albumId, userDetails.getUser());
+            return ResponseEntity.ok(ApiResponse.success(media));
+
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(404).body(ApiResponse.error(ErrorCode.ENTITY_NOT_FOUND, e.getMessage()));
+        } catch (ApiException e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(ApiResponse.error(e.getErrorCode(), e.getMessage()));
+        } catch (IOException e) {
+            log.error("스트리밍 업로드 요청 본문 읽기 실패: {}", e.getMessage());
+            return ResponseEntity.status(400).body(ApiResponse.error(ErrorCode.INVALID_INPUT_VALUE, "업로드 요청 본문을 읽을 수 없습니다"));
+        }
+    }
+
+    /**
+     * 8. 일괄 업로드
+     */
+    @Operation(
+            summary = "미디어 일괄 업로드",
+            description = "여러 이미지를 한 번에 업로드합니다. 파일별로 병렬 업로드하며, 일부 파일이 실패해도 나머지는 저장됩니다. " +
+                    "결과는 요청한 파일 순서대로 성공 여부와 미디어(또는 실패 사유)를 담습니다."
+    )
+    @PostMapping(value = "/groups/{groupId}/albums/{albumId}/media/batch", consumes = "multipart/form-data")
+    public ResponseEntity<ApiResponse<?>> uploadMediaBatch(
+            @Parameter(description = "그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "앨범 ID") @PathVariable Long albumId,
+            @Parameter(description = "업로드할 이미지 파일들") @RequestPart("files") List<MultipartFile> files,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        try {
+            MediaBatchUploadResponseDto result = mediaBatchUploadService.uploadBatch(files, groupId, albumId, userDetails.getUser());
+            return ResponseEntity.ok(ApiResponse.success(result));
+
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(404).body(ApiResponse.error(ErrorCode.ENTITY_NOT_FOUND, e.getMessage()));
+        } catch (ApiException e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(ApiResponse.error(e.getErrorCode(), e.getMessage()));
+        }
+    }
 }
\ No newline at end of file
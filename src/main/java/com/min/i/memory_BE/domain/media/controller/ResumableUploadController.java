@@ -0,0 +1,194 @@
+package com.min.i.memory_BE.domain.media.controller;
+
+import com.min.i.memory_BE.domain.media.dto.response.MediaUploadSessionResponseDto;
+import com.min.i.memory_BE.domain.media.entity.MediaUploadSession;
+import com.min.i.memory_BE.domain.media.service.ResumableUploadService;
+import com.min.i.memory_BE.domain.user.security.CustomUserDetails;
+import com.min.i.memory_BE.global.error.ErrorCode;
+import com.min.i.memory_BE.global.error.exception.ApiException;
+import com.min.i.memory_BE.global.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 이어받기 가능한 업로드 API (tus 1.0.0 - creation, termination, expiration 확장)
+ * 1. POST로 세션 생성 (Upload-Length, Upload-Metadata: filename, filetype)
+ * 2. PATCH로 조각 전송 (Content-Type: application/offset+octet-stream, Upload-Offset)
+ * 3. 연결이 끊기면 HEAD로 Upload-Offset을 조회해 그 위치부터 다시 전송
+ * 마지막 조각까지 저장되면 미디어가 생성되며, PATCH 응답의 Upload-Media-Id 헤더로 미디어 ID를 알려줍니다.
+ */
+@Slf4j
+@Tag(name = "Resumable Upload API", description = "이어받기 가능한 업로드 (tus)")
+@RestController
+@RequestMapping("/api/v1/groups/{groupId}/albums/{albumId}/media/uploads")
+@RequiredArgsConstructor
+public class ResumableUploadController {
+
+    private static final String TUS_VERSION = "1.0.0";
+    private static final String TUS_RESUMABLE = "Tus-Resumable";
+    private static final String UPLOAD_OFFSET = "Upload-Offset";
+    private static final String UPLOAD_LENGTH = "Upload-Length";
+    private static final String UPLOAD_EXPIRES = "Upload-Expires";
+    private static final String OFFSET_CONTENT_TYPE = "application/offset+octet-stream";
+
+    private final ResumableUploadService resumableUploadService;
+
+    @Value("${media.resumable.max-size:2147483648}")
+    private long maxSize;
+
+    /**
+     * 지원 기능 조회 (tus 탐색)
+     */
+    @RequestMapping(method = RequestMethod.OPTIONS)
+    public ResponseEntity<ApiResponse<?>> options() {
+        return ResponseEntity.noContent()
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .header("Tus-Version", TUS_VERSION)
+                .header("Tus-Extension", "creation,termination,expiration")
+                .header("Tus-Max-Size", String.valueOf(maxSize))
+                .build();
+    }
+
+    @Operation(
+            summary = "이어받기 업로드 세션 생성",
+            description = "Upload-Length(전체 크기)와 Upload-Metadata(filename, filetype - Base64)로 세션을 만들고 Location으로 업로드 주소를 알려줍니다. " +
+                    "마지막 조각을 제외한 조각은 partSize 이상이어야 하며, partSize의 배수로 보내면 재전송이 없습니다."
+    )
+    @PostMapping
+    public ResponseEntity<ApiResponse<?>> createSession(
+            @Parameter(description = "그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "앨범 ID") @PathVariable Long albumId,
+            @RequestHeader(UPLOAD_LENGTH) long uploadLength,
+            @RequestHeader(value = "Upload-Metadata", required = false) String metadata,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        try {
+            MediaUploadSession session = resumableUploadService.createSession(groupId, albumId, uploadLength, metadata,
+                    userDetails.getUser());
+            URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .path("/{sessionId}")
+                    .buildAndExpand(session.getId())
+                    .toUri();
+
+            return ResponseEntity.created(location)
+                    .headers(progressHeaders(session))
+                    .header("Upload-Part-Size", String.valueOf(session.getPartSize()))
+                    .body(ApiResponse.success(MediaUploadSessionResponseDto.from(session)));
+
+        } catch (ApiException e) {
+            return error(e);
+        }
+    }
+
+    @Operation(summary = "이어받기 업로드 진행 위치 조회", description = "Upload-Offset 헤더로 저장이 확정된 바이트 수를 알려줍니다.")
+    @RequestMapping(value = "/{sessionId}", method = RequestMethod.HEAD)
+    public ResponseEntity<ApiResponse<?>> getOffset(
+            @Parameter(description = "그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "앨범 ID") @PathVariable Long albumId,
+            @Parameter(description = "업로드 세션 ID") @PathVariable Long sessionId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        try {
+            MediaUploadSession session = resumableUploadService.getSession(groupId, albumId, sessionId, userDetails.getUser());
+            return ResponseEntity.ok()
+                    .headers(progressHeaders(session))
+                    .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                    .build();
+
+        } catch (ApiException e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).header(TUS_RESUMABLE, TUS_VERSION).build();
+        }
+    }
+
+    @Operation(
+            summary = "이어받기 업로드 조각 전송",
+            description = "Upload-Offset 위치부터 본문을 저장합니다. 응답의 Upload-Offset이 다음에 보낼 위치입니다."
+    )
+    @PatchMapping(value = "/{sessionId}", consumes = OFFSET_CONTENT_TYPE)
+    public ResponseEntity<ApiResponse<?>> appendChunk(
+            @Parameter(description = "그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "앨범 ID") @PathVariable Long albumId,
+            @Parameter(description = "업로드 세션 ID") @PathVariable Long sessionId,
+            @RequestHeader(UPLOAD_OFFSET) long offset,
+            HttpServletRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        try {
+            MediaUploadSession session = resumableUploadService.appendChunk(groupId, albumId, sessionId, offset,
+                    request.getContentLengthLong(), request.getInputStream(), userDetails.getUser());
+
+            ResponseEntity.HeadersBuilder<?> response = ResponseEntity.noContent().headers(progressHeaders(session));
+            if (session.isCompleted()) {
+                response.header("Upload-Media-Id", String.valueOf(session.getMediaId()));
+            }
+            return response.build();
+
+        } catch (ApiException e) {
+            return error(e);
+        } catch (IOException e) {
+            log.warn("이어받기 업로드 요청 본문 읽기 실패 - sessionId: {}, {}", sessionId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .header(TUS_RESUMABLE, TUS_VERSION)
+                    .body(ApiResponse.error(ErrorCode.INVALID_INPUT_VALUE, "업로드 요청 본문을 읽을 수 없습니다"));
+        }
+    }
+
+    @Operation(summary = "이어받기 업로드 중단", description = "진행 중인 업로드를 취소하고 저장된 조각을 삭제합니다.")
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<ApiResponse<?>> terminate(
+            @Parameter(description = "그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "앨범 ID") @PathVariable Long albumId,
+            @Parameter(description = "업로드 세션 ID") @PathVariable Long sessionId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        try {
+            resumableUploadService.terminate(groupId, albumId, sessionId, userDetails.getUser());
+            return ResponseEntity.noContent().header(TUS_RESUMABLE, TUS_VERSION).build();
+
+        } catch (ApiException e) {
+            return error(e);
+        }
+    }
+
+    private HttpHeaders progressHeaders(MediaUploadSession session) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(TUS_RESUMABLE, TUS_VERSION);
+        headers.set(UPLOAD_OFFSET, String.valueOf(session.getUploadOffset()));
+        headers.set(UPLOAD_LENGTH, String.valueOf(session.getUploadLength()));
+        if (!session.isCompleted()) {
+            headers.set(UPLOAD_EXPIRES, DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                    session.getExpiresAt().atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC)));
+        }
+        return headers;
+    }
+
+    private ResponseEntity<ApiResponse<?>> error(ApiException e) {
+        return ResponseEntity.status(e.getErrorCode().getStatus())
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .body(ApiResponse.error(e.getErrorCode(), e.getMessage()));
+    }
+}
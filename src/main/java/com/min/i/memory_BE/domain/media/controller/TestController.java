@@ -100,12 +100,7 @@ public class TestController {
             log.info("FastAPI 서버 상태 확인 시작");
             
             // FastAPI의 health-check 엔드포인트 호출
-            String healthCheckUrl = fastApiClient.getFastApiUrl() + "/api/v1/health-check";
-            
-            ResponseEntity<Map> response = fastApiClient.getRestTemplate().getForEntity(
-                healthCheckUrl,
-                Map.class
-            );
+            ResponseEntity<Map> response = fastApiClient.checkHealth();
             
             if (response.getStatusCode().is2xxSuccessful()) {
                 return ResponseEntity.ok(Map.of(
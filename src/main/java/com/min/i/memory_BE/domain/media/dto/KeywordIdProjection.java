@@ -0,0 +1,10 @@
+package com.min.i.memory_BE.domain.media.dto;
+
+/**
+ * 키워드 사전 적재용 (id, name) 조회 결과
+ */
+public interface KeywordIdProjection {
+    Long getId();
+
+    String getName();
+}
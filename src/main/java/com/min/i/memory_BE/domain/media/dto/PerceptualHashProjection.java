@@ -0,0 +1,10 @@
+package com.min.i.memory_BE.domain.media.dto;
+
+/**
+ * 유사 이미지 인덱스 생성용 (id, 이미지 해시) 조회 결과
+ */
+public interface PerceptualHashProjection {
+    Long getId();
+
+    Long getPerceptualHash();
+}
@@ -0,0 +1,23 @@
+package com.min.i.memory_BE.domain.media.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 앨범별 최근 미디어 조회(윈도우 쿼리) 결과 프로젝션
+ * 미디어 기본 정보와 업로더, 첫 번째 스토리 내용을 한 행으로 담습니다.
+ */
+public interface RecentMediaProjection {
+    Long getId();
+    Long getAlbumId();
+    String getFileUrl();
+    String getFileType();
+    String getOriginalFilename();
+    Long getFileSize();
+    String getThumbnailUrl();
+    String getPreviewUrl();
+    LocalDateTime getCreatedAt();
+    Long getUploaderId();
+    String getUploaderName();
+    String getUploaderProfileImgUrl();
+    String getStory();
+}
@@ -0,0 +1,26 @@
+package com.min.i.memory_BE.domain.media.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class MediaUploadSlotRequestDto {
+    @NotBlank(message = "파일 이름은 필수입니다")
+    private String filename;
+
+    @NotBlank(message = "파일 형식은 필수입니다")
+    private String contentType;
+
+    @NotNull(message = "파일 크기는 필수입니다")
+    @Positive(message = "파일 크기는 0보다 커야 합니다")
+    private Long fileSize;
+
+    // 파일 내용의 SHA-256 (16진수, 선택) - 전달하면 S3가 업로드 내용을 검증하고, 완료 시 같은 이미지의 기존 객체를 재사용합니다
+    @Pattern(regexp = "^[0-9a-fA-F]{64}$", message = "SHA-256은 64자리 16진수여야 합니다")
+    private String sha256;
+}
@@ -0,0 +1,41 @@
+package com.min.i.memory_BE.domain.media.dto.response;
+
+import com.min.i.memory_BE.domain.media.entity.AnalysisJob;
+import com.min.i.memory_BE.domain.media.enums.AnalysisJobStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class AnalysisJobResponseDto {
+    private Long jobId;
+    private Long mediaId;
+    private String imageUrl;
+    private AnalysisJobStatus status;
+    private List<Map<String, Object>> questions;
+    private String errorMessage;
+    private LocalDateTime queuedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    /**
+     * 작업 엔티티와 파싱된 질문 목록으로부터 응답 DTO를 생성합니다.
+     */
+    public static AnalysisJobResponseDto from(AnalysisJob job, List<Map<String, Object>> questions) {
+        return AnalysisJobResponseDto.builder()
+                .jobId(job.getId())
+                .mediaId(job.getMedia().getId())
+                .imageUrl(job.getImageUrl())
+                .status(job.getStatus())
+                .questions(questions)
+                .errorMessage(job.getErrorMessage())
+                .queuedAt(job.getQueuedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
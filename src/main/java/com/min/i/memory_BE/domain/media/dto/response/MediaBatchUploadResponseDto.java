@@ -0,0 +1,25 @@
+package com.min.i.memory_BE.domain.media.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class MediaBatchUploadResponseDto {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<Result> results;     // 요청한 파일 순서와 같음
+
+    @Getter
+    @Builder
+    public static class Result {
+        private int index;            // 요청에서의 파일 순서 (0부터)
+        private String originalFilename;
+        private boolean success;
+        private MediaResponseDto media;
+        private String error;         // 실패 사유
+    }
+}
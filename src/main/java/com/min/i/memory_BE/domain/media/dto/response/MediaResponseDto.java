@@ -1,6 +1,7 @@
 package com.min.i.memory_BE.domain.media.dto.response;
 
 import com.min.i.memory_BE.domain.album.entity.Story;
+import com.min.i.memory_BE.domain.media.dto.RecentMediaProjection;
 import com.min.i.memory_BE.domain.media.entity.Media;
 import com.min.i.memory_BE.domain.media.enums.MediaType;
 import com.min.i.memory_BE.domain.user.dto.UserSimpleDto;
@@ -8,7 +9,10 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -21,6 +25,7 @@ public class MediaResponseDto {
     private String originalFilename;
     private Long fileSize;
     private String thumbnailUrl;
+    private String previewUrl;
     private UserSimpleDto uploadedBy;
     private LocalDateTime createdAt;
     private String story;   // Story 필드
@@ -43,6 +48,7 @@ public class MediaResponseDto {
                 .originalFilename(media.getOriginalFilename())
                 .fileSize(media.getFileSize())
                 .thumbnailUrl(media.getThumbnailUrl())
+                .previewUrl(media.getPreviewUrl())
                 .uploadedBy(UserSimpleDto.fromMedia(media))
                 .createdAt(media.getCreatedAt())
                 .story(storyContent)  
@@ -59,4 +65,45 @@ public class MediaResponseDto {
                 .map(MediaResponseDto::from)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    /**
+     * 최근 미디어 프로젝션으로부터 응답 DTO를 생성합니다.
+     * 업로더와 스토리가 이미 조회되어 있으므로 추가 쿼리가 발생하지 않습니다.
+     */
+    public static MediaResponseDto from(RecentMediaProjection row) {
+        UserSimpleDto uploader = null;
+        if (row.getUploaderId() != null) {
+            uploader = UserSimpleDto.builder()
+                    .id(row.getUploaderId())
+                    .name(row.getUploaderName())
+                    .profileImgUrl(row.getUploaderProfileImgUrl())
+                    .build();
+        }
+
+        return MediaResponseDto.builder()
+                .id(row.getId())
+                .fileUrl(row.getFileUrl())
+                .fileType(row.getFileType() != null ? MediaType.valueOf(row.getFileType()) : null)
+                .originalFilename(row.getOriginalFilename())
+                .fileSize(row.getFileSize())
+                .thumbnailUrl(row.getThumbnailUrl())
+                .previewUrl(row.getPreviewUrl())
+                .uploadedBy(uploader)
+                .createdAt(row.getCreatedAt())
+                .story(row.getStory())
+                .build();
+    }
+
+    /**
+     * 최근 미디어 프로젝션 목록을 앨범 ID별 응답 DTO 목록으로 묶습니다.
+     * 조회 순서(앨범 내 최신순)를 그대로 유지합니다.
+     */
+    public static Map<Long, List<MediaResponseDto>> groupByAlbumId(List<RecentMediaProjection> rows) {
+        Map<Long, List<MediaResponseDto>> result = new LinkedHashMap<>();
+        for (RecentMediaProjection row : rows) {
+            result.computeIfAbsent(row.getAlbumId(), albumId -> new ArrayList<>())
+                    .add(from(row));
+        }
+        return result;
+    }
+}
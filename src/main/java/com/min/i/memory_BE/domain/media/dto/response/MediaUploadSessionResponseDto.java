@@ -0,0 +1,29 @@
+package com.min.i.memory_BE.domain.media.dto.response;
+
+import com.min.i.memory_BE.domain.media.entity.MediaUploadSession;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class MediaUploadSessionResponseDto {
+    private Long sessionId;
+    private Long uploadLength;
+    private Long uploadOffset;       // 저장이 확정된 바이트 수 - 이어서 보낼 위치
+    private Integer partSize;        // 마지막 조각을 제외한 조각은 이 크기 이상 (배수 권장)
+    private LocalDateTime expiresAt;
+    private Long mediaId;            // 완료 시 생성된 미디어
+
+    public static MediaUploadSessionResponseDto from(MediaUploadSession session) {
+        return MediaUploadSessionResponseDto.builder()
+                .sessionId(session.getId())
+                .uploadLength(session.getUploadLength())
+                .uploadOffset(session.getUploadOffset())
+                .partSize(session.getPartSize())
+                .expiresAt(session.getExpiresAt())
+                .mediaId(session.getMediaId())
+                .build();
+    }
+}
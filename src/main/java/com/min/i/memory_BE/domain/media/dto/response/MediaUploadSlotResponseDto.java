@@ -0,0 +1,18 @@
+package com.min.i.memory_BE.domain.media.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Builder
+public class MediaUploadSlotResponseDto {
+    private Long slotId;
+    private boolean uploadRequired;            // 항상 true (이전 클라이언트 호환용 - 업로드 후 완료 요청)
+    private String uploadUrl;                  // S3 직접 업로드 URL (PUT)
+    private String uploadMethod;
+    private Map<String, String> uploadHeaders; // 업로드 시 그대로 보내야 하는 헤더
+    private LocalDateTime expiresAt;           // 업로드 URL 만료 시각
+}
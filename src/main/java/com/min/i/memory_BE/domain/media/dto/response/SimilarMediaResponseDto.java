@@ -0,0 +1,34 @@
+package com.min.i.memory_BE.domain.media.dto.response;
+
+import com.min.i.memory_BE.domain.media.entity.Media;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class SimilarMediaResponseDto {
+    private Long id;
+    private Long albumId;
+    private String fileUrl;
+    private String thumbnailUrl;
+    private String originalFilename;
+    private LocalDateTime createdAt;
+    private int distance;   // 이미지 해시 해밍 거리 (0이면 거의 같은 사진)
+
+    /**
+     * 미디어 엔티티와 해시 거리로부터 응답 DTO를 생성합니다.
+     */
+    public static SimilarMediaResponseDto from(Media media, int distance) {
+        return SimilarMediaResponseDto.builder()
+                .id(media.getId())
+                .albumId(media.getAlbum() != null ? media.getAlbum().getId() : null)
+                .fileUrl(media.getFileUrl())
+                .thumbnailUrl(media.getThumbnailUrl())
+                .originalFilename(media.getOriginalFilename())
+                .createdAt(media.getCreatedAt())
+                .distance(distance)
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.min.i.memory_BE.domain.media.entity;
+
+import com.min.i.memory_BE.domain.media.enums.AnalysisJobStatus;
+import com.min.i.memory_BE.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이미지 분석 비동기 작업
+ * FastAPI 분석 요청과 결과 처리를 백그라운드에서 수행하며, 상태와 단계별 시각을 기록합니다.
+ */
+@Entity
+@Table(name = "analysis_jobs", indexes = @Index(name = "idx_analysis_jobs_status", columnList = "status"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalysisJob extends BaseEntity {
+  
+  private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+  
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+  
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "media_id", nullable = false)
+  private Media media;
+  
+  @Column(name = "requested_by", nullable = false)
+  private Long requestedBy;
+  
+  @Column(name = "image_url", nullable = false)
+  private String imageUrl;
+  
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private AnalysisJobStatus status;
+  
+  // 처리된 분석 결과 (생성된 질문 목록 JSON)
+  @Column(columnDefinition = "TEXT")
+  private String result;
+  
+  @Column(name = "error_message", length = MAX_ERROR_MESSAGE_LENGTH)
+  private String errorMessage;
+  
+  @Column(name = "queued_at", nullable = false)
+  private LocalDateTime queuedAt;
+  
+  @Column(name = "started_at")
+  private LocalDateTime startedAt;
+  
+  @Column(name = "completed_at")
+  private LocalDateTime completedAt;
+  
+  // 작업을 실행하는 인스턴스와 마지막 생존 신호 시각 (임대가 만료된 작업만 다른 인스턴스가 실패 처리)
+  @Column(name = "owner_instance", length = 100)
+  private String ownerInstance;
+  
+  @Column(name = "heartbeat_at")
+  private LocalDateTime heartbeatAt;
+  
+  @Builder
+  public AnalysisJob(Media media, Long requestedBy, String imageUrl, String ownerInstance) {
+    this.media = media;
+    this.requestedBy = requestedBy;
+    this.imageUrl = imageUrl;
+    this.status = AnalysisJobStatus.QUEUED;
+    this.queuedAt = LocalDateTime.now();
+    this.ownerInstance = ownerInstance;
+    this.heartbeatAt = this.queuedAt;
+  }
+  
+  public void start() {
+    this.status = AnalysisJobStatus.RUNNING;
+    this.startedAt = LocalDateTime.now();
+    this.heartbeatAt = this.startedAt;
+  }
+  
+  public void complete(String result) {
+    this.status = AnalysisJobStatus.COMPLETED;
+    this.result = result;
+    this.completedAt = LocalDateTime.now();
+  }
+  
+  public void fail(String errorMessage) {
+    this.status = AnalysisJobStatus.FAILED;
+    this.errorMessage = errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH
+      ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+      : errorMessage;
+    this.completedAt = LocalDateTime.now();
+  }
+}
@@ -0,0 +1,104 @@
+package com.min.i.memory_BE.domain.media.entity;
+
+import com.min.i.memory_BE.domain.media.enums.DeletionTargetType;
+import com.min.i.memory_BE.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 그룹/앨범 삭제 작업 (툼스톤 처리 후 백그라운드에서 미디어, S3 객체, 연관 행을 정리)
+ * 미디어는 id 순서로 묶음 단위로 정리하며, 묶음마다 마지막으로 정리한 미디어 id를 기록하므로 중단되어도 이어서 진행합니다.
+ * 작업은 한 번에 한 인스턴스만 맡아(임대) 실행하며, 임대가 만료된 작업만 다른 인스턴스가 다시 맡습니다.
+ */
+@Entity
+@Table(name = "deletion_tasks", indexes = @Index(name = "idx_deletion_tasks_completed_at", columnList = "completed_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeletionTask extends BaseEntity {
+  
+  private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+  
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+  
+  @Enumerated(EnumType.STRING)
+  @Column(name = "target_type", nullable = false)
+  private DeletionTargetType targetType;
+  
+  @Column(name = "target_id", nullable = false)
+  private Long targetId;
+  
+  // 체크포인트 - 정리가 끝난 마지막 미디어 id
+  @Column(name = "last_media_id", nullable = false)
+  private Long lastMediaId;
+  
+  @Column(name = "deleted_media_count", nullable = false)
+  private Long deletedMediaCount;
+  
+  @Column(name = "deleted_object_count", nullable = false)
+  private Long deletedObjectCount;
+  
+  @Column(nullable = false)
+  private Integer attempts;
+  
+  @Column(name = "error_message", length = MAX_ERROR_MESSAGE_LENGTH)
+  private String errorMessage;
+  
+  @Column(name = "completed_at")
+  private LocalDateTime completedAt;
+  
+  // 작업을 맡은 인스턴스와 맡은(갱신한) 시각
+  @Column(name = "claimed_by", length = 100)
+  private String claimedBy;
+  
+  @Column(name = "claimed_at")
+  private LocalDateTime claimedAt;
+  
+  public DeletionTask(DeletionTargetType targetType, Long targetId) {
+    this.targetType = targetType;
+    this.targetId = targetId;
+    this.lastMediaId = 0L;
+    this.deletedMediaCount = 0L;
+    this.deletedObjectCount = 0L;
+    this.attempts = 0;
+  }
+  
+  // 미디어 묶음 하나의 정리 결과 기록
+  public void checkpoint(Long lastMediaId, int mediaCount, int objectCount) {
+    this.lastMediaId = lastMediaId;
+    this.deletedMediaCount += mediaCount;
+    this.deletedObjectCount += objectCount;
+  }
+  
+  public void complete(int objectCount) {
+    this.deletedObjectCount += objectCount;
+    this.errorMessage = null;
+    this.completedAt = LocalDateTime.now();
+  }
+  
+  public void fail(String errorMessage) {
+    this.attempts++;
+    this.errorMessage = errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH
+      ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+      : errorMessage;
+    // 다음 재처리 주기에 임대 만료를 기다리지 않고 다시 맡을 수 있도록 임대를 풂
+    this.claimedBy = null;
+    this.claimedAt = null;
+  }
+  
+  public boolean isCompleted() {
+    return completedAt != null;
+  }
+}
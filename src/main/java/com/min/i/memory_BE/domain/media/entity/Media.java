@@ -6,6 +6,7 @@ import com.min.i.memory_BE.domain.album.entity.Story;
 import com.min.i.memory_BE.domain.media.enums.MediaType;
 import com.min.i.memory_BE.domain.user.entity.User;
 import com.min.i.memory_BE.global.entity.BaseEntity;
+import com.min.i.memory_BE.global.entity.IdGeneration;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -15,9 +16,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -29,14 +32,15 @@ import lombok.NoArgsConstructor;
 import jakarta.persistence.PrePersist;
 
 @Entity
-@Table(name = "media")
+@Table(name = "media", indexes = @Index(name = "idx_media_content_hash", columnList = "content_hash"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder(toBuilder = true)
 public class Media extends BaseEntity {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "media_seq")
+  @SequenceGenerator(name = "media_seq", sequenceName = "media_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
   private Long id;
   
   @Column(name = "image_url")
@@ -61,8 +65,21 @@ public class Media extends BaseEntity {
   @Column(columnDefinition = "TEXT")
   private String metadata;
   
+  // 목록용 축소 이미지 (긴 변 320px JPEG, 업로드 후 비동기 생성)
   private String thumbnailUrl;
   
+  // 상세 화면용 축소 이미지 (긴 변 1280px JPEG)
+  @Column(name = "preview_url")
+  private String previewUrl;
+  
+  // 파일 내용의 SHA-256 (16진수) - 같은 이미지의 S3 객체와 분석 결과를 재사용하는 데 사용
+  @Column(name = "content_hash", length = 64)
+  private String contentHash;
+  
+  // 이미지 차이 해시 (dHash 64bit) - 재압축, 연속 촬영 등 비슷한 사진 검색에 사용
+  @Column(name = "perceptual_hash")
+  private Long perceptualHash;
+  
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "album_id")
   private Album album;
@@ -117,6 +134,14 @@ public class Media extends BaseEntity {
     this.fileSize = fileSize;
   }
   
+  public void setContentHash(String contentHash) {
+    this.contentHash = contentHash;
+  }
+  
+  public void setPerceptualHash(Long perceptualHash) {
+    this.perceptualHash = perceptualHash;
+  }
+  
   /**
    * AI 분석 결과를 저장합니다.
    * @param analysisResultJson AI 서버에서 분석한 결과 JSON
@@ -0,0 +1,108 @@
+package com.min.i.memory_BE.domain.media.entity;
+
+import com.min.i.memory_BE.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이어받기 가능한 업로드 세션 (tus 방식)
+ * 파일은 S3 멀티파트 업로드의 파트 단위로 저장되며, 파트가 저장될 때마다 확정된 위치(uploadOffset)를 기록합니다.
+ * 연결이 끊긴 클라이언트는 확정된 위치부터 다시 보내면 됩니다.
+ */
+@Entity
+@Table(name = "media_upload_sessions", indexes = @Index(name = "idx_media_upload_sessions_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MediaUploadSession extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "group_id", nullable = false)
+  private Long groupId;
+
+  @Column(name = "album_id", nullable = false)
+  private Long albumId;
+
+  @Column(name = "requested_by", nullable = false)
+  private Long requestedBy;
+
+  @Column(name = "file_url", nullable = false)
+  private String fileUrl;
+
+  // S3 멀티파트 업로드 ID
+  @Column(name = "s3_upload_id", nullable = false, length = 1024)
+  private String s3UploadId;
+
+  @Column(name = "content_type", nullable = false)
+  private String contentType;
+
+  @Column(name = "original_filename", nullable = false)
+  private String originalFilename;
+
+  // 전체 파일 크기 (Upload-Length)
+  @Column(name = "upload_length", nullable = false)
+  private Long uploadLength;
+
+  // 저장이 확정된 바이트 수 (Upload-Offset) - 마지막 파트 전까지는 항상 partSize의 배수
+  @Column(name = "upload_offset", nullable = false)
+  private Long uploadOffset;
+
+  // 세션 생성 시점의 파트 크기 (설정이 바뀌어도 진행 중인 세션의 파트 번호가 어긋나지 않도록 저장)
+  @Column(name = "part_size", nullable = false)
+  private Integer partSize;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+
+  // 완료 시 생성된 미디어
+  @Column(name = "media_id")
+  private Long mediaId;
+
+  @Builder
+  public MediaUploadSession(Long groupId, Long albumId, Long requestedBy, String fileUrl, String s3UploadId,
+    String contentType, String originalFilename, Long uploadLength, Integer partSize, LocalDateTime expiresAt) {
+    this.groupId = groupId;
+    this.albumId = albumId;
+    this.requestedBy = requestedBy;
+    this.fileUrl = fileUrl;
+    this.s3UploadId = s3UploadId;
+    this.contentType = contentType;
+    this.originalFilename = originalFilename;
+    this.uploadLength = uploadLength;
+    this.uploadOffset = 0L;
+    this.partSize = partSize;
+    this.expiresAt = expiresAt;
+  }
+
+  public boolean isCompleted() {
+    return mediaId != null;
+  }
+
+  public boolean isExpired(LocalDateTime now) {
+    return !isCompleted() && expiresAt.isBefore(now);
+  }
+
+  // 다음에 저장할 파트 번호 (1부터)
+  public int nextPartNumber() {
+    return (int) (uploadOffset / partSize) + 1;
+  }
+
+  // 완료 처리 (retainUntil까지 세션을 남겨 두어 완료 후 재시도한 요청에도 같은 결과를 응답)
+  public void complete(Long mediaId, LocalDateTime retainUntil) {
+    this.uploadOffset = uploadLength;
+    this.mediaId = mediaId;
+    this.expiresAt = retainUntil;
+  }
+}
@@ -0,0 +1,90 @@
+package com.min.i.memory_BE.domain.media.entity;
+
+import com.min.i.memory_BE.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * S3 직접 업로드 슬롯
+ * 업로드 URL을 발급할 때 저장 위치(키)와 검증 기준(형식, 크기, 체크섬)을 미리 정해 두고,
+ * 클라이언트의 완료 요청 시 S3 객체와 대조한 뒤 미디어를 생성합니다.
+ */
+@Entity
+@Table(name = "media_upload_slots", indexes = @Index(name = "idx_media_upload_slots_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MediaUploadSlot extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "group_id", nullable = false)
+  private Long groupId;
+
+  @Column(name = "album_id", nullable = false)
+  private Long albumId;
+
+  @Column(name = "requested_by", nullable = false)
+  private Long requestedBy;
+
+  @Column(name = "file_url", nullable = false)
+  private String fileUrl;
+
+  @Column(name = "content_type", nullable = false)
+  private String contentType;
+
+  @Column(name = "file_size", nullable = false)
+  private Long fileSize;
+
+  @Column(name = "original_filename", nullable = false)
+  private String originalFilename;
+
+  // 클라이언트가 알려준 SHA-256 (16진수) - 업로드 시 S3가 내용과 대조
+  @Column(name = "content_hash", length = 64)
+  private String contentHash;
+
+  // 같은 이미지가 이미 저장되어 있어 업로드가 필요 없는 슬롯
+  @Column(name = "upload_required", nullable = false)
+  private boolean uploadRequired;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+
+  // 완료 시 생성된 미디어 (완료 요청 재시도 시 같은 미디어 반환)
+  @Column(name = "media_id")
+  private Long mediaId;
+
+  @Builder
+  public MediaUploadSlot(Long groupId, Long albumId, Long requestedBy, String fileUrl, String contentType,
+    Long fileSize, String originalFilename, String contentHash, boolean uploadRequired, LocalDateTime expiresAt) {
+    this.groupId = groupId;
+    this.albumId = albumId;
+    this.requestedBy = requestedBy;
+    this.fileUrl = fileUrl;
+    this.contentType = contentType;
+    this.fileSize = fileSize;
+    this.originalFilename = originalFilename;
+    this.contentHash = contentHash;
+    this.uploadRequired = uploadRequired;
+    this.expiresAt = expiresAt;
+  }
+
+  public boolean isCompleted() {
+    return mediaId != null;
+  }
+
+  public void complete(Long mediaId) {
+    this.mediaId = mediaId;
+  }
+}
@@ -0,0 +1,9 @@
+package com.min.i.memory_BE.domain.media.enums;
+
+public enum AnalysisJobStatus {
+  QUEUED, RUNNING, COMPLETED, FAILED;
+  
+  public boolean isTerminal() {
+    return this == COMPLETED || this == FAILED;
+  }
+}
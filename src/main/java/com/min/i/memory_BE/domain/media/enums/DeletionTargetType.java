@@ -0,0 +1,5 @@
+package com.min.i.memory_BE.domain.media.enums;
+
+public enum DeletionTargetType {
+  GROUP, ALBUM
+}
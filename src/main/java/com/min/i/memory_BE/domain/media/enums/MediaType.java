@@ -1,5 +1,13 @@
 package com.min.i.memory_BE.domain.media.enums;
 
 public enum MediaType {
-  IMAGE, VIDEO
-}
\ No newline at end of file
+  IMAGE, VIDEO;
+  
+  // Content-Type으로 미디어 타입 결정 (기본값 IMAGE)
+  public static MediaType fromContentType(String contentType) {
+    if (contentType != null && contentType.startsWith("video/")) {
+      return VIDEO;
+    }
+    return IMAGE;
+  }
+}
@@ -0,0 +1,31 @@
+package com.min.i.memory_BE.domain.media.repository;
+
+import com.min.i.memory_BE.domain.media.entity.AnalysisJob;
+import com.min.i.memory_BE.domain.media.enums.AnalysisJobStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AnalysisJobRepository extends JpaRepository<AnalysisJob, Long> {
+
+    // 요청자 본인의 작업 조회
+    Optional<AnalysisJob> findByIdAndRequestedBy(Long id, Long requestedBy);
+
+    // 이 인스턴스가 실행 중인 작업의 생존 신호 갱신
+    @Modifying
+    @Query("UPDATE AnalysisJob j SET j.heartbeatAt = :now WHERE j.ownerInstance = :ownerInstance AND j.status IN :statuses")
+    int touchHeartbeat(String ownerInstance, Collection<AnalysisJobStatus> statuses, LocalDateTime now);
+
+    // 생존 신호가 끊긴 작업(소유 인스턴스가 종료, 재시작됨)만 실패 처리
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AnalysisJob j SET j.status = com.min.i.memory_BE.domain.media.enums.AnalysisJobStatus.FAILED, " +
+            "j.errorMessage = :errorMessage, j.completedAt = :completedAt " +
+            "WHERE j.status IN :statuses AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)")
+    int failStale(Collection<AnalysisJobStatus> statuses, LocalDateTime staleBefore, String errorMessage,
+                  LocalDateTime completedAt);
+}
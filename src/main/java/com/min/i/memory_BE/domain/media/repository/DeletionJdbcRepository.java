@@ -0,0 +1,162 @@
+package com.min.i.memory_BE.domain.media.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 그룹/앨범 삭제 작업용 JDBC 리포지토리
+ * 삭제 대상 미디어를 id 순서로 묶음 조회하고, 연관 행을 엔티티 단위가 아닌 집합 단위 DELETE로 정리합니다.
+ * 툼스톤 처리된 앨범/그룹은 엔티티 조회에서 제외되므로 모든 조회를 SQL로 수행합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeletionJdbcRepository {
+
+    private static final String SELECT_PURGE_MEDIA =
+            "SELECT m.id, m.file_url, m.thumbnail_url, m.preview_url FROM media m ";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 삭제할 미디어 한 건 (원본, 축소 이미지 URL)
+     */
+    public record PurgeMedia(Long id, String fileUrl, String thumbnailUrl, String previewUrl) {
+    }
+
+    /**
+     * 삭제할 앨범 한 건 (앨범 썸네일 URL)
+     */
+    public record PurgeAlbum(Long id, String thumbnailUrl) {
+    }
+
+    // 앨범의 미디어 묶음 (afterId 이후, id 순)
+    public List<PurgeMedia> findAlbumMedia(Long albumId, Long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_PURGE_MEDIA +
+                        "WHERE m.album_id = :albumId AND m.id > :afterId ORDER BY m.id LIMIT :limit",
+                new MapSqlParameterSource("albumId", albumId).addValue("afterId", afterId).addValue("limit", limit),
+                (rs, rowNum) -> new PurgeMedia(rs.getLong("id"), rs.getString("file_url"),
+                        rs.getString("thumbnail_url"), rs.getString("preview_url")));
+    }
+
+    // 그룹의 모든 앨범에 속한 미디어 묶음 (afterId 이후, id 순)
+    public List<PurgeMedia> findGroupMedia(Long groupId, Long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_PURGE_MEDIA +
+                        "JOIN albums a ON a.id = m.album_id " +
+                        "WHERE a.group_id = :groupId AND m.id > :afterId ORDER BY m.id LIMIT :limit",
+                new MapSqlParameterSource("groupId", groupId).addValue("afterId", afterId).addValue("limit", limit),
+                (rs, rowNum) -> new PurgeMedia(rs.getLong("id"), rs.getString("file_url"),
+                        rs.getString("thumbnail_url"), rs.getString("preview_url")));
+    }
+
+    // 주어진 URL 중 삭제 대상이 아닌 다른 미디어가 참조 중인 URL (중복 제거로 공유된 원본은 유지)
+    public Set<String> findFileUrlsReferencedOutside(Collection<String> fileUrls, Collection<Long> mediaIds) {
+        if (fileUrls.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT DISTINCT file_url FROM media WHERE file_url IN (:fileUrls) AND id NOT IN (:mediaIds)",
+                new MapSqlParameterSource("fileUrls", fileUrls).addValue("mediaIds", mediaIds),
+                String.class));
+    }
+
+    // 미디어에 달린 음성 답변 원본 URL
+    public List<String> findAnswerAudioUrls(Collection<Long> mediaIds) {
+        return jdbcTemplate.queryForList(
+                "SELECT audio_url FROM answers WHERE media_id IN (:mediaIds) AND audio_url IS NOT NULL",
+                new MapSqlParameterSource("mediaIds", mediaIds),
+                String.class);
+    }
+
+    // 앨범, 그룹 삭제 요청 즉시 - 삭제될 미디어가 중복 제거 대상으로 재사용되지 않도록 내용 해시 제거
+    public int clearContentHashesOfAlbum(Long albumId) {
+        return jdbcTemplate.update("UPDATE media SET content_hash = NULL WHERE album_id = :albumId",
+                new MapSqlParameterSource("albumId", albumId));
+    }
+
+    public int clearContentHashesOfGroup(Long groupId) {
+        return jdbcTemplate.update("UPDATE media SET content_hash = NULL " +
+                        "WHERE album_id IN (SELECT id FROM albums WHERE group_id = :groupId)",
+                new MapSqlParameterSource("groupId", groupId));
+    }
+
+    // 그룹 삭제 요청 즉시 - 그룹의 앨범을 모두 툼스톤 처리
+    public int markAlbumsOfGroupDeleted(Long groupId) {
+        return jdbcTemplate.update("UPDATE albums SET deleted_at = CURRENT_TIMESTAMP " +
+                        "WHERE group_id = :groupId AND deleted_at IS NULL",
+                new MapSqlParameterSource("groupId", groupId));
+    }
+
+    /**
+     * 미디어와 연관 행(키워드 연결, 답변, 질문, 스토리, 분석 작업, 좋아요)을 집합 단위로 삭제합니다.
+     */
+    public void deleteMedia(Collection<Long> mediaIds) {
+        MapSqlParameterSource ids = new MapSqlParameterSource("mediaIds", mediaIds);
+        jdbcTemplate.update("DELETE FROM media_keywords WHERE media_id IN (:mediaIds)", ids);
+        jdbcTemplate.update("DELETE FROM answers WHERE media_id IN (:mediaIds) " +
+                "OR question_id IN (SELECT id FROM questions WHERE media_id IN (:mediaIds))", ids);
+        jdbcTemplate.update("DELETE FROM questions WHERE media_id IN (:mediaIds)", ids);
+        jdbcTemplate.update("DELETE FROM stories WHERE media_id IN (:mediaIds)", ids);
+        jdbcTemplate.update("DELETE FROM analysis_jobs WHERE media_id IN (:mediaIds)", ids);
+        jdbcTemplate.update("DELETE FROM likes WHERE target_type = 'MEDIA' AND target_id IN (:mediaIds)", ids);
+        jdbcTemplate.update("DELETE FROM media WHERE id IN (:mediaIds)", ids);
+    }
+
+    public Long findGroupIdOfAlbum(Long albumId) {
+        return jdbcTemplate.query("SELECT group_id FROM albums WHERE id = :albumId",
+                        new MapSqlParameterSource("albumId", albumId),
+                        (rs, rowNum) -> rs.getObject("group_id", Long.class))
+                .stream().findFirst().orElse(null);
+    }
+
+    public String findAlbumThumbnailUrl(Long albumId) {
+        return jdbcTemplate.query("SELECT thumbnail_url FROM albums WHERE id = :albumId",
+                        new MapSqlParameterSource("albumId", albumId),
+                        (rs, rowNum) -> rs.getString("thumbnail_url"))
+                .stream().findFirst().orElse(null);
+    }
+
+    public List<PurgeAlbum> findAlbumsOfGroup(Long groupId) {
+        return jdbcTemplate.query("SELECT id, thumbnail_url FROM albums WHERE group_id = :groupId",
+                new MapSqlParameterSource("groupId", groupId),
+                (rs, rowNum) -> new PurgeAlbum(rs.getLong("id"), rs.getString("thumbnail_url")));
+    }
+
+    public String findGroupImageUrl(Long groupId) {
+        return jdbcTemplate.query("SELECT group_image_url FROM album_groups WHERE id = :groupId",
+                        new MapSqlParameterSource("groupId", groupId),
+                        (rs, rowNum) -> rs.getString("group_image_url"))
+                .stream().findFirst().orElse(null);
+    }
+
+    /**
+     * 미디어가 모두 정리된 앨범과 연관 행(페이지, 좋아요)을 삭제합니다.
+     */
+    public void deleteAlbums(Collection<Long> albumIds) {
+        if (albumIds.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource ids = new MapSqlParameterSource("albumIds", albumIds);
+        jdbcTemplate.update("DELETE FROM likes WHERE target_type = 'PAGE' " +
+                "AND target_id IN (SELECT id FROM album_pages WHERE album_id IN (:albumIds))", ids);
+        jdbcTemplate.update("DELETE FROM likes WHERE target_type = 'ALBUM' AND target_id IN (:albumIds)", ids);
+        jdbcTemplate.update("DELETE FROM album_pages WHERE album_id IN (:albumIds)", ids);
+        jdbcTemplate.update("DELETE FROM albums WHERE id IN (:albumIds)", ids);
+    }
+
+    /**
+     * 앨범이 모두 정리된 그룹과 연관 행(멤버십, 그룹 내 별명)을 삭제합니다.
+     */
+    public void deleteGroup(Long groupId) {
+        MapSqlParameterSource id = new MapSqlParameterSource("groupId", groupId);
+        jdbcTemplate.update("DELETE FROM user_nicknames WHERE group_id = :groupId", id);
+        jdbcTemplate.update("DELETE FROM user_groups WHERE group_id = :groupId", id);
+        jdbcTemplate.update("DELETE FROM album_groups WHERE id = :groupId", id);
+    }
+}
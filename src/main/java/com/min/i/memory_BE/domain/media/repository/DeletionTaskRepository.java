@@ -0,0 +1,29 @@
+package com.min.i.memory_BE.domain.media.repository;
+
+import com.min.i.memory_BE.domain.media.entity.DeletionTask;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeletionTaskRepository extends JpaRepository<DeletionTask, Long> {
+
+    // 완료되지 않은 작업 id (재시도 횟수가 남았고 다른 인스턴스가 임대 중이 아닌 작업만, 오래된 순)
+    @Query("SELECT t.id FROM DeletionTask t WHERE t.completedAt IS NULL AND t.attempts < :maxAttempts " +
+            "AND (t.claimedAt IS NULL OR t.claimedAt < :staleBefore) ORDER BY t.id")
+    List<Long> findPendingIds(@Param("maxAttempts") int maxAttempts, @Param("staleBefore") LocalDateTime staleBefore,
+                              Pageable pageable);
+
+    // 작업을 원자적으로 맡음 (이미 맡고 있거나 임대가 만료된 경우에만 갱신, 다른 인스턴스가 맡았거나 완료되었으면 0)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DeletionTask t SET t.claimedBy = :owner, t.claimedAt = :now " +
+            "WHERE t.id = :id AND t.completedAt IS NULL " +
+            "AND (t.claimedBy = :owner OR t.claimedAt IS NULL OR t.claimedAt < :staleBefore)")
+    int claim(@Param("id") Long id, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -0,0 +1,61 @@
+package com.min.i.memory_BE.domain.media.repository;
+
+import com.min.i.memory_BE.domain.media.enums.KeywordCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 키워드 / 미디어-키워드 연결을 JDBC 배치로 저장하는 리포지토리
+ * 분석 결과 한 건의 키워드를 행 단위 INSERT 대신 한 번의 배치로 기록합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class KeywordJdbcRepository {
+
+    private static final String INSERT_KEYWORD_SQL =
+            "INSERT INTO keywords (name, category, created_at, updated_at) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_MEDIA_KEYWORD_SQL =
+            "INSERT INTO media_keywords (media_id, keyword_id, confidence_score, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 키워드를 배치로 저장합니다. 이름 중복(unique 제약 위반) 시 DataIntegrityViolationException이 발생합니다.
+     */
+    public void batchInsertKeywords(Map<String, KeywordCategory> keywords) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(keywords.size());
+        keywords.forEach((name, category) -> args.add(new Object[]{name, category.name(), now, now}));
+        jdbcTemplate.batchUpdate(INSERT_KEYWORD_SQL, args);
+    }
+
+    /**
+     * 키워드 한 건을 저장합니다.
+     */
+    public void insertKeyword(String name, KeywordCategory category) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(INSERT_KEYWORD_SQL, name, category.name(), now, now);
+    }
+
+    /**
+     * 미디어-키워드 연결을 배치로 저장합니다.
+     *
+     * @param mediaId 미디어 ID
+     * @param confidenceByKeywordId 키워드 ID별 신뢰도 점수
+     */
+    public void batchInsertMediaKeywords(Long mediaId, Map<Long, Float> confidenceByKeywordId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(confidenceByKeywordId.size());
+        confidenceByKeywordId.forEach((keywordId, score) -> args.add(new Object[]{mediaId, keywordId, score, now, now}));
+        jdbcTemplate.batchUpdate(INSERT_MEDIA_KEYWORD_SQL, args);
+    }
+}
@@ -1,12 +1,24 @@
 package com.min.i.memory_BE.domain.media.repository;
 
+import com.min.i.memory_BE.domain.media.dto.KeywordIdProjection;
 import com.min.i.memory_BE.domain.media.entity.Keyword;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface KeywordRepository extends JpaRepository<Keyword, Long> {
     Optional<Keyword> findByName(String name);
-} 
\ No newline at end of file
+
+    // 키워드 사전 전체 적재 (id, name만 조회)
+    @Query("SELECT k.id AS id, k.name AS name FROM Keyword k")
+    List<KeywordIdProjection> findAllIdAndName();
+
+    // 이름 목록으로 키워드 id 조회
+    @Query("SELECT k.id AS id, k.name AS name FROM Keyword k WHERE k.name IN :names")
+    List<KeywordIdProjection> findIdAndNameByNameIn(Collection<String> names);
+}
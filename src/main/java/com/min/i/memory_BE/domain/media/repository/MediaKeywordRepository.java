@@ -4,6 +4,7 @@ import com.min.i.memory_BE.domain.media.entity.Keyword;
 import com.min.i.memory_BE.domain.media.entity.Media;
 import com.min.i.memory_BE.domain.media.entity.MediaKeyword;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +14,8 @@ import java.util.Optional;
 public interface MediaKeywordRepository extends JpaRepository<MediaKeyword, Long> {
     Optional<MediaKeyword> findByMediaAndKeyword(Media media, Keyword keyword);
     List<MediaKeyword> findByMediaId(Long mediaId);
+
+    // 미디어에 이미 연결된 키워드 id 조회
+    @Query("SELECT mk.keyword.id FROM MediaKeyword mk WHERE mk.media.id = :mediaId")
+    List<Long> findKeywordIdsByMediaId(Long mediaId);
 } 
\ No newline at end of file
@@ -1,11 +1,18 @@
 package com.min.i.memory_BE.domain.media.repository;
 
+import com.min.i.memory_BE.domain.media.dto.PerceptualHashProjection;
+import com.min.i.memory_BE.domain.media.dto.RecentMediaProjection;
 import com.min.i.memory_BE.domain.media.entity.Media;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -37,7 +44,79 @@ public interface MediaRepository extends JpaRepository<Media, Long> {
     @Query("SELECT m FROM Media m JOIN FETCH m.uploadedBy WHERE m.album.id = :albumId AND m.album.group.id = :groupId")
     List<Media> findByAlbumIdAndGroupIdWithUserFetch(Long albumId, Long groupId);
 
+    // 특정 앨범의 그룹을 체크하면서 미디어 페이징 조회 (생성일, ID 오름차순) - 사용자 정보 함께 로드
+    @Query(value = "SELECT m FROM Media m LEFT JOIN FETCH m.uploadedBy " +
+            "WHERE m.album.id = :albumId AND m.album.group.id = :groupId ORDER BY m.createdAt ASC, m.id ASC",
+            countQuery = "SELECT COUNT(m) FROM Media m WHERE m.album.id = :albumId AND m.album.group.id = :groupId")
+    Page<Media> findPageByAlbumIdAndGroupIdWithUser(Long albumId, Long groupId, Pageable pageable);
+
+    // 키셋 페이징 첫 페이지 조회 (생성일, ID 오름차순) - 사용자 정보 함께 로드, count 쿼리 없음
+    @Query("SELECT m FROM Media m LEFT JOIN FETCH m.uploadedBy " +
+            "WHERE m.album.id = :albumId AND m.album.group.id = :groupId ORDER BY m.createdAt ASC, m.id ASC")
+    List<Media> findByAlbumIdAndGroupIdFromStart(Long albumId, Long groupId, Pageable pageable);
+
+    // 키셋 페이징 다음 페이지 조회 - (createdAt, id)가 커서 이후인 미디어만 조회
+    @Query("SELECT m FROM Media m LEFT JOIN FETCH m.uploadedBy " +
+            "WHERE m.album.id = :albumId AND m.album.group.id = :groupId " +
+            "AND (m.createdAt > :cursorCreatedAt OR (m.createdAt = :cursorCreatedAt AND m.id > :cursorId)) " +
+            "ORDER BY m.createdAt ASC, m.id ASC")
+    List<Media> findByAlbumIdAndGroupIdAfterCursor(Long albumId, Long groupId, LocalDateTime cursorCreatedAt, Long cursorId,
+                                                     Pageable pageable);
+
     // 최근 업로드된 미디어 목록 조회 (그룹별, 앨범별)
     @Query("SELECT m FROM Media m WHERE m.album.group.id = :groupId ORDER BY m.createdAt DESC")
     Page<Media> findRecentMediaByGroupId(Long groupId, Pageable pageable);
+
+    // 여러 앨범의 최근 미디어를 앨범별 상위 limit개씩 한 번에 조회 - 업로더와 첫 번째 스토리 함께 조회
+    @Query(value = "SELECT r.id AS id, r.album_id AS albumId, r.file_url AS fileUrl, r.file_type AS fileType, " +
+            "r.original_filename AS originalFilename, r.file_size AS fileSize, r.thumbnail_url AS thumbnailUrl, " +
+            "r.preview_url AS previewUrl, r.created_at AS createdAt, u.id AS uploaderId, u.name AS uploaderName, " +
+            "u.profile_img_url AS uploaderProfileImgUrl, " +
+            "(SELECT s.content FROM stories s WHERE s.media_id = r.id ORDER BY s.id LIMIT 1) AS story " +
+            "FROM (SELECT m.id, m.album_id, m.file_url, m.file_type, m.original_filename, m.file_size, " +
+            "m.thumbnail_url, m.preview_url, m.uploaded_by, m.created_at, " +
+            "ROW_NUMBER() OVER (PARTITION BY m.album_id ORDER BY m.created_at DESC, m.id DESC) AS rn " +
+            "FROM media m WHERE m.album_id IN (:albumIds)) r " +
+            "LEFT JOIN users u ON u.id = r.uploaded_by " +
+            "WHERE r.rn <= :limit " +
+            "ORDER BY r.album_id, r.rn",
+            nativeQuery = true)
+    List<RecentMediaProjection> findRecentMediaByAlbumIds(Collection<Long> albumIds, int limit);
+
+    // 같은 내용의 이미지 중 분석이 끝난 가장 최근 미디어 (분석 결과 재사용)
+    Optional<Media> findFirstByContentHashAndAnalysisResultIsNotNullOrderByIdDesc(String contentHash);
+
+    // 같은 내용의 이미지 중 가장 최근 미디어 (S3 객체 재사용)
+    Optional<Media> findFirstByContentHashOrderByIdDesc(String contentHash);
+
+    // 같은 S3 객체를 참조하는 미디어 행에 공유 잠금 - 재사용하는 트랜잭션이 끝날 때까지 그 미디어의 삭제가 대기함
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT m FROM Media m WHERE m.fileUrl = :fileUrl ORDER BY m.id DESC")
+    List<Media> findByFileUrlForShare(String fileUrl, Pageable pageable);
+
+    // 같은 S3 객체를 참조하는 미디어 수 (참조가 없을 때만 객체 삭제)
+    long countByFileUrl(String fileUrl);
+
+    // 그룹 내 미디어 조회 (그룹 소속 확인)
+    @Query("SELECT m FROM Media m WHERE m.id = :mediaId AND m.album.group.id = :groupId")
+    Optional<Media> findByIdAndGroupId(Long mediaId, Long groupId);
+
+    // 그룹 내 이미지 해시 목록 (유사 이미지 인덱스 생성)
+    @Query("SELECT m.id AS id, m.perceptualHash AS perceptualHash FROM Media m " +
+            "WHERE m.album.group.id = :groupId AND m.perceptualHash IS NOT NULL")
+    List<PerceptualHashProjection> findPerceptualHashesByGroupId(Long groupId);
+
+    // 같은 원본의 축소 이미지가 이미 만들어진 미디어 (중복 업로드 시 재사용)
+    Optional<Media> findFirstByFileUrlAndThumbnailUrlIsNotNull(String fileUrl);
+
+    // 축소 이미지가 없는 이미지 미디어 ID (ID 순 키셋 조회, 백필용)
+    @Query("SELECT m.id FROM Media m WHERE m.thumbnailUrl IS NULL AND m.fileUrl <> '' " +
+            "AND m.fileType = com.min.i.memory_BE.domain.media.enums.MediaType.IMAGE AND m.id > :afterId ORDER BY m.id")
+    List<Long> findIdsWithoutThumbnail(Long afterId, Pageable pageable);
+
+    // 같은 원본을 참조하는 미디어 중 축소 이미지가 없는 미디어에 URL 반영
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Media m SET m.thumbnailUrl = :thumbnailUrl, m.previewUrl = :previewUrl " +
+            "WHERE m.fileUrl = :fileUrl AND m.thumbnailUrl IS NULL")
+    int updateDerivativeUrls(String fileUrl, String thumbnailUrl, String previewUrl);
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.min.i.memory_BE.domain.media.repository;
+
+import com.min.i.memory_BE.domain.media.entity.MediaUploadSession;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MediaUploadSessionRepository extends JpaRepository<MediaUploadSession, Long> {
+
+    // 요청자 본인의 세션 조회
+    Optional<MediaUploadSession> findByIdAndRequestedBy(Long id, Long requestedBy);
+
+    // 완료 처리 시 세션 잠금 (마지막 파트 요청이 동시에 들어와도 미디어를 한 번만 만들도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM MediaUploadSession s WHERE s.id = :id")
+    Optional<MediaUploadSession> findByIdForUpdate(Long id);
+
+    // 저장된 파트만큼 위치를 앞으로 옮김 (위치가 expected일 때만 - 같은 위치를 동시에 보낸 요청은 하나만 반영)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MediaUploadSession s SET s.uploadOffset = :offset, s.expiresAt = :expiresAt "
+            + "WHERE s.id = :id AND s.uploadOffset = :expected AND s.mediaId IS NULL")
+    int advanceOffset(Long id, Long expected, Long offset, LocalDateTime expiresAt);
+
+    // 정리 대상 세션 (완료되지 않고 만료된 세션, 완료 후 보관 기간이 지난 세션)
+    @Query("SELECT s FROM MediaUploadSession s WHERE s.expiresAt < :before ORDER BY s.id")
+    List<MediaUploadSession> findExpiredBefore(LocalDateTime before, Pageable pageable);
+}
@@ -0,0 +1,28 @@
+package com.min.i.memory_BE.domain.media.repository;
+
+import com.min.i.memory_BE.domain.media.entity.MediaUploadSlot;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MediaUploadSlotRepository extends JpaRepository<MediaUploadSlot, Long> {
+
+    // 요청자 본인의 슬롯 조회
+    Optional<MediaUploadSlot> findByIdAndRequestedBy(Long id, Long requestedBy);
+
+    // 완료 처리 시 슬롯 잠금 (동시에 들어온 완료 요청이 미디어를 두 번 만들지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM MediaUploadSlot s WHERE s.id = :id")
+    Optional<MediaUploadSlot> findByIdForUpdate(Long id);
+
+    // 정리 대상 슬롯 (만료 후 보관 기간이 지난 슬롯)
+    @Query("SELECT s FROM MediaUploadSlot s WHERE s.expiresAt < :before ORDER BY s.id")
+    List<MediaUploadSlot> findExpiredBefore(LocalDateTime before, Pageable pageable);
+}
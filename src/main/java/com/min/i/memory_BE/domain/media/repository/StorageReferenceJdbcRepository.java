@@ -0,0 +1,97 @@
+package com.min.i.memory_BE.domain.media.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * S3 객체를 참조하는 URL 컬럼 조회 (저장소 정리 작업용)
+ * 툼스톤 처리된 앨범/그룹, 진행 중인 업로드의 URL도 참조로 보아야 하므로 엔티티 조회 대신 SQL로 모든 행을 봅니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StorageReferenceJdbcRepository {
+
+    /**
+     * S3 객체 URL을 저장하는 컬럼
+     */
+    private record ReferenceColumn(String table, String column) {
+    }
+
+    private static final List<ReferenceColumn> REFERENCE_COLUMNS = List.of(
+            new ReferenceColumn("media", "file_url"),
+            new ReferenceColumn("media", "image_url"),
+            new ReferenceColumn("media", "thumbnail_url"),
+            new ReferenceColumn("media", "preview_url"),
+            new ReferenceColumn("analysis_jobs", "image_url"),
+            new ReferenceColumn("albums", "thumbnail_url"),
+            new ReferenceColumn("album_groups", "group_image_url"),
+            new ReferenceColumn("user_groups", "group_profile_img_url"),
+            new ReferenceColumn("users", "profile_img_url"),
+            new ReferenceColumn("answers", "audio_url"),
+            new ReferenceColumn("media_upload_slots", "file_url"),
+            new ReferenceColumn("media_upload_sessions", "file_url"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // 비어 있지 않은 참조 URL 수 (블룸 필터 크기 결정용, 중복 포함)
+    public long countReferences() {
+        long count = 0;
+        for (ReferenceColumn ref : REFERENCE_COLUMNS) {
+            Long rows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + ref.table() + " WHERE " + ref.column() + " IS NOT NULL AND " + ref.column() + " <> ''",
+                    new MapSqlParameterSource(), Long.class);
+            count += rows != null ? rows : 0;
+        }
+        return count;
+    }
+
+    /**
+     * 모든 참조 URL을 컬럼별로 id 순서대로 batchSize씩 나누어 읽어 전달합니다 (전체 목록을 메모리에 올리지 않음).
+     */
+    public void forEachReference(int batchSize, Consumer<String> consumer) {
+        for (ReferenceColumn ref : REFERENCE_COLUMNS) {
+            String sql = "SELECT id, " + ref.column() + " AS url FROM " + ref.table() +
+                    " WHERE id > :afterId AND " + ref.column() + " IS NOT NULL AND " + ref.column() + " <> ''" +
+                    " ORDER BY id LIMIT :limit";
+            long afterId = 0;
+            while (true) {
+                long[] lastId = {afterId};
+                int[] rows = {0};
+                jdbcTemplate.query(sql,
+                        new MapSqlParameterSource("afterId", afterId).addValue("limit", batchSize),
+                        rs -> {
+                            lastId[0] = rs.getLong("id");
+                            rows[0]++;
+                            consumer.accept(rs.getString("url"));
+                        });
+                if (rows[0] < batchSize) {
+                    break;
+                }
+                afterId = lastId[0];
+            }
+        }
+    }
+
+    // 주어진 URL 중 지금 참조 중인 URL (삭제 직전 재확인용)
+    public Set<String> findReferenced(Collection<String> fileUrls) {
+        if (fileUrls.isEmpty()) {
+            return Set.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("fileUrls", fileUrls);
+        Set<String> referenced = new HashSet<>();
+        for (ReferenceColumn ref : REFERENCE_COLUMNS) {
+            referenced.addAll(jdbcTemplate.queryForList(
+                    "SELECT DISTINCT " + ref.column() + " FROM " + ref.table() + " WHERE " + ref.column() + " IN (:fileUrls)",
+                    params, String.class));
+        }
+        return referenced;
+    }
+}
@@ -0,0 +1,92 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import com.min.i.memory_BE.domain.media.client.FastApiClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이미지 분석 작업을 전용 스레드 풀에서 실행합니다.
+ * FastAPI 분석 요청과 결과(키워드, 질문) 저장을 요청 스레드 밖에서 처리합니다.
+ */
+@Slf4j
+@Component
+public class AnalysisJobRunner {
+
+    private final ThreadPoolTaskExecutor analysisJobExecutor;
+    private final FastApiClient fastApiClient;
+    private final MediaAnalysisService mediaAnalysisService;
+    private final AnalysisJobService analysisJobService;
+
+    public AnalysisJobRunner(@Qualifier("analysisJobExecutor") ThreadPoolTaskExecutor analysisJobExecutor,
+                             FastApiClient fastApiClient,
+                             MediaAnalysisService mediaAnalysisService,
+                             AnalysisJobService analysisJobService) {
+        this.analysisJobExecutor = analysisJobExecutor;
+        this.fastApiClient = fastApiClient;
+        this.mediaAnalysisService = mediaAnalysisService;
+        this.analysisJobService = analysisJobService;
+    }
+
+    /**
+     * 분석 작업을 실행 대기열에 넣습니다.
+     *
+     * @return 대기열에 들어갔으면 true, 대기열이 가득 차 거절되었으면 false (작업은 실패 처리됨)
+     */
+    public boolean dispatch(Long jobId, Long mediaId, String imageUrl, String authToken) {
+        try {
+            analysisJobExecutor.execute(() -> run(jobId, mediaId, imageUrl, authToken));
+            return true;
+        } catch (TaskRejectedException e) {
+            log.warn("분석 작업 대기열이 가득 참 - jobId: {}", jobId);
+            analysisJobService.markFailed(jobId, "분석 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+            return false;
+        }
+    }
+
+    private void run(Long jobId, Long mediaId, String imageUrl, String authToken) {
+        long startTime = System.currentTimeMillis();
+        try {
+            analysisJobService.markRunning(jobId);
+            analysisJobService.notifySubscribers(jobId);
+
+            // 1. 같은 이미지의 분석 결과가 있으면 FastAPI를 호출하지 않고 재사용
+            Map<String, Object> processedResult = mediaAnalysisService.reuseCachedAnalysis(mediaId).orElse(null);
+            if (processedResult == null) {
+                // 2. FastAPI로 이미지 URL 전송하여 분석 요청
+                Map<String, Object> analysisResult = fastApiClient.analyzeImageByUrl(imageUrl, authToken);
+                log.info("FastAPI 서버로부터 분석 결과 수신 완료 - jobId: {}", jobId);
+
+                // 3. 분석 결과 처리 (키워드, 질문 저장)
+                processedResult = mediaAnalysisService.processAnalysisResult(mediaId, analysisResult);
+            }
+
+            analysisJobService.markCompleted(jobId, extractQuestions(processedResult));
+            log.info("이미지 분석 작업 완료 - jobId: {}, 소요 시간: {}ms", jobId, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("이미지 분석 작업 실패 - jobId: {}, 오류: {}", jobId, e.getMessage(), e);
+            try {
+                analysisJobService.markFailed(jobId, e.getMessage());
+            } catch (Exception markException) {
+                log.error("분석 작업 실패 상태 저장 중 오류 - jobId: {}", jobId, markException);
+            }
+        } finally {
+            analysisJobService.notifySubscribers(jobId);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> extractQuestions(Map<String, Object> processedResult) {
+        Object questions = processedResult.get("questions");
+        if (questions instanceof List) {
+            return (List<Map<String, Object>>) questions;
+        }
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,217 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.min.i.memory_BE.domain.media.dto.response.AnalysisJobResponseDto;
+import com.min.i.memory_BE.domain.media.entity.AnalysisJob;
+import com.min.i.memory_BE.domain.media.entity.Media;
+import com.min.i.memory_BE.domain.media.enums.AnalysisJobStatus;
+import com.min.i.memory_BE.domain.media.repository.AnalysisJobRepository;
+import com.min.i.memory_BE.global.error.exception.EntityNotFoundException;
+import com.min.i.memory_BE.global.service.InstanceIdentity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 이미지 분석 작업의 상태 저장, 조회 및 SSE 구독을 관리합니다.
+ * 실제 분석 실행은 AnalysisJobRunner가 담당합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class AnalysisJobService {
+
+    private static final String SSE_EVENT_NAME = "analysis-job";
+    private static final List<AnalysisJobStatus> ACTIVE_STATUSES =
+            List.of(AnalysisJobStatus.QUEUED, AnalysisJobStatus.RUNNING);
+
+    private final AnalysisJobRepository analysisJobRepository;
+    private final ObjectMapper objectMapper;
+    private final InstanceIdentity instanceIdentity;
+    private final long sseTimeout;
+    private final Duration leaseTimeout;
+
+    // 작업 ID별 SSE 구독자 목록
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public AnalysisJobService(AnalysisJobRepository analysisJobRepository,
+                              ObjectMapper objectMapper,
+                              InstanceIdentity instanceIdentity,
+                              @Value("${analysis.job.sse-timeout:180000}") long sseTimeout,
+                              @Value("${analysis.job.lease-timeout-ms:120000}") long leaseTimeoutMs) {
+        this.analysisJobRepository = analysisJobRepository;
+        this.objectMapper = objectMapper;
+        this.instanceIdentity = instanceIdentity;
+        this.sseTimeout = sseTimeout;
+        this.leaseTimeout = Duration.ofMillis(leaseTimeoutMs);
+    }
+
+    /**
+     * 분석 작업을 대기 상태로 생성합니다.
+     */
+    @Transactional
+    public AnalysisJob createJob(Media media, Long requestedBy, String imageUrl) {
+        AnalysisJob job = AnalysisJob.builder()
+                .media(media)
+                .requestedBy(requestedBy)
+                .imageUrl(imageUrl)
+                .ownerInstance(instanceIdentity.getId())
+                .build();
+        return analysisJobRepository.save(job);
+    }
+
+    @Transactional
+    public void markRunning(Long jobId) {
+        findJob(jobId).start();
+    }
+
+    @Transactional
+    public void markCompleted(Long jobId, List<Map<String, Object>> questions) {
+        AnalysisJob job = findJob(jobId);
+        try {
+            job.complete(objectMapper.writeValueAsString(questions));
+        } catch (IOException e) {
+            log.warn("분석 결과 직렬화 실패 - jobId: {}", jobId, e);
+            job.complete(null);
+        }
+    }
+
+    @Transactional
+    public void markFailed(Long jobId, String errorMessage) {
+        findJob(jobId).fail(errorMessage);
+    }
+
+    /**
+     * 요청자 본인의 분석 작업 상태를 조회합니다.
+     */
+    public AnalysisJobResponseDto getJob(Long jobId, Long userId) {
+        AnalysisJob job = analysisJobRepository.findByIdAndRequestedBy(jobId, userId)
+                .orElseThrow(() -> new EntityNotFoundException("분석 작업을 찾을 수 없습니다: " + jobId));
+        return toResponseDto(job);
+    }
+
+    /**
+     * 분석 작업 상태를 SSE로 구독합니다.
+     * 구독 즉시 현재 상태를 전송하고, 작업이 이미 종료되었으면 스트림을 닫습니다.
+     */
+    public SseEmitter subscribe(Long jobId, Long userId) {
+        AnalysisJobResponseDto current = getJob(jobId, userId);
+
+        SseEmitter emitter = new SseEmitter(sseTimeout);
+        List<SseEmitter> jobEmitters = emitters.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>());
+        jobEmitters.add(emitter);
+        emitter.onCompletion(() -> removeEmitter(jobId, emitter));
+        emitter.onTimeout(() -> removeEmitter(jobId, emitter));
+        emitter.onError(e -> removeEmitter(jobId, emitter));
+
+        // 등록 이후 다시 조회하여 등록 직전에 종료된 작업도 놓치지 않도록 함
+        AnalysisJobResponseDto latest = current.getStatus().isTerminal() ? current : getJob(jobId, userId);
+        send(emitter, latest);
+        if (latest.getStatus().isTerminal()) {
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    /**
+     * 작업 상태 변경을 구독자에게 전송합니다. 종료 상태이면 모든 구독을 종료합니다.
+     */
+    public void notifySubscribers(Long jobId) {
+        List<SseEmitter> jobEmitters = emitters.get(jobId);
+        if (jobEmitters == null || jobEmitters.isEmpty()) {
+            return;
+        }
+
+        AnalysisJobResponseDto dto = toResponseDto(findJob(jobId));
+        for (SseEmitter emitter : jobEmitters) {
+            send(emitter, dto);
+            if (dto.getStatus().isTerminal()) {
+                emitter.complete();
+            }
+        }
+        if (dto.getStatus().isTerminal()) {
+            emitters.remove(jobId);
+        }
+    }
+
+    /**
+     * 이 인스턴스가 맡은 대기, 실행 중 작업의 생존 신호를 갱신합니다.
+     * 임대 만료 시간(lease-timeout-ms)보다 짧은 주기로 실행해야 다른 인스턴스가 실행 중인 작업을 실패 처리하지 않습니다.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${analysis.job.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        analysisJobRepository.touchHeartbeat(instanceIdentity.getId(), ACTIVE_STATUSES, LocalDateTime.now());
+    }
+
+    /**
+     * 소유 인스턴스의 생존 신호가 임대 만료 시간 동안 끊긴 작업을 실패 처리합니다.
+     * 시작 시와 주기적으로 실행하며, 살아 있는 다른 인스턴스의 작업은 건드리지 않습니다.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${analysis.job.lease-timeout-ms:120000}",
+            fixedDelayString = "${analysis.job.lease-timeout-ms:120000}")
+    public void failInterruptedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        int count = analysisJobRepository.failStale(
+                ACTIVE_STATUSES,
+                now.minus(leaseTimeout),
+                "서버 재시작으로 작업이 중단되었습니다.",
+                now);
+        if (count > 0) {
+            log.warn("중단된 이미지 분석 작업 {}건을 실패 처리했습니다.", count);
+        }
+    }
+
+    private AnalysisJob findJob(Long jobId) {
+        return analysisJobRepository.findById(jobId)
+                .orElseThrow(() -> new EntityNotFoundException("분석 작업을 찾을 수 없습니다: " + jobId));
+    }
+
+    private AnalysisJobResponseDto toResponseDto(AnalysisJob job) {
+        List<Map<String, Object>> questions = Collections.emptyList();
+        if (job.getResult() != null) {
+            try {
+                questions = objectMapper.readValue(job.getResult(), new TypeReference<List<Map<String, Object>>>() {});
+            } catch (IOException e) {
+                log.warn("분석 결과 역직렬화 실패 - jobId: {}", job.getId(), e);
+            }
+        }
+        return AnalysisJobResponseDto.from(job, questions);
+    }
+
+    private void send(SseEmitter emitter, AnalysisJobResponseDto dto) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(dto.getJobId() + "-" + dto.getStatus())
+                    .name(SSE_EVENT_NAME)
+                    .data(dto));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패 - jobId: {}, {}", dto.getJobId(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void removeEmitter(Long jobId, SseEmitter emitter) {
+        emitters.computeIfPresent(jobId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+}
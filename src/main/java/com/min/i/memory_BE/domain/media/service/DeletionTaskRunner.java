@@ -0,0 +1,219 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import com.min.i.memory_BE.domain.media.entity.DeletionTask;
+import com.min.i.memory_BE.domain.media.enums.DeletionTargetType;
+import com.min.i.memory_BE.domain.media.repository.DeletionJdbcRepository;
+import com.min.i.memory_BE.domain.media.repository.DeletionJdbcRepository.PurgeAlbum;
+import com.min.i.memory_BE.domain.media.repository.DeletionJdbcRepository.PurgeMedia;
+import com.min.i.memory_BE.global.service.InstanceIdentity;
+import com.min.i.memory_BE.global.service.S3Service;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 툼스톤 처리된 그룹/앨범을 백그라운드에서 정리합니다.
+ * 미디어를 id 순으로 묶어 S3 객체를 DeleteObjects로 먼저 지운 뒤, 행 삭제와 체크포인트를 한 트랜잭션으로 기록합니다.
+ * 두 단계 모두 다시 실행해도 안전하므로, 중단된 작업은 주기적인 재처리에서 마지막 체크포인트부터 이어서 진행합니다.
+ * 여러 인스턴스가 같은 작업을 실행하지 않도록, 실행 전에 작업을 원자적으로 맡고(임대) 묶음마다 임대를 갱신합니다.
+ */
+@Slf4j
+@Component
+public class DeletionTaskRunner {
+
+    private final ThreadPoolTaskExecutor deletionExecutor;
+    private final DeletionTaskService deletionTaskService;
+    private final DeletionJdbcRepository deletionJdbcRepository;
+    private final S3Service s3Service;
+    private final SimilarMediaService similarMediaService;
+    private final InstanceIdentity instanceIdentity;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration leaseTimeout;
+
+    // 이 서버에서 실행 중인 작업 (재처리 주기와 커밋 후 실행이 겹치지 않도록 함)
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    public DeletionTaskRunner(@Qualifier("deletionExecutor") ThreadPoolTaskExecutor deletionExecutor,
+                              DeletionTaskService deletionTaskService,
+                              DeletionJdbcRepository deletionJdbcRepository,
+                              S3Service s3Service,
+                              SimilarMediaService similarMediaService,
+                              InstanceIdentity instanceIdentity,
+                              @Value("${media.deletion.batch-size:1000}") int batchSize,
+                              @Value("${media.deletion.max-attempts:5}") int maxAttempts,
+                              @Value("${media.deletion.lease-timeout-ms:600000}") long leaseTimeoutMs) {
+        this.deletionExecutor = deletionExecutor;
+        this.deletionTaskService = deletionTaskService;
+        this.deletionJdbcRepository = deletionJdbcRepository;
+        this.s3Service = s3Service;
+        this.similarMediaService = similarMediaService;
+        this.instanceIdentity = instanceIdentity;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.leaseTimeout = Duration.ofMillis(leaseTimeoutMs);
+    }
+
+    /**
+     * 삭제 작업을 생성하고, 현재 트랜잭션(툼스톤 처리)이 커밋된 뒤 정리를 시작합니다.
+     */
+    public void schedule(DeletionTargetType targetType, Long targetId) {
+        Long taskId = deletionTaskService.createTask(targetType, targetId).getId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(taskId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(taskId);
+            }
+        });
+    }
+
+    /**
+     * 완료되지 않은 작업(대기열이 가득 차 거절되었거나 중단, 실패한 작업)을 다시 실행합니다.
+     * 다른 인스턴스가 임대 중인 작업은 제외하며, 실행 전에 다시 맡으므로 여러 인스턴스가 동시에 조회해도 한 곳에서만 실행됩니다.
+     */
+    @Scheduled(initialDelayString = "${media.deletion.initial-delay-ms:60000}",
+            fixedDelayString = "${media.deletion.interval-ms:300000}")
+    public void resumePending() {
+        for (Long taskId : deletionTaskService.findPendingIds(maxAttempts, staleBefore(),
+                deletionExecutor.getQueueCapacity())) {
+            if (!dispatch(taskId)) {
+                break;
+            }
+        }
+    }
+
+    private boolean dispatch(Long taskId) {
+        if (!running.add(taskId)) {
+            return true;
+        }
+        try {
+            deletionExecutor.execute(() -> {
+                try {
+                    run(taskId);
+                } finally {
+                    running.remove(taskId);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            running.remove(taskId);
+            log.warn("삭제 작업 대기열이 가득 참 - taskId: {} (재처리 시 실행)", taskId);
+            return false;
+        }
+    }
+
+    private void run(Long taskId) {
+        String owner = instanceIdentity.getId();
+        // 다른 인스턴스가 실행 중이거나 이미 완료된 작업은 건너뜀 (맡은 뒤에 조회해야 최신 체크포인트부터 이어감)
+        if (!deletionTaskService.claim(taskId, owner, staleBefore())) {
+            log.info("다른 인스턴스가 실행 중이거나 완료된 삭제 작업 - taskId: {}", taskId);
+            return;
+        }
+        Optional<DeletionTask> found = deletionTaskService.findTask(taskId);
+        if (found.isEmpty() || found.get().isCompleted()) {
+            return;
+        }
+        DeletionTask task = found.get();
+        long startTime = System.currentTimeMillis();
+        try {
+            // 그룹 작업은 완료 시 앨범 행이 사라지므로, 유사 이미지 색인 무효화에 쓸 그룹 ID를 미리 구함
+            Long groupId = task.getTargetType() == DeletionTargetType.GROUP
+                    ? task.getTargetId()
+                    : deletionJdbcRepository.findGroupIdOfAlbum(task.getTargetId());
+
+            long afterId = task.getLastMediaId();
+            while (true) {
+                List<PurgeMedia> batch = task.getTargetType() == DeletionTargetType.GROUP
+                        ? deletionJdbcRepository.findGroupMedia(task.getTargetId(), afterId, batchSize)
+                        : deletionJdbcRepository.findAlbumMedia(task.getTargetId(), afterId, batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                List<Long> mediaIds = batch.stream().map(PurgeMedia::id).toList();
+
+                // 1. S3 객체 삭제 (다른 미디어가 함께 쓰는 원본과 그 축소 이미지는 유지)
+                int deletedObjects = s3Service.deleteObjects(collectObjectUrls(batch, mediaIds));
+
+                // 2. 행 삭제와 체크포인트 기록 (임대 갱신, 임대를 잃었으면 맡은 인스턴스에 넘기고 중단)
+                if (!deletionTaskService.purgeMedia(taskId, owner, staleBefore(), mediaIds, deletedObjects)) {
+                    log.warn("삭제 작업 임대를 잃어 중단 - taskId: {}", taskId);
+                    return;
+                }
+                afterId = mediaIds.get(mediaIds.size() - 1);
+            }
+
+            // 3. 앨범 썸네일, 그룹 이미지를 지우고 앨범/그룹 행 삭제
+            List<String> urls = new ArrayList<>();
+            if (task.getTargetType() == DeletionTargetType.GROUP) {
+                deletionJdbcRepository.findAlbumsOfGroup(task.getTargetId()).stream()
+                        .map(PurgeAlbum::thumbnailUrl)
+                        .forEach(urls::add);
+                urls.add(deletionJdbcRepository.findGroupImageUrl(task.getTargetId()));
+            } else {
+                urls.add(deletionJdbcRepository.findAlbumThumbnailUrl(task.getTargetId()));
+            }
+            int deletedObjects = s3Service.deleteObjects(urls.stream().filter(this::hasText).toList());
+            if (!deletionTaskService.complete(taskId, owner, staleBefore(), deletedObjects)) {
+                log.warn("삭제 작업 임대를 잃어 중단 - taskId: {}", taskId);
+                return;
+            }
+
+            if (groupId != null) {
+                similarMediaService.invalidate(groupId);
+            }
+            log.info("삭제 작업 정리 완료 - taskId: {}, 소요 시간: {}ms", taskId, System.currentTimeMillis() - startTime);
+
+        } catch (Exception e) {
+            log.error("삭제 작업 실패 - taskId: {}, 오류: {}", taskId, e.getMessage(), e);
+            deletionTaskService.markFailed(taskId, owner, e.getMessage());
+        }
+    }
+
+    // 묶음에서 삭제할 S3 객체 (원본, 축소 이미지, 음성 답변)
+    private List<String> collectObjectUrls(List<PurgeMedia> batch, List<Long> mediaIds) {
+        Set<String> shared = deletionJdbcRepository.findFileUrlsReferencedOutside(
+                batch.stream().map(PurgeMedia::fileUrl).filter(this::hasText).distinct().toList(), mediaIds);
+
+        List<String> urls = new ArrayList<>();
+        for (PurgeMedia media : batch) {
+            if (!hasText(media.fileUrl()) || shared.contains(media.fileUrl())) {
+                continue;
+            }
+            urls.add(media.fileUrl());
+            if (hasText(media.thumbnailUrl())) {
+                urls.add(media.thumbnailUrl());
+            }
+            if (hasText(media.previewUrl())) {
+                urls.add(media.previewUrl());
+            }
+        }
+        urls.addAll(deletionJdbcRepository.findAnswerAudioUrls(mediaIds));
+        return urls;
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minus(leaseTimeout);
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+}
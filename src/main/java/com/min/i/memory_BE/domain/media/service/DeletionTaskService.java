@@ -0,0 +1,118 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import com.min.i.memory_BE.domain.media.entity.DeletionTask;
+import com.min.i.memory_BE.domain.media.enums.DeletionTargetType;
+import com.min.i.memory_BE.domain.media.repository.DeletionJdbcRepository;
+import com.min.i.memory_BE.domain.media.repository.DeletionJdbcRepository.PurgeAlbum;
+import com.min.i.memory_BE.domain.media.repository.DeletionTaskRepository;
+import com.min.i.memory_BE.global.error.exception.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 그룹/앨범 삭제 작업의 생성과 진행 상태 기록을 담당합니다.
+ * 실제 정리(S3 객체 삭제, 묶음 단위 행 삭제)는 DeletionTaskRunner가 담당하며, 각 단계는 짧은 트랜잭션으로 처리합니다.
+ * 정리 단계는 같은 트랜잭션에서 먼저 임대를 갱신하므로, 임대를 잃은 인스턴스는 체크포인트나 완료를 기록하지 못합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DeletionTaskService {
+
+    private final DeletionTaskRepository deletionTaskRepository;
+    private final DeletionJdbcRepository deletionJdbcRepository;
+
+    /**
+     * 삭제 작업을 생성합니다. 호출한 트랜잭션(툼스톤 처리)에 참여하므로 함께 커밋되거나 롤백됩니다.
+     * 삭제될 미디어는 바로 중복 제거 대상에서 빠지도록 내용 해시를 지웁니다.
+     */
+    @Transactional
+    public DeletionTask createTask(DeletionTargetType targetType, Long targetId) {
+        if (targetType == DeletionTargetType.GROUP) {
+            deletionJdbcRepository.markAlbumsOfGroupDeleted(targetId);
+            deletionJdbcRepository.clearContentHashesOfGroup(targetId);
+        } else {
+            deletionJdbcRepository.clearContentHashesOfAlbum(targetId);
+        }
+        return deletionTaskRepository.save(new DeletionTask(targetType, targetId));
+    }
+
+    public Optional<DeletionTask> findTask(Long taskId) {
+        return deletionTaskRepository.findById(taskId);
+    }
+
+    public List<Long> findPendingIds(int maxAttempts, LocalDateTime staleBefore, int limit) {
+        return deletionTaskRepository.findPendingIds(maxAttempts, staleBefore, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 작업을 이 인스턴스가 맡거나 임대를 갱신합니다. 다른 인스턴스가 임대 중이거나 이미 완료되었으면 false를 반환합니다.
+     */
+    @Transactional
+    public boolean claim(Long taskId, String owner, LocalDateTime staleBefore) {
+        return deletionTaskRepository.claim(taskId, owner, LocalDateTime.now(), staleBefore) > 0;
+    }
+
+    /**
+     * S3 객체 삭제가 끝난 미디어 묶음의 행을 삭제하고 체크포인트를 기록합니다 (한 트랜잭션).
+     *
+     * @return 임대를 잃어 기록하지 않았으면 false
+     */
+    @Transactional
+    public boolean purgeMedia(Long taskId, String owner, LocalDateTime staleBefore, List<Long> mediaIds, int deletedObjects) {
+        if (!claim(taskId, owner, staleBefore)) {
+            return false;
+        }
+        deletionJdbcRepository.deleteMedia(mediaIds);
+        findTaskOrThrow(taskId).checkpoint(mediaIds.get(mediaIds.size() - 1), mediaIds.size(), deletedObjects);
+        return true;
+    }
+
+    /**
+     * 미디어가 모두 정리된 대상(앨범, 또는 그룹과 그 앨범)의 행을 삭제하고 작업을 완료 처리합니다.
+     *
+     * @return 임대를 잃어 완료하지 않았으면 false
+     */
+    @Transactional
+    public boolean complete(Long taskId, String owner, LocalDateTime staleBefore, int deletedObjects) {
+        if (!claim(taskId, owner, staleBefore)) {
+            return false;
+        }
+        DeletionTask task = findTaskOrThrow(taskId);
+        if (task.getTargetType() == DeletionTargetType.GROUP) {
+            deletionJdbcRepository.deleteAlbums(deletionJdbcRepository.findAlbumsOfGroup(task.getTargetId()).stream()
+                    .map(PurgeAlbum::id)
+                    .toList());
+            deletionJdbcRepository.deleteGroup(task.getTargetId());
+        } else {
+            deletionJdbcRepository.deleteAlbums(List.of(task.getTargetId()));
+        }
+        task.complete(deletedObjects);
+        log.info("삭제 작업 완료 - taskId: {}, 대상: {} {}, 미디어 {}건, S3 객체 {}건", taskId, task.getTargetType(),
+                task.getTargetId(), task.getDeletedMediaCount(), task.getDeletedObjectCount());
+        return true;
+    }
+
+    // 실패 기록 (정리 중 롤백된 트랜잭션과 별개로 저장, 그 사이 다른 인스턴스가 맡은 작업은 건드리지 않음)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markFailed(Long taskId, String owner, String errorMessage) {
+        DeletionTask task = findTaskOrThrow(taskId);
+        if (owner.equals(task.getClaimedBy())) {
+            task.fail(errorMessage);
+        }
+    }
+
+    private DeletionTask findTaskOrThrow(Long taskId) {
+        return deletionTaskRepository.findById(taskId)
+                .orElseThrow(() -> new EntityNotFoundException("삭제 작업을 찾을 수 없습니다: " + taskId));
+    }
+}
@@ -0,0 +1,205 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import com.min.i.memory_BE.domain.album.entity.Album;
+import com.min.i.memory_BE.domain.media.client.FastApiClient;
+import com.min.i.memory_BE.domain.media.entity.Media;
+import com.min.i.memory_BE.domain.media.enums.MediaType;
+import com.min.i.memory_BE.domain.user.entity.User;
+import com.min.i.memory_BE.global.error.exception.FileValidationException;
+import com.min.i.memory_BE.global.service.S3Service;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 이미지 S3 업로드와 FastAPI 분석을 동시에 수행하는 즉시 분석 모드
+ * 이미 메모리에 있는 이미지 바이트를 FastAPI에 직접 전송하므로, FastAPI가 S3에서 이미지를 다시 내려받지 않습니다.
+ * 둘 중 하나라도 실패하면 업로드된 S3 객체를 삭제하고, DB에는 아무것도 남기지 않습니다.
+ * 같은 내용의 이미지가 이미 있으면 S3 업로드를 생략하고, 분석까지 끝나 있으면 FastAPI도 호출하지 않습니다.
+ * 기존 객체를 재사용할 때는 미디어 저장 트랜잭션에서 참조 행을 잠그며, 그사이 참조가 모두 삭제되었으면 재사용하지 않습니다.
+ */
+@Slf4j
+@Service
+public class DirectImageAnalysisService {
+
+    private final S3Service s3Service;
+    private final FastApiClient fastApiClient;
+    private final MediaAnalysisService mediaAnalysisService;
+    private final MediaDeduplicationService mediaDeduplicationService;
+    private final SimilarMediaService similarMediaService;
+    private final MediaDerivativeRunner mediaDerivativeRunner;
+    private final ThreadPoolTaskExecutor mediaIoExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    public DirectImageAnalysisService(S3Service s3Service,
+                                      FastApiClient fastApiClient,
+                                      MediaAnalysisService mediaAnalysisService,
+                                      MediaDeduplicationService mediaDeduplicationService,
+                                      SimilarMediaService similarMediaService,
+                                      MediaDerivativeRunner mediaDerivativeRunner,
+                                      @Qualifier("mediaIoExecutor") ThreadPoolTaskExecutor mediaIoExecutor,
+                                      TransactionTemplate transactionTemplate) {
+        this.s3Service = s3Service;
+        this.fastApiClient = fastApiClient;
+        this.mediaAnalysisService = mediaAnalysisService;
+        this.mediaDeduplicationService = mediaDeduplicationService;
+        this.similarMediaService = similarMediaService;
+        this.mediaDerivativeRunner = mediaDerivativeRunner;
+        this.mediaIoExecutor = mediaIoExecutor;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 이미지를 업로드하고 분석한 뒤 미디어와 분석 결과를 저장합니다.
+     *
+     * @return 처리된 분석 데이터 (mediaId, imageUrl, questions, similarMediaIds 포함)
+     */
+    public Map<String, Object> uploadAndAnalyze(MultipartFile image, User user, Album album, String authToken) {
+        // 분석 요청 전에 파일을 먼저 검증하여 잘못된 파일로 FastAPI를 호출하지 않도록 함
+        s3Service.validateImageFile(image);
+        byte[] content;
+        try {
+            content = image.getBytes();
+        } catch (IOException e) {
+            throw new FileValidationException("이미지 파일을 읽을 수 없습니다");
+        }
+        String filename = image.getOriginalFilename();
+        String contentType = image.getContentType();
+        String contentHash = MediaDeduplicationService.sha256(content);
+        Long perceptualHash = similarMediaService.computeHash(content);
+        long startTime = System.currentTimeMillis();
+
+        // 같은 이미지의 분석 결과가 있으면 업로드와 분석 없이 재사용
+        Optional<Media> analyzed = mediaDeduplicationService.findAnalyzedDuplicate(contentHash);
+        if (analyzed.isPresent()) {
+            String imageUrl = analyzed.get().getFileUrl();
+            Optional<Map<String, Object>> reused = saveShared(imageUrl, () -> mediaAnalysisService.createMediaWithCachedAnalysis(
+                    buildMedia(user, album, imageUrl, filename, contentType, content.length, contentHash, perceptualHash),
+                    analyzed.get().getAnalysisResult()));
+            if (reused.isPresent()) {
+                log.info("같은 이미지의 분석 결과 재사용 - 원본 mediaId: {}", analyzed.get().getId());
+                Map<String, Object> processedResult = reused.get();
+                processedResult.put("imageUrl", imageUrl);
+                addSimilarMedia(processedResult, album, perceptualHash);
+                return processedResult;
+            }
+        }
+
+        // 1. S3 업로드와 FastAPI 분석을 동시에 시작 (같은 이미지가 이미 저장되어 있으면 업로드 생략)
+        Optional<String> storedUrl = mediaDeduplicationService.findStoredFileUrl(contentHash);
+        CompletableFuture<String> uploadFuture = storedUrl
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> CompletableFuture.supplyAsync(
+                        () -> s3Service.uploadAlbumImage(content, filename, contentType, album.getId(), contentHash),
+                        mediaIoExecutor));
+        CompletableFuture<Map<String, Object>> analysisFuture = CompletableFuture.supplyAsync(
+                () -> fastApiClient.analyzeImage(content, filename, authToken), mediaIoExecutor);
+        boolean uploaded = storedUrl.isEmpty();
+
+        // 2. 두 작업이 모두 끝날 때까지 대기 (한쪽이 실패해도 보상 처리를 위해 나머지 완료를 기다림)
+        try {
+            CompletableFuture.allOf(uploadFuture, analysisFuture).join();
+        } catch (CompletionException e) {
+            String uploadedUrl = !uploaded || uploadFuture.isCompletedExceptionally() ? null : uploadFuture.join();
+            compensate(uploadedUrl);
+            throw unwrap(e);
+        }
+
+        String storedOrUploadedUrl = uploadFuture.join();
+        Map<String, Object> analysisResult = analysisFuture.join();
+        log.info("S3 업로드 및 FastAPI 분석 완료 - imageUrl: {}, 소요 시간: {}ms",
+                storedOrUploadedUrl, System.currentTimeMillis() - startTime);
+
+        // 3. 미디어, 키워드, 질문을 하나의 트랜잭션으로 저장
+        // (재사용하는 객체는 참조 행을 잠근 뒤 저장하고, 그사이 참조가 모두 삭제되었으면 새로 업로드해 저장)
+        if (!uploaded) {
+            Optional<Map<String, Object>> reused = saveShared(storedOrUploadedUrl, () -> mediaAnalysisService.createMediaWithAnalysis(
+                    buildMedia(user, album, storedOrUploadedUrl, filename, contentType, content.length, contentHash, perceptualHash),
+                    analysisResult));
+            if (reused.isPresent()) {
+                Map<String, Object> processedResult = reused.get();
+                processedResult.put("imageUrl", storedOrUploadedUrl);
+                addSimilarMedia(processedResult, album, perceptualHash);
+                return processedResult;
+            }
+            log.info("재사용하려던 이미지를 참조하는 미디어가 모두 삭제되어 새로 업로드합니다: {}", storedOrUploadedUrl);
+        }
+        String imageUrl = uploaded
+                ? storedOrUploadedUrl
+                : s3Service.uploadAlbumImage(content, filename, contentType, album.getId(), contentHash);
+        Media media = buildMedia(user, album, imageUrl, filename, contentType, content.length, contentHash, perceptualHash);
+        Map<String, Object> processedResult;
+        try {
+            processedResult = mediaAnalysisService.createMediaWithAnalysis(media, analysisResult);
+        } catch (RuntimeException e) {
+            compensate(imageUrl);
+            throw e;
+        }
+        processedResult.put("imageUrl", imageUrl);
+        addSimilarMedia(processedResult, album, perceptualHash);
+        return processedResult;
+    }
+
+    // 기존 객체를 참조하는 미디어 행을 잠근 트랜잭션에서 저장 (참조가 모두 삭제되었으면 저장하지 않고 빈 값 반환)
+    private Optional<Map<String, Object>> saveShared(String fileUrl, Supplier<Map<String, Object>> save) {
+        return transactionTemplate.execute(status -> mediaDeduplicationService.lockShared(fileUrl)
+                ? Optional.of(save.get())
+                : Optional.empty());
+    }
+
+    // 저장된 미디어를 유사 이미지 인덱스에 등록하고, 중복일 가능성이 높은 그룹 내 미디어 ID를 결과에 추가
+    // (축소 이미지 생성도 이 시점에 요청)
+    private void addSimilarMedia(Map<String, Object> processedResult, Album album, Long perceptualHash) {
+        Long groupId = album.getGroup() != null ? album.getGroup().getId() : null;
+        Long mediaId = (Long) processedResult.get("mediaId");
+        mediaDerivativeRunner.dispatch(mediaId);
+        similarMediaService.register(groupId, mediaId, perceptualHash);
+        processedResult.put("similarMediaIds", similarMediaService.findPossibleDuplicates(groupId, mediaId, perceptualHash));
+    }
+
+    private Media buildMedia(User user, Album album, String imageUrl, String filename, String contentType,
+                             long fileSize, String contentHash, Long perceptualHash) {
+        return Media.builder()
+                .uploadedBy(user)
+                .album(album)
+                .imageUrl(imageUrl)
+                .fileUrl(imageUrl)
+                .fileType(MediaType.fromContentType(contentType))
+                .originalFilename(filename)
+                .fileSize(fileSize)
+                .contentHash(contentHash)
+                .perceptualHash(perceptualHash)
+                .build();
+    }
+
+    // 업로드된 S3 객체 삭제 (보상 처리) - 삭제 실패는 기록만 하고 원래 예외를 우선함
+    private void compensate(String uploadedUrl) {
+        if (uploadedUrl == null) {
+            return;
+        }
+        try {
+            s3Service.deleteImage(uploadedUrl);
+            log.info("분석 실패로 업로드된 이미지를 삭제했습니다: {}", uploadedUrl);
+        } catch (Exception e) {
+            log.error("보상 처리 중 이미지 삭제 실패: {}", uploadedUrl, e);
+        }
+    }
+
+    private RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return e;
+    }
+}
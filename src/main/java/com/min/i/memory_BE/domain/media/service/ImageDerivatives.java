@@ -0,0 +1,226 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 원본 이미지로 목록/미리보기용 축소 이미지(JPEG)를 만듭니다.
+ * 원본 해상도로 디코딩하지 않고 디코더에서 바로 축소(subsampling)한 뒤, 절반씩 줄여 가며 목표 크기로 맞춥니다.
+ * 휴대폰 사진의 EXIF 회전 정보를 반영하고, 투명 배경은 흰색으로 채웁니다.
+ */
+public final class ImageDerivatives {
+
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    private ImageDerivatives() {
+    }
+
+    /**
+     * 긴 변이 각 크기 이하가 되도록 축소한 JPEG를 만듭니다 (원본보다 크게 늘리지 않음).
+     *
+     * @param sizes   긴 변 기준 크기 목록
+     * @param quality JPEG 품질 (0~1)
+     * @return 크기별 JPEG (디코딩할 수 없는 형식이면 null)
+     */
+    public static Map<Integer, byte[]> render(byte[] content, int[] sizes, float quality) throws IOException {
+        int largest = 0;
+        for (int size : sizes) {
+            largest = Math.max(largest, size);
+        }
+        BufferedImage source = decodeReduced(content, largest);
+        if (source == null || source.getWidth() == 0 || source.getHeight() == 0) {
+            return null;
+        }
+        int orientation = readExifOrientation(content);
+
+        Map<Integer, byte[]> rendered = new LinkedHashMap<>();
+        for (int size : sizes) {
+            rendered.put(size, encodeJpeg(orient(scale(source, size), orientation), quality));
+        }
+        return rendered;
+    }
+
+    private static BufferedImage decodeReduced(byte[] content, int targetSize) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            if (stream == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                // 줄인 결과의 긴 변이 목표 크기보다 작아지지 않는 범위에서 건너뜀
+                int step = Math.max(1, longSide / targetSize);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변이 size 이하가 되도록 축소 (절반씩 줄여 한 번에 크게 줄일 때의 계단 현상 방지)
+    private static BufferedImage scale(BufferedImage source, int size) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) size / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage current = source;
+        while (width / 2 >= targetWidth && height / 2 >= targetHeight) {
+            width /= 2;
+            height /= 2;
+            current = draw(current, width, height);
+        }
+        if (current == source || width != targetWidth || height != targetHeight) {
+            current = draw(current, targetWidth, targetHeight);
+        }
+        return current;
+    }
+
+    // 흰 배경의 RGB 이미지로 다시 그림 (JPEG는 투명도를 지원하지 않음)
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // EXIF 회전 정보(1~8)에 맞게 회전/반전
+    private static BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation <= 1 || orientation > 8) {
+            return image;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean swap = orientation >= 5;
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> transform.setTransform(-1, 0, 0, 1, width, 0);
+            case 3 -> transform.setTransform(-1, 0, 0, -1, width, height);
+            case 4 -> transform.setTransform(1, 0, 0, -1, 0, height);
+            case 5 -> transform.setTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> transform.setTransform(0, 1, -1, 0, height, 0);
+            case 7 -> transform.setTransform(0, -1, -1, 0, height, width);
+            default -> transform.setTransform(0, -1, 1, 0, 0, width);
+        }
+
+        BufferedImage target = new BufferedImage(swap ? height : width, swap ? width : height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * JPEG의 EXIF(APP1) 세그먼트에서 회전 정보를 읽습니다.
+     *
+     * @return 회전 정보 (1~8, 없거나 JPEG가 아니면 1)
+     */
+    static int readExifOrientation(byte[] content) {
+        if (content.length < 4 || (content[0] & 0xff) != 0xFF || (content[1] & 0xff) != 0xD8) {
+            return 1;
+        }
+        int position = 2;
+        while (position + 4 <= content.length && (content[position] & 0xff) == 0xFF) {
+            int marker = content[position + 1] & 0xff;
+            if (marker == 0xDA || marker == 0xD9) {
+                break;
+            }
+            int length = readUnsignedShort(content, position + 2, true);
+            int segment = position + 4;
+            if (marker == 0xE1 && segment + 6 <= content.length
+                    && content[segment] == 'E' && content[segment + 1] == 'x' && content[segment + 2] == 'i'
+                    && content[segment + 3] == 'f' && content[segment + 4] == 0 && content[segment + 5] == 0) {
+                return readTiffOrientation(content, segment + 6, Math.min(content.length, position + 2 + length));
+            }
+            position += 2 + length;
+        }
+        return 1;
+    }
+
+    private static int readTiffOrientation(byte[] content, int tiff, int end) {
+        if (tiff + 8 > end) {
+            return 1;
+        }
+        boolean bigEndian = content[tiff] == 'M' && content[tiff + 1] == 'M';
+        long ifdOffset = readUnsignedInt(content, tiff + 4, bigEndian);
+        if (ifdOffset < 8 || ifdOffset > end - tiff - 2) {
+            return 1;
+        }
+        int ifd = tiff + (int) ifdOffset;
+        int entries = readUnsignedShort(content, ifd, bigEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (readUnsignedShort(content, entry, bigEndian) == EXIF_ORIENTATION_TAG) {
+                return readUnsignedShort(content, entry + 8, bigEndian);
+            }
+        }
+        return 1;
+    }
+
+    private static int readUnsignedShort(byte[] content, int offset, boolean bigEndian) {
+        int first = content[offset] & 0xff;
+        int second = content[offset + 1] & 0xff;
+        return bigEndian ? (first << 8) | second : (second << 8) | first;
+    }
+
+    private static long readUnsignedInt(byte[] content, int offset, boolean bigEndian) {
+        long high = readUnsignedShort(content, offset, bigEndian);
+        long low = readUnsignedShort(content, offset + 2, bigEndian);
+        return bigEndian ? (high << 16) | low : (low << 16) | high;
+    }
+}
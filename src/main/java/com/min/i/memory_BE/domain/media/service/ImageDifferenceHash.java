@@ -0,0 +1,118 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 이미지 차이 해시 (dHash, 64bit)
+ * 이미지를 9x8 회색조 격자로 줄인 뒤, 가로로 이웃한 칸의 밝기 비교 결과 64개를 비트로 만듭니다.
+ * 재압축, 크기 변경, 약한 보정에는 해시가 거의 바뀌지 않으므로 해밍 거리로 비슷한 사진을 찾을 수 있습니다.
+ *
+ * 원본 해상도로 디코딩하지 않고, 디코더에서 바로 축소(subsampling)하여 큰 사진도 빠르게 처리합니다.
+ */
+public final class ImageDifferenceHash {
+
+    private static final int GRID_WIDTH = 9;
+    private static final int GRID_HEIGHT = 8;
+
+    // 디코딩 시 긴 변 기준 목표 크기 (격자 평균에 충분한 해상도)
+    private static final int DECODE_SIZE = 256;
+
+    private ImageDifferenceHash() {
+    }
+
+    /**
+     * @return 64bit dHash (디코딩할 수 없는 형식이면 null)
+     */
+    public static Long compute(byte[] content) {
+        try {
+            return compute(new ByteArrayInputStream(content));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return 64bit dHash (디코딩할 수 없는 형식이면 null)
+     */
+    public static Long compute(InputStream input) throws IOException {
+        BufferedImage image = decodeReduced(input);
+        if (image == null || image.getWidth() == 0 || image.getHeight() == 0) {
+            return null;
+        }
+        return hash(image);
+    }
+
+    /**
+     * 두 해시의 해밍 거리 (다른 비트 수, 0~64)
+     */
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static BufferedImage decodeReduced(InputStream input) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(input)) {
+            if (stream == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longSide / DECODE_SIZE);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static long hash(BufferedImage image) {
+        double[] cells = new double[GRID_WIDTH * GRID_HEIGHT];
+        int[] counts = new int[GRID_WIDTH * GRID_HEIGHT];
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] row = new int[width];
+
+        // 칸별 평균 밝기 (작은 이미지는 칸이 겹치지 않도록 픽셀을 가장 가까운 칸에 배정)
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            int cellY = y * GRID_HEIGHT / height;
+            for (int x = 0; x < width; x++) {
+                int rgb = row[x];
+                double luminance = 0.299 * ((rgb >> 16) & 0xff) + 0.587 * ((rgb >> 8) & 0xff) + 0.114 * (rgb & 0xff);
+                int cell = cellY * GRID_WIDTH + x * GRID_WIDTH / width;
+                cells[cell] += luminance;
+                counts[cell]++;
+            }
+        }
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = counts[i] == 0 ? 0 : cells[i] / counts[i];
+        }
+
+        long hash = 0;
+        for (int y = 0; y < GRID_HEIGHT; y++) {
+            for (int x = 0; x < GRID_WIDTH - 1; x++) {
+                hash <<= 1;
+                if (cells[y * GRID_WIDTH + x] > cells[y * GRID_WIDTH + x + 1]) {
+                    hash |= 1;
+                }
+            }
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,143 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import com.min.i.memory_BE.domain.media.dto.KeywordIdProjection;
+import com.min.i.memory_BE.domain.media.enums.KeywordCategory;
+import com.min.i.memory_BE.domain.media.repository.KeywordJdbcRepository;
+import com.min.i.memory_BE.domain.media.repository.KeywordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키워드 사전 서비스
+ * 키워드 이름 -> id 매핑을 메모리에 상주시켜, 분석 결과의 키워드를 DB 조회 없이 id로 변환합니다.
+ * 새 키워드는 배치로 저장하며, 다른 요청과 동시에 같은 이름을 저장하는 경우(unique 제약 위반)에도 안전하게 처리합니다.
+ * 저장과 재조회는 호출한 트랜잭션과 분리된 새 트랜잭션에서 실행하므로,
+ * 호출한 트랜잭션의 스냅샷(REPEATABLE READ)에 보이지 않는, 다른 요청이 방금 커밋한 키워드도 찾을 수 있습니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class KeywordDictionaryService {
+
+    private final KeywordRepository keywordRepository;
+    private final KeywordJdbcRepository keywordJdbcRepository;
+    private final TransactionTemplate requiresNew;
+    private final TransactionTemplate readOnlyRequiresNew;
+
+    // 정규화된 키워드 이름 -> 키워드 id (커밋된 키워드만 보관)
+    private final Map<String, Long> keywordIds = new ConcurrentHashMap<>();
+
+    public KeywordDictionaryService(KeywordRepository keywordRepository,
+                                    KeywordJdbcRepository keywordJdbcRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.keywordRepository = keywordRepository;
+        this.keywordJdbcRepository = keywordJdbcRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyRequiresNew = new TransactionTemplate(transactionManager);
+        this.readOnlyRequiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyRequiresNew.setReadOnly(true);
+    }
+
+    /**
+     * 애플리케이션 시작 시 키워드 사전을 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<KeywordIdProjection> keywords = keywordRepository.findAllIdAndName();
+        keywords.forEach(keyword -> keywordIds.put(normalize(keyword.getName()), keyword.getId()));
+        log.info("키워드 사전 적재 완료: {}개", keywordIds.size());
+    }
+
+    /**
+     * 키워드 이름들을 id로 변환합니다. 사전에 없는 키워드는 새로 저장합니다.
+     * 새 키워드는 별도 트랜잭션에서 바로 커밋되므로, 호출한 트랜잭션이 롤백되어도 사전에 남습니다.
+     *
+     * @param keywords 키워드 이름별 카테고리
+     * @return 키워드 이름별 id
+     */
+    @Transactional
+    public Map<String, Long> resolveIds(Map<String, KeywordCategory> keywords) {
+        // 1. 정규화된 이름 기준으로 중복을 제거하고 사전에서 조회
+        Map<String, String> nameByNormalized = new LinkedHashMap<>();
+        keywords.keySet().forEach(name -> nameByNormalized.putIfAbsent(normalize(name), name));
+
+        Map<String, Long> idByNormalized = new HashMap<>();
+        Map<String, KeywordCategory> missing = new LinkedHashMap<>();
+        nameByNormalized.forEach((normalized, name) -> {
+            Long id = keywordIds.get(normalized);
+            if (id != null) {
+                idByNormalized.put(normalized, id);
+            } else {
+                missing.put(name, keywords.get(name));
+            }
+        });
+
+        if (!missing.isEmpty()) {
+            // 2. 다른 인스턴스/요청이 이미 저장했을 수 있으므로 DB에서 한 번 조회
+            Map<String, Long> found = findIdsByNames(missing);
+            missing.keySet().removeIf(name -> found.containsKey(normalize(name)));
+
+            // 3. 남은 키워드를 새 트랜잭션에서 저장하고, 커밋 후 또 다른 새 트랜잭션에서 id 조회
+            if (!missing.isEmpty()) {
+                insertKeywords(missing);
+                found.putAll(readOnlyRequiresNew.execute(status -> findIdsByNames(missing)));
+            }
+
+            idByNormalized.putAll(found);
+            keywordIds.putAll(found);
+        }
+
+        Map<String, Long> resolved = new LinkedHashMap<>();
+        keywords.keySet().forEach(name -> {
+            Long id = idByNormalized.get(normalize(name));
+            if (id != null) {
+                resolved.put(name, id);
+            }
+        });
+        return resolved;
+    }
+
+    // 배치로 저장하고, 동시 저장으로 unique 제약 위반 시(배치 트랜잭션은 롤백됨) 건별 트랜잭션으로 재시도
+    private void insertKeywords(Map<String, KeywordCategory> keywords) {
+        try {
+            requiresNew.executeWithoutResult(status -> keywordJdbcRepository.batchInsertKeywords(keywords));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("키워드 배치 저장 중 중복 발생, 건별 저장으로 재시도: {}", e.getMessage());
+            keywords.forEach((name, category) -> {
+                try {
+                    requiresNew.executeWithoutResult(status -> keywordJdbcRepository.insertKeyword(name, category));
+                } catch (DataIntegrityViolationException duplicate) {
+                    log.debug("이미 저장된 키워드: {}", name);
+                }
+            });
+        }
+    }
+
+    // DB에서 이름으로 id 조회 (정규화된 이름 기준)
+    private Map<String, Long> findIdsByNames(Map<String, KeywordCategory> keywords) {
+        Map<String, Long> found = new HashMap<>();
+        keywordRepository.findIdAndNameByNameIn(keywords.keySet())
+                .forEach(keyword -> found.put(normalize(keyword.getName()), keyword.getId()));
+        return found;
+    }
+
+    // DB의 unique 비교(대소문자, 앞뒤 공백 무시)와 같은 기준으로 이름 정규화
+    private String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
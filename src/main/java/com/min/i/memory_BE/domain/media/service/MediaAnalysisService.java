@@ -1,15 +1,14 @@
 package com.min.i.memory_BE.domain.media.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.min.i.memory_BE.domain.album.entity.Album;
 import com.min.i.memory_BE.domain.album.entity.Question;
 import com.min.i.memory_BE.domain.album.enums.QuestionTheme;
 import com.min.i.memory_BE.domain.album.repository.QuestionRepository;
-import com.min.i.memory_BE.domain.media.entity.Keyword;
 import com.min.i.memory_BE.domain.media.entity.Media;
-import com.min.i.memory_BE.domain.media.entity.MediaKeyword;
 import com.min.i.memory_BE.domain.media.enums.KeywordCategory;
-import com.min.i.memory_BE.domain.media.repository.KeywordRepository;
+import com.min.i.memory_BE.domain.media.repository.KeywordJdbcRepository;
 import com.min.i.memory_BE.domain.media.repository.MediaKeywordRepository;
 import com.min.i.memory_BE.domain.media.repository.MediaRepository;
 import com.min.i.memory_BE.domain.user.entity.User;
@@ -21,12 +20,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -35,8 +38,9 @@ import java.util.Optional;
 public class MediaAnalysisService {
 
     private final MediaRepository mediaRepository;
-    private final KeywordRepository keywordRepository;
     private final MediaKeywordRepository mediaKeywordRepository;
+    private final KeywordJdbcRepository keywordJdbcRepository;
+    private final KeywordDictionaryService keywordDictionaryService;
     private final QuestionRepository questionRepository;
     private final ObjectMapper objectMapper;
     private final FastApiClient fastApiClient;
@@ -79,6 +83,56 @@ public class MediaAnalysisService {
         return mediaRepository.save(media);
     }
     
+    /**
+     * 업로드와 분석이 모두 끝난 미디어를 저장하고 분석 결과를 처리합니다.
+     * 미디어, 키워드, 질문 저장이 하나의 트랜잭션으로 처리되므로 실패 시 모두 롤백됩니다.
+     * @return 처리된 분석 데이터 (mediaId 포함)
+     */
+    @Transactional
+    public Map<String, Object> createMediaWithAnalysis(Media media, Map<String, Object> analysisData) {
+        Media savedMedia = mediaRepository.save(media);
+        Map<String, Object> processedResult = new HashMap<>(processAnalysisResult(savedMedia.getId(), analysisData));
+        processedResult.put("mediaId", savedMedia.getId());
+        return processedResult;
+    }
+    
+    /**
+     * 같은 이미지의 저장된 분석 결과로 미디어를 저장합니다 (FastAPI 호출 없음).
+     * @return 처리된 분석 데이터 (mediaId 포함)
+     */
+    @Transactional
+    public Map<String, Object> createMediaWithCachedAnalysis(Media media, String cachedAnalysisJson) {
+        return createMediaWithAnalysis(media, parseAnalysis(cachedAnalysisJson));
+    }
+    
+    /**
+     * 같은 내용의 이미지가 이미 분석되어 있으면 그 분석 결과(키워드, 질문)를 이 미디어에 복사합니다.
+     * @return 처리된 분석 데이터 (재사용할 분석 결과가 없으면 empty - FastAPI 분석 필요)
+     */
+    @Transactional
+    public Optional<Map<String, Object>> reuseCachedAnalysis(Long mediaId) {
+        Media media = mediaRepository.findById(mediaId)
+                .orElseThrow(() -> new EntityNotFoundException("미디어를 찾을 수 없습니다: " + mediaId));
+        if (media.getContentHash() == null) {
+            return Optional.empty();
+        }
+        
+        return mediaRepository.findFirstByContentHashAndAnalysisResultIsNotNullOrderByIdDesc(media.getContentHash())
+                .filter(source -> !source.getId().equals(mediaId))
+                .map(source -> {
+                    log.info("같은 이미지의 분석 결과 재사용: mediaId={}, 원본 mediaId={}", mediaId, source.getId());
+                    return processAnalysisResult(mediaId, parseAnalysis(source.getAnalysisResult()));
+                });
+    }
+    
+    private Map<String, Object> parseAnalysis(String analysisJson) {
+        try {
+            return objectMapper.readValue(analysisJson, new TypeReference<Map<String, Object>>() {});
+        } catch (IOException e) {
+            throw new IllegalStateException("저장된 분석 결과를 읽을 수 없습니다", e);
+        }
+    }
+    
     /**
      * FastAPI로부터 받은 분석 결과 처리
      * @return 생성된 질문 리스트와 함께 업데이트된 분석 데이터
@@ -124,8 +178,13 @@ public class MediaAnalysisService {
     
     /**
      * FastAPI 분석 결과에서 키워드를 추출하여 저장합니다.
+     * 키워드 id는 키워드 사전에서 한 번에 변환하고, 미디어-키워드 연결은 한 번의 배치로 저장합니다.
      */
     private void processKeywordsFromAnalysisResult(Media media, Map<String, Object> analysisResult) {
+        // 키워드 이름별 카테고리와 신뢰도 점수 (같은 키워드가 여러 번 나오면 가장 높은 점수 사용)
+        Map<String, KeywordCategory> categories = new LinkedHashMap<>();
+        Map<String, Float> scores = new HashMap<>();
+        
         // labels 처리
         if (analysisResult.containsKey("labels")) {
             List<Map<String, Object>> labels = (List<Map<String, Object>>) analysisResult.get("labels");
@@ -133,11 +192,8 @@ public class MediaAnalysisService {
                 String description = (String) label.get("description");
                 float score = ((Number) label.get("score")).floatValue();
                 
-                // 키워드 저장 또는 조회
-                Keyword keyword = findOrCreateKeyword(description, determineCategory(description));
-                
-                // MediaKeyword 저장
-                createMediaKeyword(media, keyword, score);
+                categories.putIfAbsent(description, determineCategory(description));
+                scores.merge(description, score, Math::max);
             }
         }
         
@@ -148,46 +204,31 @@ public class MediaAnalysisService {
                 String name = (String) object.get("name");
                 float score = ((Number) object.get("score")).floatValue();
                 
-                // 키워드 저장 또는 조회
-                Keyword keyword = findOrCreateKeyword(name, KeywordCategory.OBJECT);
-                
-                // MediaKeyword 저장
-                createMediaKeyword(media, keyword, score);
+                categories.putIfAbsent(name, KeywordCategory.OBJECT);
+                scores.merge(name, score, Math::max);
             }
         }
-    }
-    
-    /**
-     * 키워드를 찾거나 새로 생성합니다.
-     */
-    private Keyword findOrCreateKeyword(String name, KeywordCategory category) {
-        return keywordRepository.findByName(name)
-                .orElseGet(() -> {
-                    Keyword newKeyword = Keyword.builder()
-                            .name(name)
-                            .category(category)
-                            .build();
-                    return keywordRepository.save(newKeyword);
-                });
-    }
-    
-    /**
-     * MediaKeyword를 생성합니다.
-     */
-    private void createMediaKeyword(Media media, Keyword keyword, float confidenceScore) {
-        // 이미 존재하는지 확인
-        Optional<MediaKeyword> existingMediaKeyword = mediaKeywordRepository
-                .findByMediaAndKeyword(media, keyword);
         
-        if (existingMediaKeyword.isEmpty()) {
-            MediaKeyword mediaKeyword = MediaKeyword.builder()
-                    .media(media)
-                    .keyword(keyword)
-                    .confidenceScore(confidenceScore)
-                    .build();
-            
-            mediaKeywordRepository.save(mediaKeyword);
-            media.addMediaKeyword(mediaKeyword);
+        if (categories.isEmpty()) {
+            return;
+        }
+        
+        // 키워드 이름 -> id 변환 (사전에 없는 키워드만 저장)
+        Map<String, Long> keywordIds = keywordDictionaryService.resolveIds(categories);
+        
+        // 이미 연결된 키워드는 제외 (같은 미디어의 분석 결과가 다시 처리되는 경우)
+        Set<Long> linkedKeywordIds = new HashSet<>(mediaKeywordRepository.findKeywordIdsByMediaId(media.getId()));
+        Map<Long, Float> confidenceByKeywordId = new LinkedHashMap<>();
+        keywordIds.forEach((name, keywordId) -> {
+            if (!linkedKeywordIds.contains(keywordId)) {
+                confidenceByKeywordId.merge(keywordId, scores.get(name), Math::max);
+            }
+        });
+        
+        if (!confidenceByKeywordId.isEmpty()) {
+            // JDBC 배치가 미디어 행을 참조하므로 미디어가 DB에 반영되어 있어야 함
+            mediaRepository.flush();
+            keywordJdbcRepository.batchInsertMediaKeywords(media.getId(), confidenceByKeywordId);
         }
     }
     
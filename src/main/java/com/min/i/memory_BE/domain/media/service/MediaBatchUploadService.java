@@ -0,0 +1,225 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import com.min.i.memory_BE.domain.album.entity.Album;
+import com.min.i.memory_BE.domain.album.repository.AlbumRepository;
+import com.min.i.memory_BE.domain.group.service.GroupMembershipService;
+import com.min.i.memory_BE.domain.media.dto.response.MediaBatchUploadResponseDto;
+import com.min.i.memory_BE.domain.media.dto.response.MediaResponseDto;
+import com.min.i.memory_BE.domain.media.entity.Media;
+import com.min.i.memory_BE.domain.media.enums.MediaType;
+import com.min.i.memory_BE.domain.media.repository.MediaRepository;
+import com.min.i.memory_BE.domain.user.entity.User;
+import com.min.i.memory_BE.global.error.exception.ApiException;
+import com.min.i.memory_BE.global.error.exception.EntityNotFoundException;
+import com.min.i.memory_BE.global.error.exception.FileValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 미디어 일괄 업로드
+ * 그룹 멤버십과 앨범은 한 번만 확인하고, 파일별 S3 업로드는 크기가 제한된 실행기에서 병렬로 처리합니다.
+ * 업로드에 성공한 파일의 미디어는 한 트랜잭션에서 배치 INSERT로 저장하며, 실패한 파일은 결과에 사유만 남기고 나머지는 계속 진행합니다.
+ * 해시 조회와 S3 업로드는 트랜잭션 없이 실행하므로, 업로드하는 동안 DB 연결을 붙잡지 않습니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class MediaBatchUploadService {
+
+    private final MediaRepository mediaRepository;
+    private final AlbumRepository albumRepository;
+    private final GroupMembershipService groupMembershipService;
+    private final MediaDeduplicationService mediaDeduplicationService;
+    private final SimilarMediaService similarMediaService;
+    private final MediaDerivativeRunner mediaDerivativeRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor mediaUploadExecutor;
+    private final int maxFiles;
+
+    public MediaBatchUploadService(MediaRepository mediaRepository,
+                                   AlbumRepository albumRepository,
+                                   GroupMembershipService groupMembershipService,
+                                   MediaDeduplicationService mediaDeduplicationService,
+                                   SimilarMediaService similarMediaService,
+                                   MediaDerivativeRunner mediaDerivativeRunner,
+                                   TransactionTemplate transactionTemplate,
+                                   @Qualifier("mediaUploadExecutor") ThreadPoolTaskExecutor mediaUploadExecutor,
+                                   @Value("${media.batch-upload.max-files:50}") int maxFiles) {
+        this.mediaRepository = mediaRepository;
+        this.albumRepository = albumRepository;
+        this.groupMembershipService = groupMembershipService;
+        this.mediaDeduplicationService = mediaDeduplicationService;
+        this.similarMediaService = similarMediaService;
+        this.mediaDerivativeRunner = mediaDerivativeRunner;
+        this.transactionTemplate = transactionTemplate;
+        this.mediaUploadExecutor = mediaUploadExecutor;
+        this.maxFiles = maxFiles;
+    }
+
+    /**
+     * 여러 파일을 업로드합니다. 결과는 요청한 파일 순서대로 파일별 성공 여부와 미디어(또는 실패 사유)를 담습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MediaBatchUploadResponseDto uploadBatch(List<MultipartFile> files, Long groupId, Long albumId, User user) {
+        if (files == null || files.isEmpty()) {
+            throw new FileValidationException("업로드할 파일이 없습니다");
+        }
+        if (files.size() > maxFiles) {
+            throw new FileValidationException("한 번에 최대 " + maxFiles + "개까지 업로드할 수 있습니다");
+        }
+
+        // 1. 권한 확인 (한 번만)
+        if (!groupMembershipService.isMember(user.getId(), groupId)) {
+            throw new EntityNotFoundException("User is not a member of this group");
+        }
+        albumRepository.findByIdAndGroupId(albumId, groupId)
+                .orElseThrow(() -> new EntityNotFoundException("Album not found in group"));
+
+        // 2. S3 업로드 병렬 실행 (같은 내용의 이미지가 이미 있으면 기존 객체 재사용)
+        List<CompletableFuture<StoredFile>> uploads = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> store(file, albumId), mediaUploadExecutor))
+                .toList();
+
+        StoredFile[] stored = new StoredFile[files.size()];
+        String[] errors = new String[files.size()];
+        for (int i = 0; i < uploads.size(); i++) {
+            try {
+                stored[i] = uploads.get(i).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                errors[i] = cause instanceof ApiException ? cause.getMessage() : "파일 업로드 중 오류가 발생했습니다";
+                log.warn("일괄 업로드 파일 실패 - index: {}, file: {}, {}", i, files.get(i).getOriginalFilename(), cause.getMessage());
+            }
+        }
+
+        // 3. 성공한 파일의 미디어를 한 트랜잭션에서 배치 저장
+        List<Media> saved = List.of();
+        List<MediaResponseDto> savedDtos = List.of();
+        List<Integer> storedIndexes = storedIndexes(stored);
+        while (!storedIndexes.isEmpty()) {
+            // 재사용하는 객체는 저장 트랜잭션에서 참조 행을 잠금 - 그사이 참조가 모두 삭제된 파일은 새로 업로드한 뒤 다시 저장
+            List<Integer> lost = new ArrayList<>();
+            List<Integer> indexes = storedIndexes;
+            List<Media> mediaList;
+            try {
+                mediaList = transactionTemplate.execute(status -> {
+                    indexes.stream()
+                            .filter(index -> stored[index].reused() && !mediaDeduplicationService.lockShared(stored[index].fileUrl()))
+                            .forEach(lost::add);
+                    if (!lost.isEmpty()) {
+                        return null;
+                    }
+                    Album album = albumRepository.getReferenceById(albumId);
+                    List<Media> result = mediaRepository.saveAll(indexes.stream()
+                            .map(index -> Media.builder()
+                                    .fileUrl(stored[index].fileUrl())
+                                    .fileType(MediaType.IMAGE)
+                                    .originalFilename(files.get(index).getOriginalFilename())
+                                    .fileSize(files.get(index).getSize())
+                                    .contentHash(stored[index].contentHash())
+                                    .perceptualHash(stored[index].perceptualHash())
+                                    .album(album)
+                                    .uploadedBy(user)
+                                    .build())
+                            .toList());
+                    result.forEach(media -> mediaDerivativeRunner.dispatchAfterCommit(media.getId()));
+                    return result;
+                });
+            } catch (RuntimeException e) {
+                // 저장 실패 시 이번 요청에서 올린 객체 정리 (다른 미디어가 참조하는 기존 객체는 유지)
+                storedIndexes.stream()
+                        .filter(index -> !stored[index].reused())
+                        .forEach(index -> releaseQuietly(stored[index].fileUrl()));
+                throw e;
+            }
+            if (lost.isEmpty()) {
+                saved = mediaList;
+                savedDtos = mediaList.stream().map(MediaResponseDto::from).toList();
+                break;
+            }
+            for (Integer index : lost) {
+                log.info("재사용하려던 이미지를 참조하는 미디어가 모두 삭제되어 새로 업로드합니다: {}", stored[index].fileUrl());
+                try {
+                    stored[index] = stored[index].withImage(mediaDeduplicationService.upload(
+                            files.get(index), albumId, stored[index].contentHash()));
+                } catch (RuntimeException e) {
+                    stored[index] = null;
+                    errors[index] = e instanceof ApiException ? e.getMessage() : "파일 업로드 중 오류가 발생했습니다";
+                    log.warn("일괄 업로드 파일 실패 - index: {}, file: {}, {}", index, files.get(index).getOriginalFilename(), e.getMessage());
+                }
+            }
+            storedIndexes = storedIndexes(stored);
+        }
+        for (Media media : saved) {
+            similarMediaService.register(groupId, media.getId(), media.getPerceptualHash());
+        }
+
+        // 4. 파일별 결과 (요청 순서)
+        List<MediaBatchUploadResponseDto.Result> results = new ArrayList<>(files.size());
+        int savedPosition = 0;
+        for (int i = 0; i < files.size(); i++) {
+            MediaBatchUploadResponseDto.Result.ResultBuilder result = MediaBatchUploadResponseDto.Result.builder()
+                    .index(i)
+                    .originalFilename(files.get(i).getOriginalFilename());
+            if (stored[i] != null) {
+                result.success(true).media(savedDtos.get(savedPosition++));
+            } else {
+                result.success(false).error(errors[i]);
+            }
+            results.add(result.build());
+        }
+
+        int succeeded = storedIndexes.size();
+        log.info("일괄 업로드 완료 - albumId: {}, 요청 {}건, 성공 {}건", albumId, files.size(), succeeded);
+        return MediaBatchUploadResponseDto.builder()
+                .requested(files.size())
+                .succeeded(succeeded)
+                .failed(files.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+    // 파일 하나 검증, 해시 계산, S3 업로드 (업로드 실행기에서 트랜잭션 없이 실행)
+    private StoredFile store(MultipartFile file, Long albumId) {
+        String contentHash = mediaDeduplicationService.sha256(file);
+        MediaDeduplicationService.StoredImage image = mediaDeduplicationService.store(file, albumId, contentHash);
+        return new StoredFile(image.fileUrl(), image.reused(), contentHash, similarMediaService.computeHash(file));
+    }
+
+    private static List<Integer> storedIndexes(StoredFile[] stored) {
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < stored.length; i++) {
+            if (stored[i] != null) {
+                indexes.add(i);
+            }
+        }
+        return indexes;
+    }
+
+    private void releaseQuietly(String fileUrl) {
+        try {
+            mediaDeduplicationService.releaseFile(fileUrl);
+        } catch (Exception e) {
+            log.warn("일괄 업로드 객체 정리 실패: {}", fileUrl);
+        }
+    }
+
+    private record StoredFile(String fileUrl, boolean reused, String contentHash, Long perceptualHash) {
+
+        StoredFile withImage(MediaDeduplicationService.StoredImage image) {
+            return new StoredFile(image.fileUrl(), image.reused(), contentHash, perceptualHash);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import com.min.i.memory_BE.domain.media.entity.Media;
+import com.min.i.memory_BE.domain.media.repository.MediaRepository;
+import com.min.i.memory_BE.global.error.exception.FileValidationException;
+import com.min.i.memory_BE.global.service.S3Service;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 내용 해시(SHA-256) 기반 미디어 중복 제거
+ * 같은 사진이 여러 번 업로드되면 기존 S3 객체를 재사용하고, 분석이 끝난 미디어가 있으면 그 분석 결과를 재사용합니다.
+ * 하나의 S3 객체를 여러 미디어가 참조할 수 있으므로, 객체는 참조하는 미디어가 없을 때만 삭제합니다.
+ * 해시 조회와 S3 업로드는 트랜잭션 밖에서 하여 업로드하는 동안 DB 연결을 붙잡지 않습니다.
+ * 재사용하는 객체는 새 미디어를 저장하는 트랜잭션에서 참조 행을 잠그고(lockShared), 삭제(releaseFile)는 미디어 삭제가
+ * 커밋된 뒤 참조 수를 확인하므로 재사용 중인 객체를 동시에 삭제하지 않습니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class MediaDeduplicationService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final MediaRepository mediaRepository;
+    private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyRequiresNew;
+
+    /**
+     * 저장한 이미지
+     *
+     * @param fileUrl S3 URL
+     * @param reused  기존 객체를 재사용했는지 (미디어를 저장하는 트랜잭션에서 lockShared로 참조를 확인해야 함)
+     */
+    public record StoredImage(String fileUrl, boolean reused) {
+    }
+
+    public MediaDeduplicationService(MediaRepository mediaRepository,
+                                     S3Service s3Service,
+                                     PlatformTransactionManager transactionManager) {
+        this.mediaRepository = mediaRepository;
+        this.s3Service = s3Service;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyRequiresNew = new TransactionTemplate(transactionManager);
+        this.readOnlyRequiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyRequiresNew.setReadOnly(true);
+    }
+
+    /**
+     * 메모리에 있는 파일 내용의 SHA-256을 16진수 문자열로 계산합니다.
+     */
+    public static String sha256(byte[] content) {
+        return HexFormat.of().formatHex(newDigest().digest(content));
+    }
+
+    /**
+     * 업로드 파일을 스트림으로 읽으며 SHA-256을 계산합니다 (파일 전체를 메모리에 올리지 않음).
+     */
+    public String sha256(MultipartFile file) {
+        MessageDigest digest = newDigest();
+        try (InputStream input = new DigestInputStream(file.getInputStream(), digest)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (input.read(buffer) != -1) {
+                // DigestInputStream이 읽은 내용을 해시에 반영
+            }
+        } catch (IOException e) {
+            throw new FileValidationException("이미지 파일을 읽을 수 없습니다");
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 같은 내용의 이미지 중 분석 결과를 재사용할 수 있는 미디어를 조회합니다.
+     */
+    public Optional<Media> findAnalyzedDuplicate(String contentHash) {
+        return mediaRepository.findFirstByContentHashAndAnalysisResultIsNotNullOrderByIdDesc(contentHash);
+    }
+
+    /**
+     * 같은 내용의 이미지가 이미 저장되어 있으면 그 S3 URL을 반환합니다.
+     */
+    public Optional<String> findStoredFileUrl(String contentHash) {
+        return mediaRepository.findFirstByContentHashOrderByIdDesc(contentHash)
+                .map(Media::getFileUrl)
+                .filter(fileUrl -> !fileUrl.isEmpty());
+    }
+
+    /**
+     * 앨범 이미지를 저장합니다. 같은 내용의 이미지가 이미 있으면 업로드하지 않고 기존 URL을 반환합니다.
+     * 트랜잭션 없이 실행되며, 재사용한 경우 미디어를 저장하는 트랜잭션에서 lockShared를 호출해야 합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StoredImage store(MultipartFile file, Long albumId, String contentHash) {
+        s3Service.validateImageFile(file);
+        Optional<String> storedFileUrl = findStoredFileUrl(contentHash);
+        if (storedFileUrl.isPresent()) {
+            log.info("같은 이미지가 이미 저장되어 있어 업로드를 생략합니다: {}", storedFileUrl.get());
+            return new StoredImage(storedFileUrl.get(), true);
+        }
+        return upload(file, albumId, contentHash);
+    }
+
+    /**
+     * 중복 여부와 관계없이 새 객체로 업로드합니다 (재사용하려던 객체의 참조가 사라진 경우).
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StoredImage upload(MultipartFile file, Long albumId, String contentHash) {
+        return new StoredImage(s3Service.uploadAlbumImage(file, albumId, contentHash), false);
+    }
+
+    /**
+     * 재사용할 객체를 참조하는 미디어 행을 현재 트랜잭션이 끝날 때까지 잠급니다.
+     * 새 미디어를 저장하는 트랜잭션 안에서 호출하면, 저장이 커밋되기 전에 기존 미디어가 삭제되어 객체까지 지워지는 일이 없습니다.
+     *
+     * @return 참조하는 미디어가 남아 있으면 true (false면 객체가 삭제되었거나 곧 삭제되므로 재사용하면 안 됨)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean lockShared(String fileUrl) {
+        return !mediaRepository.findByFileUrlForShare(fileUrl, PageRequest.of(0, 1)).isEmpty();
+    }
+
+    /**
+     * 이미지를 저장(재사용 또는 업로드)하고, 그 URL로 save를 짧은 트랜잭션에서 실행합니다.
+     * 재사용하는 객체는 같은 트랜잭션에서 참조 행을 잠근 뒤 저장하며, 그사이 참조가 모두 삭제되었으면 새로 업로드해 다시 저장합니다.
+     * 저장이 실패하면 이번에 업로드한 객체를 정리합니다.
+     *
+     * @param save 미디어 저장 (S3 URL을 받아 트랜잭션 안에서 실행)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public <T> T storeAndSave(MultipartFile file, Long albumId, String contentHash, Function<String, T> save) {
+        StoredImage stored = store(file, albumId, contentHash);
+        if (stored.reused()) {
+            Optional<T> saved = transactionTemplate.execute(status -> mediaRepository
+                    .findByFileUrlForShare(stored.fileUrl(), PageRequest.of(0, 1)).isEmpty()
+                    ? Optional.empty()
+                    : Optional.of(save.apply(stored.fileUrl())));
+            if (saved.isPresent()) {
+                return saved.get();
+            }
+            log.info("재사용하려던 이미지를 참조하는 미디어가 모두 삭제되어 새로 업로드합니다: {}", stored.fileUrl());
+        }
+
+        String fileUrl = stored.reused() ? upload(file, albumId, contentHash).fileUrl() : stored.fileUrl();
+        try {
+            return transactionTemplate.execute(status -> save.apply(fileUrl));
+        } catch (RuntimeException e) {
+            releaseFile(fileUrl);
+            throw e;
+        }
+    }
+
+    /**
+     * 미디어가 참조하던 S3 객체를 다른 미디어가 참조하지 않으면 삭제합니다.
+     * 미디어 행을 삭제(flush)한 뒤 호출해야 하며, 트랜잭션 안에서 호출하면 커밋 이후에 확인하고 삭제합니다.
+     */
+    public void releaseFile(String fileUrl) {
+        releaseFile(fileUrl, List.of());
+    }
+
+    /**
+     * 원본과 그 축소 이미지를 다른 미디어가 참조하지 않으면 함께 삭제합니다.
+     * 축소 이미지는 같은 원본을 참조하는 미디어끼리 공유하므로 원본의 참조 수를 기준으로 판단합니다.
+     * 트랜잭션 안에서 호출하면 롤백 시 객체가 남도록 커밋 이후에 실행합니다.
+     */
+    public void releaseFile(String fileUrl, Collection<String> derivedUrls) {
+        if (fileUrl == null || fileUrl.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(fileUrl, derivedUrls);
+            return;
+        }
+        List<String> derived = derivedUrls.stream().filter(derivedUrl -> derivedUrl != null).toList();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    release(fileUrl, derived);
+                } catch (Exception e) {
+                    log.warn("S3 객체 정리 실패 (저장소 정리 작업에서 다시 처리): {}, {}", fileUrl, e.getMessage());
+                }
+            }
+        });
+    }
+
+    // 커밋된 데이터 기준으로 참조 수를 확인 (커밋 이후에는 원래 트랜잭션에 참여하지 않도록 새 트랜잭션에서 조회)
+    private void release(String fileUrl, Collection<String> derivedUrls) {
+        Long references = readOnlyRequiresNew.execute(status -> mediaRepository.countByFileUrl(fileUrl));
+        if (references > 0) {
+            log.info("다른 미디어 {}건이 참조 중이므로 S3 객체를 유지합니다: {}", references, fileUrl);
+            return;
+        }
+        s3Service.deleteImage(fileUrl);
+        derivedUrls.stream()
+                .filter(derivedUrl -> derivedUrl != null && !derivedUrl.equals(fileUrl))
+                .distinct()
+                .forEach(s3Service::deleteImage);
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import com.min.i.memory_BE.domain.media.entity.Media;
+import com.min.i.memory_BE.global.service.S3Service;
+import com.min.i.memory_BE.global.service.SchedulerLockService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 업로드된 이미지의 축소 이미지(목록용 썸네일, 상세 화면용 미리보기)를 전용 스레드 풀에서 만듭니다.
+ * 원본은 S3에서 내려받아 처리하므로 요청의 메모리를 붙잡고 있지 않으며, 결과는 albums/{albumId}/derived/ 아래에 저장합니다.
+ * 대기열이 가득 차 처리하지 못한 미디어와 기존 미디어는 주기적인 백필 작업이 채웁니다.
+ * 백필은 DB 잠금을 잡은 한 인스턴스에서만 실행됩니다.
+ * 원본 전체를 메모리에 내려받으므로, 최대 크기를 넘는 원본은 내려받지 않고 원본을 그대로 사용합니다.
+ */
+@Slf4j
+@Component
+public class MediaDerivativeRunner {
+
+    private static final String BACKFILL_LOCK = "media-derivative-backfill";
+
+    private final ThreadPoolTaskExecutor mediaDerivativeExecutor;
+    private final MediaDerivativeService mediaDerivativeService;
+    private final S3Service s3Service;
+    private final SchedulerLockService schedulerLockService;
+    private final int thumbnailSize;
+    private final int previewSize;
+    private final float quality;
+    private final long maxSourceBytes;
+    private final boolean backfillEnabled;
+    private final int backfillBatchSize;
+    private final Duration backfillLockAtMostFor;
+
+    public MediaDerivativeRunner(@Qualifier("mediaDerivativeExecutor") ThreadPoolTaskExecutor mediaDerivativeExecutor,
+                                 MediaDerivativeService mediaDerivativeService,
+                                 S3Service s3Service,
+                                 SchedulerLockService schedulerLockService,
+                                 @Value("${media.derivative.thumbnail-size:320}") int thumbnailSize,
+                                 @Value("${media.derivative.preview-size:1280}") int previewSize,
+                                 @Value("${media.derivative.quality:0.8}") float quality,
+                                 @Value("${media.derivative.max-source-bytes:20971520}") long maxSourceBytes,
+                                 @Value("${media.derivative.backfill.enabled:true}") boolean backfillEnabled,
+                                 @Value("${media.derivative.backfill.batch-size:50}") int backfillBatchSize,
+                                 @Value("${media.derivative.backfill.lock-at-most-ms:3600000}") long backfillLockAtMostMillis) {
+        this.mediaDerivativeExecutor = mediaDerivativeExecutor;
+        this.mediaDerivativeService = mediaDerivativeService;
+        this.s3Service = s3Service;
+        this.schedulerLockService = schedulerLockService;
+        this.thumbnailSize = thumbnailSize;
+        this.previewSize = previewSize;
+        this.quality = quality;
+        this.maxSourceBytes = maxSourceBytes;
+        this.backfillEnabled = backfillEnabled;
+        this.backfillBatchSize = backfillBatchSize;
+        this.backfillLockAtMostFor = Duration.ofMillis(backfillLockAtMostMillis);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 축소 이미지 생성을 요청합니다 (트랜잭션이 없으면 바로 요청).
+     * 롤백된 미디어의 축소 이미지가 만들어지지 않도록 커밋 이후에 대기열에 넣습니다.
+     */
+    public void dispatchAfterCommit(Long mediaId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(mediaId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(mediaId);
+            }
+        });
+    }
+
+    /**
+     * 축소 이미지 생성 작업을 대기열에 넣습니다.
+     *
+     * @return 대기열에 들어갔으면 true, 가득 차 거절되었으면 false (백필 작업이 나중에 처리)
+     */
+    public boolean dispatch(Long mediaId) {
+        try {
+            mediaDerivativeExecutor.execute(() -> generate(mediaId));
+            return true;
+        } catch (TaskRejectedException e) {
+            log.warn("축소 이미지 생성 대기열이 가득 참 - mediaId: {} (백필 시 처리)", mediaId);
+            return false;
+        }
+    }
+
+    /**
+     * 축소 이미지가 없는 이미지 미디어를 ID 순으로 나눠 처리합니다.
+     * 여러 인스턴스가 같은 미디어를 중복 처리하지 않도록 잠금을 잡은 인스턴스만 실행합니다.
+     */
+    @Scheduled(initialDelayString = "${media.derivative.backfill.initial-delay-ms:60000}",
+            fixedDelayString = "${media.derivative.backfill.interval-ms:3600000}")
+    public void backfill() {
+        if (!backfillEnabled) {
+            return;
+        }
+        schedulerLockService.runLocked(BACKFILL_LOCK, backfillLockAtMostFor, this::runBackfill);
+    }
+
+    /**
+     * 한 묶음이 끝난 뒤 다음 묶음을 넣으므로 업로드 직후 작업이 대기열에서 밀려나지 않습니다.
+     */
+    private void runBackfill() {
+        long afterId = 0;
+        int processed = 0;
+        while (true) {
+            List<Long> mediaIds = mediaDerivativeService.findIdsWithoutThumbnail(afterId, backfillBatchSize);
+            if (mediaIds.isEmpty()) {
+                break;
+            }
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            try {
+                for (Long mediaId : mediaIds) {
+                    futures.add(CompletableFuture.runAsync(() -> generate(mediaId), mediaDerivativeExecutor));
+                }
+            } catch (TaskRejectedException e) {
+                log.warn("축소 이미지 생성 대기열이 가득 차 백필을 다음 주기로 미룹니다.");
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+                break;
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            processed += mediaIds.size();
+            afterId = mediaIds.get(mediaIds.size() - 1);
+        }
+        if (processed > 0) {
+            log.info("축소 이미지 백필 완료 - {}건 처리", processed);
+        }
+    }
+
+    private void generate(Long mediaId) {
+        long startTime = System.currentTimeMillis();
+        try {
+            Optional<Media> target = mediaDerivativeService.findTarget(mediaId);
+            if (target.isEmpty()) {
+                return;
+            }
+            String fileUrl = target.get().getFileUrl();
+
+            // 같은 원본의 축소 이미지가 이미 있으면 재사용 (중복 업로드)
+            Optional<Media> generated = mediaDerivativeService.findGenerated(fileUrl);
+            if (generated.isPresent()) {
+                mediaDerivativeService.applyDerivatives(fileUrl,
+                        generated.get().getThumbnailUrl(), generated.get().getPreviewUrl());
+                return;
+            }
+
+            // 크기를 넘는 원본은 내려받지 않고 원본을 그대로 사용 (백필에서 다시 시도하지 않도록 함)
+            long sourceBytes = s3Service.headObject(fileUrl)
+                    .map(object -> object.contentLength() != null ? object.contentLength() : 0L)
+                    .orElse(0L);
+            if (sourceBytes > maxSourceBytes) {
+                log.warn("원본이 커서 축소 이미지를 만들지 않고 원본을 사용합니다 - mediaId: {}, {} bytes", mediaId, sourceBytes);
+                mediaDerivativeService.applyDerivatives(fileUrl, fileUrl, fileUrl);
+                return;
+            }
+
+            Map<Integer, byte[]> rendered = ImageDerivatives.render(
+                    s3Service.downloadFile(fileUrl), new int[]{thumbnailSize, previewSize}, quality);
+            if (rendered == null) {
+                // 디코딩할 수 없는 형식은 원본을 그대로 사용 (백필에서 다시 시도하지 않도록 함)
+                log.warn("축소 이미지를 만들 수 없는 형식이므로 원본을 사용합니다 - mediaId: {}", mediaId);
+                mediaDerivativeService.applyDerivatives(fileUrl, fileUrl, fileUrl);
+                return;
+            }
+
+            Long albumId = target.get().getAlbum() != null ? target.get().getAlbum().getId() : null;
+            String thumbnailUrl = s3Service.uploadDerivedImage(rendered.get(thumbnailSize), albumId, "w" + thumbnailSize + ".jpg");
+            String previewUrl = s3Service.uploadDerivedImage(rendered.get(previewSize), albumId, "w" + previewSize + ".jpg");
+
+            if (mediaDerivativeService.applyDerivatives(fileUrl, thumbnailUrl, previewUrl) == 0) {
+                // 그사이 미디어가 삭제되었거나 같은 원본의 다른 작업이 먼저 반영함
+                s3Service.deleteImage(thumbnailUrl);
+                s3Service.deleteImage(previewUrl);
+                return;
+            }
+            log.info("축소 이미지 생성 완료 - mediaId: {}, 썸네일 {}KB, 미리보기 {}KB, 소요 시간: {}ms", mediaId,
+                    rendered.get(thumbnailSize).length / 1024, rendered.get(previewSize).length / 1024,
+                    System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("축소 이미지 생성 실패 - mediaId: {}, 오류: {}", mediaId, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import com.min.i.memory_BE.domain.media.entity.Media;
+import com.min.i.memory_BE.domain.media.enums.MediaType;
+import com.min.i.memory_BE.domain.media.repository.MediaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 축소 이미지(썸네일, 미리보기) 생성 대상 조회와 URL 반영
+ * 같은 S3 원본을 참조하는 미디어들은 축소 이미지도 함께 사용합니다.
+ * 생성 작업 중에는 트랜잭션을 잡고 있지 않도록 짧은 트랜잭션 메서드만 제공합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MediaDerivativeService {
+
+    private final MediaRepository mediaRepository;
+
+    /**
+     * 축소 이미지를 만들어야 하는 미디어를 조회합니다 (이미 있거나 이미지가 아니면 비어 있음).
+     */
+    public Optional<Media> findTarget(Long mediaId) {
+        return mediaRepository.findById(mediaId)
+                .filter(media -> media.getThumbnailUrl() == null)
+                .filter(media -> media.getFileType() == MediaType.IMAGE)
+                .filter(media -> media.getFileUrl() != null && !media.getFileUrl().isEmpty());
+    }
+
+    /**
+     * 같은 원본으로 이미 만들어진 축소 이미지를 가진 미디어를 조회합니다.
+     */
+    public Optional<Media> findGenerated(String fileUrl) {
+        return mediaRepository.findFirstByFileUrlAndThumbnailUrlIsNotNull(fileUrl);
+    }
+
+    /**
+     * 축소 이미지가 없는 미디어 ID를 ID 순으로 조회합니다.
+     */
+    public List<Long> findIdsWithoutThumbnail(Long afterId, int size) {
+        return mediaRepository.findIdsWithoutThumbnail(afterId, PageRequest.of(0, size));
+    }
+
+    /**
+     * 같은 원본을 참조하면서 축소 이미지가 없는 미디어에 URL을 반영합니다.
+     *
+     * @return 반영된 미디어 수 (0이면 그사이 삭제되었거나 다른 작업이 먼저 반영함)
+     */
+    @Transactional
+    public int applyDerivatives(String fileUrl, String thumbnailUrl, String previewUrl) {
+        return mediaRepository.updateDerivativeUrls(fileUrl, thumbnailUrl, previewUrl);
+    }
+}
@@ -1,15 +1,21 @@
 package com.min.i.memory_BE.domain.media.service;
 
 import com.min.i.memory_BE.domain.album.entity.Album;
+import com.min.i.memory_BE.domain.album.entity.Story;
 import com.min.i.memory_BE.domain.album.repository.AlbumRepository;
+import com.min.i.memory_BE.domain.album.repository.StoryRepository;
 import com.min.i.memory_BE.domain.group.entity.Group;
 import com.min.i.memory_BE.domain.group.repository.GroupRepository;
+import com.min.i.memory_BE.domain.group.service.GroupMembershipService;
 import com.min.i.memory_BE.domain.media.entity.Media;
 import com.min.i.memory_BE.domain.media.enums.MediaType;
+import com.min.i.memory_BE.domain.media.repository.DeletionJdbcRepository;
 import com.min.i.memory_BE.domain.media.repository.MediaRepository;
 import com.min.i.memory_BE.domain.user.entity.User;
+import com.min.i.memory_BE.global.dto.CursorPageResponseDto;
+import com.min.i.memory_BE.global.error.ErrorCode;
+import com.min.i.memory_BE.global.error.exception.ApiException;
 import com.min.i.memory_BE.global.error.exception.EntityNotFoundException;
-import com.min.i.memory_BE.global.service.S3Service;
 import com.min.i.memory_BE.domain.media.dto.response.MediaResponseDto;
 import com.min.i.memory_BE.domain.user.dto.UserSimpleDto;
 import lombok.RequiredArgsConstructor;
@@ -18,14 +24,21 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageImpl;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.Collections;
 
@@ -36,13 +49,22 @@ public class MediaService {
     private final MediaRepository mediaRepository;
     private final AlbumRepository albumRepository;
     private final GroupRepository groupRepository;
-    private final S3Service s3Service;
+    private final StoryRepository storyRepository;
+    private final GroupMembershipService groupMembershipService;
+    private final MediaDeduplicationService mediaDeduplicationService;
+    private final SimilarMediaService similarMediaService;
+    private final MediaDerivativeRunner mediaDerivativeRunner;
+    private final DeletionJdbcRepository deletionJdbcRepository;
     private static final Logger log = LoggerFactory.getLogger(MediaService.class);
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final char CURSOR_DELIMITER = '|';
+
     /**
      * 미디어 업로드
+     * S3 업로드 중에는 트랜잭션을 열지 않고, 업로드가 끝난 뒤 미디어만 짧은 트랜잭션에서 저장합니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Media uploadMedia(MultipartFile file, Long groupId, Long albumId, User uploadedBy) {
         // 1. 그룹 접근 권한 확인
         Group group = groupRepository.findById(groupId)
@@ -52,52 +74,70 @@ public class MediaService {
         Album album = albumRepository.findByIdAndGroupId(albumId, groupId)
                 .orElseThrow(() -> new EntityNotFoundException("Album not found in group"));
 
-        // 3. S3에 파일 업로드
-        String fileUrl = s3Service.uploadAlbumImage(file, albumId);
+        // 3. S3에 파일 업로드 (같은 내용의 이미지가 이미 있으면 기존 객체 재사용)
+        String contentHash = mediaDeduplicationService.sha256(file);
+        Long perceptualHash = similarMediaService.computeHash(file);
 
         // 4. Media 엔티티 생성 및 저장
-        Media media = Media.builder()
-                .fileUrl(fileUrl)
-                .fileType(MediaType.IMAGE)
-                .originalFilename(file.getOriginalFilename())
-                .fileSize(file.getSize())
-                .album(album)
-                .uploadedBy(uploadedBy)
-                .build();
-            
-      
-        LocalDateTime now = LocalDateTime.now();
-        media.setCreatedAt(now);
-        media.setUpdatedAt(now);
+        Media savedMedia = mediaDeduplicationService.storeAndSave(file, albumId, contentHash, fileUrl -> {
+            Media media = Media.builder()
+                    .fileUrl(fileUrl)
+                    .fileType(MediaType.IMAGE)
+                    .originalFilename(file.getOriginalFilename())
+                    .fileSize(file.getSize())
+                    .contentHash(contentHash)
+                    .perceptualHash(perceptualHash)
+                    .album(album)
+                    .uploadedBy(uploadedBy)
+                    .build();
+
+            LocalDateTime now = LocalDateTime.now();
+            media.setCreatedAt(now);
+            media.setUpdatedAt(now);
 
-        return mediaRepository.save(media);
+            Media saved = mediaRepository.save(media);
+            mediaDerivativeRunner.dispatchAfterCommit(saved.getId());
+            return saved;
+        });
+        similarMediaService.register(groupId, savedMedia.getId(), savedMedia.getPerceptualHash());
+        return savedMedia;
     }
 
     /**
      * 미디어 수정
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Media updateMedia(Long groupId, Long albumId, Long mediaId, MultipartFile file, User user) {
         // 권한 검증
         validateGroupMembership(groupId, user);
 
-        Media existingMedia = mediaRepository.findById(mediaId)
-                .orElseThrow(() -> new EntityNotFoundException("Media not found"));
+        if (!mediaRepository.existsById(mediaId)) {
+            throw new EntityNotFoundException("Media not found");
+        }
 
-        // S3에 새 파일 업로드 및 이전 파일 삭제
-        String newFileUrl = s3Service.updateAlbumImage(file, albumId, existingMedia.getFileUrl());
-
-        Media updatedMedia = Media.builder()
-                .fileUrl(newFileUrl)
-                .fileType(MediaType.IMAGE)
-                .originalFilename(file.getOriginalFilename())
-                .fileSize(file.getSize())
-                .album(existingMedia.getAlbum())
-                .uploadedBy(existingMedia.getUploadedBy())
-                .page(existingMedia.getPage())
-                .build();
+        // S3에 새 파일 업로드 (이전 파일은 기존 미디어가 계속 참조하므로 유지)
+        String contentHash = mediaDeduplicationService.sha256(file);
+        Long perceptualHash = similarMediaService.computeHash(file);
 
-        return mediaRepository.save(updatedMedia);
+        Media savedMedia = mediaDeduplicationService.storeAndSave(file, albumId, contentHash, newFileUrl -> {
+            Media existingMedia = mediaRepository.findById(mediaId)
+                    .orElseThrow(() -> new EntityNotFoundException("Media not found"));
+            Media saved = mediaRepository.save(Media.builder()
+                    .fileUrl(newFileUrl)
+                    .fileType(MediaType.IMAGE)
+                    .originalFilename(file.getOriginalFilename())
+                    .fileSize(file.getSize())
+                    .contentHash(contentHash)
+                    .perceptualHash(perceptualHash)
+                    .album(existingMedia.getAlbum())
+                    .uploadedBy(existingMedia.getUploadedBy())
+                    .page(existingMedia.getPage())
+                    .build());
+            mediaDerivativeRunner.dispatchAfterCommit(saved.getId());
+            return saved;
+        });
+        similarMediaService.register(groupId, savedMedia.getId(), savedMedia.getPerceptualHash());
+        return savedMedia;
     }
 
     /**
@@ -111,8 +151,13 @@ public class MediaService {
         Media media = mediaRepository.findById(mediaId)
                 .orElseThrow(() -> new EntityNotFoundException("Media not found"));
 
-        s3Service.deleteImage(media.getFileUrl());
-        mediaRepository.delete(media);
+        // 같은 이미지를 재사용하는 다른 미디어가 없을 때만 S3 객체(원본, 축소 이미지) 삭제 (커밋 이후)
+        String fileUrl = media.getFileUrl();
+        List<String> derivedUrls = Arrays.asList(media.getThumbnailUrl(), media.getPreviewUrl());
+        // 분석 작업, 질문, 답변, 키워드 연결, 스토리 등 미디어를 참조하는 행을 함께 집합 단위로 삭제 (FK 위반 방지)
+        deletionJdbcRepository.deleteMedia(List.of(mediaId));
+        mediaDeduplicationService.releaseFile(fileUrl, derivedUrls);
+        similarMediaService.invalidate(groupId);
     }
 
     /**
@@ -125,35 +170,39 @@ public class MediaService {
     /**
      * 앨범의 최근 미디어 조회 (메인페이지용)
      */
-    public List<Media> getRecentMediaByAlbum(Long albumId, int limit) {
-        // 앨범 존재 확인
-        Album album = albumRepository.findById(albumId)
-                .orElseThrow(() -> new EntityNotFoundException("Album not found"));
+    public List<MediaResponseDto> getRecentMediaByAlbum(Long albumId, int limit) {
+        return getRecentMediaByAlbumIds(List.of(albumId), limit)
+                .getOrDefault(albumId, Collections.emptyList());
+    }
 
-        // 최신 미디어 조회 (생성일 기준 내림차순) - uploadedBy를 함께 로드
-        // Use the method that fetches User entity eagerly
-        List<Media> mediaList = mediaRepository.findByAlbumIdWithUserFetch(albumId);
-        
-        // 수동으로 정렬 및 제한
-        return mediaList.stream()
-                .sorted((m1, m2) -> m2.getCreatedAt().compareTo(m1.getCreatedAt())) // 생성일 기준 내림차순 정렬
-                .limit(limit)
-                .collect(Collectors.toList());
+    /**
+     * 여러 앨범의 최근 미디어를 앨범별로 limit개씩 한 번의 쿼리로 조회합니다.
+     * 업로더와 첫 번째 스토리까지 함께 조회하므로 추가 지연 로딩이 발생하지 않습니다.
+     *
+     * @param albumIds 조회할 앨범 ID 목록
+     * @param limit 앨범당 조회할 미디어 수
+     * @return 앨범 ID별 최근 미디어 목록 (생성일 기준 내림차순)
+     */
+    public Map<Long, List<MediaResponseDto>> getRecentMediaByAlbumIds(Collection<Long> albumIds, int limit) {
+        if (albumIds == null || albumIds.isEmpty() || limit <= 0) {
+            return Collections.emptyMap();
+        }
+
+        return MediaResponseDto.groupByAlbumId(mediaRepository.findRecentMediaByAlbumIds(albumIds, limit));
     }
 
     /**
      * 사용자가 해당 그룹의 멤버인지 확인
      */
     private void validateGroupMembership(Long groupId, User user) {
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new EntityNotFoundException("Group not found"));
-
-        boolean isMember = group.getUserGroups().stream()
-                .anyMatch(userGroup -> userGroup.getUser().getId().equals(user.getId()));
+        if (groupMembershipService.isMember(user.getId(), groupId)) {
+            return;
+        }
 
-        if (!isMember) {
-            throw new EntityNotFoundException("User is not a member of this group");
+        if (!groupRepository.existsById(groupId)) {
+            throw new EntityNotFoundException("Group not found");
         }
+        throw new EntityNotFoundException("User is not a member of this group");
     }
 
     /**
@@ -167,19 +216,13 @@ public class MediaService {
                     groupId, albumId, pageable.getPageNumber(), pageable.getPageSize());
             
             // 그룹 존재 확인
-            Group group = groupRepository.findById(groupId)
-                    .orElseThrow(() -> {
-                        log.error("그룹을 찾을 수 없음 - ID: {}", groupId);
-                        return new EntityNotFoundException("Group not found with ID: " + groupId);
-                    });
-            
-            log.info("그룹 조회 성공 - ID: {}, 이름: {}", group.getId(), group.getName());
+            if (!groupRepository.existsById(groupId)) {
+                log.error("그룹을 찾을 수 없음 - ID: {}", groupId);
+                throw new EntityNotFoundException("Group not found with ID: " + groupId);
+            }
             
             // 사용자가 그룹의 멤버인지 확인
-            boolean isMember = group.getUserGroups().stream()
-                    .anyMatch(userGroup -> userGroup.getUser().getId().equals(user.getId()));
-            
-            if (!isMember) {
+            if (!groupMembershipService.isMember(user.getId(), groupId)) {
                 log.error("사용자가 그룹의 멤버가 아님 - 사용자 ID: {}, 그룹 ID: {}", user.getId(), groupId);
                 throw new EntityNotFoundException("User is not a member of this group");
             }
@@ -196,25 +239,15 @@ public class MediaService {
             log.info("앨범 조회 성공 - ID: {}, 제목: {}", album.getId(), album.getTitle());
             
             try {
-                // 사용자(User) 정보를 함께 로드하는 쿼리 사용
-                List<Media> mediaList = mediaRepository.findByAlbumIdAndGroupIdWithUserFetch(albumId, groupId);
-                
-                // 수동으로 안전하게 페이징 처리 (빈 목록 처리 및 인덱스 검증 추가)
-                int start = (int) Math.min(pageable.getOffset(), mediaList.size());
-                int end = Math.min((start + pageable.getPageSize()), mediaList.size());
+                // DB 수준에서 페이징 (사용자 정보는 fetch join, 전체 개수는 별도 count 쿼리)
+                Page<Media> mediaPage = mediaRepository.findPageByAlbumIdAndGroupIdWithUser(
+                        albumId, groupId, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
                 
-                List<Media> pageContent = Collections.emptyList();
-                if (start < end) {
-                    pageContent = mediaList.subList(start, end);
-                }
-                
-                // 트랜잭션 내에서 지연 로딩 되는 데이터를 모두 초기화하여 DTO 변환
-                List<MediaResponseDto> dtoList = pageContent.stream()
-                        .map(media -> convertToMediaResponseDto(media))
-                        .collect(Collectors.toList());
+                // 페이지에 포함된 미디어의 스토리를 한 번에 조회하여 DTO 변환
+                List<MediaResponseDto> dtoList = convertToMediaResponseDtos(mediaPage.getContent());
                 
                 // DTO 객체로 페이지 생성 (지연 로딩 이슈 방지)
-                PageImpl<MediaResponseDto> result = new PageImpl<>(dtoList, pageable, mediaList.size());
+                PageImpl<MediaResponseDto> result = new PageImpl<>(dtoList, pageable, mediaPage.getTotalElements());
                 log.info("미디어 조회 성공 - 총 {} 개의 미디어 아이템 반환", result.getTotalElements());
                 return result;
                 
@@ -232,16 +265,81 @@ public class MediaService {
     }
 
     /**
-     * 안전하게 Media 엔티티를 MediaResponseDto로 변환하는 메서드
-     * 지연 로딩 관련 예외를 방지하기 위해 모든 필요한 관계를 명시적으로 초기화
+     * 그룹 내 특정 앨범의 미디어를 커서(키셋) 방식으로 조회 - 권한 검증 포함
+     * (createdAt, id) 기준으로 커서 이후의 미디어만 조회하므로 페이지 깊이와 관계없이 비용이 일정합니다.
+     * 전체 개수는 조회하지 않습니다.
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null 또는 빈 문자열)
+     * @param size 페이지 크기
      */
-    private MediaResponseDto convertToMediaResponseDto(Media media) {
-        // 명시적으로 스토리 컬렉션 초기화 (필요한 경우)
-        String storyContent = null;
-        if (media.getStories() != null && !media.getStories().isEmpty()) {
-            storyContent = media.getStories().get(0).getContent();
+    public CursorPageResponseDto<MediaResponseDto> getAlbumMediaByCursorWithAuth(
+            Long groupId, Long albumId, String cursor, int size, User user) {
+        validateGroupMembership(groupId, user);
+
+        if (!albumRepository.existsByIdAndGroupId(albumId, groupId)) {
+            throw new EntityNotFoundException("Album not found in group with ID: " + albumId);
         }
-        
+
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Media> mediaList;
+        if (cursor == null || cursor.isBlank()) {
+            mediaList = mediaRepository.findByAlbumIdAndGroupIdFromStart(albumId, groupId, limit);
+        } else {
+            MediaCursor decoded = MediaCursor.decode(cursor);
+            mediaList = mediaRepository.findByAlbumIdAndGroupIdAfterCursor(
+                    albumId, groupId, decoded.createdAt(), decoded.id(), limit);
+        }
+
+        boolean hasNext = mediaList.size() > pageSize;
+        List<Media> pageContent = hasNext ? mediaList.subList(0, pageSize) : mediaList;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Media last = pageContent.get(pageContent.size() - 1);
+            nextCursor = new MediaCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponseDto.<MediaResponseDto>builder()
+                .content(convertToMediaResponseDtos(pageContent))
+                .size(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 미디어 목록을 응답 DTO로 변환합니다.
+     * 스토리는 미디어마다 지연 로딩하지 않고 한 번의 IN 쿼리로 조회합니다.
+     * (업로더는 조회 쿼리에서 fetch join 되어 있어야 합니다)
+     */
+    private List<MediaResponseDto> convertToMediaResponseDtos(List<Media> mediaList) {
+        if (mediaList.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> mediaIds = mediaList.stream()
+                .map(Media::getId)
+                .collect(Collectors.toList());
+
+        // 미디어별 첫 번째 스토리 내용
+        Map<Long, String> storyByMediaId = new HashMap<>();
+        for (Story story : storyRepository.findByMediaIdInOrderByIdAsc(mediaIds)) {
+            storyByMediaId.putIfAbsent(story.getMedia().getId(), story.getContent());
+        }
+
+        return mediaList.stream()
+                .map(media -> convertToMediaResponseDto(media, storyByMediaId.get(media.getId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 안전하게 Media 엔티티를 MediaResponseDto로 변환하는 메서드
+     * 스토리 내용은 미리 일괄 조회한 값을 전달받습니다.
+     */
+    private MediaResponseDto convertToMediaResponseDto(Media media, String storyContent) {
         // 사용자 정보 안전하게 처리
         UserSimpleDto userDto = null;
         if (media.getUploadedBy() != null) {
@@ -255,16 +353,40 @@ public class MediaService {
                 .originalFilename(media.getOriginalFilename())
                 .fileSize(media.getFileSize())
                 .thumbnailUrl(media.getThumbnailUrl())
+                .previewUrl(media.getPreviewUrl())
                 .uploadedBy(userDto)
                 .createdAt(media.getCreatedAt())
                 .story(storyContent)
                 .build();
     }
 
+    /**
+     * 키셋 페이징 커서 (createdAt, id)
+     * 클라이언트에는 URL-safe Base64 문자열로 전달됩니다.
+     */
+    private record MediaCursor(LocalDateTime createdAt, Long id) {
+
+        String encode() {
+            String raw = createdAt.toString() + CURSOR_DELIMITER + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static MediaCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int delimiterIndex = raw.lastIndexOf(CURSOR_DELIMITER);
+                return new MediaCursor(
+                        LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                        Long.parseLong(raw.substring(delimiterIndex + 1)));
+            } catch (RuntimeException e) {
+                throw new ApiException("유효하지 않은 커서입니다: " + cursor, ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+    }
+
     /**
      * 사용자 권한 검증 후 앨범의 최근 미디어 조회 (DTO로 변환하여 반환)
      */
-    @Transactional
     public List<MediaResponseDto> getRecentMediaDtoByAlbumWithAuth(Long albumId, int limit, User user) {
         // 앨범 존재 확인 및 그룹 확인
         Album album = albumRepository.findById(albumId)
@@ -279,8 +401,7 @@ public class MediaService {
         Long groupId = album.getGroup().getId();
         validateGroupMembership(groupId, user);
 
-        // 최신 미디어 조회 및 DTO로 변환
-        List<Media> mediaList = getRecentMediaByAlbum(albumId, limit);
-        return MediaResponseDto.fromList(mediaList);
+        // 최신 미디어 조회 (DTO로 변환된 결과)
+        return getRecentMediaByAlbum(albumId, limit);
     }
 }
\ No newline at end of file
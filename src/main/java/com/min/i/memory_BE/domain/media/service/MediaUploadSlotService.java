@@ -0,0 +1,242 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import com.min.i.memory_BE.domain.album.entity.Album;
+import com.min.i.memory_BE.domain.album.repository.AlbumRepository;
+import com.min.i.memory_BE.domain.group.service.GroupMembershipService;
+import com.min.i.memory_BE.domain.media.dto.request.MediaUploadSlotRequestDto;
+import com.min.i.memory_BE.domain.media.dto.response.MediaResponseDto;
+import com.min.i.memory_BE.domain.media.dto.response.MediaUploadSlotResponseDto;
+import com.min.i.memory_BE.domain.media.entity.Media;
+import com.min.i.memory_BE.domain.media.entity.MediaUploadSlot;
+import com.min.i.memory_BE.domain.media.enums.MediaType;
+import com.min.i.memory_BE.domain.media.repository.MediaRepository;
+import com.min.i.memory_BE.domain.media.repository.MediaUploadSlotRepository;
+import com.min.i.memory_BE.domain.user.entity.User;
+import com.min.i.memory_BE.global.error.exception.EntityNotFoundException;
+import com.min.i.memory_BE.global.error.exception.FileValidationException;
+import com.min.i.memory_BE.global.service.S3Service;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * S3 직접 업로드 (서명된 PUT URL)
+ * 클라이언트가 업로드 슬롯을 받아 S3에 바로 업로드하고 완료를 알리면, S3 객체를 확인(HEAD)한 뒤 미디어를 생성합니다.
+ * 이미지 바이트가 애플리케이션 서버를 거치지 않으므로 업로드에 따른 서버의 네트워크, 디스크 사용이 없습니다.
+ * 완료되지 않고 만료된 슬롯은 주기적으로 정리하며, 업로드된 객체가 있으면 함께 삭제합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class MediaUploadSlotService {
+
+    private static final String UPLOAD_METHOD = "PUT";
+
+    private final MediaUploadSlotRepository mediaUploadSlotRepository;
+    private final MediaRepository mediaRepository;
+    private final AlbumRepository albumRepository;
+    private final GroupMembershipService groupMembershipService;
+    private final MediaDeduplicationService mediaDeduplicationService;
+    private final MediaDerivativeRunner mediaDerivativeRunner;
+    private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration expiry;
+    private final Duration retention;
+    private final int cleanupBatchSize;
+
+    public MediaUploadSlotService(MediaUploadSlotRepository mediaUploadSlotRepository,
+                                  MediaRepository mediaRepository,
+                                  AlbumRepository albumRepository,
+                                  GroupMembershipService groupMembershipService,
+                                  MediaDeduplicationService mediaDeduplicationService,
+                                  MediaDerivativeRunner mediaDerivativeRunner,
+                                  S3Service s3Service,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${media.upload-slot.expiry-minutes:15}") long expiryMinutes,
+                                  @Value("${media.upload-slot.retention-minutes:60}") long retentionMinutes,
+                                  @Value("${media.upload-slot.cleanup-batch-size:100}") int cleanupBatchSize) {
+        this.mediaUploadSlotRepository = mediaUploadSlotRepository;
+        this.mediaRepository = mediaRepository;
+        this.albumRepository = albumRepository;
+        this.groupMembershipService = groupMembershipService;
+        this.mediaDeduplicationService = mediaDeduplicationService;
+        this.mediaDerivativeRunner = mediaDerivativeRunner;
+        this.s3Service = s3Service;
+        this.transactionTemplate = transactionTemplate;
+        this.expiry = Duration.ofMinutes(expiryMinutes);
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.cleanupBatchSize = cleanupBatchSize;
+    }
+
+    /**
+     * 업로드 슬롯을 발급합니다. 파일 형식과 크기를 검증하고 저장 위치를 미리 정합니다.
+     * 클라이언트가 보낸 SHA-256만으로는 이미지를 가지고 있는지 알 수 없으므로 항상 업로드를 요구하며,
+     * SHA-256을 함께 보내면 S3가 업로드 내용과 대조하고, 완료 시 같은 이미지가 이미 있으면 기존 객체를 재사용합니다.
+     */
+    @Transactional
+    public MediaUploadSlotResponseDto createSlot(Long groupId, Long albumId, MediaUploadSlotRequestDto request, User user) {
+        validateMembership(groupId, user);
+        findAlbum(groupId, albumId);
+        s3Service.validateImageUpload(request.getFileSize(), request.getContentType());
+
+        String contentHash = request.getSha256() != null ? request.getSha256().toLowerCase(Locale.ROOT) : null;
+
+        S3Service.PresignedUpload presigned = s3Service.presignAlbumImageUpload(albumId, request.getFilename(),
+                request.getContentType(), request.getFileSize(), contentHash, expiry);
+        MediaUploadSlot saved = mediaUploadSlotRepository.save(MediaUploadSlot.builder()
+                .groupId(groupId)
+                .albumId(albumId)
+                .requestedBy(user.getId())
+                .contentType(request.getContentType())
+                .fileSize(request.getFileSize())
+                .originalFilename(request.getFilename())
+                .contentHash(contentHash)
+                .fileUrl(presigned.fileUrl())
+                .uploadRequired(true)
+                .expiresAt(LocalDateTime.ofInstant(presigned.expiresAt(), ZoneId.systemDefault()))
+                .build());
+
+        return MediaUploadSlotResponseDto.builder()
+                .slotId(saved.getId())
+                .uploadRequired(true)
+                .uploadUrl(presigned.uploadUrl())
+                .uploadMethod(UPLOAD_METHOD)
+                .uploadHeaders(presigned.headers())
+                .expiresAt(saved.getExpiresAt())
+                .build();
+    }
+
+    /**
+     * 업로드 완료를 처리합니다. S3 객체의 크기와 체크섬을 슬롯과 대조한 뒤 미디어를 생성합니다.
+     * 체크섬이 확인된 이미지와 같은 내용의 객체가 이미 있으면 기존 객체를 참조하고 방금 올린 객체는 커밋 후 삭제합니다.
+     * 이미 완료된 슬롯이면 생성된 미디어를 그대로 반환합니다 (완료 요청 재시도).
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MediaResponseDto completeSlot(Long groupId, Long albumId, Long slotId, User user) {
+        MediaUploadSlot slot = mediaUploadSlotRepository.findByIdAndRequestedBy(slotId, user.getId())
+                .filter(found -> found.getGroupId().equals(groupId) && found.getAlbumId().equals(albumId))
+                .orElseThrow(() -> new EntityNotFoundException("업로드 슬롯을 찾을 수 없습니다: " + slotId));
+
+        // 1. S3 객체 확인 (트랜잭션 밖)
+        if (!slot.isCompleted()) {
+            verifyUploadedObject(slot);
+        }
+
+        // 2. 미디어 생성 (슬롯을 잠그고 완료 여부를 다시 확인)
+        return transactionTemplate.execute(status -> {
+            MediaUploadSlot locked = mediaUploadSlotRepository.findByIdForUpdate(slotId)
+                    .orElseThrow(() -> new EntityNotFoundException("업로드 슬롯을 찾을 수 없습니다: " + slotId));
+            if (locked.isCompleted()) {
+                return MediaResponseDto.from(mediaRepository.findById(locked.getMediaId())
+                        .orElseThrow(() -> new EntityNotFoundException("Media not found")));
+            }
+            validateMembership(groupId, user);
+            Album album = findAlbum(groupId, albumId);
+            // 업로드 없이 발급되었던 슬롯은 참조 행을 잠가, 저장 전에 기존 미디어와 함께 객체가 삭제되지 않도록 함
+            if (!locked.isUploadRequired() && !mediaDeduplicationService.lockShared(locked.getFileUrl())) {
+                throw new FileValidationException("재사용하려던 이미지가 삭제되었습니다. 업로드 슬롯을 다시 요청해주세요.");
+            }
+            String fileUrl = locked.isUploadRequired() ? findReusable(locked).orElse(locked.getFileUrl()) : locked.getFileUrl();
+            if (!fileUrl.equals(locked.getFileUrl())) {
+                log.info("같은 이미지가 이미 저장되어 있어 업로드한 객체를 삭제하고 재사용합니다: {}", fileUrl);
+                mediaDeduplicationService.releaseFile(locked.getFileUrl());
+            }
+
+            Media media = mediaRepository.save(Media.builder()
+                    .fileUrl(fileUrl)
+                    .fileType(MediaType.fromContentType(locked.getContentType()))
+                    .originalFilename(locked.getOriginalFilename())
+                    .fileSize(locked.getFileSize())
+                    .contentHash(locked.getContentHash())
+                    .album(album)
+                    .uploadedBy(user)
+                    .build());
+            locked.complete(media.getId());
+            mediaDerivativeRunner.dispatchAfterCommit(media.getId());
+
+            log.info("직접 업로드 완료 - slotId: {}, mediaId: {}", slotId, media.getId());
+            return MediaResponseDto.from(media);
+        });
+    }
+
+    /**
+     * 만료 후 보관 기간이 지난 슬롯을 정리합니다.
+     * 완료되지 않은 슬롯의 업로드 객체는 다른 미디어가 참조하지 않으면 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${media.upload-slot.cleanup-interval-ms:3600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void cleanupExpiredSlots() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        int removed = 0;
+        List<MediaUploadSlot> slots;
+        do {
+            slots = mediaUploadSlotRepository.findExpiredBefore(before, PageRequest.of(0, cleanupBatchSize));
+            for (MediaUploadSlot slot : slots) {
+                if (slot.isCompleted() || !slot.isUploadRequired()) {
+                    continue;
+                }
+                try {
+                    mediaDeduplicationService.releaseFile(slot.getFileUrl());
+                } catch (Exception e) {
+                    log.warn("만료된 업로드 객체 삭제 실패 - slotId: {}, {}", slot.getId(), e.getMessage());
+                }
+            }
+            mediaUploadSlotRepository.deleteAllInBatch(slots);
+            removed += slots.size();
+        } while (slots.size() == cleanupBatchSize);
+
+        if (removed > 0) {
+            log.info("만료된 업로드 슬롯 {}건 정리", removed);
+        }
+    }
+
+    // 체크섬으로 내용이 확인된 업로드와 같은 이미지의 기존 객체 (현재 트랜잭션에서 참조 행을 잠금)
+    private Optional<String> findReusable(MediaUploadSlot slot) {
+        if (slot.getContentHash() == null) {
+            return Optional.empty();
+        }
+        return mediaDeduplicationService.findStoredFileUrl(slot.getContentHash())
+                .filter(storedFileUrl -> !storedFileUrl.equals(slot.getFileUrl()))
+                .filter(mediaDeduplicationService::lockShared);
+    }
+
+    private void verifyUploadedObject(MediaUploadSlot slot) {
+        HeadObjectResponse object = s3Service.headObject(slot.getFileUrl())
+                .orElseThrow(() -> new FileValidationException("업로드된 파일이 없습니다. 업로드 후 다시 요청해주세요."));
+        if (!slot.isUploadRequired()) {
+            return;
+        }
+        if (!Objects.equals(object.contentLength(), slot.getFileSize())) {
+            throw new FileValidationException("업로드된 파일 크기가 요청한 크기와 다릅니다");
+        }
+        if (slot.getContentHash() != null
+                && !s3Service.toBase64Checksum(slot.getContentHash()).equals(object.checksumSHA256())) {
+            throw new FileValidationException("업로드된 파일 내용이 요청한 체크섬과 다릅니다");
+        }
+    }
+
+    private void validateMembership(Long groupId, User user) {
+        if (!groupMembershipService.isMember(user.getId(), groupId)) {
+            throw new EntityNotFoundException("User is not a member of this group");
+        }
+    }
+
+    private Album findAlbum(Long groupId, Long albumId) {
+        return albumRepository.findByIdAndGroupId(albumId, groupId)
+                .orElseThrow(() -> new EntityNotFoundException("Album not found in group"));
+    }
+}
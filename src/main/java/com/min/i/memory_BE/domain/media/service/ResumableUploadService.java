@@ -0,0 +1,394 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import com.min.i.memory_BE.domain.album.entity.Album;
+import com.min.i.memory_BE.domain.album.repository.AlbumRepository;
+import com.min.i.memory_BE.domain.group.service.GroupMembershipService;
+import com.min.i.memory_BE.domain.media.entity.Media;
+import com.min.i.memory_BE.domain.media.entity.MediaUploadSession;
+import com.min.i.memory_BE.domain.media.enums.MediaType;
+import com.min.i.memory_BE.domain.media.repository.MediaRepository;
+import com.min.i.memory_BE.domain.media.repository.MediaUploadSessionRepository;
+import com.min.i.memory_BE.domain.user.entity.User;
+import com.min.i.memory_BE.global.error.exception.EntityNotFoundException;
+import com.min.i.memory_BE.global.error.exception.FileValidationException;
+import com.min.i.memory_BE.global.error.exception.S3Exception;
+import com.min.i.memory_BE.global.error.exception.UploadException;
+import com.min.i.memory_BE.global.service.S3Service;
+import com.min.i.memory_BE.global.service.UploadBufferPool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이어받기 가능한 업로드 (tus 방식: 생성 - 조각 전송(PATCH) - 진행 위치 조회(HEAD))
+ * 동영상처럼 큰 파일을 S3 멀티파트 업로드의 파트 단위로 나누어 저장하고, 파트가 저장될 때마다 확정된 위치를 DB에 기록합니다.
+ * 연결이 끊기면 클라이언트는 진행 위치를 조회해 마지막으로 확정된 파트 다음부터 다시 보냅니다.
+ * 파트에 못 미치는 요청 끝부분은 저장하지 않으므로, 조각 크기는 파트 크기의 배수로 보내는 것이 좋습니다.
+ * 만료된 세션은 주기적으로 정리하며, 완료되지 않은 S3 멀티파트 업로드도 함께 취소합니다.
+ * 조각 전송은 느린 클라이언트가 오래 버퍼를 붙잡을 수 있으므로 스트리밍 업로드와 분리된 전용 버퍼 풀을 사용합니다.
+ * 이미지는 다른 업로드 경로와 같은 크기 제한(10MB)을 적용하고, 첫 파트의 앞부분(매직 넘버)이 선언한 형식과 맞는지 확인합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ResumableUploadService {
+
+    private static final Set<String> ALLOWED_TYPES = Set.of(
+            "image/jpeg", "image/jpg", "image/png", "image/gif",
+            "video/mp4", "video/quicktime", "video/webm", "video/3gpp"
+    );
+    private static final String DEFAULT_FILENAME = "upload";
+    private static final long MAX_IMAGE_SIZE = 10 * 1024 * 1024; // 10MB
+
+    private final MediaUploadSessionRepository mediaUploadSessionRepository;
+    private final MediaRepository mediaRepository;
+    private final AlbumRepository albumRepository;
+    private final GroupMembershipService groupMembershipService;
+    private final MediaDerivativeRunner mediaDerivativeRunner;
+    private final S3Service s3Service;
+    private final UploadBufferPool uploadBufferPool;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxSize;
+    private final Duration expiry;
+    private final Duration retention;
+    private final int cleanupBatchSize;
+
+    public ResumableUploadService(MediaUploadSessionRepository mediaUploadSessionRepository,
+                                  MediaRepository mediaRepository,
+                                  AlbumRepository albumRepository,
+                                  GroupMembershipService groupMembershipService,
+                                  MediaDerivativeRunner mediaDerivativeRunner,
+                                  S3Service s3Service,
+                                  @Qualifier("resumableUploadBufferPool") UploadBufferPool uploadBufferPool,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${media.resumable.max-size:2147483648}") long maxSize,
+                                  @Value("${media.resumable.expiry-hours:24}") long expiryHours,
+                                  @Value("${media.resumable.retention-minutes:60}") long retentionMinutes,
+                                  @Value("${media.resumable.cleanup-batch-size:100}") int cleanupBatchSize) {
+        this.mediaUploadSessionRepository = mediaUploadSessionRepository;
+        this.mediaRepository = mediaRepository;
+        this.albumRepository = albumRepository;
+        this.groupMembershipService = groupMembershipService;
+        this.mediaDerivativeRunner = mediaDerivativeRunner;
+        this.s3Service = s3Service;
+        this.uploadBufferPool = uploadBufferPool;
+        this.transactionTemplate = transactionTemplate;
+        this.maxSize = maxSize;
+        this.expiry = Duration.ofHours(expiryHours);
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.cleanupBatchSize = cleanupBatchSize;
+    }
+
+    /**
+     * 업로드 세션을 생성하고 S3 멀티파트 업로드를 시작합니다.
+     *
+     * @param uploadLength   전체 파일 크기 (Upload-Length)
+     * @param metadataHeader Upload-Metadata 헤더 (filename, filetype - 값은 Base64)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MediaUploadSession createSession(Long groupId, Long albumId, long uploadLength, String metadataHeader, User user) {
+        validateMembership(groupId, user);
+        findAlbum(groupId, albumId);
+
+        if (uploadLength <= 0) {
+            throw new FileValidationException("파일이 비어있습니다");
+        }
+        if (uploadLength > maxSize) {
+            throw new UploadException.TooLargeException(maxSize);
+        }
+
+        Map<String, String> metadata = parseMetadata(metadataHeader);
+        String contentType = metadata.getOrDefault("filetype", "").toLowerCase(Locale.ROOT);
+        if (!ALLOWED_TYPES.contains(contentType)) {
+            throw new UploadException.UnsupportedTypeException(contentType);
+        }
+        if (contentType.startsWith("image/") && uploadLength > MAX_IMAGE_SIZE) {
+            throw new UploadException.TooLargeException(MAX_IMAGE_SIZE);
+        }
+        String filename = metadata.getOrDefault("filename", "");
+        if (filename.isBlank()) {
+            filename = DEFAULT_FILENAME;
+        }
+
+        S3Service.MultipartUpload upload = s3Service.createAlbumMultipartUpload(albumId, filename, contentType);
+        try {
+            MediaUploadSession session = mediaUploadSessionRepository.save(MediaUploadSession.builder()
+                    .groupId(groupId)
+                    .albumId(albumId)
+                    .requestedBy(user.getId())
+                    .fileUrl(upload.fileUrl())
+                    .s3UploadId(upload.uploadId())
+                    .contentType(contentType)
+                    .originalFilename(filename)
+                    .uploadLength(uploadLength)
+                    .partSize(uploadBufferPool.getPartSize())
+                    .expiresAt(LocalDateTime.now().plus(expiry))
+                    .build());
+
+            log.info("이어받기 업로드 세션 생성 - sessionId: {}, size: {}, type: {}", session.getId(), uploadLength, contentType);
+            return session;
+        } catch (RuntimeException e) {
+            s3Service.abortAlbumMultipartUpload(upload.fileUrl(), upload.uploadId());
+            throw e;
+        }
+    }
+
+    /**
+     * 업로드 세션(진행 위치)을 조회합니다.
+     */
+    public MediaUploadSession getSession(Long groupId, Long albumId, Long sessionId, User user) {
+        MediaUploadSession session = mediaUploadSessionRepository.findByIdAndRequestedBy(sessionId, user.getId())
+                .filter(found -> found.getGroupId().equals(groupId) && found.getAlbumId().equals(albumId))
+                .orElseThrow(() -> new EntityNotFoundException("업로드 세션을 찾을 수 없습니다: " + sessionId));
+        if (session.isExpired(LocalDateTime.now())) {
+            throw new UploadException.SessionExpiredException();
+        }
+        return session;
+    }
+
+    /**
+     * 조각을 받아 파트 단위로 S3에 저장합니다. 파트가 저장될 때마다 진행 위치를 확정하며,
+     * 마지막 파트까지 받으면 업로드를 완료하고 미디어를 생성합니다.
+     * 파트 하나에 못 미치는 끝부분(마지막 파트 제외)은 버리며, 클라이언트는 응답의 위치부터 다시 보내면 됩니다.
+     *
+     * @param offset        요청의 시작 위치 (Upload-Offset) - 서버에 확정된 위치와 같아야 함
+     * @param contentLength 요청 본문 크기 (모르면 -1)
+     * @return 갱신된 세션 (완료되었으면 mediaId 포함)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MediaUploadSession appendChunk(Long groupId, Long albumId, Long sessionId, long offset, long contentLength,
+                                          InputStream body, User user) {
+        MediaUploadSession session = getSession(groupId, albumId, sessionId, user);
+        long length = session.getUploadLength();
+        if (session.isCompleted()) {
+            if (offset == length) {
+                return session;
+            }
+            throw new UploadException.OffsetMismatchException(length);
+        }
+        if (offset != session.getUploadOffset()) {
+            throw new UploadException.OffsetMismatchException(session.getUploadOffset());
+        }
+        if (contentLength > length - offset) {
+            throw new UploadException.TooLargeException(length - offset);
+        }
+        int partSize = session.getPartSize();
+        if (contentLength >= 0 && contentLength < partSize && offset + contentLength < length) {
+            throw new FileValidationException("마지막 조각을 제외한 조각은 최소 " + partSize + " 바이트여야 합니다");
+        }
+
+        byte[] buffer = uploadBufferPool.acquire();
+        try {
+            if (partSize > buffer.length) {
+                throw new S3Exception("업로드 세션의 파트 크기를 처리할 수 없습니다");
+            }
+            long position = offset;
+            while (position < length) {
+                int partLength = (int) Math.min(partSize, length - position);
+                int filled = readFully(body, buffer, partLength);
+                if (filled < partLength) {
+                    break;
+                }
+                // 첫 파트는 저장 전에 실제 형식 확인 (이후 파트는 첫 파트가 저장된 뒤에만 받음)
+                if (position == 0 && !matchesContentType(buffer, filled, session.getContentType())) {
+                    throw new UploadException.UnsupportedTypeException(session.getContentType());
+                }
+                int partNumber = (int) (position / partSize) + 1;
+                if (position + filled == length) {
+                    return finish(session, partNumber, buffer, filled, user);
+                }
+
+                s3Service.uploadPart(session.getFileUrl(), session.getS3UploadId(), partNumber, buffer, filled);
+                advance(session.getId(), position, position + filled);
+                position += filled;
+            }
+        } catch (IOException e) {
+            // 연결이 끊긴 경우 - 이미 저장된 파트까지는 확정되어 있으므로 클라이언트는 진행 위치를 조회해 이어서 보냄
+            log.info("이어받기 업로드 연결 끊김 - sessionId: {}, {}", sessionId, e.getMessage());
+            throw new FileValidationException("업로드 요청 본문을 끝까지 읽지 못했습니다. 진행 위치를 조회해 이어서 업로드해주세요.");
+        } finally {
+            uploadBufferPool.release(buffer);
+        }
+
+        return mediaUploadSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new EntityNotFoundException("업로드 세션을 찾을 수 없습니다: " + sessionId));
+    }
+
+    /**
+     * 업로드를 중단합니다 (tus 종료). 진행 중인 S3 멀티파트 업로드를 취소하고 세션을 삭제합니다.
+     * 이미 완료된 세션은 생성된 미디어를 그대로 두고 세션만 삭제합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void terminate(Long groupId, Long albumId, Long sessionId, User user) {
+        MediaUploadSession session = mediaUploadSessionRepository.findByIdAndRequestedBy(sessionId, user.getId())
+                .filter(found -> found.getGroupId().equals(groupId) && found.getAlbumId().equals(albumId))
+                .orElseThrow(() -> new EntityNotFoundException("업로드 세션을 찾을 수 없습니다: " + sessionId));
+        if (!session.isCompleted()) {
+            s3Service.abortAlbumMultipartUpload(session.getFileUrl(), session.getS3UploadId());
+        }
+        mediaUploadSessionRepository.delete(session);
+        log.info("이어받기 업로드 중단 - sessionId: {}", sessionId);
+    }
+
+    /**
+     * 만료된 세션을 정리합니다. 완료되지 않은 세션은 S3 멀티파트 업로드를 취소하여 저장된 파트를 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${media.resumable.cleanup-interval-ms:3600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void cleanupExpiredSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        int removed = 0;
+        List<MediaUploadSession> sessions;
+        do {
+            sessions = mediaUploadSessionRepository.findExpiredBefore(now, PageRequest.of(0, cleanupBatchSize));
+            for (MediaUploadSession session : sessions) {
+                if (!session.isCompleted()) {
+                    s3Service.abortAlbumMultipartUpload(session.getFileUrl(), session.getS3UploadId());
+                }
+            }
+            mediaUploadSessionRepository.deleteAllInBatch(sessions);
+            removed += sessions.size();
+        } while (sessions.size() == cleanupBatchSize);
+
+        if (removed > 0) {
+            log.info("만료된 이어받기 업로드 세션 {}건 정리", removed);
+        }
+    }
+
+    /**
+     * Upload-Metadata 헤더를 해석합니다. ("key base64값,key base64값" 형식, 값이 없는 키 허용)
+     */
+    static Map<String, String> parseMetadata(String header) {
+        Map<String, String> metadata = new HashMap<>();
+        if (header == null || header.isBlank()) {
+            return metadata;
+        }
+        for (String pair : header.split(",")) {
+            String[] keyValue = pair.trim().split(" ", 2);
+            if (keyValue[0].isEmpty()) {
+                continue;
+            }
+            String value = "";
+            if (keyValue.length == 2) {
+                try {
+                    value = new String(Base64.getDecoder().decode(keyValue[1].trim()), StandardCharsets.UTF_8);
+                } catch (IllegalArgumentException e) {
+                    throw new FileValidationException("Upload-Metadata 값이 Base64 형식이 아닙니다: " + keyValue[0]);
+                }
+            }
+            metadata.put(keyValue[0], value);
+        }
+        return metadata;
+    }
+
+    /**
+     * 파일 앞부분(매직 넘버)이 선언한 형식과 맞는지 확인합니다.
+     */
+    static boolean matchesContentType(byte[] head, int length, String contentType) {
+        byte[] prefix = Arrays.copyOf(head, Math.min(length, 12));
+        if (contentType.startsWith("image/")) {
+            String sniffed = StreamingMediaUploadService.sniffImageType(prefix);
+            return sniffed != null && sniffed.equals("image/jpg".equals(contentType) ? "image/jpeg" : contentType);
+        }
+        if ("video/webm".equals(contentType)) {
+            return prefix.length >= 4 && (prefix[0] & 0xff) == 0x1A && (prefix[1] & 0xff) == 0x45
+                    && (prefix[2] & 0xff) == 0xDF && (prefix[3] & 0xff) == 0xA3;
+        }
+        // mp4, quicktime, 3gpp - ISO 기본 미디어 파일 형식 (4번째 바이트부터 상자 이름)
+        if (prefix.length < 8) {
+            return false;
+        }
+        String box = new String(prefix, 4, 4, StandardCharsets.US_ASCII);
+        return "ftyp".equals(box) || ("video/quicktime".equals(contentType)
+                && ("moov".equals(box) || "mdat".equals(box) || "wide".equals(box) || "free".equals(box)));
+    }
+
+    // 마지막 파트 저장, 멀티파트 업로드 완료, 미디어 생성
+    private MediaUploadSession finish(MediaUploadSession session, int partNumber, byte[] buffer, int length, User user) {
+        // 이전 요청이 S3 완료 후 미디어 생성 전에 실패했다면 객체가 이미 있으므로 다시 올리지 않음
+        boolean stored = s3Service.headObject(session.getFileUrl())
+                .map(object -> object.contentLength() != null && object.contentLength().equals(session.getUploadLength()))
+                .orElse(false);
+        if (!stored) {
+            s3Service.uploadPart(session.getFileUrl(), session.getS3UploadId(), partNumber, buffer, length);
+            s3Service.completeMultipartUpload(session.getFileUrl(), session.getS3UploadId());
+        }
+
+        return transactionTemplate.execute(status -> {
+            MediaUploadSession locked = mediaUploadSessionRepository.findByIdForUpdate(session.getId())
+                    .orElseThrow(() -> new EntityNotFoundException("업로드 세션을 찾을 수 없습니다: " + session.getId()));
+            if (locked.isCompleted()) {
+                return locked;
+            }
+            Album album = findAlbum(locked.getGroupId(), locked.getAlbumId());
+            Media media = mediaRepository.save(Media.builder()
+                    .fileUrl(locked.getFileUrl())
+                    .fileType(MediaType.fromContentType(locked.getContentType()))
+                    .originalFilename(locked.getOriginalFilename())
+                    .fileSize(locked.getUploadLength())
+                    .album(album)
+                    .uploadedBy(user)
+                    .build());
+            locked.complete(media.getId(), LocalDateTime.now().plus(retention));
+            mediaDerivativeRunner.dispatchAfterCommit(media.getId());
+
+            log.info("이어받기 업로드 완료 - sessionId: {}, mediaId: {}", locked.getId(), media.getId());
+            return locked;
+        });
+    }
+
+    // 저장된 파트만큼 진행 위치를 확정하고 만료 시각을 연장 (다른 요청이 먼저 옮겼으면 충돌)
+    private void advance(Long sessionId, long expected, long offset) {
+        Integer updated = transactionTemplate.execute(status ->
+                mediaUploadSessionRepository.advanceOffset(sessionId, expected, offset, LocalDateTime.now().plus(expiry)));
+        if (updated == null || updated == 0) {
+            long current = mediaUploadSessionRepository.findById(sessionId)
+                    .map(MediaUploadSession::getUploadOffset)
+                    .orElseThrow(() -> new EntityNotFoundException("업로드 세션을 찾을 수 없습니다: " + sessionId));
+            throw new UploadException.OffsetMismatchException(current);
+        }
+    }
+
+    // length 바이트가 찰 때까지 또는 입력이 끝날 때까지 읽음
+    private static int readFully(InputStream input, byte[] buffer, int length) throws IOException {
+        int filled = 0;
+        while (filled < length) {
+            int read = input.read(buffer, filled, length - filled);
+            if (read < 0) {
+                break;
+            }
+            filled += read;
+        }
+        return filled;
+    }
+
+    private void validateMembership(Long groupId, User user) {
+        if (!groupMembershipService.isMember(user.getId(), groupId)) {
+            throw new EntityNotFoundException("User is not a member of this group");
+        }
+    }
+
+    private Album findAlbum(Long groupId, Long albumId) {
+        return albumRepository.findByIdAndGroupId(albumId, groupId)
+                .orElseThrow(() -> new EntityNotFoundException("Album not found in group"));
+    }
+}
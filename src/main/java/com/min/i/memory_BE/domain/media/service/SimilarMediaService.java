@@ -0,0 +1,182 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.min.i.memory_BE.domain.group.service.GroupMembershipService;
+import com.min.i.memory_BE.domain.media.dto.PerceptualHashProjection;
+import com.min.i.memory_BE.domain.media.dto.response.SimilarMediaResponseDto;
+import com.min.i.memory_BE.domain.media.entity.Media;
+import com.min.i.memory_BE.domain.media.repository.MediaRepository;
+import com.min.i.memory_BE.domain.user.entity.User;
+import com.min.i.memory_BE.global.error.exception.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 비슷한 사진(연속 촬영, 재압축된 사본, 같은 사진의 스크린샷) 검색 서비스
+ * 업로드 시 계산한 이미지 해시(dHash)를 그룹별 메모리 인덱스에 보관하고 해밍 거리로 검색합니다.
+ * 인덱스는 처음 조회할 때 Media.perceptualHash 컬럼으로 만들고, 미디어가 삭제되면 무효화하여 다시 만듭니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class SimilarMediaService {
+
+    private final MediaRepository mediaRepository;
+    private final GroupMembershipService groupMembershipService;
+    private final Cache<Long, PerceptualHashIndex> indexes;
+    private final int maxDistance;
+    private final int duplicateDistance;
+
+    public SimilarMediaService(MediaRepository mediaRepository,
+                               GroupMembershipService groupMembershipService,
+                               @Value("${media.similarity.max-distance:10}") int maxDistance,
+                               @Value("${media.similarity.duplicate-distance:6}") int duplicateDistance,
+                               @Value("${media.similarity.cache.max-groups:200}") long maxGroups,
+                               @Value("${media.similarity.cache.ttl-minutes:30}") long ttlMinutes) {
+        this.mediaRepository = mediaRepository;
+        this.groupMembershipService = groupMembershipService;
+        this.maxDistance = maxDistance;
+        this.duplicateDistance = duplicateDistance;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxGroups)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * 이미지 해시를 계산합니다.
+     *
+     * @return 64bit dHash (이미지로 읽을 수 없으면 null)
+     */
+    public Long computeHash(MultipartFile file) {
+        try (InputStream input = file.getInputStream()) {
+            return ImageDifferenceHash.compute(input);
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 해시 계산 실패: {} - {}", file.getOriginalFilename(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 이미지 해시를 계산합니다.
+     *
+     * @return 64bit dHash (이미지로 읽을 수 없으면 null)
+     */
+    public Long computeHash(byte[] content) {
+        try {
+            return ImageDifferenceHash.compute(content);
+        } catch (RuntimeException e) {
+            log.warn("이미지 해시 계산 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 그룹 내에서 주어진 미디어와 비슷한 사진을 거리순으로 조회합니다 (권한 검증 포함).
+     *
+     * @param distance 최대 해밍 거리 (null이면 기본값)
+     */
+    public List<SimilarMediaResponseDto> findSimilar(Long groupId, Long mediaId, Integer distance, User user) {
+        if (!groupMembershipService.isMember(user.getId(), groupId)) {
+            throw new EntityNotFoundException("User is not a member of this group");
+        }
+
+        Media media = mediaRepository.findByIdAndGroupId(mediaId, groupId)
+                .orElseThrow(() -> new EntityNotFoundException("Media not found in group"));
+        if (media.getPerceptualHash() == null) {
+            return Collections.emptyList();
+        }
+
+        int limit = distance == null ? maxDistance
+                : Math.max(0, Math.min(distance, PerceptualHashIndex.MAX_SEARCH_DISTANCE));
+        Map<Long, Integer> distanceByMediaId = search(groupId, mediaId, media.getPerceptualHash(), limit);
+        if (distanceByMediaId.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 인덱스에만 남아 있는 항목(삭제 직후, 롤백된 업로드)은 제외
+        Map<Long, Media> mediaById = mediaRepository.findAllById(distanceByMediaId.keySet()).stream()
+                .collect(Collectors.toMap(Media::getId, Function.identity()));
+        List<SimilarMediaResponseDto> result = new ArrayList<>();
+        distanceByMediaId.forEach((similarId, similarDistance) -> {
+            Media similar = mediaById.get(similarId);
+            if (similar != null) {
+                result.add(SimilarMediaResponseDto.from(similar, similarDistance));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 업로드된 사진과 중복일 가능성이 높은(거리가 매우 가까운) 그룹 내 미디어 ID를 조회합니다.
+     */
+    public List<Long> findPossibleDuplicates(Long groupId, Long mediaId, Long hash) {
+        if (groupId == null || hash == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(search(groupId, mediaId, hash, duplicateDistance).keySet());
+    }
+
+    /**
+     * 새로 업로드된 미디어를 인덱스에 추가합니다. 인덱스가 아직 없으면 처음 조회할 때 DB에서 함께 읽습니다.
+     */
+    public void register(Long groupId, Long mediaId, Long hash) {
+        if (groupId == null || hash == null) {
+            return;
+        }
+        PerceptualHashIndex index = indexes.getIfPresent(groupId);
+        if (index != null) {
+            index.add(mediaId, hash);
+        }
+    }
+
+    /**
+     * 미디어 삭제 후 그룹 인덱스를 무효화합니다 (다음 조회 시 다시 생성).
+     */
+    public void invalidate(Long groupId) {
+        if (groupId != null) {
+            indexes.invalidate(groupId);
+        }
+    }
+
+    // 미디어 ID별 거리 (거리순, 자기 자신 제외)
+    private Map<Long, Integer> search(Long groupId, Long mediaId, long hash, int distance) {
+        Map<Long, Integer> distanceByMediaId = new LinkedHashMap<>();
+        for (PerceptualHashIndex.Match match : indexes.get(groupId, this::loadIndex).search(hash, distance)) {
+            if (!Long.valueOf(match.mediaId()).equals(mediaId)) {
+                distanceByMediaId.putIfAbsent(match.mediaId(), match.distance());
+            }
+        }
+        return distanceByMediaId;
+    }
+
+    private PerceptualHashIndex loadIndex(Long groupId) {
+        long startTime = System.currentTimeMillis();
+        List<PerceptualHashProjection> rows = mediaRepository.findPerceptualHashesByGroupId(groupId);
+        long[] mediaIds = new long[rows.size()];
+        long[] hashes = new long[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            mediaIds[i] = rows.get(i).getId();
+            hashes[i] = rows.get(i).getPerceptualHash();
+        }
+        PerceptualHashIndex index = PerceptualHashIndex.build(mediaIds, hashes);
+        log.debug("유사 이미지 인덱스 생성 - groupId: {}, {}건, {}ms",
+                groupId, rows.size(), System.currentTimeMillis() - startTime);
+        return index;
+    }
+}
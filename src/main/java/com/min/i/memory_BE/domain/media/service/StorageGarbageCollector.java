@@ -0,0 +1,163 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import com.min.i.memory_BE.domain.media.repository.StorageReferenceJdbcRepository;
+import com.min.i.memory_BE.global.service.S3Service;
+import com.min.i.memory_BE.global.service.S3Service.StoredObject;
+import com.min.i.memory_BE.global.service.SchedulerLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DB가 참조하지 않는 S3 객체(고아 객체)를 주기적으로 찾아 삭제합니다.
+ * 1. 모든 참조 URL을 나누어 읽어 객체 키의 블룸 필터를 만듭니다 (참조 목록 전체를 메모리에 올리지 않음).
+ * 2. 접두사별로 ListObjectsV2 페이지를 차례로 받아, 유예 기간보다 오래되었고 필터에 없는 객체만 후보로 고릅니다.
+ * 3. 후보는 삭제 직전에 DB에서 한 번 더 확인한 뒤 DeleteObjects로 지우고, 회수한 용량을 기록합니다.
+ * 유예 기간 안의 객체는 업로드 직후 아직 DB에 저장되지 않았을 수 있으므로 건드리지 않습니다.
+ * 예약 실행은 DB 잠금을 잡은 한 인스턴스에서만 하며, 기본값은 삭제하지 않는 드라이런입니다.
+ */
+@Slf4j
+@Component
+public class StorageGarbageCollector {
+
+    private static final String LOCK_NAME = "storage-gc";
+
+    private final S3Service s3Service;
+    private final StorageReferenceJdbcRepository storageReferenceJdbcRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final boolean enabled;
+    private final boolean dryRun;
+    private final List<String> prefixes;
+    private final Duration gracePeriod;
+    private final double falsePositiveRate;
+    private final int batchSize;
+    private final Duration lockAtMostFor;
+    private final Counter deletedObjects;
+    private final Counter reclaimedBytes;
+
+    /**
+     * 정리 작업 한 번의 결과
+     *
+     * @param scanned        목록 조회한 객체 수
+     * @param deleted        삭제한(드라이런이면 삭제 대상인) 고아 객체 수
+     * @param reclaimedBytes 삭제한 객체의 총 크기
+     */
+    public record Result(long scanned, long deleted, long reclaimedBytes) {
+    }
+
+    public StorageGarbageCollector(S3Service s3Service,
+                                   StorageReferenceJdbcRepository storageReferenceJdbcRepository,
+                                   SchedulerLockService schedulerLockService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${media.storage-gc.enabled:true}") boolean enabled,
+                                   @Value("${media.storage-gc.dry-run:true}") boolean dryRun,
+                                   @Value("${media.storage-gc.prefixes:albums/,groups/,users/,thumbnails/,answers/}") List<String> prefixes,
+                                   @Value("${media.storage-gc.grace-hours:48}") long graceHours,
+                                   @Value("${media.storage-gc.false-positive-rate:0.01}") double falsePositiveRate,
+                                   @Value("${media.storage-gc.batch-size:1000}") int batchSize,
+                                   @Value("${media.storage-gc.lock-at-most-ms:21600000}") long lockAtMostMillis) {
+        this.s3Service = s3Service;
+        this.storageReferenceJdbcRepository = storageReferenceJdbcRepository;
+        this.schedulerLockService = schedulerLockService;
+        this.enabled = enabled;
+        this.dryRun = dryRun;
+        this.prefixes = prefixes;
+        this.gracePeriod = Duration.ofHours(graceHours);
+        this.falsePositiveRate = falsePositiveRate;
+        this.batchSize = batchSize;
+        this.lockAtMostFor = Duration.ofMillis(lockAtMostMillis);
+        this.deletedObjects = meterRegistry.counter("storage.gc.deleted.objects");
+        this.reclaimedBytes = Counter.builder("storage.gc.reclaimed")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${media.storage-gc.initial-delay-ms:600000}",
+            fixedDelayString = "${media.storage-gc.interval-ms:86400000}")
+    public void scheduledCollect() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            schedulerLockService.runLocked(LOCK_NAME, lockAtMostFor, this::collect);
+        } catch (Exception e) {
+            log.error("저장소 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 고아 객체를 찾아 삭제합니다.
+     */
+    public Result collect() {
+        long startTime = System.currentTimeMillis();
+        Instant cutoff = Instant.now().minus(gracePeriod);
+
+        // 1. 참조 키 블룸 필터
+        ObjectKeyBloomFilter referenced = ObjectKeyBloomFilter.create(
+                storageReferenceJdbcRepository.countReferences(), falsePositiveRate);
+        storageReferenceJdbcRepository.forEachReference(batchSize, url -> referenced.put(toKey(url)));
+
+        // 2. 접두사별 목록 조회와 삭제
+        long[] totals = new long[3];
+        for (String prefix : prefixes) {
+            s3Service.listObjects(prefix).forEach(page -> {
+                totals[0] += page.size();
+                List<StoredObject> candidates = page.stream()
+                        .filter(object -> object.lastModified().isBefore(cutoff))
+                        .filter(object -> !referenced.mightContain(object.key()))
+                        .toList();
+                if (candidates.isEmpty()) {
+                    return;
+                }
+
+                // 3. 필터를 만든 뒤 저장된 참조가 있는지 재확인
+                Set<String> stillReferenced = storageReferenceJdbcRepository.findReferenced(
+                        candidates.stream().map(StoredObject::fileUrl).toList());
+                List<StoredObject> orphans = candidates.stream()
+                        .filter(object -> !stillReferenced.contains(object.fileUrl()))
+                        .toList();
+                if (orphans.isEmpty()) {
+                    return;
+                }
+
+                long bytes = orphans.stream().mapToLong(StoredObject::size).sum();
+                if (dryRun) {
+                    orphans.forEach(object -> log.info("[드라이런] 고아 객체: {} ({} bytes)", object.key(), object.size()));
+                } else {
+                    s3Service.deleteObjects(orphans.stream().map(StoredObject::fileUrl).toList());
+                    deletedObjects.increment(orphans.size());
+                    reclaimedBytes.increment(bytes);
+                }
+                totals[1] += orphans.size();
+                totals[2] += bytes;
+            });
+        }
+
+        Result result = new Result(totals[0], totals[1], totals[2]);
+        log.info("저장소 정리 완료{} - 검사 {}개, 고아 객체 {}개, 회수 {}MB ({} bytes), 필터 {}KB, 소요 시간: {}ms",
+                dryRun ? " (드라이런)" : "", result.scanned(), result.deleted(), result.reclaimedBytes() / (1024 * 1024),
+                result.reclaimedBytes(), referenced.bitSize() / 8 / 1024, System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    /**
+     * DB에 저장된 URL을 객체 키로 바꿉니다.
+     * https://bucket.s3.amazonaws.com/key, s3://bucket/key 형식과 키 자체를 모두 받습니다.
+     */
+    static String toKey(String url) {
+        int scheme = url.indexOf("://");
+        if (scheme < 0) {
+            return url;
+        }
+        int path = url.indexOf('/', scheme + 3);
+        return path < 0 ? "" : url.substring(path + 1);
+    }
+}
@@ -0,0 +1,243 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import com.min.i.memory_BE.domain.album.entity.Album;
+import com.min.i.memory_BE.domain.album.repository.AlbumRepository;
+import com.min.i.memory_BE.domain.group.service.GroupMembershipService;
+import com.min.i.memory_BE.domain.media.dto.response.MediaResponseDto;
+import com.min.i.memory_BE.domain.media.entity.Media;
+import com.min.i.memory_BE.domain.media.enums.MediaType;
+import com.min.i.memory_BE.domain.media.repository.MediaRepository;
+import com.min.i.memory_BE.domain.user.entity.User;
+import com.min.i.memory_BE.global.error.exception.EntityNotFoundException;
+import com.min.i.memory_BE.global.error.exception.FileValidationException;
+import com.min.i.memory_BE.global.service.S3Service;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 스트리밍 미디어 업로드
+ * multipart 요청 본문을 서블릿의 multipart 처리(임시 파일 저장) 없이 직접 읽어, 파일 파트를 S3 멀티파트 업로드로 바로 흘려보냅니다.
+ * 파일 형식은 첫 바이트(매직 넘버)로 판별하고, 크기와 SHA-256은 읽는 동안 계산합니다.
+ * 요청 하나가 쓰는 메모리는 파싱 버퍼와 풀에서 빌린 파트 버퍼 하나로 고정되며, 파일 크기에 따라 늘어나지 않습니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class StreamingMediaUploadService {
+
+    private static final String FILE_PART_NAME = "file";
+    private static final int SNIFF_LENGTH = 8;
+    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
+
+    private final MediaRepository mediaRepository;
+    private final AlbumRepository albumRepository;
+    private final GroupMembershipService groupMembershipService;
+    private final MediaDeduplicationService mediaDeduplicationService;
+    private final MediaDerivativeRunner mediaDerivativeRunner;
+    private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
+    private final int parseBufferSize;
+
+    public StreamingMediaUploadService(MediaRepository mediaRepository,
+                                       AlbumRepository albumRepository,
+                                       GroupMembershipService groupMembershipService,
+                                       MediaDeduplicationService mediaDeduplicationService,
+                                       MediaDerivativeRunner mediaDerivativeRunner,
+                                       S3Service s3Service,
+                                       TransactionTemplate transactionTemplate,
+                                       @Value("${media.stream-upload.parse-buffer-size:65536}") int parseBufferSize) {
+        this.mediaRepository = mediaRepository;
+        this.albumRepository = albumRepository;
+        this.groupMembershipService = groupMembershipService;
+        this.mediaDeduplicationService = mediaDeduplicationService;
+        this.mediaDerivativeRunner = mediaDerivativeRunner;
+        this.s3Service = s3Service;
+        this.transactionTemplate = transactionTemplate;
+        this.parseBufferSize = parseBufferSize;
+    }
+
+    /**
+     * multipart 본문의 "file" 파트를 S3에 업로드하고 미디어를 생성합니다.
+     * 같은 내용의 이미지가 이미 저장되어 있으면 방금 올린 객체를 지우고 기존 객체를 참조합니다.
+     * 기존 객체는 미디어 저장 트랜잭션에서 참조 행을 잠근 뒤 재사용하며, 그사이 참조가 모두 삭제되었으면 방금 올린 객체를 사용합니다.
+     *
+     * @param body        요청 본문 (HttpServletRequest#getInputStream)
+     * @param contentType 요청 Content-Type (boundary 포함)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MediaResponseDto upload(InputStream body, String contentType, Long groupId, Long albumId, User user) {
+        if (!groupMembershipService.isMember(user.getId(), groupId)) {
+            throw new EntityNotFoundException("User is not a member of this group");
+        }
+        albumRepository.findByIdAndGroupId(albumId, groupId)
+                .orElseThrow(() -> new EntityNotFoundException("Album not found in group"));
+
+        String boundary = MultipartStreamReader.boundaryOf(contentType);
+        if (boundary == null) {
+            throw new FileValidationException("multipart/form-data 요청이 아닙니다");
+        }
+
+        // 1. 파일 파트를 읽으며 S3에 업로드 (트랜잭션 밖)
+        UploadedFile uploaded;
+        try {
+            MultipartStreamReader reader = new MultipartStreamReader(body, boundary, parseBufferSize);
+            uploaded = uploadFilePart(reader, albumId);
+            // 남은 파트는 읽고 버림 (클라이언트가 본문 전송을 끝낼 수 있도록)
+            while (reader.next() != null) {
+                // 다음 파트로 넘어가며 이전 파트를 건너뜀
+            }
+        } catch (IOException e) {
+            log.warn("스트리밍 업로드 본문 읽기 실패: {}", e.getMessage());
+            throw new FileValidationException("업로드 요청 본문을 읽을 수 없습니다");
+        }
+
+        // 2. 같은 내용의 이미지가 이미 있으면 기존 객체 재사용 (저장 트랜잭션에서 참조 행을 잠가 확인)
+        Optional<String> storedFileUrl = mediaDeduplicationService.findStoredFileUrl(uploaded.contentHash());
+
+        // 3. 미디어 생성
+        MediaResponseDto response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                Album album = albumRepository.findByIdAndGroupId(albumId, groupId)
+                        .orElseThrow(() -> new EntityNotFoundException("Album not found in group"));
+                String fileUrl = storedFileUrl
+                        .filter(mediaDeduplicationService::lockShared)
+                        .orElse(uploaded.fileUrl());
+                Media media = mediaRepository.save(Media.builder()
+                        .fileUrl(fileUrl)
+                        .fileType(MediaType.IMAGE)
+                        .originalFilename(uploaded.originalFilename())
+                        .fileSize(uploaded.size())
+                        .contentHash(uploaded.contentHash())
+                        .album(album)
+                        .uploadedBy(user)
+                        .build());
+                mediaDerivativeRunner.dispatchAfterCommit(media.getId());
+
+                log.info("스트리밍 업로드 완료 - mediaId: {}, size: {}", media.getId(), uploaded.size());
+                return MediaResponseDto.from(media);
+            });
+        } catch (RuntimeException e) {
+            deleteQuietly(uploaded.fileUrl());
+            throw e;
+        }
+
+        if (!uploaded.fileUrl().equals(response.getFileUrl())) {
+            log.info("같은 이미지가 이미 저장되어 있어 업로드한 객체를 삭제하고 재사용합니다: {}", response.getFileUrl());
+            deleteQuietly(uploaded.fileUrl());
+        }
+        return response;
+    }
+
+    private UploadedFile uploadFilePart(MultipartStreamReader reader, Long albumId) throws IOException {
+        MultipartStreamReader.Part part;
+        while ((part = reader.next()) != null) {
+            if (FILE_PART_NAME.equals(part.name()) && part.isFile()) {
+                break;
+            }
+        }
+        if (part == null) {
+            throw new FileValidationException("파일이 비어있습니다");
+        }
+
+        // 첫 바이트로 형식 판별 (클라이언트가 보낸 Content-Type은 사용하지 않음)
+        PushbackInputStream sniffing = new PushbackInputStream(part.body(), SNIFF_LENGTH);
+        byte[] head = sniffing.readNBytes(SNIFF_LENGTH);
+        String contentType = sniffImageType(head);
+        if (contentType == null) {
+            throw new FileValidationException(head.length == 0 ? "파일이 비어있습니다" : "지원하지 않는 이미지 형식입니다");
+        }
+        sniffing.unread(head);
+
+        MessageDigest digest = MediaDeduplicationService.newDigest();
+        SizeLimitedInputStream counted = new SizeLimitedInputStream(new DigestInputStream(sniffing, digest), MAX_FILE_SIZE);
+        String originalFilename = part.filename().isBlank() ? "upload" : part.filename();
+        String fileUrl = s3Service.uploadAlbumImageStream(counted, originalFilename, contentType, albumId);
+
+        return new UploadedFile(fileUrl, originalFilename, counted.getCount(), HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * 파일 앞부분(매직 넘버)으로 이미지 형식을 판별합니다.
+     *
+     * @return 허용된 이미지 형식의 Content-Type (판별할 수 없으면 null)
+     */
+    static String sniffImageType(byte[] head) {
+        if (head.length >= 3 && (head[0] & 0xff) == 0xFF && (head[1] & 0xff) == 0xD8 && (head[2] & 0xff) == 0xFF) {
+            return "image/jpeg";
+        }
+        if (head.length >= 8 && (head[0] & 0xff) == 0x89 && head[1] == 'P' && head[2] == 'N' && head[3] == 'G'
+                && head[4] == '\r' && head[5] == '\n' && head[6] == 0x1A && head[7] == '\n') {
+            return "image/png";
+        }
+        if (head.length >= 4 && head[0] == 'G' && head[1] == 'I' && head[2] == 'F' && head[3] == '8') {
+            return "image/gif";
+        }
+        return null;
+    }
+
+    private void deleteQuietly(String fileUrl) {
+        try {
+            s3Service.deleteImage(fileUrl);
+        } catch (Exception e) {
+            log.warn("스트리밍 업로드 객체 삭제 실패: {}", fileUrl);
+        }
+    }
+
+    private record UploadedFile(String fileUrl, String originalFilename, long size, String contentHash) {
+    }
+
+    // 읽은 바이트 수를 세고, 최대 크기를 넘으면 읽기를 중단
+    private static final class SizeLimitedInputStream extends FilterInputStream {
+
+        private final long maxSize;
+        private long count;
+
+        SizeLimitedInputStream(InputStream input, long maxSize) {
+            super(input);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                add(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                add(read);
+            }
+            return read;
+        }
+
+        private void add(int read) {
+            count += read;
+            if (count > maxSize) {
+                throw new FileValidationException("파일 크기가 10MB를 초과합니다");
+            }
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.min.i.memory_BE.domain.user.event;
+
+import lombok.Getter;
+
+/**
+ * 사용자 계정 정보(프로필, 비밀번호, 상태, 잠금 여부)가 변경되거나 삭제되었을 때 발행되는 이벤트
+ */
+@Getter
+public class UserAccountChangedEvent {
+    private final String email;
+
+    public UserAccountChangedEvent(String email) {
+        this.email = email;
+    }
+}
@@ -1,16 +1,22 @@
 package com.min.i.memory_BE.domain.user.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.min.i.memory_BE.domain.user.entity.User;
+import com.min.i.memory_BE.domain.user.event.UserAccountChangedEvent;
 import com.min.i.memory_BE.domain.user.repository.UserRepository;
 import com.min.i.memory_BE.domain.user.security.CustomUserDetails;
 import com.min.i.memory_BE.global.config.SecurityConfig;
+import java.time.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 public class MyUserDetailsService implements UserDetailsService {
@@ -18,9 +24,18 @@ public class MyUserDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
     private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
 
+    // JWT 인증 필터에서 사용하는 짧은 TTL의 사용자 정보 캐시 (계정 변경 시 무효화)
+    private final Cache<String, CustomUserDetails> principalCache;
+
     @Autowired
-    public MyUserDetailsService(UserRepository userRepository) {
+    public MyUserDetailsService(UserRepository userRepository,
+                                @Value("${jwt.principal-cache.max-size:10000}") long maxSize,
+                                @Value("${jwt.principal-cache.ttl-seconds:60}") long ttlSeconds) {
         this.userRepository = userRepository;
+        this.principalCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
     }
 
     @Override
@@ -31,4 +46,18 @@ public class MyUserDetailsService implements UserDetailsService {
         logger.debug("User found: {}", user.getEmail());
         return new CustomUserDetails(user);
     }
+
+    /**
+     * 요청 인증용 사용자 조회 - 캐시에 있으면 DB를 조회하지 않습니다.
+     * 로그인(비밀번호 검증)에는 항상 최신 정보를 읽는 loadUserByUsername을 사용합니다.
+     */
+    public CustomUserDetails loadCachedUserByEmail(String email) throws UsernameNotFoundException {
+        return principalCache.get(email, key -> (CustomUserDetails) loadUserByUsername(key));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        principalCache.invalidate(event.getEmail());
+        logger.debug("사용자 인증 캐시 무효화: {}", event.getEmail());
+    }
 }
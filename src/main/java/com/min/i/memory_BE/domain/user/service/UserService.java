@@ -8,6 +8,7 @@ import com.min.i.memory_BE.domain.user.entity.User;
 import com.min.i.memory_BE.domain.user.enums.UserStatus;
 import com.min.i.memory_BE.domain.user.repository.UserRepository;
 import com.min.i.memory_BE.domain.user.event.EmailVerificationEvent;
+import com.min.i.memory_BE.domain.user.event.UserAccountChangedEvent;
 import com.min.i.memory_BE.global.security.jwt.JwtTokenProvider;
 import com.min.i.memory_BE.global.service.S3Service;
 import io.jsonwebtoken.Claims;
@@ -193,6 +194,7 @@ public class UserService {
               updatedUser.setUpdatedAt(LocalDateTime.now());
               
               userRepository.save(updatedUser);
+              eventPublisher.publishEvent(new UserAccountChangedEvent(email));
               return newAttempts;
           })
           .orElse(0);
@@ -211,6 +213,7 @@ public class UserService {
             unlockedUser.setUpdatedAt(LocalDateTime.now());
             
             userRepository.save(unlockedUser);
+            eventPublisher.publishEvent(new UserAccountChangedEvent(email));
         }
     }
     
@@ -247,7 +250,9 @@ public class UserService {
         updatedUser.setCreatedAt(user.getCreatedAt());
         updatedUser.setUpdatedAt(LocalDateTime.now());
         
-        return userRepository.save(updatedUser);
+        User savedUser = userRepository.save(updatedUser);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(email));
+        return savedUser;
     }
     
     // 비밀번호 재설정 관련 메서드
@@ -313,6 +318,7 @@ public class UserService {
         updatedUser.setUpdatedAt(LocalDateTime.now());
         
         userRepository.save(updatedUser);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(email));
     }
     
     // 계정 상태 관리 메서드
@@ -328,6 +334,7 @@ public class UserService {
         updatedUser.setUpdatedAt(LocalDateTime.now());
         
         userRepository.save(updatedUser);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(email));
         
         eventPublisher.publishEvent(new EmailVerificationEvent(
           email,
@@ -352,6 +359,7 @@ public class UserService {
         updatedUser.setUpdatedAt(LocalDateTime.now());
         
         userRepository.save(updatedUser);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(email));
         
         eventPublisher.publishEvent(new EmailVerificationEvent(
           email,
@@ -364,6 +372,7 @@ public class UserService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(email));
     }
     
     // 유틸리티 메서드
@@ -0,0 +1,216 @@
+package com.min.i.memory_BE.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 백그라운드 작업용 스레드 풀 설정
+ * 요청 스레드(Tomcat)가 외부 서버 응답을 기다리며 점유되지 않도록 작업별로 크기가 제한된 풀을 둡니다.
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Value("${analysis.job.pool-size:4}")
+    private int analysisPoolSize;
+
+    @Value("${analysis.job.queue-capacity:100}")
+    private int analysisQueueCapacity;
+
+    @Value("${media.io.pool-size:8}")
+    private int mediaIoPoolSize;
+
+    @Value("${media.io.queue-capacity:50}")
+    private int mediaIoQueueCapacity;
+
+    @Value("${media.batch-upload.pool-size:16}")
+    private int mediaUploadPoolSize;
+
+    @Value("${media.batch-upload.queue-capacity:100}")
+    private int mediaUploadQueueCapacity;
+
+    @Value("${media.deletion.pool-size:2}")
+    private int deletionPoolSize;
+
+    @Value("${media.deletion.queue-capacity:100}")
+    private int deletionQueueCapacity;
+
+    @Value("${fastapi.hedge.pool-size:8}")
+    private int fastApiHedgePoolSize;
+
+    @Value("${audio.transcode.pool-size:4}")
+    private int audioTranscodePoolSize;
+
+    @Value("${audio.transcode.queue-capacity:20}")
+    private int audioTranscodeQueueCapacity;
+
+    @Value("${google.speech.chunk.pool-size:8}")
+    private int speechChunkPoolSize;
+
+    @Value("${google.speech.chunk.queue-capacity:50}")
+    private int speechChunkQueueCapacity;
+
+    @Value("${answer.transcription.pool-size:4}")
+    private int answerTranscriptionPoolSize;
+
+    @Value("${answer.transcription.queue-capacity:100}")
+    private int answerTranscriptionQueueCapacity;
+
+    @Value("${media.derivative.pool-size:2}")
+    private int mediaDerivativePoolSize;
+
+    @Value("${media.derivative.queue-capacity:200}")
+    private int mediaDerivativeQueueCapacity;
+
+    /**
+     * 이미지 분석 작업 실행기 - 대기열이 가득 차면 RejectedExecutionException 발생
+     */
+    @Bean(name = "analysisJobExecutor")
+    public ThreadPoolTaskExecutor analysisJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(analysisPoolSize);
+        executor.setMaxPoolSize(analysisPoolSize);
+        executor.setQueueCapacity(analysisQueueCapacity);
+        executor.setThreadNamePrefix("analysis-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 미디어 I/O(S3 업로드, FastAPI 전송) 병렬 실행기
+     * 요청 스레드가 결과를 기다리는 용도이므로, 포화 시에는 요청 스레드에서 직접 실행하여 지연만 늘어나도록 합니다.
+     */
+    @Bean(name = "mediaIoExecutor")
+    public ThreadPoolTaskExecutor mediaIoExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mediaIoPoolSize);
+        executor.setMaxPoolSize(mediaIoPoolSize);
+        executor.setQueueCapacity(mediaIoQueueCapacity);
+        executor.setThreadNamePrefix("media-io-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 일괄 업로드의 S3 업로드 병렬 실행기
+     * 여러 요청의 일괄 업로드가 함께 쓰는 고정 크기 풀로, 포화 시에는 요청 스레드에서 직접 실행하여 동시 업로드 수를 제한합니다.
+     */
+    @Bean(name = "mediaUploadExecutor")
+    public ThreadPoolTaskExecutor mediaUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mediaUploadPoolSize);
+        executor.setMaxPoolSize(mediaUploadPoolSize);
+        executor.setQueueCapacity(mediaUploadQueueCapacity);
+        executor.setThreadNamePrefix("media-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 그룹/앨범 삭제 작업 실행기 - 포화 시 TaskRejectedException이 발생하며, 거절된 작업은 주기적인 재처리에서 실행됩니다.
+     */
+    @Bean(name = "deletionExecutor")
+    public ThreadPoolTaskExecutor deletionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(deletionPoolSize);
+        executor.setMaxPoolSize(deletionPoolSize);
+        executor.setQueueCapacity(deletionQueueCapacity);
+        executor.setThreadNamePrefix("deletion-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * FastAPI 헤지 요청 실행기 - 포화 시 TaskRejectedException이 발생하며, 이때는 헤지 없이 호출합니다.
+     */
+    @Bean(name = "fastApiHedgeExecutor")
+    public ThreadPoolTaskExecutor fastApiHedgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(fastApiHedgePoolSize);
+        executor.setMaxPoolSize(fastApiHedgePoolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("fastapi-hedge-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 음성 변환(ffmpeg) 실행기 - 동시에 실행되는 ffmpeg 프로세스 수를 제한하며, 포화 시 TaskRejectedException이 발생합니다.
+     */
+    @Bean(name = "audioTranscodeExecutor")
+    public ThreadPoolTaskExecutor audioTranscodeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(audioTranscodePoolSize);
+        executor.setMaxPoolSize(audioTranscodePoolSize);
+        executor.setQueueCapacity(audioTranscodeQueueCapacity);
+        executor.setThreadNamePrefix("audio-transcode-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 긴 음성의 구간별 병렬 인식 실행기
+     * 요청 스레드가 결과를 기다리는 용도이므로, 포화 시에는 요청 스레드에서 직접 실행하여 지연만 늘어나도록 합니다.
+     */
+    @Bean(name = "speechChunkExecutor")
+    public ThreadPoolTaskExecutor speechChunkExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(speechChunkPoolSize);
+        executor.setMaxPoolSize(speechChunkPoolSize);
+        executor.setQueueCapacity(speechChunkQueueCapacity);
+        executor.setThreadNamePrefix("speech-chunk-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 음성 답변 텍스트 변환 실행기 - 대기열이 가득 차면 TaskRejectedException이 발생하며, 해당 답변은 변환 실패로 처리합니다.
+     */
+    @Bean(name = "answerTranscriptionExecutor")
+    public ThreadPoolTaskExecutor answerTranscriptionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(answerTranscriptionPoolSize);
+        executor.setMaxPoolSize(answerTranscriptionPoolSize);
+        executor.setQueueCapacity(answerTranscriptionQueueCapacity);
+        executor.setThreadNamePrefix("answer-transcription-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 축소 이미지 생성 실행기 - 디코딩이 CPU와 메모리를 많이 쓰므로 작게 유지하며,
+     * 대기열이 가득 차면 TaskRejectedException이 발생하고 해당 미디어는 백필 작업이 처리합니다.
+     */
+    @Bean(name = "mediaDerivativeExecutor")
+    public ThreadPoolTaskExecutor mediaDerivativeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mediaDerivativePoolSize);
+        executor.setMaxPoolSize(mediaDerivativePoolSize);
+        executor.setQueueCapacity(mediaDerivativeQueueCapacity);
+        executor.setThreadNamePrefix("media-derivative-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,87 @@
+package com.min.i.memory_BE.global.config;
+
+import com.min.i.memory_BE.global.entity.IdGeneration;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * IDENTITY -> 시퀀스(pooled) 전환 시 기존 id를 보존하기 위한 시퀀스 보정
+ * 기존 테이블의 최대 id보다 시퀀스가 뒤에 있으면 (최대 id + 할당 크기 + 1)로 앞당겨, 새로 발급되는 id가 기존 id와 겹치지 않게 합니다.
+ * 스키마가 생성된 뒤(EntityManagerFactory 초기화 이후), 요청을 받기 전에 실행됩니다.
+ * 보정에 실패하면 기존 id와 겹치는 id가 발급될 수 있으므로 애플리케이션 시작을 중단합니다.
+ */
+@Slf4j
+@Component
+public class IdSequenceInitializer implements InitializingBean {
+
+    // 테이블명 -> 시퀀스명
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "media", "media_seq",
+            "questions", "questions_seq",
+            "answers", "answers_seq",
+            "stories", "stories_seq",
+            "user_groups", "user_groups_seq"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 스키마 생성(ddl-auto) 이후에 실행되도록 EntityManagerFactory에 의존
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        String databaseName = detectDatabase();
+        SEQUENCES.forEach((table, sequence) -> {
+            try {
+                alignSequence(databaseName, table, sequence);
+            } catch (Exception e) {
+                log.error("시퀀스 보정 실패 - table: {}, sequence: {}, {}", table, sequence, e.getMessage());
+                throw new IllegalStateException("시퀀스 보정에 실패했습니다: " + sequence, e);
+            }
+        });
+    }
+
+    private void alignSequence(String databaseName, String table, String sequence) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        if (maxId == null || maxId == 0) {
+            return;
+        }
+        long target = maxId + IdGeneration.ALLOCATION_SIZE + 1;
+
+        if (databaseName.contains("h2")) {
+            Long current = jdbcTemplate.queryForObject(
+                    "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE LOWER(SEQUENCE_NAME) = ?",
+                    Long.class, sequence);
+            if (current == null || current < target) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + target);
+                log.info("시퀀스 보정 - {}: {} -> {}", sequence, current, target);
+            }
+        } else {
+            // MySQL: Hibernate가 시퀀스를 next_val 컬럼 하나짜리 테이블로 대체
+            // 다른 인스턴스가 그사이 id 블록을 할당했을 수 있으므로 읽고 쓰지 않고 한 문장으로 앞으로만 옮김 (되돌리면 id 중복 발급)
+            int updated = jdbcTemplate.update(
+                    "UPDATE " + sequence + " SET next_val = GREATEST(next_val, ?)", target);
+            if (updated > 0) {
+                log.info("시퀀스 보정 - {}: -> {} 이상", sequence, target);
+            }
+        }
+    }
+
+    private String detectDatabase() {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(
+                    jdbcTemplate.getDataSource(), metaData -> metaData.getDatabaseProductName());
+            return productName.toLowerCase();
+        } catch (Exception e) {
+            throw new IllegalStateException("데이터베이스 종류 확인에 실패했습니다.", e);
+        }
+    }
+}
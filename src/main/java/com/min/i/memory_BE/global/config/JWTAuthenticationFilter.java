@@ -1,6 +1,6 @@
 package com.min.i.memory_BE.global.config;
 
-import com.min.i.memory_BE.global.security.jwt.JwtTokenProvider;
+import com.min.i.memory_BE.global.security.jwt.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -11,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.stereotype.Component;
 import lombok.RequiredArgsConstructor;
@@ -25,9 +26,24 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter {
 
     //JWT를 사용하여 요청이 들어올 때마다 인증을 처리하는 필터 - 인증된 사용자인지 확인하고, 그에 맞는 권한을 부여함.
 
-    private final JwtTokenProvider jwtTokenProvider;  // JwtTokenProvider를 주입받음
+    private final VerifiedTokenCache verifiedTokenCache;  // 검증된 토큰 캐시 (서명 검증 결과 재사용)
     private final MyUserDetailsService userDetailsService;
     private static final Logger logger = LoggerFactory.getLogger(JWTAuthenticationFilter.class);
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    @Override // 공개 경로와 CORS preflight 요청은 토큰 검증 및 사용자 조회를 하지 않음
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
+            return true;
+        }
+        String path = request.getServletPath();
+        for (String publicPath : SecurityConfig.PUBLIC_PATHS) {
+            if (PATH_MATCHER.match(publicPath, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override //HTTP 요청을 처리
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -46,11 +62,10 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter {
             }
 
             // 토큰이 있고 유효한 경우에만 인증 처리
-            if (jwtToken != null && jwtTokenProvider.validateToken(jwtToken)) {
-                String email = jwtTokenProvider.getEmailFromToken(jwtToken);
-                
-                // CustomUserDetails 객체 생성
-                CustomUserDetails userDetails = (CustomUserDetails) userDetailsService.loadUserByUsername(email);
+            String email = jwtToken != null ? verifiedTokenCache.resolveEmail(jwtToken) : null;
+            if (email != null) {
+                // CustomUserDetails 객체 조회 (짧은 TTL 캐시 사용)
+                CustomUserDetails userDetails = userDetailsService.loadCachedUserByEmail(email);
                 
                 // Authentication 객체 생성 시 CustomUserDetails 사용
                 Authentication authentication = new UsernamePasswordAuthenticationToken(
@@ -1,9 +1,16 @@
 package com.min.i.memory_BE.global.config;
 
+import com.min.i.memory_BE.domain.media.client.FastApiEndpoint;
 import com.min.i.memory_BE.global.error.exception.FastApiServiceException;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -21,47 +28,127 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 @Configuration
 public class RestClientConfig {
-    
+
     @Value("${fastapi.server.url}")
     private String fastApiUrl;
-    
+
     @Value("${fastapi.connection.timeout:5000}")
     private int connectionTimeout;
-    
+
     @Value("${fastapi.read.timeout:30000}")
     private int readTimeout;
-    
-    @Bean
-    public RestTemplate restTemplate() {
-        RequestConfig config = RequestConfig.custom()
+
+    // 엔드포인트별 응답 타임아웃 (ms)
+    @Value("${fastapi.timeout.analyze:30000}")
+    private int analyzeTimeout;
+
+    @Value("${fastapi.timeout.generate-story:90000}")
+    private int generateStoryTimeout;
+
+    @Value("${fastapi.timeout.health-check:3000}")
+    private int healthCheckTimeout;
+
+    // 커넥션 풀 설정
+    @Value("${fastapi.pool.max-total:50}")
+    private int maxTotal;
+
+    @Value("${fastapi.pool.max-per-route:20}")
+    private int maxPerRoute;
+
+    @Value("${fastapi.pool.acquire-timeout:2000}")
+    private int acquireTimeout;
+
+    @Value("${fastapi.pool.idle-evict-seconds:30}")
+    private int idleEvictSeconds;
+
+    @Value("${fastapi.pool.keep-alive-seconds:30}")
+    private int keepAliveSeconds;
+
+    @Value("${fastapi.pool.time-to-live-seconds:300}")
+    private int timeToLiveSeconds;
+
+    /**
+     * FastAPI 서버 전용 커넥션 풀
+     * 오래 유휴 상태였던 커넥션은 재사용 전에 검증하고, 수명(TTL)이 지난 커넥션은 폐기합니다.
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager fastApiConnectionManager() {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
                 .setConnectTimeout(Timeout.of(connectionTimeout, TimeUnit.MILLISECONDS))
-                .setResponseTimeout(Timeout.of(readTimeout, TimeUnit.MILLISECONDS))
+                .setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(idleEvictSeconds / 2))
+                .build();
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(connectionConfig)
                 .build();
-        
-        HttpClientBuilder clientBuilder = HttpClientBuilder.create()
-                .setDefaultRequestConfig(config);
-        
-        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(
-                clientBuilder.build());
-        
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient fastApiHttpClient(PoolingHttpClientConnectionManager fastApiConnectionManager) {
+        return HttpClientBuilder.create()
+                .setConnectionManager(fastApiConnectionManager)
+                .setDefaultRequestConfig(requestConfig(readTimeout))
+                // 유휴/만료 커넥션을 백그라운드에서 정리하여 서버가 먼저 끊은 커넥션을 재사용하지 않도록 함
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                .evictExpiredConnections()
+                // 재시도는 FastApiTransport에서 엔드포인트 멱등성을 고려해 처리
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient fastApiHttpClient) {
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(fastApiHttpClient);
+
+        // 요청 경로에 따라 엔드포인트별 응답 타임아웃 적용
+        factory.setHttpContextFactory((httpMethod, uri) -> {
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(requestConfig(responseTimeout(FastApiEndpoint.fromPath(uri.getPath()))));
+            return context;
+        });
+
         RestTemplate restTemplate = new RestTemplate(factory);
-        
+
         restTemplate.setErrorHandler(new ResponseErrorHandler() {
             @Override
             public boolean hasError(ClientHttpResponse response) throws IOException {
-                return response.getStatusCode().is4xxClientError() || 
+                return response.getStatusCode().is4xxClientError() ||
                        response.getStatusCode().is5xxServerError();
             }
-            
+
             @Override
             public void handleError(ClientHttpResponse response) throws IOException {
                 throw new FastApiServiceException(
-                    "FastAPI 서버 오류: " + response.getStatusCode() + " " + 
-                    StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8)
+                    "FastAPI 서버 오류: " + response.getStatusCode() + " " +
+                    StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8),
+                    response.getStatusCode().value()
                 );
             }
         });
-        
+
         return restTemplate;
     }
-} 
\ No newline at end of file
+
+    private int responseTimeout(FastApiEndpoint endpoint) {
+        if (endpoint == null) {
+            return readTimeout;
+        }
+        return switch (endpoint) {
+            case ANALYZE_IMAGE, ANALYZE_IMAGE_URL -> analyzeTimeout;
+            case GENERATE_STORY, GENERATE_STORY_STREAM -> generateStoryTimeout;
+            case HEALTH_CHECK -> healthCheckTimeout;
+        };
+    }
+
+    private RequestConfig requestConfig(int responseTimeoutMillis) {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(acquireTimeout, TimeUnit.MILLISECONDS))
+                .setResponseTimeout(Timeout.of(responseTimeoutMillis, TimeUnit.MILLISECONDS))
+                // 서버가 Keep-Alive 헤더를 보내지 않을 때 적용할 유지 시간
+                .setConnectionKeepAlive(TimeValue.ofSeconds(keepAliveSeconds))
+                .build();
+    }
+}
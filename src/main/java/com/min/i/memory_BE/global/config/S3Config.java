@@ -8,6 +8,7 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
 public class S3Config {
@@ -42,4 +43,13 @@ public class S3Config {
 
     return client;
   }
+
+  // 클라이언트가 S3에 직접 업로드할 수 있도록 서명된 URL 생성
+  @Bean
+  public S3Presigner s3Presigner() {
+    return S3Presigner.builder()
+            .region(Region.of(region))
+            .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
+            .build();
+  }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.min.i.memory_BE.global.config;
 
 import com.min.i.memory_BE.domain.user.service.MyUserDetailsService;
 import com.min.i.memory_BE.global.security.jwt.JwtTokenProvider;
+import com.min.i.memory_BE.global.security.jwt.VerifiedTokenCache;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +37,27 @@ public class SecurityConfig {
 
     private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
 
+    // 인증 없이 접근 가능한 경로 (JWTAuthenticationFilter도 이 경로는 건너뜀)
+    public static final String[] PUBLIC_PATHS = {
+            "/h2-console/**",
+            "/swagger-ui/**",
+            "/swagger-ui.html",
+            "/v3/api-docs/**",
+            "/api/v1/mock/**",
+            "/register/send-verification-code",
+            "/register/verify-email",
+            "/register/complete-register",
+            "/user/password/reset-request",
+            "/user/password/verify-code",
+            "/user/password/reset",
+            "/user/loginPage",
+            "/oauth/callback",
+            "/oauth/login",
+            "/auth/login",
+            "/api/v1/test/**",
+            "/api/answers/speech-to-text"
+    };
+
     @Autowired
     private MyUserDetailsService myUserDetailsService;
 
@@ -45,9 +67,12 @@ public class SecurityConfig {
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
     @Bean
     public JWTAuthenticationFilter jwtAuthenticationFilter() {
-        return new JWTAuthenticationFilter(jwtTokenProvider, myUserDetailsService);  // JWTAuthenticationFilter를 빈으로 등록
+        return new JWTAuthenticationFilter(verifiedTokenCache, myUserDetailsService);  // JWTAuthenticationFilter를 빈으로 등록
     }
 
     @Bean
@@ -64,18 +89,30 @@ public class SecurityConfig {
     public CorsConfigurationSource corsConfigurationSource() {
       CorsConfiguration configuration = new CorsConfiguration();
       configuration.setAllowedOrigins(Arrays.asList("http://localhost:3000","https://min-21h87evi1-yeonguks-projects.vercel.app","https://min-i.vercel.app","https://min-i-git-develop-yeonguks-projects.vercel.app"));
-      configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+      configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "HEAD", "DELETE", "OPTIONS"));
       configuration.setAllowedHeaders(Arrays.asList(
         "Authorization",
         "Content-Type",
         "Access-Control-Allow-Origin",
         "Access-Control-Allow-Credentials",
         "X-Requested-With",
-        "Cookie"
+        "Cookie",
+        // 이어받기 업로드 (tus)
+        "Tus-Resumable",
+        "Upload-Length",
+        "Upload-Offset",
+        "Upload-Metadata"
       ));
       configuration.setExposedHeaders(Arrays.asList(
         "Authorization",
-        "Set-Cookie"
+        "Set-Cookie",
+        "Location",
+        "Tus-Resumable",
+        "Upload-Length",
+        "Upload-Offset",
+        "Upload-Expires",
+        "Upload-Part-Size",
+        "Upload-Media-Id"
       ));
       configuration.setAllowCredentials(true);
       configuration.setMaxAge(3600L);
@@ -100,25 +137,7 @@ public class SecurityConfig {
             .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
           .authorizeHttpRequests(auth -> auth
             .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
-                .requestMatchers(
-                        "/h2-console/**",
-                        "/swagger-ui/**",
-                        "/swagger-ui.html",
-                        "/v3/api-docs/**",
-                        "/api/v1/mock/**",
-                        "/register/send-verification-code",
-                        "/register/verify-email",
-                        "/register/complete-register",
-                        "/user/password/reset-request",
-                        "/user/password/verify-code",
-                        "/user/password/reset",
-                        "/user/loginPage",
-                        "/oauth/callback",
-                        "/oauth/login",
-                        "/auth/login",
-                        "/api/v1/test/**",
-                        "/api/answers/speech-to-text"
-            ).permitAll()
+                .requestMatchers(PUBLIC_PATHS).permitAll()
 //            .requestMatchers("/user/update", "/user/delete",
 //              "/user/activate", "/user/deactivate",
 //              "/auth/logout", "/oauth/logout","/api/v1/groups/**","/api/v1/albums/**","/api/v1/media/**",
@@ -0,0 +1,45 @@
+package com.min.i.memory_BE.global.config;
+
+import com.min.i.memory_BE.global.service.UploadBufferPool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 업로드 방식별 S3 파트 버퍼 풀 설정
+ * 이어받기 업로드는 클라이언트가 조각을 보내는 동안 버퍼를 붙잡고 있으므로,
+ * 스트리밍 업로드(/media/stream)와 풀을 나누어 느린 이어받기 요청이 스트리밍 업로드를 막지 않도록 합니다.
+ */
+@Configuration
+public class UploadBufferConfig {
+
+    @Value("${media.stream-upload.part-size:5242880}")
+    private int streamPartSize;
+
+    @Value("${media.stream-upload.buffer-count:8}")
+    private int streamBufferCount;
+
+    @Value("${media.stream-upload.acquire-timeout-ms:10000}")
+    private long streamAcquireTimeoutMs;
+
+    @Value("${media.resumable.part-size:5242880}")
+    private int resumablePartSize;
+
+    @Value("${media.resumable.buffer-count:4}")
+    private int resumableBufferCount;
+
+    @Value("${media.resumable.acquire-timeout-ms:2000}")
+    private long resumableAcquireTimeoutMs;
+
+    // 스트리밍 업로드 (/media/stream)
+    @Bean
+    public UploadBufferPool streamUploadBufferPool() {
+        return new UploadBufferPool("stream-upload", streamPartSize, streamBufferCount, streamAcquireTimeoutMs);
+    }
+
+    // 이어받기 업로드 조각 전송
+    @Bean
+    public UploadBufferPool resumableUploadBufferPool() {
+        return new UploadBufferPool("resumable", resumablePartSize, resumableBufferCount, resumableAcquireTimeoutMs);
+    }
+}
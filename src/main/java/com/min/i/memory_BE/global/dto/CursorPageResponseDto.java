@@ -0,0 +1,20 @@
+package com.min.i.memory_BE.global.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(키셋) 기반 페이징 API 응답을 위한 공통 DTO 클래스
+ * 전체 개수를 세지 않으므로 페이지 깊이와 관계없이 조회 비용이 일정합니다.
+ * @param <T> 페이징 데이터 타입
+ */
+@Getter
+@Builder
+public class CursorPageResponseDto<T> {
+    private List<T> content;       // 페이지 데이터
+    private int size;              // 요청한 페이지 크기
+    private String nextCursor;     // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private boolean hasNext;       // 다음 페이지 존재 여부
+}
@@ -0,0 +1,15 @@
+package com.min.i.memory_BE.global.entity;
+
+/**
+ * 시퀀스(pooled) 기반 id 생성 설정
+ * IDENTITY 전략은 INSERT 시점에 id를 받아야 하므로 Hibernate 배치 INSERT가 비활성화됩니다.
+ * 쓰기가 많은 엔티티는 시퀀스에서 ALLOCATION_SIZE 단위로 id를 미리 할당받아 배치 INSERT를 사용합니다.
+ * (MySQL은 시퀀스를 지원하지 않으므로 Hibernate가 {sequenceName} 테이블로 대체합니다.)
+ */
+public final class IdGeneration {
+
+  public static final int ALLOCATION_SIZE = 50;
+
+  private IdGeneration() {
+  }
+}
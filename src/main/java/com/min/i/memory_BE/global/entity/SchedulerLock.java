@@ -0,0 +1,35 @@
+package com.min.i.memory_BE.global.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예약 작업 잠금 (작업 이름별 임대 행)
+ * 여러 인스턴스 중 locked_until이 지난 행을 먼저 갱신한 인스턴스만 작업을 실행합니다.
+ * 행은 SchedulerLockService가 JDBC로 직접 갱신하며, 엔티티는 테이블 생성용입니다.
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLock {
+
+  @Id
+  @Column(length = 64)
+  private String name;
+
+  @Column(name = "locked_until", nullable = false)
+  private LocalDateTime lockedUntil;
+
+  @Column(name = "locked_at", nullable = false)
+  private LocalDateTime lockedAt;
+
+  @Column(name = "locked_by", nullable = false, length = 100)
+  private String lockedBy;
+}
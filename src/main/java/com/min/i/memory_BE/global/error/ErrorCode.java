@@ -18,7 +18,13 @@ public enum ErrorCode {
   GROUP_MEMBER_NOT_FOUND(404, "G004", "그룹 멤버를 찾을 수 없습니다"),
   INVALID_GROUP_OPERATION(400, "G005", "잘못된 그룹 작업입니다"),
   NOT_GROUP_OWNER(403, "G006", "그룹 소유자 권한이 필요합니다"),
-  OWNER_CANNOT_BE_REMOVED(400, "G007", "그룹 소유자는 삭제할 수 없습니다");
+  OWNER_CANNOT_BE_REMOVED(400, "G007", "그룹 소유자는 삭제할 수 없습니다"),
+  
+  // Upload
+  UPLOAD_OFFSET_MISMATCH(409, "U001", "업로드 위치가 서버에 저장된 위치와 다릅니다"),
+  UPLOAD_EXPIRED(410, "U002", "업로드 세션이 만료되었습니다"),
+  UPLOAD_TOO_LARGE(413, "U003", "업로드 크기가 허용된 크기를 초과합니다"),
+  UNSUPPORTED_UPLOAD_TYPE(415, "U004", "지원하지 않는 파일 형식입니다");
   
   private final int status;
   private final String code;
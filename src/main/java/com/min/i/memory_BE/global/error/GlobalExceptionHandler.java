@@ -1,8 +1,10 @@
 package com.min.i.memory_BE.global.error;
 
 import com.min.i.memory_BE.global.error.exception.ApiException;
+import com.min.i.memory_BE.global.error.exception.FastApiCircuitOpenException;
 import com.min.i.memory_BE.global.response.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -42,6 +44,19 @@ public class GlobalExceptionHandler {
       ));
   }
   
+  // FastAPI 서킷 차단: 차단이 풀릴 때까지 남은 시간(초)을 Retry-After로 안내
+  @ExceptionHandler(FastApiCircuitOpenException.class)
+  public ResponseEntity<?> handleFastApiCircuitOpenException(FastApiCircuitOpenException e) {
+    log.warn(e.getMessage());
+    long retryAfterSeconds = Math.max(1, (e.getRetryAfterMillis() + 999) / 1000);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+      .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+      .body(Map.of(
+        "message", "분석 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.",
+        "status", "error"
+      ));
+  }
+  
   @ExceptionHandler(Exception.class)
   public ResponseEntity<?> handleAllException(Exception e) {
     log.error("Unexpected error occurred: ", e);
@@ -0,0 +1,20 @@
+package com.min.i.memory_BE.global.error.exception;
+
+/**
+ * FastAPI 서킷 브레이커가 열려 있어 호출하지 않고 즉시 실패한 경우
+ * 응답은 503과 함께 차단이 풀릴 때까지 남은 시간을 Retry-After로 알려줍니다.
+ */
+public class FastApiCircuitOpenException extends FastApiServiceException {
+    
+    // 차단이 풀릴 때까지 남은 시간 (ms)
+    private final long retryAfterMillis;
+    
+    public FastApiCircuitOpenException(String message, long retryAfterMillis) {
+        super(message);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+    
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -2,11 +2,25 @@ package com.min.i.memory_BE.global.error.exception;
 
 public class FastApiServiceException extends RuntimeException {
     
+    // FastAPI 서버가 응답한 HTTP 상태 코드 (응답을 받지 못한 경우 0)
+    private final int statusCode;
+    
     public FastApiServiceException(String message) {
+        this(message, 0);
+    }
+    
+    public FastApiServiceException(String message, int statusCode) {
         super(message);
+        this.statusCode = statusCode;
     }
     
     public FastApiServiceException(String message, Throwable cause) {
         super(message, cause);
+        this.statusCode = cause instanceof FastApiServiceException fastApiException
+                ? fastApiException.getStatusCode() : 0;
+    }
+    
+    public int getStatusCode() {
+        return statusCode;
     }
-} 
\ No newline at end of file
+}
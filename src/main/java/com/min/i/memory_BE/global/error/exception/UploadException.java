@@ -0,0 +1,38 @@
+package com.min.i.memory_BE.global.error.exception;
+
+import com.min.i.memory_BE.global.error.ErrorCode;
+
+public class UploadException extends ApiException {
+  // 요청의 업로드 위치(Upload-Offset)가 서버에 저장된 위치와 다른 경우
+  public static class OffsetMismatchException extends UploadException {
+    public OffsetMismatchException(long expected) {
+      super("업로드 위치가 다릅니다. " + expected + " 바이트부터 이어서 업로드해주세요.", ErrorCode.UPLOAD_OFFSET_MISMATCH);
+    }
+  }
+  
+  // 업로드 세션이 만료된 경우
+  public static class SessionExpiredException extends UploadException {
+    public SessionExpiredException() {
+      super("업로드 세션이 만료되었습니다. 처음부터 다시 업로드해주세요.", ErrorCode.UPLOAD_EXPIRED);
+    }
+  }
+  
+  // 파일 크기가 허용된 크기를 초과하는 경우
+  public static class TooLargeException extends UploadException {
+    public TooLargeException(long maxSize) {
+      super("파일 크기가 최대 " + maxSize + " 바이트를 초과합니다.", ErrorCode.UPLOAD_TOO_LARGE);
+    }
+  }
+  
+  // 지원하지 않는 파일 형식인 경우
+  public static class UnsupportedTypeException extends UploadException {
+    public UnsupportedTypeException(String contentType) {
+      super("지원하지 않는 파일 형식입니다: " + contentType, ErrorCode.UNSUPPORTED_UPLOAD_TYPE);
+    }
+  }
+  
+  // 생성자
+  protected UploadException(String message, ErrorCode errorCode) {
+    super(message, errorCode);
+  }
+}
@@ -1,7 +1,9 @@
 package com.min.i.memory_BE.global.security.jwt;
 
 import com.min.i.memory_BE.global.config.SecurityConfig;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 
@@ -26,6 +28,9 @@ public class JwtTokenProvider {
     
     private Key secretKey;
 
+    // 서명 키가 고정되어 있으므로 파서는 한 번만 생성하여 재사용 (JwtParser는 thread-safe)
+    private JwtParser jwtParser;
+
     @PostConstruct
     public void init() {
         try {
@@ -48,6 +53,9 @@ public class JwtTokenProvider {
             logger.error("실패 새로 만드세요", e);
             this.secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS512);
         }
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
     }
 
     private final long EXPIRATION_TIME = 86400000; // 24시간
@@ -78,21 +86,18 @@ public class JwtTokenProvider {
 
     // JWT에서 이메일 가져오기
     public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
+    }
+
+    // 서명과 만료 시간을 검증하고 Claims 반환 (유효하지 않으면 JwtException 발생)
+    public Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     // 토큰 유효성 검사
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
             return true;
         } catch (ExpiredJwtException e) {
             logger.error("유효하지 않은 토큰입니다. (만료됨): {}. 이 토큰은 {} 시간 전에 만료되었습니다.",
@@ -107,10 +112,7 @@ public class JwtTokenProvider {
     // 리프레시 토큰 검사
     public boolean validateRefreshToken(String refreshToken) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(refreshToken);
+            jwtParser.parseClaimsJws(refreshToken);
             return true;
         } catch (ExpiredJwtException e) {
             logger.error("리프레시 토큰이 만료되었습니다: {}. 만료 시간: {}",
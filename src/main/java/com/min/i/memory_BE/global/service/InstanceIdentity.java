@@ -0,0 +1,43 @@
+package com.min.i.memory_BE.global.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+/**
+ * 이 서버 인스턴스의 식별자
+ * 여러 인스턴스가 같은 DB를 쓸 때 백그라운드 작업의 소유자(임대) 기록에 사용합니다.
+ * 설정하지 않으면 호스트 이름과 임의 값으로 만들므로, 같은 호스트에서 재시작해도 이전 실행과 구분됩니다.
+ */
+@Slf4j
+@Component
+public class InstanceIdentity {
+
+    private static final int MAX_LENGTH = 100;
+
+    private final String id;
+
+    public InstanceIdentity(@Value("${app.instance-id:}") String configuredId) {
+        String generated = configuredId == null || configuredId.isBlank()
+                ? hostName() + "-" + UUID.randomUUID().toString().substring(0, 8)
+                : configuredId;
+        this.id = generated.length() > MAX_LENGTH ? generated.substring(generated.length() - MAX_LENGTH) : generated;
+        log.info("인스턴스 식별자: {}", id);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -1,23 +1,59 @@
 package com.min.i.memory_BE.global.service;
+import com.min.i.memory_BE.global.error.exception.ApiException;
 import com.min.i.memory_BE.global.error.exception.FileValidationException;
 import com.min.i.memory_BE.global.error.exception.S3Exception;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 public class S3Service {
   private final S3Client s3Client;
+  private final S3Presigner s3Presigner;
+  private final UploadBufferPool uploadBufferPool;
   private final String bucketName;
   
   private static final List<String> ALLOWED_IMAGE_TYPES = Arrays.asList(
@@ -26,14 +62,48 @@ public class S3Service {
   
   private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
   
-  public S3Service(S3Client s3Client,
+  private static final int MAX_DELETE_OBJECTS = 1000; // DeleteObjects 요청당 최대 키 수
+  
+  public S3Service(S3Client s3Client, S3Presigner s3Presigner,
+    @Qualifier("streamUploadBufferPool") UploadBufferPool uploadBufferPool,
     @Value("${spring.cloud.aws.s3.bucket}") String bucketName) {
     this.s3Client = s3Client;
+    this.s3Presigner = s3Presigner;
+    this.uploadBufferPool = uploadBufferPool;
     this.bucketName = bucketName;
   }
   
+  /**
+   * 클라이언트가 S3에 직접 업로드할 서명된 PUT URL
+   *
+   * @param fileUrl 업로드 후 객체 URL
+   * @param headers 업로드 시 함께 보내야 하는 서명된 헤더 (Content-Type, Content-Length 등)
+   */
+  public record PresignedUpload(String fileUrl, String uploadUrl, Map<String, String> headers, Instant expiresAt) {
+  }
+  
+  /**
+   * 버킷에 저장된 객체 (목록 조회 결과)
+   */
+  public record StoredObject(String key, String fileUrl, long size, Instant lastModified) {
+  }
+  
+  /**
+   * 시작된 S3 멀티파트 업로드
+   *
+   * @param fileUrl  완료 후 객체 URL
+   * @param uploadId 파트 업로드, 완료, 취소 시 사용하는 업로드 ID
+   */
+  public record MultipartUpload(String fileUrl, String uploadId) {
+  }
+  
   // 앨범 이미지 업로드
   public String uploadAlbumImage(MultipartFile file, Long albumId) {
+    return uploadAlbumImage(file, albumId, null);
+  }
+  
+  // 앨범 이미지 업로드 (contentHash: 미리 계산한 SHA-256 - S3가 수신한 내용과 대조하여 검증)
+  public String uploadAlbumImage(MultipartFile file, Long albumId, String contentHash) {
     validateImageFile(file);
     
     String fileName = generateFileName(file.getOriginalFilename());
@@ -44,6 +114,7 @@ public class S3Service {
         .bucket(bucketName)
         .key(key)
         .contentType(file.getContentType())
+        .checksumSHA256(toBase64Checksum(contentHash))
         .build();
       
       s3Client.putObject(putObjectRequest,
@@ -58,22 +129,325 @@ public class S3Service {
     }
   }
   
-  // 앨범 이미지 업데이트
-  public String updateAlbumImage(MultipartFile file, Long albumId, String oldFileUrl) {
-    validateImageFile(file);
+  // 앨범 이미지 업로드 (메모리에 읽어둔 바이트 사용)
+  public String uploadAlbumImage(byte[] content, String originalFilename, String contentType, Long albumId) {
+    return uploadAlbumImage(content, originalFilename, contentType, albumId, null);
+  }
+  
+  // 앨범 이미지 업로드 (메모리에 읽어둔 바이트 사용, contentHash: 미리 계산한 SHA-256)
+  public String uploadAlbumImage(byte[] content, String originalFilename, String contentType, Long albumId,
+    String contentHash) {
+    validateImage(content.length == 0, content.length, contentType);
+    
+    String fileName = generateFileName(originalFilename);
+    String key = String.format("albums/%d/original/%s", albumId, fileName);
     
     try {
-      String newFileUrl = uploadAlbumImage(file, albumId);
+      PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+        .bucket(bucketName)
+        .key(key)
+        .contentType(contentType)
+        .checksumSHA256(toBase64Checksum(contentHash))
+        .build();
       
-      if (oldFileUrl != null && !oldFileUrl.isEmpty()) {
-        deleteImage(oldFileUrl);
+      s3Client.putObject(putObjectRequest, RequestBody.fromBytes(content));
+      
+      log.info("Album image uploaded successfully: {}", key);
+      return getFileUrl(key);
+      
+    } catch (Exception e) {
+      log.error("Album image upload failed: {}", e.getMessage());
+      throw new S3Exception("앨범 이미지 업로드 중 오류가 발생했습니다");
+    }
+  }
+  
+  /**
+   * 앨범 이미지 스트리밍 업로드
+   * 입력을 풀에서 빌린 파트 버퍼 하나에 채워 가며 S3 멀티파트 업로드의 파트로 보냅니다 (임시 파일, 파일 전체 복사 없음).
+   * 파트 하나에 다 들어가는 작은 파일은 멀티파트 없이 한 번에 업로드합니다.
+   * 입력을 읽는 중 발생한 검증 오류(ApiException)는 진행 중인 업로드를 취소한 뒤 그대로 전달합니다.
+   *
+   * @param input 이미지 본문 (크기, 형식 검증은 호출하는 쪽의 스트림에서 수행)
+   */
+  public String uploadAlbumImageStream(InputStream input, String originalFilename, String contentType, Long albumId) {
+    String fileName = generateFileName(originalFilename);
+    String key = String.format("albums/%d/original/%s", albumId, fileName);
+    
+    byte[] buffer = uploadBufferPool.acquire();
+    String uploadId = null;
+    try {
+      int filled = readFully(input, buffer);
+      if (filled == 0) {
+        throw new FileValidationException("파일이 비어있습니다");
       }
       
-      return newFileUrl;
+      if (filled < buffer.length) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+          .bucket(bucketName)
+          .key(key)
+          .contentType(contentType)
+          .build();
+        
+        s3Client.putObject(putObjectRequest,
+          RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, filled), filled));
+        
+        log.info("Album image streamed successfully: {} ({} bytes)", key, filled);
+        return getFileUrl(key);
+      }
+      
+      uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+        .bucket(bucketName)
+        .key(key)
+        .contentType(contentType)
+        .build()).uploadId();
+      
+      List<CompletedPart> parts = new ArrayList<>();
+      long total = 0;
+      while (filled > 0) {
+        int partNumber = parts.size() + 1;
+        UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+          .bucket(bucketName)
+          .key(key)
+          .uploadId(uploadId)
+          .partNumber(partNumber)
+          .contentLength((long) filled)
+          .build();
+        
+        String eTag = s3Client.uploadPart(uploadPartRequest,
+          RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, filled), filled)).eTag();
+        parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+        total += filled;
+        
+        filled = readFully(input, buffer);
+      }
+      
+      s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+        .bucket(bucketName)
+        .key(key)
+        .uploadId(uploadId)
+        .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+        .build());
+      
+      log.info("Album image streamed successfully: {} ({} bytes, {} parts)", key, total, parts.size());
+      return getFileUrl(key);
+      
+    } catch (ApiException e) {
+      abortMultipartUpload(key, uploadId);
+      throw e;
+    } catch (Exception e) {
+      abortMultipartUpload(key, uploadId);
+      log.error("Album image stream upload failed: {}", e.getMessage());
+      throw new S3Exception("앨범 이미지 업로드 중 오류가 발생했습니다");
+    } finally {
+      uploadBufferPool.release(buffer);
+    }
+  }
+  
+  // 앨범 파일 멀티파트 업로드 시작 (이어받기 업로드용 - 파트는 요청마다 나누어 업로드)
+  public MultipartUpload createAlbumMultipartUpload(Long albumId, String originalFilename, String contentType) {
+    String fileName = generateFileName(originalFilename);
+    String key = String.format("albums/%d/original/%s", albumId, fileName);
+    
+    try {
+      String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+        .bucket(bucketName)
+        .key(key)
+        .contentType(contentType)
+        .build()).uploadId();
+      
+      log.info("Album multipart upload created: {}", key);
+      return new MultipartUpload(getFileUrl(key), uploadId);
+      
+    } catch (Exception e) {
+      log.error("Album multipart upload creation failed: {}", e.getMessage());
+      throw new S3Exception("업로드 세션 생성 중 오류가 발생했습니다");
+    }
+  }
+  
+  // 멀티파트 업로드의 파트 하나 업로드 (같은 파트 번호로 다시 올리면 이전 내용을 덮어씀)
+  public void uploadPart(String fileUrl, String uploadId, int partNumber, byte[] buffer, int length) {
+    try {
+      UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+        .bucket(bucketName)
+        .key(extractKeyFromUrl(fileUrl))
+        .uploadId(uploadId)
+        .partNumber(partNumber)
+        .contentLength((long) length)
+        .build();
+      
+      s3Client.uploadPart(uploadPartRequest,
+        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length));
+      
+    } catch (Exception e) {
+      log.error("Part upload failed: {} part {} - {}", fileUrl, partNumber, e.getMessage());
+      throw new S3Exception("파일 조각 업로드 중 오류가 발생했습니다");
+    }
+  }
+  
+  // 멀티파트 업로드 완료 (업로드된 파트 목록은 S3에서 조회)
+  public void completeMultipartUpload(String fileUrl, String uploadId) {
+    String key = extractKeyFromUrl(fileUrl);
+    try {
+      List<CompletedPart> parts = new ArrayList<>();
+      s3Client.listPartsPaginator(ListPartsRequest.builder()
+          .bucket(bucketName)
+          .key(key)
+          .uploadId(uploadId)
+          .build())
+        .parts()
+        .forEach(part -> parts.add(CompletedPart.builder().partNumber(part.partNumber()).eTag(part.eTag()).build()));
+      
+      s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+        .bucket(bucketName)
+        .key(key)
+        .uploadId(uploadId)
+        .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+        .build());
+      
+      log.info("Multipart upload completed: {} ({} parts)", key, parts.size());
+      
+    } catch (Exception e) {
+      log.error("Multipart upload completion failed: {} - {}", key, e.getMessage());
+      throw new S3Exception("파일 업로드 완료 처리 중 오류가 발생했습니다");
+    }
+  }
+  
+  // 멀티파트 업로드 취소 (실패해도 예외 없음 - 로그만 남김)
+  public void abortAlbumMultipartUpload(String fileUrl, String uploadId) {
+    abortMultipartUpload(extractKeyFromUrl(fileUrl), uploadId);
+  }
+  
+  // 버퍼가 가득 차거나 입력이 끝날 때까지 읽음
+  private int readFully(InputStream input, byte[] buffer) throws IOException {
+    int filled = 0;
+    while (filled < buffer.length) {
+      int read = input.read(buffer, filled, buffer.length - filled);
+      if (read < 0) {
+        break;
+      }
+      filled += read;
+    }
+    return filled;
+  }
+  
+  // 완료되지 않은 멀티파트 업로드 취소 (업로드된 파트가 저장 공간을 차지하지 않도록)
+  private void abortMultipartUpload(String key, String uploadId) {
+    if (uploadId == null) {
+      return;
+    }
+    try {
+      s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+        .bucket(bucketName)
+        .key(key)
+        .uploadId(uploadId)
+        .build());
+    } catch (Exception e) {
+      log.warn("Multipart upload abort failed: {} - {}", key, e.getMessage());
+    }
+  }
+  
+  // 앨범 이미지 직접 업로드용 서명된 URL 발급 (형식, 크기, 체크섬이 서명에 포함되어 다른 내용은 업로드할 수 없음)
+  public PresignedUpload presignAlbumImageUpload(Long albumId, String originalFilename, String contentType,
+    long fileSize, String contentHash, Duration expiry) {
+    validateImageUpload(fileSize, contentType);
+    
+    String fileName = generateFileName(originalFilename);
+    String key = String.format("albums/%d/original/%s", albumId, fileName);
+    
+    try {
+      PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+        .bucket(bucketName)
+        .key(key)
+        .contentType(contentType)
+        .contentLength(fileSize)
+        .checksumSHA256(toBase64Checksum(contentHash))
+        .build();
+      
+      PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+        .signatureDuration(expiry)
+        .putObjectRequest(putObjectRequest)
+        .build());
+      
+      // host 헤더는 클라이언트가 URL로부터 직접 설정
+      Map<String, String> headers = presigned.signedHeaders().entrySet().stream()
+        .filter(header -> !header.getKey().equalsIgnoreCase("host"))
+        .collect(Collectors.toMap(Map.Entry::getKey, header -> String.join(",", header.getValue())));
+      
+      log.info("Album image upload URL issued: {}", key);
+      return new PresignedUpload(getFileUrl(key), presigned.url().toString(), headers, presigned.expiration());
+      
+    } catch (Exception e) {
+      log.error("Album image upload URL issue failed: {}", e.getMessage());
+      throw new S3Exception("업로드 URL 발급 중 오류가 발생했습니다");
+    }
+  }
+  
+  // 객체 메타데이터 조회 (크기, 형식, SHA-256 체크섬) - 객체가 없으면 비어 있음
+  public Optional<HeadObjectResponse> headObject(String fileUrl) {
+    try {
+      HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+        .bucket(bucketName)
+        .key(extractKeyFromUrl(fileUrl))
+        .checksumMode(ChecksumMode.ENABLED)
+        .build();
+      
+      return Optional.of(s3Client.headObject(headObjectRequest));
+      
+    } catch (NoSuchKeyException e) {
+      return Optional.empty();
+    } catch (software.amazon.awssdk.services.s3.model.S3Exception e) {
+      if (e.statusCode() == 404) {
+        return Optional.empty();
+      }
+      log.error("Object head failed: {}", e.getMessage());
+      throw new S3Exception("파일 정보 조회 중 오류가 발생했습니다");
+    }
+  }
+  
+  // 앨범 이미지의 축소본 업로드 (키마다 새 이름을 쓰므로 브라우저/CDN이 오래 캐시해도 됨)
+  public String uploadDerivedImage(byte[] content, Long albumId, String fileName) {
+    String key = String.format("albums/%d/derived/%s", albumId, generateFileName(fileName));
+    
+    try {
+      PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+        .bucket(bucketName)
+        .key(key)
+        .contentType("image/jpeg")
+        .cacheControl("public, max-age=31536000, immutable")
+        .build();
+      
+      s3Client.putObject(putObjectRequest, RequestBody.fromBytes(content));
+      
+      log.info("Derived image uploaded successfully: {}", key);
+      return getFileUrl(key);
+      
+    } catch (Exception e) {
+      log.error("Derived image upload failed: {}", e.getMessage());
+      throw new S3Exception("축소 이미지 업로드 중 오류가 발생했습니다");
+    }
+  }
+  
+  // 앨범 이미지 업데이트
+  public String updateAlbumImage(MultipartFile file, Long albumId, String oldFileUrl) {
+    validateImageFile(file);
+    
+    String newFileUrl;
+    try {
+      newFileUrl = uploadAlbumImage(file, albumId);
     } catch (Exception e) {
       log.error("Album image update failed: {}", e.getMessage());
       throw new S3Exception("앨범 이미지 업데이트 중 오류가 발생했습니다");
     }
+    
+    // 이전 이미지 삭제 실패는 새 이미지 업로드를 실패로 돌리지 않음 (남은 객체는 저장소 정리 작업이 회수)
+    if (oldFileUrl != null && !oldFileUrl.isEmpty()) {
+      try {
+        deleteImage(oldFileUrl);
+      } catch (Exception e) {
+        log.warn("이전 앨범 이미지 삭제 실패: {}", oldFileUrl);
+      }
+    }
+    return newFileUrl;
   }
   
   // 프로필 이미지 업로드
@@ -151,6 +525,53 @@ public class S3Service {
     }
   }
   
+  // 음성 답변 원본 업로드 (텍스트 변환 전 보관)
+  public String uploadAnswerAudio(byte[] content, String originalFilename, String contentType, Long mediaId) {
+    if (content.length == 0) {
+      throw new FileValidationException("파일이 비어있습니다");
+    }
+    if (content.length > MAX_FILE_SIZE) {
+      throw new FileValidationException("파일 크기가 10MB를 초과합니다");
+    }
+    
+    String fileName = generateFileName(originalFilename);
+    String key = String.format("answers/%d/audio/%s", mediaId, fileName);
+    
+    try {
+      PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+        .bucket(bucketName)
+        .key(key)
+        .contentType(contentType)
+        .build();
+      
+      s3Client.putObject(putObjectRequest, RequestBody.fromBytes(content));
+      
+      log.info("음성 답변 업로드 성공: {}", key);
+      return getFileUrl(key);
+      
+    } catch (Exception e) {
+      log.error("음성 답변 업로드 실패: {}", e.getMessage());
+      throw new S3Exception("음성 답변 업로드 중 오류가 발생했습니다");
+    }
+  }
+  
+  // 파일 다운로드
+  public byte[] downloadFile(String fileUrl) {
+    String key = extractKeyFromUrl(fileUrl);
+    try {
+      GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+        .bucket(bucketName)
+        .key(key)
+        .build();
+      
+      return s3Client.getObjectAsBytes(getObjectRequest).asByteArray();
+      
+    } catch (Exception e) {
+      log.error("File download failed: {}", e.getMessage());
+      throw new S3Exception("파일 다운로드 중 오류가 발생했습니다");
+    }
+  }
+  
   // 이미지 삭제
   public void deleteImage(String fileUrl) {
     try {
@@ -170,22 +591,92 @@ public class S3Service {
     }
   }
   
+  /**
+   * 접두사 아래 객체를 ListObjectsV2 페이지(최대 1000개) 단위로 조회합니다.
+   * 다음 페이지는 스트림을 소비할 때 요청하므로 객체 수와 관계없이 한 페이지만 메모리에 둡니다.
+   */
+  public Stream<List<StoredObject>> listObjects(String prefix) {
+    ListObjectsV2Request request = ListObjectsV2Request.builder()
+      .bucket(bucketName)
+      .prefix(prefix)
+      .build();
+    return s3Client.listObjectsV2Paginator(request).stream()
+      .map(page -> page.contents().stream()
+        .map(object -> new StoredObject(object.key(), getFileUrl(object.key()), object.size(), object.lastModified()))
+        .toList());
+  }
+  
+  /**
+   * 여러 객체를 DeleteObjects로 한 번에 삭제합니다 (요청당 최대 1000개씩 나누어 호출).
+   * 이미 없는 객체도 삭제된 것으로 처리되므로 같은 목록으로 다시 호출해도 안전합니다.
+   *
+   * @return 삭제된 객체 수
+   */
+  public int deleteObjects(Collection<String> fileUrls) {
+    List<ObjectIdentifier> keys = fileUrls.stream()
+      .distinct()
+      .map(fileUrl -> ObjectIdentifier.builder().key(extractKeyFromUrl(fileUrl)).build())
+      .toList();
+    
+    int deleted = 0;
+    for (int from = 0; from < keys.size(); from += MAX_DELETE_OBJECTS) {
+      List<ObjectIdentifier> batch = keys.subList(from, Math.min(from + MAX_DELETE_OBJECTS, keys.size()));
+      try {
+        DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+          .bucket(bucketName)
+          .delete(Delete.builder().objects(batch).quiet(true).build())
+          .build());
+        
+        // quiet 모드에서는 실패한 키만 응답에 포함됨
+        if (response.hasErrors() && !response.errors().isEmpty()) {
+          response.errors().forEach(error ->
+            log.error("객체 삭제 실패 - key: {}, code: {}, {}", error.key(), error.code(), error.message()));
+          throw new S3Exception("일부 객체를 삭제하지 못했습니다");
+        }
+        deleted += batch.size();
+        
+      } catch (ApiException e) {
+        throw e;
+      } catch (Exception e) {
+        log.error("객체 일괄 삭제 실패: {}", e.getMessage());
+        throw new S3Exception("객체 일괄 삭제 중 오류가 발생했습니다");
+      }
+    }
+    return deleted;
+  }
+  
   // 파일 검증 (공통 기능)
-  private void validateImageFile(MultipartFile file) {
-    if (file.isEmpty()) {
+  public void validateImageFile(MultipartFile file) {
+    validateImage(file.isEmpty(), file.getSize(), file.getContentType());
+  }
+  
+  // 파일 검증 (직접 업로드 요청 시 클라이언트가 알려준 크기, 형식 기준)
+  public void validateImageUpload(long size, String contentType) {
+    validateImage(size <= 0, size, contentType);
+  }
+  
+  private void validateImage(boolean empty, long size, String contentType) {
+    if (empty) {
       throw new FileValidationException("파일이 비어있습니다");
     }
     
-    if (file.getSize() > MAX_FILE_SIZE) {
+    if (size > MAX_FILE_SIZE) {
       throw new FileValidationException("파일 크기가 10MB를 초과합니다");
     }
     
-    String contentType = file.getContentType();
     if (contentType == null || !ALLOWED_IMAGE_TYPES.contains(contentType.toLowerCase())) {
       throw new FileValidationException("지원하지 않는 이미지 형식입니다");
     }
   }
   
+  // 16진수 SHA-256을 S3 체크섬 헤더 형식(Base64)으로 변환 (없으면 null - 체크섬 생략)
+  public String toBase64Checksum(String contentHash) {
+    if (contentHash == null) {
+      return null;
+    }
+    return Base64.getEncoder().encodeToString(HexFormat.of().parseHex(contentHash));
+  }
+  
   // 파일 이름 생성 (공통 기능)
   private String generateFileName(String originalFilename) {
     return UUID.randomUUID().toString() + "-" + originalFilename;
@@ -0,0 +1,88 @@
+package com.min.i.memory_BE.global.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 여러 인스턴스에서 같은 예약 작업이 동시에 실행되지 않도록 하는 DB 잠금 (scheduler_locks 임대 행)
+ * 잠금은 최대 유지 시간이 지나면 자동으로 풀리므로, 잠금을 잡은 인스턴스가 종료되어도 다음 주기에 다른 인스턴스가 실행합니다.
+ * 각 문장은 트랜잭션 없이 바로 커밋되어, 다른 인스턴스가 곧바로 결과를 봅니다.
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    private static final String ACQUIRE_SQL =
+            "UPDATE scheduler_locks SET locked_until = ?, locked_at = ?, locked_by = ? WHERE name = ? AND locked_until <= ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO scheduler_locks (name, locked_until, locked_at, locked_by) VALUES (?, ?, ?, ?)";
+    private static final String RELEASE_SQL =
+            "UPDATE scheduler_locks SET locked_until = ? WHERE name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InstanceIdentity instanceIdentity;
+
+    public SchedulerLockService(JdbcTemplate jdbcTemplate, InstanceIdentity instanceIdentity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.instanceIdentity = instanceIdentity;
+    }
+
+    /**
+     * 잠금을 잡은 경우에만 작업을 실행하고, 끝나면 잠금을 풉니다.
+     *
+     * @param name 작업 이름
+     * @param lockAtMostFor 잠금 최대 유지 시간 (작업이 이보다 오래 걸리면 다른 인스턴스가 실행할 수 있음)
+     * @param task 실행할 작업
+     * @return 실행했으면 true, 다른 인스턴스가 실행 중이라 건너뛰었으면 false
+     */
+    public boolean runLocked(String name, Duration lockAtMostFor, Runnable task) {
+        if (!tryLock(name, lockAtMostFor)) {
+            log.debug("다른 인스턴스가 실행 중이므로 건너뜁니다: {}", name);
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            unlock(name);
+        }
+    }
+
+    /**
+     * 잠금을 잡습니다. 만료된 잠금은 갱신하고, 처음 쓰는 이름이면 행을 만듭니다.
+     */
+    public boolean tryLock(String name, Duration lockAtMostFor) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp lockedAt = Timestamp.valueOf(now);
+        Timestamp lockedUntil = Timestamp.valueOf(now.plus(lockAtMostFor));
+        String owner = instanceIdentity.getId();
+
+        if (jdbcTemplate.update(ACQUIRE_SQL, lockedUntil, lockedAt, owner, name, lockedAt) > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, lockedUntil, lockedAt, owner) > 0;
+        } catch (DuplicateKeyException e) {
+            // 행이 있고 아직 다른 인스턴스가 잡고 있음
+            return false;
+        }
+    }
+
+    /**
+     * 이 인스턴스가 잡은 잠금을 풉니다.
+     */
+    public void unlock(String name) {
+        try {
+            jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(LocalDateTime.now()), name, instanceIdentity.getId());
+        } catch (Exception e) {
+            // 풀지 못한 잠금은 최대 유지 시간이 지나면 만료됨
+            log.warn("예약 작업 잠금 해제 실패: {}, {}", name, e.getMessage());
+        }
+    }
+}
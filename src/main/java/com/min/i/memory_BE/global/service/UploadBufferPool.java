@@ -0,0 +1,75 @@
+package com.min.i.memory_BE.global.service;
+
+import com.min.i.memory_BE.global.error.exception.S3Exception;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드용 S3 파트 버퍼 풀
+ * 버퍼 개수가 고정되어 있어 동시에 들어온 업로드가 많아도 업로드 버퍼의 총 메모리는 (파트 크기 x 버퍼 개수)를 넘지 않습니다.
+ * 버퍼는 처음 필요할 때 만들고, 반납된 버퍼는 다음 업로드가 그대로 재사용합니다.
+ * 업로드 방식별로 따로 만들어 (UploadBufferConfig) 한쪽의 느린 업로드가 다른 쪽의 버퍼를 차지하지 않도록 합니다.
+ */
+@Slf4j
+public class UploadBufferPool {
+
+    // S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외)
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final String name;
+    private final BlockingQueue<byte[]> idle;
+    private final int partSize;
+    private final int bufferCount;
+    private final long acquireTimeoutMs;
+    private int created;
+
+    public UploadBufferPool(String name, int partSize, int bufferCount, long acquireTimeoutMs) {
+        this.name = name;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+        this.bufferCount = bufferCount;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.idle = new ArrayBlockingQueue<>(bufferCount);
+    }
+
+    /**
+     * 버퍼를 빌립니다. 모든 버퍼가 사용 중이면 반납될 때까지 기다립니다.
+     *
+     * @throws S3Exception 대기 시간 안에 버퍼를 얻지 못한 경우
+     */
+    public byte[] acquire() {
+        byte[] buffer = idle.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+        synchronized (this) {
+            if (created < bufferCount) {
+                created++;
+                return new byte[partSize];
+            }
+        }
+        try {
+            buffer = idle.poll(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (buffer == null) {
+            log.warn("업로드 버퍼 대기 시간 초과 - {} 버퍼 {}개 모두 사용 중", name, bufferCount);
+            throw new S3Exception("업로드 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return buffer;
+    }
+
+    // 버퍼 반납
+    public void release(byte[] buffer) {
+        if (buffer != null && buffer.length == partSize) {
+            idle.offer(buffer);
+        }
+    }
+
+    public int getPartSize() {
+        return partSize;
+    }
+}
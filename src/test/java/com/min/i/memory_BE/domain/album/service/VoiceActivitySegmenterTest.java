@@ -0,0 +1,95 @@
+package com.min.i.memory_BE.domain.album.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 합성한 음성/무음 신호로 무음 제거와 구간 분할을 검증합니다.
+ */
+public class VoiceActivitySegmenterTest {
+
+    private static final int SAMPLE_RATE = 16000;
+
+    private final VoiceActivitySegmenter segmenter = new VoiceActivitySegmenter(12, 300, 200, 500, 50);
+    private final Random random = new Random(42);
+
+    @Test
+    @DisplayName("앞뒤 무음을 자르고 말 사이 긴 쉼을 줄여 한도 이하 구간으로 분할")
+    public void trimsSilenceAndSplitsAtPauses() {
+        ByteArrayOutputStream pcm = new ByteArrayOutputStream();
+        silence(pcm, 2.0);
+        for (int i = 0; i < 40; i++) {
+            speech(pcm, 3.0);
+            silence(pcm, 1.5);
+        }
+        silence(pcm, 3.0);
+        double inputSeconds = seconds(pcm.toByteArray());
+
+        List<byte[]> chunks = segmenter.split(pcm.toByteArray(), SAMPLE_RATE);
+
+        assertTrue(chunks.size() >= 3, "여러 구간으로 나뉘어야 합니다: " + chunks.size());
+        double sentSeconds = 0;
+        for (byte[] chunk : chunks) {
+            assertTrue(seconds(chunk) <= 50.0, "구간이 한도를 넘으면 안 됩니다: " + seconds(chunk));
+            sentSeconds += seconds(chunk);
+        }
+        assertTrue(sentSeconds >= 40 * 3.0, "음성 구간은 모두 남아야 합니다: " + sentSeconds);
+        assertTrue(sentSeconds < inputSeconds - 20, "무음이 줄어야 합니다: " + sentSeconds + " / " + inputSeconds);
+    }
+
+    @Test
+    @DisplayName("쉼 없이 긴 음성은 한도 안에서 나눔")
+    public void splitsContinuousSpeech() {
+        ByteArrayOutputStream pcm = new ByteArrayOutputStream();
+        silence(pcm, 1.0);
+        speech(pcm, 70.0);
+        silence(pcm, 1.0);
+
+        List<byte[]> chunks = segmenter.split(pcm.toByteArray(), SAMPLE_RATE);
+
+        assertEquals(2, chunks.size());
+        assertTrue(seconds(chunks.get(0)) <= 50.0);
+        assertEquals(70.0, seconds(chunks.get(0)) + seconds(chunks.get(1)), 0.5);
+    }
+
+    @Test
+    @DisplayName("무음만 있으면 빈 목록")
+    public void returnsEmptyForSilence() {
+        ByteArrayOutputStream pcm = new ByteArrayOutputStream();
+        silence(pcm, 5.0);
+
+        assertTrue(segmenter.split(pcm.toByteArray(), SAMPLE_RATE).isEmpty());
+    }
+
+    // 진폭이 천천히 변하는 톤 + 약한 잡음
+    private void speech(ByteArrayOutputStream pcm, double seconds) {
+        int samples = (int) (seconds * SAMPLE_RATE);
+        for (int i = 0; i < samples; i++) {
+            write(pcm, 0.1 * Math.sin(i * 0.2) * (0.6 + 0.4 * Math.sin(i * 0.001)) + random.nextGaussian() * 0.001);
+        }
+    }
+
+    private void silence(ByteArrayOutputStream pcm, double seconds) {
+        int samples = (int) (seconds * SAMPLE_RATE);
+        for (int i = 0; i < samples; i++) {
+            write(pcm, random.nextGaussian() * 0.001);
+        }
+    }
+
+    private static void write(ByteArrayOutputStream pcm, double sample) {
+        int value = (int) Math.round(sample * 32767);
+        pcm.write(value);
+        pcm.write(value >> 8);
+    }
+
+    private static double seconds(byte[] pcm) {
+        return pcm.length / 2.0 / SAMPLE_RATE;
+    }
+}
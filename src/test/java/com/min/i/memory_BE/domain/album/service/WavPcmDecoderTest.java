@@ -0,0 +1,134 @@
+package com.min.i.memory_BE.domain.album.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 합성한 사인파 WAV로 WAV 직접 변환(다운믹스 / 리샘플링)을 검증합니다.
+ */
+public class WavPcmDecoderTest {
+
+    private static final int TARGET_RATE = 16000;
+    private static final int PCM = 1;
+    private static final int IEEE_FLOAT = 3;
+
+    @Test
+    @DisplayName("48kHz 스테레오를 16kHz 모노로 변환 - 길이와 음량 유지")
+    public void downmixesAndDownsamples() throws IOException {
+        byte[] wav = wav(48000, 2, 16, PCM, sine(48000, 1000, 48000));
+
+        byte[] pcm = WavPcmDecoder.decode(new ByteArrayInputStream(wav), TARGET_RATE);
+
+        assertNotNull(pcm);
+        assertEquals(16000, pcm.length / 2);
+        assertEquals(0.5 / Math.sqrt(2), rms(pcm), 0.01);
+    }
+
+    @Test
+    @DisplayName("출력 나이퀴스트보다 높은 주파수는 제거 (앨리어싱 방지)")
+    public void filtersFrequenciesAboveTargetNyquist() throws IOException {
+        byte[] wav = wav(48000, 1, 16, PCM, sine(48000, 10000, 48000));
+
+        byte[] pcm = WavPcmDecoder.decode(new ByteArrayInputStream(wav), TARGET_RATE);
+
+        assertNotNull(pcm);
+        assertTrue(rms(pcm) < 0.001, "10kHz 성분이 남아 있으면 안 됩니다: " + rms(pcm));
+    }
+
+    @Test
+    @DisplayName("44.1kHz 24bit / 8kHz 8bit / 16kHz float 형식 변환")
+    public void decodesSupportedSampleFormats() throws IOException {
+        byte[] pcm24 = WavPcmDecoder.decode(
+                new ByteArrayInputStream(wav(44100, 1, 24, PCM, sine(44100, 440, 44100))), TARGET_RATE);
+        byte[] pcm8 = WavPcmDecoder.decode(
+                new ByteArrayInputStream(wav(8000, 1, 8, PCM, sine(8000, 440, 8000))), TARGET_RATE);
+        byte[] pcmFloat = WavPcmDecoder.decode(
+                new ByteArrayInputStream(wav(16000, 1, 32, IEEE_FLOAT, sine(16000, 440, 16000))), TARGET_RATE);
+
+        assertEquals(16000, pcm24.length / 2);
+        assertEquals(16000, pcm8.length / 2);
+        assertEquals(16000, pcmFloat.length / 2);
+        assertEquals(0.5 / Math.sqrt(2), rms(pcm24), 0.01);
+        assertEquals(0.5 / Math.sqrt(2), rms(pcm8), 0.02);
+        assertEquals(0.5 / Math.sqrt(2), rms(pcmFloat), 0.01);
+    }
+
+    @Test
+    @DisplayName("WAV가 아니거나 압축된 WAV는 null (ffmpeg로 처리)")
+    public void returnsNullForUnsupportedInput() throws IOException {
+        byte[] adpcm = wav(16000, 1, 16, 2, sine(16000, 440, 160));
+
+        assertNull(WavPcmDecoder.decode(new ByteArrayInputStream(adpcm), TARGET_RATE));
+        assertNull(WavPcmDecoder.decode(
+                new ByteArrayInputStream("not a wav file".getBytes(StandardCharsets.US_ASCII)), TARGET_RATE));
+    }
+
+    private static float[] sine(int sampleRate, double frequency, int samples) {
+        float[] signal = new float[samples];
+        for (int i = 0; i < samples; i++) {
+            signal[i] = (float) (0.5 * Math.sin(2 * Math.PI * frequency * i / sampleRate));
+        }
+        return signal;
+    }
+
+    // 모든 채널에 같은 신호를 기록하고, fmt 앞에 LIST 청크를 넣어 부가 청크 처리도 확인
+    private static byte[] wav(int sampleRate, int channels, int bits, int formatTag, float[] signal) {
+        int bytesPerSample = bits / 8;
+        ByteBuffer data = ByteBuffer.allocate(signal.length * channels * bytesPerSample).order(ByteOrder.LITTLE_ENDIAN);
+        for (float sample : signal) {
+            for (int channel = 0; channel < channels; channel++) {
+                if (formatTag == IEEE_FLOAT) {
+                    data.putFloat(sample);
+                } else if (bits == 8) {
+                    data.put((byte) (Math.round(sample * 127) + 128));
+                } else if (bits == 24) {
+                    int value = Math.round(sample * 8388607);
+                    data.put((byte) value).put((byte) (value >> 8)).put((byte) (value >> 16));
+                } else {
+                    data.putShort((short) Math.round(sample * 32767));
+                }
+            }
+        }
+
+        ByteBuffer wav = ByteBuffer.allocate(12 + 12 + 24 + 8 + data.capacity()).order(ByteOrder.LITTLE_ENDIAN);
+        wav.put(ascii("RIFF")).putInt(wav.capacity() - 8).put(ascii("WAVE"));
+        wav.put(ascii("LIST")).putInt(4).put(ascii("INFO"));
+        wav.put(ascii("fmt ")).putInt(16)
+                .putShort((short) formatTag)
+                .putShort((short) channels)
+                .putInt(sampleRate)
+                .putInt(sampleRate * channels * bytesPerSample)
+                .putShort((short) (channels * bytesPerSample))
+                .putShort((short) bits);
+        wav.put(ascii("data")).putInt(data.capacity()).put(data.array());
+        return wav.array();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    // 앞뒤 필터 과도 구간을 제외한 RMS
+    private static double rms(byte[] pcm) {
+        ShortBuffer samples = ByteBuffer.wrap(pcm).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer();
+        int skip = 100;
+        double sum = 0;
+        for (int i = skip; i < samples.limit() - skip; i++) {
+            double value = samples.get(i) / 32768.0;
+            sum += value * value;
+        }
+        return Math.sqrt(sum / (samples.limit() - 2 * skip));
+    }
+}
@@ -0,0 +1,124 @@
+package com.min.i.memory_BE.domain.media.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.min.i.memory_BE.global.error.exception.FastApiServiceException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 로컬 스텁 스트리밍 서버(FastAPI 대역)를 띄워 스토리 스트리밍 클라이언트를 검증합니다.
+ */
+public class FastApiStreamClientTest {
+
+    private HttpServer stubServer;
+    private FastApiStreamClient client;
+
+    // 스텁 서버가 보낼 응답 (상태 코드, SSE 본문 줄)
+    private volatile int responseStatus;
+    private volatile List<String> responseLines;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext(FastApiEndpoint.GENERATE_STORY_STREAM.getPath(), this::handleStream);
+        stubServer.start();
+
+        String baseUrl = "http://localhost:" + stubServer.getAddress().getPort();
+        client = new FastApiStreamClient(baseUrl, 1000, 5000, new ObjectMapper());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("토큰을 수신 순서대로 전달하고 [DONE]에서 완료")
+    public void streamsTokensInOrder() throws Exception {
+        responseStatus = 200;
+        responseLines = List.of(
+                "data: 따뜻한", "",
+                "data:  봄날,", "",
+                ": keep-alive", "",
+                "data: 가족과", "data: 함께", "",
+                "data: [DONE]", "");
+
+        List<String> tokens = new CopyOnWriteArrayList<>();
+        client.streamStory(1L, List.of(), List.of(), Map.of(), null, tokens::add)
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("따뜻한", " 봄날,", "가족과\n함께"), tokens);
+    }
+
+    @Test
+    @DisplayName("[DONE] 없이 스트림이 끝나도 완료")
+    public void completesWhenStreamEnds() throws Exception {
+        responseStatus = 200;
+        responseLines = List.of("data: 마지막 토큰");
+
+        List<String> tokens = new CopyOnWriteArrayList<>();
+        client.streamStory(1L, List.of(), List.of(), Map.of(), null, tokens::add)
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("마지막 토큰"), tokens);
+    }
+
+    @Test
+    @DisplayName("error 이벤트를 받으면 FastApiServiceException으로 실패")
+    public void failsOnErrorEvent() {
+        responseStatus = 200;
+        responseLines = List.of("data: 시작", "", "event: error", "data: model overloaded", "");
+
+        ExecutionException e = assertThrows(ExecutionException.class, () ->
+                client.streamStory(1L, List.of(), List.of(), Map.of(), null, token -> { })
+                        .get(5, TimeUnit.SECONDS));
+        assertInstanceOf(FastApiServiceException.class, e.getCause());
+        assertTrue(e.getCause().getMessage().contains("model overloaded"));
+    }
+
+    @Test
+    @DisplayName("200이 아닌 응답은 상태 코드를 담아 실패")
+    public void failsOnErrorStatus() {
+        responseStatus = 503;
+        responseLines = List.of("unavailable");
+
+        ExecutionException e = assertThrows(ExecutionException.class, () ->
+                client.streamStory(1L, List.of(), List.of(), Map.of(), null, token -> { })
+                        .get(5, TimeUnit.SECONDS));
+        FastApiServiceException cause = assertInstanceOf(FastApiServiceException.class, e.getCause());
+        assertEquals(503, cause.getStatusCode());
+    }
+
+    // 줄마다 flush하여 토큰이 나뉘어 도착하도록 함
+    private void handleStream(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(responseStatus, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (String line : responseLines) {
+                out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 합성 이미지로 축소 이미지 생성(크기, EXIF 회전, 투명 배경)을 검증합니다.
+ */
+public class ImageDerivativesTest {
+
+    private static final float QUALITY = 0.8f;
+
+    @Test
+    @DisplayName("긴 변 기준으로 비율을 유지하며 축소하고, 원본보다 훨씬 작음")
+    public void scalesToLongSide() throws IOException {
+        byte[] original = encode(photo(4000, 3000, BufferedImage.TYPE_INT_RGB), "jpg");
+
+        Map<Integer, byte[]> rendered = ImageDerivatives.render(original, new int[]{320, 1280}, QUALITY);
+
+        BufferedImage thumbnail = decode(rendered.get(320));
+        BufferedImage preview = decode(rendered.get(1280));
+        assertEquals(320, thumbnail.getWidth());
+        assertEquals(240, thumbnail.getHeight());
+        assertEquals(1280, preview.getWidth());
+        assertEquals(960, preview.getHeight());
+        assertTrue(rendered.get(320).length * 20 < original.length);
+    }
+
+    @Test
+    @DisplayName("원본보다 크게 늘리지 않음")
+    public void doesNotUpscale() throws IOException {
+        byte[] original = encode(photo(200, 100, BufferedImage.TYPE_INT_RGB), "png");
+
+        BufferedImage preview = decode(ImageDerivatives.render(original, new int[]{1280}, QUALITY).get(1280));
+
+        assertEquals(200, preview.getWidth());
+        assertEquals(100, preview.getHeight());
+    }
+
+    @Test
+    @DisplayName("EXIF 회전 정보(6: 시계 방향 90도)를 반영")
+    public void appliesExifOrientation() throws IOException {
+        byte[] original = withExifOrientation(encode(photo(400, 200, BufferedImage.TYPE_INT_RGB), "jpg"), 6);
+
+        BufferedImage thumbnail = decode(ImageDerivatives.render(original, new int[]{320}, QUALITY).get(320));
+
+        assertEquals(6, ImageDerivatives.readExifOrientation(original));
+        assertEquals(160, thumbnail.getWidth());
+        assertEquals(320, thumbnail.getHeight());
+        // 원본 왼쪽(빨강)이 회전 후 위쪽으로 이동
+        assertTrue(isReddish(thumbnail.getRGB(80, 20)));
+    }
+
+    @Test
+    @DisplayName("투명 배경은 흰색으로 채움")
+    public void flattensTransparency() throws IOException {
+        byte[] original = encode(new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB), "png");
+
+        BufferedImage thumbnail = decode(ImageDerivatives.render(original, new int[]{320}, QUALITY).get(320));
+
+        Color center = new Color(thumbnail.getRGB(50, 50));
+        assertTrue(center.getRed() > 240 && center.getGreen() > 240 && center.getBlue() > 240);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 데이터는 null")
+    public void returnsNullForNonImage() throws IOException {
+        assertNull(ImageDerivatives.render("not an image".getBytes(StandardCharsets.UTF_8), new int[]{320}, QUALITY));
+        assertEquals(1, ImageDerivatives.readExifOrientation("not an image".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // 왼쪽 절반 빨강, 오른쪽 절반 파랑
+    private BufferedImage photo(int width, int height, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(width / 2, 0, width - width / 2, height);
+        graphics.dispose();
+        return image;
+    }
+
+    private boolean isReddish(int rgb) {
+        Color color = new Color(rgb);
+        return color.getRed() > 200 && color.getBlue() < 60;
+    }
+
+    // SOI 바로 뒤에 회전 정보 하나만 있는 EXIF(APP1, 빅 엔디언) 세그먼트 삽입
+    private byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] tiff = {
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0
+        };
+        int length = 2 + 6 + tiff.length;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(jpeg, 0, 2);
+        output.write(0xFF);
+        output.write(0xE1);
+        output.write(length >> 8);
+        output.write(length & 0xff);
+        output.writeBytes(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        output.writeBytes(tiff);
+        output.write(jpeg, 2, jpeg.length - 2);
+        return output.toByteArray();
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+
+    private BufferedImage decode(byte[] content) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(content));
+    }
+}
@@ -0,0 +1,115 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+
+import com.min.i.memory_BE.domain.album.entity.Album;
+import com.min.i.memory_BE.domain.album.entity.Question;
+import com.min.i.memory_BE.domain.album.enums.AlbumTheme;
+import com.min.i.memory_BE.domain.group.entity.Group;
+import com.min.i.memory_BE.domain.group.service.GroupMembershipService;
+import com.min.i.memory_BE.domain.media.entity.AnalysisJob;
+import com.min.i.memory_BE.domain.media.entity.Media;
+import com.min.i.memory_BE.domain.media.enums.MediaType;
+import com.min.i.memory_BE.domain.media.repository.DeletionJdbcRepository;
+import com.min.i.memory_BE.domain.user.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 분석이 끝난 미디어(분석 작업, 생성된 질문이 있는 미디어)를 삭제해도 FK 위반 없이 연관 행까지 삭제되는지 확인합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({MediaService.class, DeletionJdbcRepository.class})
+class MediaServiceDeleteTest {
+
+    @Autowired
+    private MediaService mediaService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private GroupMembershipService groupMembershipService;
+
+    @MockBean
+    private MediaDeduplicationService mediaDeduplicationService;
+
+    @MockBean
+    private SimilarMediaService similarMediaService;
+
+    @MockBean
+    private MediaDerivativeRunner mediaDerivativeRunner;
+
+    @Test
+    @DisplayName("분석된 미디어 삭제 시 분석 작업과 질문도 함께 삭제")
+    void deleteAnalyzedMedia() {
+        // given - 업로드 후 분석까지 끝난 미디어
+        User user = entityManager.persist(User.builder()
+                .email("delete-test@example.com")
+                .password("password")
+                .name("테스트 사용자")
+                .build());
+        Group group = entityManager.persist(Group.builder()
+                .name("테스트 그룹")
+                .isInviteCodeActive(true)
+                .build());
+        Album album = entityManager.persist(Album.builder()
+                .title("테스트 앨범")
+                .theme(AlbumTheme.SENIOR_CARE)
+                .user(user)
+                .group(group)
+                .build());
+        Media media = entityManager.persist(Media.builder()
+                .fileUrl("https://test-bucket.s3.amazonaws.com/albums/1/original/photo.jpg")
+                .fileType(MediaType.IMAGE)
+                .originalFilename("photo.jpg")
+                .fileSize(1024L)
+                .album(album)
+                .uploadedBy(user)
+                .build());
+        AnalysisJob job = AnalysisJob.builder()
+                .media(media)
+                .requestedBy(user.getId())
+                .imageUrl(media.getFileUrl())
+                .build();
+        job.start();
+        job.complete("[]");
+        entityManager.persist(job);
+        entityManager.persist(Question.builder()
+                .media(media)
+                .content("이 사진은 언제 찍으셨나요?")
+                .level(1)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        given(groupMembershipService.isMember(user.getId(), group.getId())).willReturn(true);
+
+        // when
+        mediaService.deleteMedia(group.getId(), album.getId(), media.getId(), user);
+        entityManager.flush();
+
+        // then
+        assertEquals(0, count("media", media.getId(), "id"));
+        assertEquals(0, count("analysis_jobs", media.getId(), "media_id"));
+        assertEquals(0, count("questions", media.getId(), "media_id"));
+    }
+
+    private int count(String table, Long id, String column) {
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Integer.class, id);
+        return rows != null ? rows : 0;
+    }
+}
@@ -0,0 +1,136 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 조금씩 도착하는 multipart 본문을 작은 버퍼로 파싱하여 파트 경계, 헤더, 본문 내용을 검증합니다.
+ */
+public class MultipartStreamReaderTest {
+
+    private static final String BOUNDARY = "----formBoundary7MA4YWxk";
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    @Test
+    @DisplayName("버퍼보다 큰 파일 파트를 잘라 읽어도 원본과 같고, 필드 파트도 함께 읽음")
+    public void readsPartsAcrossBufferRefills() throws IOException {
+        byte[] file = binaryWithBoundaryLikeBytes(300 * 1024);
+        byte[] body = multipart(
+                part("form-data; name=\"title\"", null, "여름 바다".getBytes(StandardCharsets.UTF_8)),
+                part("form-data; name=\"file\"; filename=\"바다.jpg\"", "image/jpeg", file));
+
+        MultipartStreamReader reader = new MultipartStreamReader(new TrickleInputStream(body), BOUNDARY, BUFFER_SIZE);
+
+        MultipartStreamReader.Part title = reader.next();
+        assertEquals("title", title.name());
+        assertFalse(title.isFile());
+        assertEquals("여름 바다", new String(title.body().readAllBytes(), StandardCharsets.UTF_8));
+
+        MultipartStreamReader.Part filePart = reader.next();
+        assertEquals("file", filePart.name());
+        assertEquals("바다.jpg", filePart.filename());
+        assertEquals("image/jpeg", filePart.contentType());
+        assertArrayEquals(file, filePart.body().readAllBytes());
+
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("읽지 않은 파트는 다음 파트를 요청할 때 건너뜀")
+    public void skipsUnreadParts() throws IOException {
+        byte[] body = multipart(
+                part("form-data; name=\"ignored\"; filename=\"a.bin\"", null, binaryWithBoundaryLikeBytes(50 * 1024)),
+                part("form-data; name=\"file\"; filename=\"b.png\"", "image/png", new byte[]{1, 2, 3}));
+
+        MultipartStreamReader reader = new MultipartStreamReader(new ByteArrayInputStream(body), BOUNDARY, BUFFER_SIZE);
+
+        assertEquals("ignored", reader.next().name());
+        MultipartStreamReader.Part filePart = reader.next();
+        assertEquals("file", filePart.name());
+        assertArrayEquals(new byte[]{1, 2, 3}, filePart.body().readAllBytes());
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("마지막 경계 없이 끝난 본문은 오류")
+    public void failsOnTruncatedBody() throws IOException {
+        byte[] body = multipart(part("form-data; name=\"file\"; filename=\"c.gif\"", "image/gif", new byte[1000]));
+        byte[] truncated = Arrays.copyOf(body, body.length - 20);
+
+        MultipartStreamReader reader = new MultipartStreamReader(new ByteArrayInputStream(truncated), BOUNDARY, BUFFER_SIZE);
+        InputStream filePart = reader.next().body();
+
+        assertThrows(IOException.class, filePart::readAllBytes);
+    }
+
+    @Test
+    @DisplayName("Content-Type에서 boundary를 꺼냄 (따옴표 허용, multipart가 아니면 null)")
+    public void extractsBoundary() {
+        assertEquals(BOUNDARY, MultipartStreamReader.boundaryOf("multipart/form-data; boundary=" + BOUNDARY));
+        assertEquals("a b", MultipartStreamReader.boundaryOf("multipart/form-data; charset=UTF-8; boundary=\"a b\""));
+        assertNull(MultipartStreamReader.boundaryOf("application/json"));
+        assertNull(MultipartStreamReader.boundaryOf(null));
+    }
+
+    private static byte[] part(String disposition, String contentType, byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(("Content-Disposition: " + disposition + "\r\n").getBytes(StandardCharsets.UTF_8));
+        if (contentType != null) {
+            out.write(("Content-Type: " + contentType + "\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+        out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+        out.write(content);
+        return out.toByteArray();
+    }
+
+    private static byte[] multipart(byte[]... parts) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.write(("--" + BOUNDARY + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.write(part);
+            out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+        }
+        out.write(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        return out.toByteArray();
+    }
+
+    // 임의 바이트 중간중간에 경계의 앞부분만 끼워 넣어 경계 오인식을 검증
+    private static byte[] binaryWithBoundaryLikeBytes(int size) {
+        byte[] content = new byte[size];
+        new Random(42).nextBytes(content);
+        byte[] partial = ("\r\n--" + BOUNDARY.substring(0, BOUNDARY.length() - 1)).getBytes(StandardCharsets.US_ASCII);
+        for (int offset = 1000; offset + partial.length < size; offset += 7919) {
+            System.arraycopy(partial, 0, content, offset, partial.length);
+        }
+        return content;
+    }
+
+    // 네트워크처럼 한 번에 몇 바이트씩만 돌려주는 입력
+    private static final class TrickleInputStream extends ByteArrayInputStream {
+
+        private final Random random = new Random(7);
+
+        TrickleInputStream(byte[] content) {
+            super(content);
+        }
+
+        @Override
+        public synchronized int read(byte[] buffer, int offset, int length) {
+            return super.read(buffer, offset, Math.min(length, 1 + random.nextInt(4096)));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 저장소 정리 작업의 블룸 필터가 넣은 키를 놓치지 않고, 없는 키의 오탐률이 목표 근처인지 확인합니다.
+ */
+public class ObjectKeyBloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 키는 항상 있다고 판단")
+    public void noFalseNegatives() {
+        int count = 100_000;
+        ObjectKeyBloomFilter filter = ObjectKeyBloomFilter.create(count, 0.01);
+        for (int i = 0; i < count; i++) {
+            filter.put(key(i));
+        }
+
+        for (int i = 0; i < count; i++) {
+            assertTrue(filter.mightContain(key(i)), key(i));
+        }
+    }
+
+    @Test
+    @DisplayName("없는 키의 오탐률이 목표의 2배 이내")
+    public void falsePositiveRateNearTarget() {
+        int count = 100_000;
+        ObjectKeyBloomFilter filter = ObjectKeyBloomFilter.create(count, 0.01);
+        for (int i = 0; i < count; i++) {
+            filter.put(key(i));
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = count; i < count + probes; i++) {
+            if (filter.mightContain(key(i))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < probes * 0.02, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("비어 있는 필터는 어떤 키도 없다고 판단")
+    public void emptyFilter() {
+        ObjectKeyBloomFilter filter = ObjectKeyBloomFilter.create(0, 0.01);
+
+        assertEquals(64, filter.bitSize());
+        assertFalse(filter.mightContain("albums/1/original/a.jpg"));
+    }
+
+    // 실제 키와 같은 형식 (UUID-원본 파일명), 한글 파일명 포함
+    private static String key(int i) {
+        return "albums/" + (i % 50) + "/original/" + new UUID(i, i * 31L) + "-사진" + i + ".jpg";
+    }
+}
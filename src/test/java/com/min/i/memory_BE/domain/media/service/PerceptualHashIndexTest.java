@@ -0,0 +1,136 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 유사 이미지 인덱스 검색 결과를 전체 비교 결과와 대조하고, 합성 이미지로 dHash를 검증합니다.
+ */
+public class PerceptualHashIndexTest {
+
+    @Test
+    @DisplayName("인덱스 검색 결과가 전체 비교 결과와 일치")
+    public void matchesLinearScan() {
+        Random random = new Random(42);
+        int count = 5000;
+        long[] mediaIds = new long[count];
+        long[] hashes = new long[count];
+        for (int i = 0; i < count; i++) {
+            mediaIds[i] = i + 1;
+            // 일부는 앞 항목에서 몇 비트만 바꾼 값 (비슷한 사진)
+            hashes[i] = i > 0 && random.nextInt(4) == 0
+                    ? flipBits(hashes[random.nextInt(i)], random.nextInt(13), random)
+                    : random.nextLong();
+        }
+        PerceptualHashIndex index = PerceptualHashIndex.build(mediaIds, hashes);
+
+        for (int query = 0; query < 200; query++) {
+            long hash = flipBits(hashes[random.nextInt(count)], random.nextInt(5), random);
+            for (int distance : new int[]{0, 6, 10, 16}) {
+                List<Long> expected = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    if (ImageDifferenceHash.distance(hash, hashes[i]) <= distance) {
+                        expected.add(mediaIds[i]);
+                    }
+                }
+                List<PerceptualHashIndex.Match> matches = index.search(hash, distance);
+
+                assertEquals(expected.stream().sorted().collect(Collectors.toList()),
+                        matches.stream().map(PerceptualHashIndex.Match::mediaId).sorted().collect(Collectors.toList()));
+                for (int i = 1; i < matches.size(); i++) {
+                    assertTrue(matches.get(i - 1).distance() <= matches.get(i).distance());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("추가한 항목도 검색 (배열 확장 포함)")
+    public void findsAddedEntries() {
+        PerceptualHashIndex index = PerceptualHashIndex.build(new long[0], new long[0]);
+        Random random = new Random(7);
+        long target = random.nextLong();
+        for (int i = 0; i < 200; i++) {
+            index.add(i + 1, random.nextLong());
+        }
+        index.add(1000, target);
+        index.add(1001, target ^ 0b111);
+
+        List<PerceptualHashIndex.Match> matches = index.search(target, 6);
+
+        assertEquals(202, index.size());
+        assertEquals(2, matches.size());
+        assertEquals(new PerceptualHashIndex.Match(1000, 0), matches.get(0));
+        assertEquals(new PerceptualHashIndex.Match(1001, 3), matches.get(1));
+    }
+
+    @Test
+    @DisplayName("크기 변경과 재압축에는 해시가 거의 바뀌지 않고, 다른 사진과는 거리가 큼")
+    public void hashesResizedCopyClose() throws IOException {
+        BufferedImage original = scene(1200, 900, Color.ORANGE, Color.BLUE);
+        BufferedImage resized = new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        graphics.drawImage(original, 0, 0, 400, 300, null);
+        graphics.dispose();
+        // 밝기 변화 방향이 반대인 다른 사진
+        BufferedImage other = scene(1200, 900, Color.BLUE, Color.ORANGE);
+
+        Long originalHash = ImageDifferenceHash.compute(encode(original, "png"));
+        Long resizedHash = ImageDifferenceHash.compute(encode(resized, "jpg"));
+        Long otherHash = ImageDifferenceHash.compute(encode(other, "png"));
+
+        assertNotNull(originalHash);
+        assertTrue(ImageDifferenceHash.distance(originalHash, resizedHash) <= 4);
+        assertTrue(ImageDifferenceHash.distance(originalHash, otherHash) > 10);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 데이터는 해시를 계산하지 않음")
+    public void returnsNullForNonImage() {
+        assertNull(ImageDifferenceHash.compute("not an image".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private long flipBits(long hash, int bits, Random random) {
+        long result = hash;
+        for (int i = 0; i < bits; i++) {
+            result ^= 1L << random.nextInt(64);
+        }
+        return result;
+    }
+
+    private BufferedImage scene(int width, int height, Color from, Color to) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, from, width, height, to));
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.WHITE);
+        graphics.fillOval(width / 5, height / 4, width / 3, height / 3);
+        graphics.dispose();
+        return image;
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,62 @@
+package com.min.i.memory_BE.domain.media.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.min.i.memory_BE.global.error.exception.FileValidationException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * tus Upload-Metadata 헤더 해석과 첫 파트의 형식 확인을 검증합니다.
+ */
+public class ResumableUploadMetadataTest {
+
+    @Test
+    @DisplayName("쉼표로 구분된 키와 Base64 값을 해석하고, 값이 없는 키는 빈 문자열")
+    public void parsesKeyValuePairs() {
+        String header = "filename " + base64("여행 영상.mp4") + ",filetype " + base64("video/mp4") + ",is_confidential";
+
+        Map<String, String> metadata = ResumableUploadService.parseMetadata(header);
+
+        assertEquals("여행 영상.mp4", metadata.get("filename"));
+        assertEquals("video/mp4", metadata.get("filetype"));
+        assertEquals("", metadata.get("is_confidential"));
+    }
+
+    @Test
+    @DisplayName("헤더가 없으면 빈 결과")
+    public void returnsEmptyForMissingHeader() {
+        assertTrue(ResumableUploadService.parseMetadata(null).isEmpty());
+        assertTrue(ResumableUploadService.parseMetadata(" ").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Base64가 아닌 값은 오류")
+    public void rejectsInvalidBase64() {
+        assertThrows(FileValidationException.class, () -> ResumableUploadService.parseMetadata("filename 한글"));
+    }
+
+    @Test
+    @DisplayName("첫 파트의 매직 넘버가 선언한 형식과 같아야 함")
+    public void matchesDeclaredContentType() {
+        byte[] jpeg = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0, 0, 0};
+        byte[] mp4 = {0, 0, 0, 0x18, 'f', 't', 'y', 'p', 'i', 's', 'o', 'm'};
+
+        assertTrue(ResumableUploadService.matchesContentType(jpeg, jpeg.length, "image/jpeg"));
+        assertTrue(ResumableUploadService.matchesContentType(jpeg, jpeg.length, "image/jpg"));
+        assertTrue(ResumableUploadService.matchesContentType(mp4, mp4.length, "video/mp4"));
+        assertFalse(ResumableUploadService.matchesContentType(mp4, mp4.length, "image/png"));
+        assertFalse(ResumableUploadService.matchesContentType(jpeg, jpeg.length, "video/mp4"));
+    }
+
+    private static String base64(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}